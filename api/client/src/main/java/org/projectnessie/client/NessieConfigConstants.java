@@ -627,6 +627,17 @@ public final class NessieConfigConstants {
   @ConfigItem(section = "Network / HTTP")
   public static final String CONF_NESSIE_HTTP_REDIRECT = "nessie.http-redirects";
 
+  /**
+   * Optional, if set to {@code true}, asks the server to stream the entries of content-key
+   * listings, commit logs and diffs retrieved via {@code stream()} using Nessie REST API v2,
+   * instead of building each response page in memory. The default is {@code false}.
+   *
+   * <p>A streamed response page keeps the HTTP connection open while the entries are consumed,
+   * streams must therefore be closed, even if they are not fully consumed.
+   */
+  @ConfigItem(section = "Network / HTTP")
+  public static final String CONF_NESSIE_STREAMING_RESPONSES = "nessie.streaming-responses";
+
   /**
    * Optional, when running on Java 11 force the use of the old {@link java.net.URLConnection} based
    * client for HTTP, if set to {@code true}.
@@ -53,6 +53,32 @@ public class HttpResponse {
     }
   }
 
+  /**
+   * Incrementally read a paginated response object from the underlying HTTP response, the entries
+   * are deserialized one by one while iterating over the returned reader.
+   *
+   * @param entriesProperty name of the JSON property that holds the array of entries
+   * @param entryType type of the entries
+   * @return reader over the entries, empty if the response has no content
+   * @throws HttpClientException if the response cannot be read
+   * @throws NessieBadResponseException if the response is not JSON compatible
+   */
+  public <E> PagedResponseReader<E> readPage(String entriesProperty, Class<E> entryType) {
+    ObjectReader reader = mapper.readerFor(entryType);
+    try {
+      InputStream is = responseContext.getInputStream();
+      if (is != null && !responseContext.isJsonCompatibleResponse()) {
+        // fails for non-empty responses
+        decodeEntity(reader, is);
+        is = null;
+      }
+      return new PagedResponseReader<>(
+          is != null ? mapper.createParser(is) : null, reader, entriesProperty);
+    } catch (IOException e) {
+      throw new HttpClientException("Failed to read entity", e);
+    }
+  }
+
   private <V> V decodeEntity(ObjectReader reader, InputStream is) throws IOException {
     if (is != null) {
       CapturingInputStream capturing = new CapturingInputStream(is);
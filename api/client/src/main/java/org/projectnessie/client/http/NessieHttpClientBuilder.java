@@ -18,6 +18,7 @@ package org.projectnessie.client.http;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_CLIENT_NAME;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_HTTP_2;
 import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_HTTP_REDIRECT;
+import static org.projectnessie.client.NessieConfigConstants.CONF_NESSIE_STREAMING_RESPONSES;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.net.URI;
@@ -50,6 +51,18 @@ public interface NessieHttpClientBuilder extends NessieClientBuilder {
   @CanIgnoreReturnValue
   NessieHttpClientBuilder withFollowRedirects(String redirects);
 
+  /**
+   * Whether the server is asked to stream the entries of content-key listings, commit logs and
+   * diffs retrieved via {@code stream()}, default is {@code false}.
+   *
+   * <p>Streamed response pages keep the HTTP connection open while the entries are consumed, so
+   * streams must be closed, even if they are not fully consumed.
+   *
+   * <p>Only valid for Nessie REST API v2.
+   */
+  @CanIgnoreReturnValue
+  NessieHttpClientBuilder withStreamingResponses(boolean streamingResponses);
+
   /**
    * Whether to force using the {@link java.net.URLConnection} based client.
    *
@@ -158,6 +171,11 @@ public interface NessieHttpClientBuilder extends NessieClientBuilder {
         withFollowRedirects(s.trim());
       }
 
+      s = configuration.apply(CONF_NESSIE_STREAMING_RESPONSES);
+      if (s != null) {
+        withStreamingResponses(Boolean.parseBoolean(s.trim()));
+      }
+
       @SuppressWarnings("deprecation")
       String forceUrlConnectionClient = NessieConfigConstants.CONF_FORCE_URL_CONNECTION_CLIENT;
       s = configuration.apply(forceUrlConnectionClient);
@@ -182,6 +200,11 @@ public interface NessieHttpClientBuilder extends NessieClientBuilder {
       return this;
     }
 
+    @Override
+    public NessieHttpClientBuilder withStreamingResponses(boolean streamingResponses) {
+      return this;
+    }
+
     @Override
     @SuppressWarnings("DeprecatedIsStillUsed")
     @Deprecated
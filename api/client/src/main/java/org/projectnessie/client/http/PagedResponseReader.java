@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.http;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the entries of a paginated response object one by one, while the response body is being
+ * received.
+ *
+ * <p>The properties of the response object can appear in any order. The {@code hasMore} and {@code
+ * token} properties are only available after all entries have been consumed. The underlying HTTP
+ * response is closed when all entries have been consumed, or when this reader is closed.
+ *
+ * @param <E> entry type
+ */
+public final class PagedResponseReader<E> implements Iterator<E>, AutoCloseable {
+
+  private final JsonParser parser;
+  private final ObjectReader entryReader;
+  private final String entriesProperty;
+
+  private boolean inEntries;
+  private boolean done;
+  private E next;
+  private boolean hasMore;
+  private String token;
+
+  PagedResponseReader(JsonParser parser, ObjectReader entryReader, String entriesProperty) {
+    this.parser = parser;
+    this.entryReader = entryReader;
+    this.entriesProperty = entriesProperty;
+    if (parser == null) {
+      done = true;
+      return;
+    }
+    try {
+      JsonToken t = parser.nextToken();
+      if (t == null) {
+        // empty response
+        finish();
+        return;
+      }
+      if (t != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Expected a JSON object, but got " + t);
+      }
+      readProperties();
+    } catch (IOException e) {
+      throw failed(e);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      while (next == null && inEntries) {
+        JsonToken t = parser.nextToken();
+        if (t == JsonToken.END_ARRAY) {
+          inEntries = false;
+          readProperties();
+        } else {
+          next = entryReader.readValue(parser);
+        }
+      }
+    } catch (IOException e) {
+      throw failed(e);
+    }
+    return next != null;
+  }
+
+  @Override
+  public E next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    E entry = next;
+    next = null;
+    return entry;
+  }
+
+  /** Whether the server has more results, only available after all entries have been consumed. */
+  public boolean isHasMore() {
+    checkDone();
+    return hasMore;
+  }
+
+  /** The token to fetch the next page, only available after all entries have been consumed. */
+  public String getToken() {
+    checkDone();
+    return token;
+  }
+
+  @Override
+  public void close() {
+    done = true;
+    inEntries = false;
+    next = null;
+    if (parser != null && !parser.isClosed()) {
+      try {
+        parser.close();
+      } catch (IOException e) {
+        throw new HttpClientException("Failed to close response", e);
+      }
+    }
+  }
+
+  /** Consumes properties until the entries array starts or the response object ends. */
+  private void readProperties() throws IOException {
+    while (true) {
+      JsonToken t = parser.nextToken();
+      if (t == JsonToken.END_OBJECT || t == null) {
+        finish();
+        return;
+      }
+      if (t != JsonToken.FIELD_NAME) {
+        throw new JsonParseException(parser, "Expected a property name, but got " + t);
+      }
+      String name = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if (entriesProperty.equals(name) && value == JsonToken.START_ARRAY) {
+        inEntries = true;
+        return;
+      }
+      if ("hasMore".equals(name)) {
+        hasMore = parser.getValueAsBoolean();
+      } else if ("token".equals(name)) {
+        token = parser.getValueAsString();
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private void finish() throws IOException {
+    done = true;
+    parser.close();
+  }
+
+  private void checkDone() {
+    if (!done || next != null) {
+      throw new IllegalStateException("Entries of the response page have not been consumed");
+    }
+  }
+
+  private HttpClientException failed(IOException e) {
+    try {
+      close();
+    } catch (HttpClientException ex) {
+      e.addSuppressed(ex);
+    }
+    return new HttpClientException("Failed to read entity", e);
+  }
+}
@@ -47,9 +47,19 @@ import org.projectnessie.model.SingleReferenceResponse;
 
 public class HttpApiV2 implements NessieApiV2 {
   private final HttpClient client;
+  private final boolean streamingResponses;
 
   public HttpApiV2(HttpClient client) {
+    this(client, false);
+  }
+
+  public HttpApiV2(HttpClient client, boolean streamingResponses) {
     this.client = client;
+    this.streamingResponses = streamingResponses;
+  }
+
+  boolean isStreamingResponses() {
+    return streamingResponses;
   }
 
   private volatile boolean didGetConfig;
@@ -135,7 +145,7 @@ public class HttpApiV2 implements NessieApiV2 {
 
   @Override
   public GetCommitLogBuilder getCommitLog() {
-    return new HttpGetCommitLog(client);
+    return new HttpGetCommitLog(client, this);
   }
 
   @Override
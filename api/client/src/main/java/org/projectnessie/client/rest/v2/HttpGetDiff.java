@@ -15,6 +15,9 @@
  */
 package org.projectnessie.client.rest.v2;
 
+import static org.projectnessie.client.rest.v2.StreamedPages.STREAMING_RESPONSE_HEADER;
+
+import java.util.stream.Stream;
 import org.projectnessie.api.v2.params.DiffParams;
 import org.projectnessie.client.builder.BaseGetDiffBuilder;
 import org.projectnessie.client.http.HttpClient;
@@ -50,6 +53,28 @@ final class HttpGetDiff extends BaseGetDiffBuilder<DiffParams> {
 
   @Override
   public DiffResponse get(DiffParams params) throws NessieNotFoundException {
+    return request(params)
+        .unwrap(NessieNotFoundException.class)
+        .get()
+        .readEntity(DiffResponse.class);
+  }
+
+  @Override
+  public Stream<DiffResponse.DiffEntry> stream() throws NessieNotFoundException {
+    if (!api.isStreamingResponses()) {
+      return super.stream();
+    }
+    DiffParams p = params();
+    return StreamedPages.generateStream(
+        pageToken ->
+            request(p.forNextPage(pageToken))
+                .header(STREAMING_RESPONSE_HEADER, "true")
+                .unwrap(NessieNotFoundException.class)
+                .get()
+                .readPage("diffs", DiffResponse.DiffEntry.class));
+  }
+
+  private HttpRequest request(DiffParams params) {
     HttpRequest req =
         client
             .newRequest()
@@ -72,6 +97,6 @@ final class HttpGetDiff extends BaseGetDiffBuilder<DiffParams> {
     if (k != null) {
       req.queryParam("prefix-key", api.toPathString(k));
     }
-    return req.unwrap(NessieNotFoundException.class).get().readEntity(DiffResponse.class);
+    return req;
   }
 }
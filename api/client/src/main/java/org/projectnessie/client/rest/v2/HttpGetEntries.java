@@ -15,6 +15,9 @@
  */
 package org.projectnessie.client.rest.v2;
 
+import static org.projectnessie.client.rest.v2.StreamedPages.STREAMING_RESPONSE_HEADER;
+
+import java.util.stream.Stream;
 import org.projectnessie.api.v2.params.EntriesParams;
 import org.projectnessie.client.api.GetEntriesBuilder;
 import org.projectnessie.client.builder.BaseGetEntriesBuilder;
@@ -57,6 +60,25 @@ final class HttpGetEntries extends BaseGetEntriesBuilder<EntriesParams> {
 
   @Override
   protected EntriesResponse get(EntriesParams p) throws NessieNotFoundException {
+    return request(p).unwrap(NessieNotFoundException.class).get().readEntity(EntriesResponse.class);
+  }
+
+  @Override
+  public Stream<EntriesResponse.Entry> stream() throws NessieNotFoundException {
+    if (!api.isStreamingResponses()) {
+      return super.stream();
+    }
+    EntriesParams p = params();
+    return StreamedPages.generateStream(
+        pageToken ->
+            request(p.forNextPage(pageToken))
+                .header(STREAMING_RESPONSE_HEADER, "true")
+                .unwrap(NessieNotFoundException.class)
+                .get()
+                .readPage("entries", EntriesResponse.Entry.class));
+  }
+
+  private HttpRequest request(EntriesParams p) {
     HttpRequest req =
         client
             .newRequest()
@@ -79,6 +101,6 @@ final class HttpGetEntries extends BaseGetEntriesBuilder<EntriesParams> {
     if (k != null) {
       req.queryParam("prefix-key", api.toPathString(k));
     }
-    return req.unwrap(NessieNotFoundException.class).get().readEntity(EntriesResponse.class);
+    return req;
   }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.rest.v2;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.projectnessie.client.http.PagedResponseReader;
+import org.projectnessie.error.NessieNotFoundException;
+
+/**
+ * Continuation token driven paging over responses that are read incrementally, see {@link
+ * PagedResponseReader}.
+ *
+ * <p>Only one response page is open at any time, the next page is requested after all entries of
+ * the current page have been consumed.
+ */
+final class StreamedPages<E> implements Iterator<E> {
+
+  /** HTTP request header to ask the server to stream the entries of a response page. */
+  static final String STREAMING_RESPONSE_HEADER = "Nessie-Streaming-Response";
+
+  @FunctionalInterface
+  interface PageFetcher<E> {
+    PagedResponseReader<E> fetchPage(String pageToken) throws NessieNotFoundException;
+  }
+
+  private final PageFetcher<E> fetcher;
+  private PagedResponseReader<E> current;
+  private boolean currentHasEntries;
+
+  private StreamedPages(PageFetcher<E> fetcher, PagedResponseReader<E> firstPage) {
+    this.fetcher = fetcher;
+    this.current = firstPage;
+  }
+
+  /**
+   * Constructs the stream of entries. The first page is fetched eagerly to propagate {@link
+   * NessieNotFoundException}. Closing the stream closes the currently open response.
+   */
+  static <E> Stream<E> generateStream(PageFetcher<E> fetcher) throws NessieNotFoundException {
+    StreamedPages<E> pages = new StreamedPages<>(fetcher, fetcher.fetchPage(null));
+    Spliterator<E> spliterator = Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED);
+    return StreamSupport.stream(spliterator, false).onClose(pages::close);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (current != null) {
+      if (current.hasNext()) {
+        currentHasEntries = true;
+        return true;
+      }
+      PagedResponseReader<E> page = current;
+      current = null;
+      if (!page.isHasMore()) {
+        return false;
+      }
+      if (!currentHasEntries) {
+        throw new IllegalStateException(
+            "Backend returned empty page, but indicates there are more results");
+      }
+      try {
+        current = fetcher.fetchPage(page.getToken());
+        currentHasEntries = false;
+      } catch (NessieNotFoundException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public E next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  private void close() {
+    PagedResponseReader<E> page = current;
+    current = null;
+    if (page != null) {
+      page.close();
+    }
+  }
+}
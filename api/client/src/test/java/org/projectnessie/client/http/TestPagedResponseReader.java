@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.client.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestPagedResponseReader {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @ParameterizedTest
+  @MethodSource
+  public void readPage(String json, List<Integer> entries, boolean hasMore, String token)
+      throws IOException {
+    try (PagedResponseReader<Integer> reader = reader(json)) {
+      if (!entries.isEmpty()) {
+        // paging properties are only available after all entries have been consumed
+        assertThatThrownBy(reader::isHasMore).isInstanceOf(IllegalStateException.class);
+      }
+      List<Integer> read = new ArrayList<>();
+      reader.forEachRemaining(read::add);
+      assertThat(read).isEqualTo(entries);
+      assertThat(reader.isHasMore()).isEqualTo(hasMore);
+      assertThat(reader.getToken()).isEqualTo(token);
+    }
+  }
+
+  static Stream<Arguments> readPage() {
+    return Stream.of(
+        Arguments.of("", List.of(), false, null),
+        Arguments.of("{}", List.of(), false, null),
+        Arguments.of("{\"entries\":[]}", List.of(), false, null),
+        Arguments.of("{\"entries\":[1,2,3]}", List.of(1, 2, 3), false, null),
+        // streamed responses
+        Arguments.of(
+            "{\"entries\":[1,2],\"hasMore\":true,\"token\":\"t\",\"ref\":{\"a\":[1]}}",
+            List.of(1, 2),
+            true,
+            "t"),
+        // regular responses
+        Arguments.of(
+            "{\"ref\":{\"entries\":[9]},\"hasMore\":true,\"token\":\"t\",\"entries\":[1,2]}",
+            List.of(1, 2),
+            true,
+            "t"),
+        Arguments.of(
+            "{\"hasMore\":false,\"token\":null,\"entries\":[1],\"other\":[[2],{}]}",
+            List.of(1),
+            false,
+            null));
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  public void invalidResponse(String json) {
+    assertThatThrownBy(
+            () -> {
+              try (PagedResponseReader<Integer> reader = reader(json)) {
+                reader.forEachRemaining(e -> {});
+              }
+            })
+        .isInstanceOf(HttpClientException.class)
+        .hasMessage("Failed to read entity");
+  }
+
+  static Stream<String> invalidResponse() {
+    return Stream.of("[1,2]", "{\"entries\":[1,", "{\"entries\":[\"x\"]}");
+  }
+
+  private static PagedResponseReader<Integer> reader(String json) throws IOException {
+    return new PagedResponseReader<>(
+        MAPPER.createParser(json), MAPPER.readerFor(Integer.class), "entries");
+  }
+}
@@ -15,6 +15,9 @@
  */
 package org.projectnessie.catalog.files.api;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -33,6 +36,24 @@ public interface ObjectIO {
 
   InputStream readObject(StorageUri uri) throws IOException;
 
+  /**
+   * Reads up to {@code length} bytes of the object starting at {@code offset}.
+   *
+   * <p>The default implementation reads the object from the beginning and skips the first {@code
+   * offset} bytes, implementations should request only the given range from the object store.
+   */
+  default InputStream readObject(StorageUri uri, long offset, long length) throws IOException {
+    checkArgument(offset >= 0L && length >= 0L, "Invalid range %s/%s", offset, length);
+    InputStream input = readObject(uri);
+    try {
+      ByteStreams.skipFully(input, offset);
+    } catch (IOException | RuntimeException e) {
+      input.close();
+      throw e;
+    }
+    return ByteStreams.limit(input, length);
+  }
+
   OutputStream writeObject(StorageUri uri) throws IOException;
 
   void deleteObjects(List<StorageUri> uris) throws IOException;
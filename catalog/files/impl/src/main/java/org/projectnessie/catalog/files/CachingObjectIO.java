@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.files;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import org.projectnessie.catalog.files.api.ObjectIO;
+import org.projectnessie.storage.uri.StorageUri;
+
+/** Reads objects via a {@link DiskObjectCache}, see {@link DiskObjectCache#wrap(ObjectIO)}. */
+final class CachingObjectIO extends DelegatingObjectIO {
+  private final ObjectIO delegate;
+  private final DiskObjectCache cache;
+
+  CachingObjectIO(ObjectIO delegate, DiskObjectCache cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  protected ObjectIO resolve(StorageUri uri) {
+    return delegate;
+  }
+
+  @Override
+  public InputStream readObject(StorageUri uri) throws IOException {
+    return cache.readObject(uri, delegate);
+  }
+
+  @Override
+  public InputStream readObject(StorageUri uri, long offset, long length) throws IOException {
+    return cache.readObject(uri, offset, length, delegate);
+  }
+
+  @Override
+  public OutputStream writeObject(StorageUri uri) throws IOException {
+    cache.invalidate(uri);
+    return new FilterOutputStream(delegate.writeObject(uri)) {
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+      }
+
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        } finally {
+          // A concurrent read might have cached the previous object
+          cache.invalidate(uri);
+        }
+      }
+    };
+  }
+
+  @Override
+  public void deleteObjects(List<StorageUri> uris) throws IOException {
+    cache.invalidate(uris);
+    delegate.deleteObjects(uris);
+  }
+}
@@ -44,6 +44,11 @@ public abstract class DelegatingObjectIO implements ObjectIO {
     return resolve(uri).readObject(uri);
   }
 
+  @Override
+  public InputStream readObject(StorageUri uri, long offset, long length) throws IOException {
+    return resolve(uri).readObject(uri, offset, length);
+  }
+
   @Override
   public Optional<String> canResolve(StorageUri uri) {
     try {
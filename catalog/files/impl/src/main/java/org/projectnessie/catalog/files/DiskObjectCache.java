@@ -0,0 +1,456 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.files;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.io.ByteStreams;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.projectnessie.catalog.files.api.ObjectIO;
+import org.projectnessie.storage.uri.StorageUri;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Size-bounded cache of objects read from object stores, kept as files in a local directory.
+ *
+ * <p>Iceberg metadata and manifest files are immutable, new versions are always written to new
+ * locations, so cached objects are identified by their storage URI. Objects that are written or
+ * deleted via the {@linkplain #wrap(ObjectIO) caching object-IO} are removed from the cache.
+ *
+ * <p>Range reads of cached objects are served from the local file, range reads of objects that are
+ * not cached are passed to the object store and do not populate the cache.
+ *
+ * <p>Objects that are not cached are streamed from the object store to the caller and written to a
+ * local file at the same time, the object is added to the cache when the caller has read it
+ * completely. Concurrent reads of an object that is being loaded wait for that load. Objects larger
+ * than the capacity of the cache are not written to local files.
+ *
+ * <p>Files are kept in the fixed subdirectory {@value #DIRECTORY_NAME} of the configured directory.
+ * Files left over by a previous process, for example after a crash, are removed when the cache is
+ * created. A lock file prevents multiple processes from using the same directory.
+ */
+public final class DiskObjectCache implements AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(DiskObjectCache.class);
+
+  /** Disabled cache, {@link #wrap(ObjectIO)} returns the given object-IO. */
+  public static final DiskObjectCache NO_DISK_OBJECT_CACHE = new DiskObjectCache(null, null, 0L);
+
+  static final String DIRECTORY_NAME = "nessie-object-cache";
+  static final String LOCK_FILE_NAME = ".lock";
+
+  /** Maximum number of remembered URIs of objects that are too large to be cached. */
+  static final int MAX_TOO_LARGE_OBJECTS = 1000;
+
+  private final Path directory;
+  private final FileLock lock;
+  private final long capacityBytes;
+  private final Cache<String, CachedObject> objects;
+  private final Cache<String, Boolean> tooLargeObjects;
+  private final ConcurrentHashMap<String, Load> loads = new ConcurrentHashMap<>();
+  private final AtomicLong fileCounter = new AtomicLong();
+
+  private DiskObjectCache(Path directory, FileLock lock, long capacityBytes) {
+    this.directory = directory;
+    this.lock = lock;
+    this.capacityBytes = capacityBytes;
+    this.objects =
+        directory != null
+            ? Caffeine.newBuilder()
+                .maximumWeight(capacityBytes)
+                .<String, CachedObject>weigher(
+                    (uri, cached) -> (int) Math.min(Integer.MAX_VALUE, cached.size))
+                .removalListener((uri, cached, cause) -> cached.delete())
+                .executor(Runnable::run)
+                .build()
+            : null;
+    this.tooLargeObjects =
+        directory != null
+            ? Caffeine.newBuilder().maximumSize(MAX_TOO_LARGE_OBJECTS).<String, Boolean>build()
+            : null;
+  }
+
+  /**
+   * Creates a cache using the directory {@value #DIRECTORY_NAME} below {@code baseDirectory}. Files
+   * left over in that directory are removed, the directory is removed when the cache is {@linkplain
+   * #close() closed}.
+   */
+  public static DiskObjectCache diskObjectCache(Path baseDirectory, long capacityBytes)
+      throws IOException {
+    checkArgument(capacityBytes > 0L, "Capacity must be positive");
+    Path directory = baseDirectory.resolve(DIRECTORY_NAME);
+    Files.createDirectories(directory);
+
+    Path lockFile = directory.resolve(LOCK_FILE_NAME);
+    FileChannel lockChannel =
+        FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    FileLock lock;
+    try {
+      lock = lockChannel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      lock = null;
+    } catch (IOException | RuntimeException e) {
+      lockChannel.close();
+      throw e;
+    }
+    if (lock == null) {
+      lockChannel.close();
+      throw new IOException("Local object cache directory " + directory + " is already in use");
+    }
+
+    // Remove files left over by a previous process
+    try (Stream<Path> files = Files.walk(directory)) {
+      files
+          .filter(f -> !f.equals(directory) && !f.equals(lockFile))
+          .sorted(Comparator.reverseOrder())
+          .forEach(CachedObject::deleteFile);
+    } catch (IOException | RuntimeException e) {
+      lockChannel.close();
+      throw e;
+    }
+
+    LOGGER.info(
+        "Using local object cache in {} with a capacity of {} bytes", directory, capacityBytes);
+    return new DiskObjectCache(directory, lock, capacityBytes);
+  }
+
+  /** Returns an object-IO that uses this cache for reads via the given object-IO. */
+  public ObjectIO wrap(ObjectIO objectIO) {
+    return directory != null ? new CachingObjectIO(objectIO, this) : objectIO;
+  }
+
+  InputStream readObject(StorageUri uri, ObjectIO objectIO) throws IOException {
+    String key = uri.toString();
+    while (true) {
+      InputStream cached = openCached(key, 0L, Long.MAX_VALUE);
+      if (cached != null) {
+        return cached;
+      }
+      if (tooLargeObjects.getIfPresent(key) != null) {
+        return objectIO.readObject(uri);
+      }
+
+      Load load = new Load();
+      Load inFlight = loads.putIfAbsent(key, load);
+      if (inFlight == null) {
+        return load(key, uri, load, objectIO);
+      }
+      // Do not wait for a load of the current thread, the load could never complete.
+      if (inFlight.owner == Thread.currentThread() || !inFlight.await()) {
+        // The concurrent load did not add the object to the cache
+        return objectIO.readObject(uri);
+      }
+    }
+  }
+
+  private InputStream load(String key, StorageUri uri, Load load, ObjectIO objectIO)
+      throws IOException {
+    InputStream input;
+    try {
+      input = objectIO.readObject(uri);
+    } catch (IOException | RuntimeException e) {
+      loadDone(key, load, false);
+      throw e;
+    }
+
+    Path file = directory.resolve(Long.toString(fileCounter.incrementAndGet()));
+    OutputStream output;
+    try {
+      output = Files.newOutputStream(file);
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Failed to create local object cache file {}", file, e);
+      loadDone(key, load, false);
+      return input;
+    }
+    return new LoadingInputStream(input, key, load, file, output);
+  }
+
+  private void loadDone(String key, Load load, boolean cached) {
+    load.cached = cached;
+    loads.remove(key, load);
+    load.done.countDown();
+  }
+
+  InputStream readObject(StorageUri uri, long offset, long length, ObjectIO objectIO)
+      throws IOException {
+    InputStream cached = openCached(uri.toString(), offset, length);
+    return cached != null ? cached : objectIO.readObject(uri, offset, length);
+  }
+
+  void invalidate(StorageUri uri) {
+    String key = uri.toString();
+    Load load = loads.get(key);
+    if (load != null) {
+      load.invalidated = true;
+    }
+    tooLargeObjects.invalidate(key);
+    objects.invalidate(key);
+  }
+
+  void invalidate(List<StorageUri> uris) {
+    uris.forEach(this::invalidate);
+  }
+
+  private InputStream openCached(String key, long offset, long length) throws IOException {
+    CachedObject cached = objects.getIfPresent(key);
+    if (cached == null) {
+      return null;
+    }
+    SeekableByteChannel channel;
+    try {
+      channel = Files.newByteChannel(cached.file);
+    } catch (NoSuchFileException e) {
+      // Evicted concurrently
+      objects.asMap().remove(key, cached);
+      return null;
+    }
+    try {
+      channel.position(offset);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    return ByteStreams.limit(Channels.newInputStream(channel), length);
+  }
+
+  @VisibleForTesting
+  long cachedObjects() {
+    objects.cleanUp();
+    return objects.estimatedSize();
+  }
+
+  @Override
+  public void close() {
+    if (directory == null) {
+      return;
+    }
+    objects.invalidateAll();
+    objects.cleanUp();
+    try {
+      lock.channel().close();
+    } catch (IOException e) {
+      LOGGER.warn("Failed to release the lock of local object cache directory {}", directory, e);
+    }
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(CachedObject::deleteFile);
+    } catch (IOException | UncheckedIOException e) {
+      LOGGER.warn("Failed to remove local object cache directory {}", directory, e);
+    }
+  }
+
+  /** An in-flight load of an object, concurrent reads of the same object wait for it. */
+  private static final class Load {
+    final Thread owner = Thread.currentThread();
+    final CountDownLatch done = new CountDownLatch(1);
+    volatile boolean cached;
+    volatile boolean invalidated;
+
+    /** Waits for the load to finish, returns whether the object has been added to the cache. */
+    boolean await() throws IOException {
+      try {
+        done.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for a concurrent object load");
+      }
+      return cached;
+    }
+  }
+
+  /**
+   * Passes the object read from the object store to the caller and writes it to the local file. The
+   * object is added to the cache when the caller has read it completely. The local file is removed,
+   * if the caller closes the stream before, if the object is larger than the cache capacity or if
+   * writing the local file fails.
+   */
+  private final class LoadingInputStream extends FilterInputStream {
+    private final String key;
+    private final Load load;
+    private final Path file;
+    private OutputStream output;
+    private long size;
+
+    LoadingInputStream(InputStream input, String key, Load load, Path file, OutputStream output) {
+      super(input);
+      this.key = key;
+      this.load = load;
+      this.file = file;
+      this.output = output;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] single = new byte[1];
+      int n = read(single, 0, 1);
+      return n == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n;
+      try {
+        n = in.read(b, off, len);
+      } catch (IOException | RuntimeException e) {
+        abandon();
+        throw e;
+      }
+      if (n == -1) {
+        complete();
+      } else if (n > 0) {
+        write(b, off, n);
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      // Skipped bytes have to be written to the local file as well
+      byte[] buffer = new byte[(int) Math.min(8192L, Math.max(n, 0L))];
+      long skipped = 0L;
+      while (skipped < n) {
+        int r = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+        if (r == -1) {
+          break;
+        }
+        skipped += r;
+      }
+      return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {}
+
+    @Override
+    public synchronized void reset() throws IOException {
+      throw new IOException("mark/reset not supported");
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        abandon();
+      }
+    }
+
+    private void write(byte[] b, int off, int len) {
+      if (output == null) {
+        return;
+      }
+      size += len;
+      if (size > capacityBytes) {
+        tooLargeObjects.put(key, Boolean.TRUE);
+        abandon();
+        return;
+      }
+      try {
+        output.write(b, off, len);
+      } catch (IOException e) {
+        LOGGER.warn("Failed to write local object cache file {}", file, e);
+        abandon();
+      }
+    }
+
+    private void complete() {
+      if (output == null) {
+        return;
+      }
+      OutputStream out = output;
+      output = null;
+      try {
+        out.close();
+      } catch (IOException e) {
+        LOGGER.warn("Failed to write local object cache file {}", file, e);
+        CachedObject.deleteFile(file);
+        loadDone(key, load, false);
+        return;
+      }
+      CachedObject cached = new CachedObject(file, size);
+      objects.put(key, cached);
+      if (load.invalidated) {
+        // Written or deleted via the caching object-IO during the load
+        objects.asMap().remove(key, cached);
+      }
+      loadDone(key, load, true);
+    }
+
+    private void abandon() {
+      if (output == null) {
+        return;
+      }
+      OutputStream out = output;
+      output = null;
+      try {
+        out.close();
+      } catch (IOException e) {
+        // ignore, the file is removed
+      }
+      CachedObject.deleteFile(file);
+      loadDone(key, load, false);
+    }
+  }
+
+  private static final class CachedObject {
+    final Path file;
+    final long size;
+
+    CachedObject(Path file, long size) {
+      this.file = file;
+      this.size = size;
+    }
+
+    void delete() {
+      deleteFile(file);
+    }
+
+    static void deleteFile(Path file) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        LOGGER.warn("Failed to delete cached object file {}", file, e);
+      }
+    }
+  }
+}
@@ -15,12 +15,14 @@
  */
 package org.projectnessie.catalog.files.adls;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.ParallelTransferOptions;
 import com.azure.storage.file.datalake.DataLakeFileClient;
 import com.azure.storage.file.datalake.DataLakeFileSystemClient;
+import com.azure.storage.file.datalake.models.FileRange;
 import com.azure.storage.file.datalake.options.DataLakeFileInputStreamOptions;
 import com.azure.storage.file.datalake.options.DataLakeFileOutputStreamOptions;
 import java.io.BufferedOutputStream;
@@ -61,9 +63,25 @@ public class AdlsObjectIO implements ObjectIO {
 
   @Override
   public InputStream readObject(StorageUri uri) throws IOException {
+    return readObject(uri, null);
+  }
+
+  @Override
+  public InputStream readObject(StorageUri uri, long offset, long length) throws IOException {
+    checkArgument(offset >= 0L && length >= 0L, "Invalid range %s/%s", offset, length);
+    if (length == 0L) {
+      return InputStream.nullInputStream();
+    }
+    return readObject(
+        uri,
+        length <= Long.MAX_VALUE - offset ? new FileRange(offset, length) : new FileRange(offset));
+  }
+
+  private InputStream readObject(StorageUri uri, FileRange range) {
     DataLakeFileClient file = clientSupplier.fileClientForLocation(uri);
     DataLakeFileInputStreamOptions options = new DataLakeFileInputStreamOptions();
     clientSupplier.adlsOptions().readBlockSize().ifPresent(options::setBlockSize);
+    options.setRange(range);
     return file.openInputStream(options).getInputStream();
   }
 
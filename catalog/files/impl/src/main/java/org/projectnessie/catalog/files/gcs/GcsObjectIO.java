@@ -15,6 +15,7 @@
  */
 package org.projectnessie.catalog.files.gcs;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.cloud.ReadChannel;
@@ -24,6 +25,7 @@ import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.Storage.BlobSourceOption;
 import com.google.cloud.storage.Storage.BlobWriteOption;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.Channels;
@@ -74,6 +76,24 @@ public class GcsObjectIO implements ObjectIO {
 
   @Override
   public InputStream readObject(StorageUri uri) {
+    return Channels.newInputStream(reader(uri));
+  }
+
+  @Override
+  public InputStream readObject(StorageUri uri, long offset, long length) throws IOException {
+    checkArgument(offset >= 0L && length >= 0L, "Invalid range %s/%s", offset, length);
+    if (length == 0L) {
+      return InputStream.nullInputStream();
+    }
+    ReadChannel reader = reader(uri);
+    reader.seek(offset);
+    if (length <= Long.MAX_VALUE - offset) {
+      reader.limit(offset + length);
+    }
+    return Channels.newInputStream(reader);
+  }
+
+  private ReadChannel reader(StorageUri uri) {
     GcsBucketOptions bucketOptions = storageSupplier.bucketOptions(uri);
     @SuppressWarnings("resource")
     Storage client = storageSupplier.forLocation(bucketOptions);
@@ -96,7 +116,7 @@ public class GcsObjectIO implements ObjectIO {
             BlobId.of(uri.requiredAuthority(), uri.pathWithoutLeadingTrailingSlash()),
             sourceOptions.toArray(new BlobSourceOption[0]));
     bucketOptions.readChunkSize().ifPresent(reader::setChunkSize);
-    return Channels.newInputStream(reader);
+    return reader;
   }
 
   @Override
@@ -73,6 +73,21 @@ public class S3ObjectIO implements ObjectIO {
 
   @Override
   public InputStream readObject(StorageUri uri) {
+    return readObject(uri, null);
+  }
+
+  @Override
+  public InputStream readObject(StorageUri uri, long offset, long length) {
+    checkArgument(offset >= 0L && length >= 0L, "Invalid range %s/%s", offset, length);
+    if (length == 0L) {
+      return InputStream.nullInputStream();
+    }
+    // Open-ended range, if the end of the range is beyond the maximum possible object size
+    String end = length <= Long.MAX_VALUE - offset ? Long.toString(offset + length - 1) : "";
+    return readObject(uri, "bytes=" + offset + "-" + end);
+  }
+
+  private InputStream readObject(StorageUri uri, String range) {
     checkArgument(uri != null, "Invalid location: null");
     String scheme = uri.scheme();
     checkArgument(isS3scheme(scheme), "Invalid S3 scheme: %s", uri);
@@ -83,6 +98,7 @@ public class S3ObjectIO implements ObjectIO {
         GetObjectRequest.builder()
             .bucket(uri.requiredAuthority())
             .key(withoutLeadingSlash(uri))
+            .range(range)
             .build());
   }
 
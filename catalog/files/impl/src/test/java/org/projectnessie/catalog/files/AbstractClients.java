@@ -88,6 +88,41 @@ public abstract class AbstractClients {
     }
   }
 
+  @SuppressWarnings("resource")
+  @Test
+  public void rangeReads() throws Exception {
+    try (ObjectStorageMock.MockServer server1 =
+        ObjectStorageMock.builder()
+            .putBuckets(BUCKET_1, newHeapStorageBucket().bucket())
+            .build()
+            .start()) {
+
+      ObjectIO objectIO = buildObjectIO(server1, null);
+
+      StorageUri uri = buildURI(BUCKET_1, "mykey");
+      try (OutputStream output = objectIO.writeObject(uri)) {
+        output.write("hello world".getBytes(UTF_8));
+      }
+
+      soft.assertThat(readRange(objectIO, uri, 0L, 5L)).isEqualTo("hello");
+      soft.assertThat(readRange(objectIO, uri, 6L, 5L)).isEqualTo("world");
+      soft.assertThat(readRange(objectIO, uri, 4L, 3L)).isEqualTo("o w");
+      // range beyond the end of the object
+      soft.assertThat(readRange(objectIO, uri, 6L, 100L)).isEqualTo("world");
+      // offset + length overflows
+      soft.assertThat(readRange(objectIO, uri, 6L, Long.MAX_VALUE)).isEqualTo("world");
+      soft.assertThat(readRange(objectIO, uri, 0L, Long.MAX_VALUE)).isEqualTo("hello world");
+      soft.assertThat(readRange(objectIO, uri, 3L, 0L)).isEmpty();
+    }
+  }
+
+  private static String readRange(ObjectIO objectIO, StorageUri uri, long offset, long length)
+      throws Exception {
+    try (InputStream input = objectIO.readObject(uri, offset, length)) {
+      return new String(input.readAllBytes(), UTF_8);
+    }
+  }
+
   @Test
   public void twoBucketsTwoServers() throws Exception {
     String answer1 = "hello world ";
@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.projectnessie.catalog.files.DiskObjectCache.DIRECTORY_NAME;
+import static org.projectnessie.catalog.files.DiskObjectCache.NO_DISK_OBJECT_CACHE;
+import static org.projectnessie.catalog.files.DiskObjectCache.diskObjectCache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.projectnessie.catalog.files.api.ObjectIO;
+import org.projectnessie.catalog.files.local.LocalObjectIO;
+import org.projectnessie.storage.uri.StorageUri;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestDiskObjectCache {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @TempDir Path objects;
+  @TempDir Path cacheDir;
+
+  @Test
+  public void disabled() {
+    ObjectIO objectIO = new LocalObjectIO();
+    soft.assertThat(NO_DISK_OBJECT_CACHE.wrap(objectIO)).isSameAs(objectIO);
+  }
+
+  @Test
+  public void cachedReads() throws Exception {
+    CountingObjectIO delegate = new CountingObjectIO();
+    try (DiskObjectCache cache = diskObjectCache(cacheDir, 1024 * 1024)) {
+      ObjectIO objectIO = cache.wrap(delegate);
+      StorageUri uri = object("foo", "0123456789");
+
+      // Range reads of objects that are not cached are passed through
+      soft.assertThat(read(objectIO.readObject(uri, 2, 3))).isEqualTo("234");
+      soft.assertThat(delegate.rangeReads).hasValue(1);
+      soft.assertThat(cache.cachedObjects()).isEqualTo(0L);
+
+      soft.assertThat(read(objectIO.readObject(uri))).isEqualTo("0123456789");
+      soft.assertThat(read(objectIO.readObject(uri))).isEqualTo("0123456789");
+      soft.assertThat(delegate.reads).hasValue(1);
+      soft.assertThat(cache.cachedObjects()).isEqualTo(1L);
+
+      // Range reads of cached objects are served from the cache
+      soft.assertThat(read(objectIO.readObject(uri, 5, 3))).isEqualTo("567");
+      soft.assertThat(read(objectIO.readObject(uri, 8, 10))).isEqualTo("89");
+      soft.assertThat(read(objectIO.readObject(uri, 3, 0))).isEqualTo("");
+      soft.assertThat(delegate.rangeReads).hasValue(1);
+    }
+  }
+
+  @Test
+  public void streamedWhileLoading() throws Exception {
+    CountingObjectIO delegate = new CountingObjectIO();
+    try (DiskObjectCache cache = diskObjectCache(cacheDir, 1024 * 1024)) {
+      ObjectIO objectIO = cache.wrap(delegate);
+      StorageUri uri = object("foo", "0123456789");
+
+      // Closing the stream before the object has been read completely does not cache it
+      try (InputStream input = objectIO.readObject(uri)) {
+        soft.assertThat(new String(input.readNBytes(4), UTF_8)).isEqualTo("0123");
+        soft.assertThat(cachedFiles()).isEqualTo(1L);
+      }
+      soft.assertThat(cache.cachedObjects()).isEqualTo(0L);
+      soft.assertThat(cachedFiles()).isEqualTo(0L);
+
+      try (InputStream input = objectIO.readObject(uri)) {
+        soft.assertThat(input.read()).isEqualTo('0');
+        soft.assertThat(input.skip(4)).isEqualTo(4L);
+        soft.assertThat(cache.cachedObjects()).isEqualTo(0L);
+        soft.assertThat(new String(input.readAllBytes(), UTF_8)).isEqualTo("56789");
+      }
+      soft.assertThat(cache.cachedObjects()).isEqualTo(1L);
+      soft.assertThat(read(objectIO.readObject(uri))).isEqualTo("0123456789");
+      soft.assertThat(delegate.reads).hasValue(2);
+    }
+  }
+
+  @Test
+  public void concurrentLoadsCoalesced() throws Exception {
+    CountingObjectIO delegate = new CountingObjectIO();
+    try (DiskObjectCache cache = diskObjectCache(cacheDir, 1024 * 1024)) {
+      ObjectIO objectIO = cache.wrap(delegate);
+      StorageUri uri = object("foo", "0123456789");
+
+      InputStream loading = objectIO.readObject(uri);
+      CompletableFuture<String> concurrent =
+          CompletableFuture.supplyAsync(
+              () -> {
+                try {
+                  return read(objectIO.readObject(uri));
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              });
+      soft.assertThat(concurrent).isNotDone();
+
+      soft.assertThat(read(loading)).isEqualTo("0123456789");
+      soft.assertThat(concurrent.get(1, TimeUnit.MINUTES)).isEqualTo("0123456789");
+      soft.assertThat(delegate.reads).hasValue(1);
+    }
+  }
+
+  @Test
+  public void tooLargeObjectsNotCached() throws Exception {
+    CountingObjectIO delegate = new CountingObjectIO();
+    try (DiskObjectCache cache = diskObjectCache(cacheDir, 100)) {
+      ObjectIO objectIO = cache.wrap(delegate);
+      String content = "x".repeat(150);
+      StorageUri uri = object("large", content);
+
+      try (InputStream input = objectIO.readObject(uri)) {
+        soft.assertThat(new String(input.readNBytes(120), UTF_8)).isEqualTo("x".repeat(120));
+        // The local file is removed as soon as the object exceeds the capacity
+        soft.assertThat(cachedFiles()).isEqualTo(0L);
+        soft.assertThat(new String(input.readAllBytes(), UTF_8)).isEqualTo("x".repeat(30));
+      }
+      soft.assertThat(cache.cachedObjects()).isEqualTo(0L);
+
+      // Not written to a local file again
+      try (InputStream input = objectIO.readObject(uri)) {
+        soft.assertThat(new String(input.readNBytes(10), UTF_8)).isEqualTo("x".repeat(10));
+        soft.assertThat(cachedFiles()).isEqualTo(0L);
+      }
+      soft.assertThat(delegate.reads).hasValue(2);
+    }
+  }
+
+  @Test
+  public void invalidation() throws Exception {
+    CountingObjectIO delegate = new CountingObjectIO();
+    try (DiskObjectCache cache = diskObjectCache(cacheDir, 1024 * 1024)) {
+      ObjectIO objectIO = cache.wrap(delegate);
+      StorageUri uri = object("foo", "hello");
+
+      soft.assertThat(read(objectIO.readObject(uri))).isEqualTo("hello");
+      try (OutputStream output = objectIO.writeObject(uri)) {
+        output.write("world".getBytes(UTF_8));
+      }
+      soft.assertThat(read(objectIO.readObject(uri))).isEqualTo("world");
+      soft.assertThat(delegate.reads).hasValue(2);
+
+      objectIO.deleteObjects(List.of(uri));
+      soft.assertThat(cache.cachedObjects()).isEqualTo(0L);
+      soft.assertThatThrownBy(() -> objectIO.readObject(uri)).isInstanceOf(IOException.class);
+      soft.assertThat(cachedFiles()).isEqualTo(0L);
+    }
+  }
+
+  @Test
+  public void evictionAndClose() throws Exception {
+    CountingObjectIO delegate = new CountingObjectIO();
+    DiskObjectCache cache = diskObjectCache(cacheDir, 100);
+    ObjectIO objectIO = cache.wrap(delegate);
+    String content = "x".repeat(60);
+
+    for (int i = 0; i < 3; i++) {
+      soft.assertThat(read(objectIO.readObject(object("obj-" + i, content)))).isEqualTo(content);
+    }
+    soft.assertThat(cache.cachedObjects()).isEqualTo(1L);
+    soft.assertThat(cachedFiles()).isEqualTo(1L);
+
+    cache.close();
+    try (Stream<Path> files = Files.list(cacheDir)) {
+      soft.assertThat(files).isEmpty();
+    }
+  }
+
+  @Test
+  public void leftOverFilesRemoved() throws Exception {
+    Path directory = cacheDir.resolve(DIRECTORY_NAME);
+    Files.createDirectories(directory.resolve("sub"));
+    Files.writeString(directory.resolve("1"), "stale");
+    Files.writeString(directory.resolve("sub").resolve("2"), "stale");
+    Path unrelated = Files.writeString(cacheDir.resolve("unrelated"), "keep");
+
+    CountingObjectIO delegate = new CountingObjectIO();
+    try (DiskObjectCache cache = diskObjectCache(cacheDir, 1024 * 1024)) {
+      soft.assertThat(cachedFiles()).isEqualTo(0L);
+      soft.assertThat(directory.resolve("1")).doesNotExist();
+      soft.assertThat(directory.resolve("sub")).doesNotExist();
+
+      ObjectIO objectIO = cache.wrap(delegate);
+      soft.assertThat(read(objectIO.readObject(object("foo", "hello")))).isEqualTo("hello");
+      soft.assertThat(cachedFiles()).isEqualTo(1L);
+
+      // The directory cannot be used by another cache at the same time
+      soft.assertThatThrownBy(() -> diskObjectCache(cacheDir, 1024 * 1024))
+          .isInstanceOf(IOException.class)
+          .hasMessageContaining("already in use");
+    }
+    soft.assertThat(directory).doesNotExist();
+    soft.assertThat(unrelated).hasContent("keep");
+
+    // Can be re-used after the cache has been closed
+    diskObjectCache(cacheDir, 1024 * 1024).close();
+  }
+
+  private StorageUri object(String name, String content) throws IOException {
+    Path file = objects.resolve(name);
+    Files.writeString(file, content);
+    return StorageUri.of(file.toUri().toString());
+  }
+
+  private long cachedFiles() throws IOException {
+    try (Stream<Path> files = Files.walk(cacheDir.resolve(DIRECTORY_NAME))) {
+      return files
+          .filter(Files::isRegularFile)
+          .filter(f -> !f.getFileName().toString().equals(DiskObjectCache.LOCK_FILE_NAME))
+          .count();
+    }
+  }
+
+  private static String read(InputStream input) throws IOException {
+    try (input) {
+      return new String(input.readAllBytes(), UTF_8);
+    }
+  }
+
+  static final class CountingObjectIO extends LocalObjectIO {
+    final AtomicInteger reads = new AtomicInteger();
+    final AtomicInteger rangeReads = new AtomicInteger();
+
+    @Override
+    public InputStream readObject(StorageUri uri) throws IOException {
+      reads.incrementAndGet();
+      return super.readObject(uri);
+    }
+
+    @Override
+    public InputStream readObject(StorageUri uri, long offset, long length) throws IOException {
+      rangeReads.incrementAndGet();
+      // Let the default implementation read the object
+      reads.decrementAndGet();
+      return super.readObject(uri, offset, length);
+    }
+  }
+}
@@ -39,12 +39,49 @@ public interface SnapshotResponse {
       ContentKey contentKey,
       Content content,
       NessieEntitySnapshot<?> nessieSnapshot) {
+    return forEntity(
+        effectiveReference,
+        result,
+        null,
+        null,
+        fileName,
+        contentType,
+        contentKey,
+        content,
+        nessieSnapshot);
+  }
+
+  /**
+   * Creates a response for the given entity object. If {@code serialized} is not {@code null}, it
+   * holds the already serialized representation of {@code result}, which can be {@linkplain
+   * #produce(OutputStream) produced} without serializing the entity object again.
+   */
+  static SnapshotResponse forEntity(
+      Reference effectiveReference,
+      Object result,
+      byte[] serialized,
+      String entityTag,
+      String fileName,
+      String contentType,
+      ContentKey contentKey,
+      Content content,
+      NessieEntitySnapshot<?> nessieSnapshot) {
     return new SnapshotResponse() {
       @Override
       public Optional<Object> entityObject() {
         return Optional.of(result);
       }
 
+      @Override
+      public Optional<String> entityTag() {
+        return Optional.ofNullable(entityTag);
+      }
+
+      @Override
+      public boolean hasSerializedEntity() {
+        return serialized != null;
+      }
+
       @Override
       public Reference effectiveReference() {
         return effectiveReference;
@@ -77,7 +114,10 @@ public interface SnapshotResponse {
 
       @Override
       public void produce(OutputStream outputStream) throws IOException {
-        throw new UnsupportedOperationException();
+        if (serialized == null) {
+          throw new UnsupportedOperationException();
+        }
+        outputStream.write(serialized);
       }
     };
   }
@@ -86,6 +126,22 @@ public interface SnapshotResponse {
 
   Optional<Object> entityObject();
 
+  /**
+   * Entity tag of the response, which stays the same as long as the response content does not
+   * change.
+   */
+  default Optional<String> entityTag() {
+    return Optional.empty();
+  }
+
+  /**
+   * Whether the {@linkplain #entityObject() entity object} is also available in its serialized
+   * form via {@link #produce(OutputStream)}.
+   */
+  default boolean hasSerializedEntity() {
+    return false;
+  }
+
   String fileName();
 
   String contentType();
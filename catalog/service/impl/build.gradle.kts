@@ -36,7 +36,9 @@ dependencies {
   annotationProcessor(project(":nessie-immutables", configuration = "processor"))
 
   implementation(libs.avro)
+  implementation(libs.caffeine)
   implementation(libs.guava)
+  implementation(libs.micrometer.core)
   implementation(libs.slf4j.api)
 
   implementation(platform(libs.jackson.bom))
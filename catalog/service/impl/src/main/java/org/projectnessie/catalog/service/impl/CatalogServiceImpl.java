@@ -64,6 +64,7 @@ import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.projectnessie.api.v2.params.ParsedReference;
 import org.projectnessie.catalog.files.api.BackendExceptionMapper;
@@ -93,7 +94,9 @@ import org.projectnessie.catalog.service.api.SnapshotResponse;
 import org.projectnessie.catalog.service.config.LakehouseConfig;
 import org.projectnessie.catalog.service.config.ServiceConfig;
 import org.projectnessie.catalog.service.config.WarehouseConfig;
+import org.projectnessie.catalog.service.impl.IcebergMetadataCache.CachedIcebergMetadata;
 import org.projectnessie.catalog.service.impl.MultiTableUpdate.SingleTableUpdate;
+import org.projectnessie.catalog.service.objtypes.EntitySnapshotObj;
 import org.projectnessie.error.BaseNessieClientServerException;
 import org.projectnessie.error.NessieContentNotFoundException;
 import org.projectnessie.error.NessieNotFoundException;
@@ -105,6 +108,7 @@ import org.projectnessie.model.Content;
 import org.projectnessie.model.ContentKey;
 import org.projectnessie.model.ContentResponse;
 import org.projectnessie.model.GetMultipleContentsResponse;
+import org.projectnessie.model.GetMultipleContentsResponse.ContentWithKey;
 import org.projectnessie.model.Namespace;
 import org.projectnessie.model.Reference;
 import org.projectnessie.nessie.tasks.api.TasksService;
@@ -141,6 +145,8 @@ public class CatalogServiceImpl implements CatalogService {
   @Inject TasksService tasksService;
   @Inject BackendExceptionMapper backendExceptionMapper;
   @Inject ServiceConfig serviceConfig;
+  @Inject IcebergMetadataCache icebergMetadataCache;
+  @Inject ImportSnapshotMetrics importSnapshotMetrics;
 
   @Inject
   @Named("import-jobs")
@@ -154,14 +160,16 @@ public class CatalogServiceImpl implements CatalogService {
     return new ContentApiImpl(serverConfig, versionStore, authorizer, accessContext, apiContext);
   }
 
-  private IcebergStuff icebergStuff() {
+  @VisibleForTesting
+  IcebergStuff icebergStuff() {
     return new IcebergStuff(
         objectIO,
         persist,
         tasksService,
         new EntitySnapshotTaskBehavior(
             backendExceptionMapper, serviceConfig.effectiveRetryAfterThrottled()),
-        executor);
+        executor,
+        importSnapshotMetrics);
   }
 
   @Override
@@ -262,19 +270,30 @@ public class CatalogServiceImpl implements CatalogService {
 
     Reference effectiveReference = contentResponse.getEffectiveReference();
     effectiveReferenceConsumer.accept(effectiveReference);
-    return contentResponse.getContents().stream()
-        .map(
-            c -> {
-              ObjId snapshotId;
-              try {
-                snapshotId = snapshotObjIdForContent(c.getContent());
-              } catch (Exception e) {
-                // This silently handles the case when `c` refers neither to an Iceberg table nor a
-                // view.`
-                LOGGER.debug(
-                    "Failed to retrieve snapshot ID for {}: {}", c.getContent(), e.toString());
-                return null;
-              }
+
+    List<ContentWithKey> contents = new ArrayList<>();
+    List<ObjId> snapshotIds = new ArrayList<>();
+    for (ContentWithKey c : contentResponse.getContents()) {
+      try {
+        snapshotIds.add(snapshotObjIdForContent(c.getContent()));
+        contents.add(c);
+      } catch (Exception e) {
+        // This silently handles the case when `c` refers neither to an Iceberg table nor a view.
+        LOGGER.debug("Failed to retrieve snapshot ID for {}: {}", c.getContent(), e.toString());
+      }
+    }
+
+    // Fetch the already imported snapshots using a single bulk read, only the missing snapshots
+    // need to be imported via the tasks service.
+    EntitySnapshotObj[] existing =
+        icebergStuff.fetchExistingSnapshots(snapshotIds.toArray(new ObjId[0]));
+
+    return IntStream.range(0, contents.size())
+        .mapToObj(
+            i -> {
+              ContentWithKey c = contents.get(i);
+              ObjId snapshotId = snapshotIds.get(i);
+              EntitySnapshotObj snapshotObj = existing[i];
               return (Supplier<CompletionStage<SnapshotResponse>>)
                   () -> {
                     ContentKey key = c.getKey();
@@ -284,14 +303,14 @@ public class CatalogServiceImpl implements CatalogService {
                         reference.hashWithRelativeSpec(),
                         key);
                     CompletionStage<NessieEntitySnapshot<?>> snapshotStage =
-                        icebergStuff.retrieveIcebergSnapshot(snapshotId, c.getContent());
+                        icebergStuff.retrieveIcebergSnapshot(
+                            snapshotId, c.getContent(), snapshotObj);
                     return snapshotStage.thenApply(
                         snapshot ->
                             snapshotResponse(
                                 key, c.getContent(), reqParams, snapshot, effectiveReference));
                   };
-            })
-        .filter(Objects::nonNull);
+            });
   }
 
   @Override
@@ -373,13 +392,31 @@ public class CatalogServiceImpl implements CatalogService {
         // TODO Does requesting a table-metadata using another spec-version make any sense?
         // TODO Response should respect the JsonView / spec-version
         // TODO Add a check that the original table format was Iceberg (not Delta)
-        result =
-            nessieTableSnapshotToIceberg(
-                snapshot,
-                optionalIcebergSpec(reqParams.reqVersion()),
-                metadataPropertiesTweak(snapshot, effectiveReference));
+        Optional<IcebergSpec> icebergSpec = optionalIcebergSpec(reqParams.reqVersion());
+        Supplier<IcebergTableMetadata> renderer =
+            () ->
+                nessieTableSnapshotToIceberg(
+                    snapshot, icebergSpec, metadataPropertiesTweak(snapshot, effectiveReference));
 
         fileName = "00000-" + snapshot.id().idAsString() + ".metadata.json";
+
+        CachedIcebergMetadata cached =
+            icebergMetadataCache.tableMetadata(
+                snapshot.id(), icebergSpec, effectiveReference, renderer);
+        if (cached != null) {
+          return SnapshotResponse.forEntity(
+              effectiveReference,
+              cached.metadata(),
+              cached.serialized(),
+              cached.entityTag(),
+              fileName,
+              "application/json",
+              key,
+              content,
+              snapshot);
+        }
+
+        result = renderer.get();
         break;
       default:
         throw new IllegalArgumentException("Unknown format " + reqParams.snapshotFormat());
@@ -73,6 +73,9 @@ public interface EntitySnapshotTaskRequest
   @Value.Auxiliary
   Executor executor();
 
+  @Value.Auxiliary
+  ImportSnapshotMetrics importMetrics();
+
   @Override
   @Value.NonAttribute
   default CompletionStage<EntitySnapshotObj.Builder> submitExecution() {
@@ -92,8 +95,9 @@ public interface EntitySnapshotTaskRequest
       EntitySnapshotTaskBehavior behavior,
       Persist persist,
       ObjectIO objectIO,
-      Executor executor) {
+      Executor executor,
+      ImportSnapshotMetrics importMetrics) {
     return ImmutableEntitySnapshotTaskRequest.of(
-        behavior, objId, content, snapshot, persist, objectIO, executor);
+        behavior, objId, content, snapshot, persist, objectIO, executor, importMetrics);
   }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+import jakarta.annotation.Nullable;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.projectnessie.catalog.formats.iceberg.IcebergSpec;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergTableMetadata;
+import org.projectnessie.catalog.model.id.NessieId;
+import org.projectnessie.model.Reference;
+
+/**
+ * Bounded cache of Iceberg table-metadata rendered from Nessie table snapshots, including the
+ * serialized JSON representation and an entity tag.
+ *
+ * <p>Rendered table-metadata depends on the snapshot, the requested Iceberg spec version and the
+ * effective reference, which is added to the table-metadata properties. The cache is bounded by
+ * the size of the serialized table-metadata.
+ */
+public final class IcebergMetadataCache {
+
+  private final Cache<String, CachedIcebergMetadata> cache;
+
+  private IcebergMetadataCache(long capacityMb) {
+    this.cache =
+        capacityMb > 0L
+            ? Caffeine.newBuilder()
+                .maximumWeight(capacityMb * 1024L * 1024L)
+                .<String, CachedIcebergMetadata>weigher((k, v) -> k.length() + v.weight())
+                .build()
+            : null;
+  }
+
+  /**
+   * Creates a new cache with the given capacity, a capacity of {@code 0} disables the cache, which
+   * lets {@link #tableMetadata(NessieId, Optional, Reference, Supplier)} return {@code null}.
+   */
+  public static IcebergMetadataCache icebergMetadataCache(long capacityMb) {
+    return new IcebergMetadataCache(capacityMb);
+  }
+
+  /**
+   * Returns the cached rendered table-metadata, or renders and caches it using the given {@code
+   * renderer}. Returns {@code null}, if the cache is disabled.
+   */
+  @Nullable
+  CachedIcebergMetadata tableMetadata(
+      NessieId snapshotId,
+      Optional<IcebergSpec> spec,
+      Reference effectiveReference,
+      Supplier<IcebergTableMetadata> renderer) {
+    if (cache == null) {
+      return null;
+    }
+    String key =
+        snapshotId.idAsString()
+            + '/'
+            + spec.map(s -> Integer.toString(s.version())).orElse("")
+            + '/'
+            + effectiveReference.getHash()
+            + '/'
+            + effectiveReference.getName();
+    return cache.get(key, k -> render(k, spec, renderer.get()));
+  }
+
+  private static CachedIcebergMetadata render(
+      String key, Optional<IcebergSpec> spec, IcebergTableMetadata metadata) {
+    try {
+      // Serialize using the JSON view of the requested spec, or of the table's format version
+      IcebergSpec effectiveSpec =
+          spec.orElseGet(() -> IcebergSpec.forVersion(metadata.formatVersion()));
+      byte[] serialized = effectiveSpec.jsonWriter().writeValueAsBytes(metadata);
+      String entityTag = Hashing.sha256().hashString(key, UTF_8).toString();
+      return new CachedIcebergMetadata(metadata, serialized, entityTag);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  static final class CachedIcebergMetadata {
+    private final IcebergTableMetadata metadata;
+    private final byte[] serialized;
+    private final String entityTag;
+
+    CachedIcebergMetadata(IcebergTableMetadata metadata, byte[] serialized, String entityTag) {
+      this.metadata = metadata;
+      this.serialized = serialized;
+      this.entityTag = entityTag;
+    }
+
+    IcebergTableMetadata metadata() {
+      return metadata;
+    }
+
+    byte[] serialized() {
+      return serialized;
+    }
+
+    String entityTag() {
+      return entityTag;
+    }
+
+    int weight() {
+      // The serialized form is a reasonable approximation for the heap used by the metadata object.
+      return 2 * serialized.length + entityTag.length();
+    }
+  }
+}
@@ -20,6 +20,7 @@ import static org.projectnessie.catalog.service.impl.EntitySnapshotTaskRequest.e
 import static org.projectnessie.catalog.service.impl.Util.nessieIdToObjId;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import org.projectnessie.catalog.files.api.ObjectIO;
@@ -30,6 +31,7 @@ import org.projectnessie.catalog.service.objtypes.EntitySnapshotObj;
 import org.projectnessie.model.Content;
 import org.projectnessie.model.IcebergTable;
 import org.projectnessie.model.IcebergView;
+import org.projectnessie.nessie.tasks.api.TaskStatus;
 import org.projectnessie.nessie.tasks.api.TasksService;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
@@ -45,18 +47,21 @@ public class IcebergStuff {
   private final TasksService tasksService;
   private final EntitySnapshotTaskBehavior snapshotTaskBehavior;
   private final Executor executor;
+  private final ImportSnapshotMetrics importMetrics;
 
   IcebergStuff(
       ObjectIO objectIO,
       Persist persist,
       TasksService tasksService,
       EntitySnapshotTaskBehavior snapshotTaskBehavior,
-      Executor executor) {
+      Executor executor,
+      ImportSnapshotMetrics importMetrics) {
     this.objectIO = objectIO;
     this.persist = persist;
     this.tasksService = tasksService;
     this.snapshotTaskBehavior = snapshotTaskBehavior;
     this.executor = executor;
+    this.importMetrics = importMetrics;
   }
 
   /**
@@ -68,11 +73,50 @@ public class IcebergStuff {
       ObjId snapshotId, Content content) {
     EntitySnapshotTaskRequest snapshotTaskRequest =
         entitySnapshotTaskRequest(
-            snapshotId, content, null, snapshotTaskBehavior, persist, objectIO, executor);
+            snapshotId,
+            content,
+            null,
+            snapshotTaskBehavior,
+            persist,
+            objectIO,
+            executor,
+            importMetrics);
     return triggerIcebergSnapshot(snapshotTaskRequest);
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Same as {@link #retrieveIcebergSnapshot(ObjId, Content)}, but uses the given {@code existing}
+   * snapshot object, if it is not {@code null}, instead of submitting a task.
+   *
+   * @see #fetchExistingSnapshots(ObjId[])
+   */
+  public <S extends NessieEntitySnapshot<?>> CompletionStage<S> retrieveIcebergSnapshot(
+      ObjId snapshotId, Content content, @Nullable EntitySnapshotObj existing) {
+    if (existing != null) {
+      return completedStage(mapSnapshot(existing));
+    }
+    return retrieveIcebergSnapshot(snapshotId, content);
+  }
+
+  /**
+   * Fetches the snapshot objects for the given IDs using a single bulk read. The returned array
+   * contains the objects for the snapshots that have been successfully imported, the elements for
+   * missing snapshots and snapshots that are not yet or could not be imported are {@code null}.
+   */
+  EntitySnapshotObj[] fetchExistingSnapshots(ObjId[] snapshotIds) {
+    EntitySnapshotObj[] snapshotObjs =
+        persist.fetchTypedObjsIfExist(
+            snapshotIds, EntitySnapshotObj.OBJ_TYPE, EntitySnapshotObj.class);
+    for (int i = 0; i < snapshotObjs.length; i++) {
+      EntitySnapshotObj snapshotObj = snapshotObjs[i];
+      if (snapshotObj != null && snapshotObj.taskState().status() != TaskStatus.SUCCESS) {
+        // Let the tasks service handle running, retryable and failed imports
+        snapshotObjs[i] = null;
+      }
+    }
+    return snapshotObjs;
+  }
+
   @Nonnull
   private <S extends NessieEntitySnapshot<?>> CompletionStage<S> triggerIcebergSnapshot(
       EntitySnapshotTaskRequest snapshotTaskRequest) {
@@ -80,18 +124,20 @@ public class IcebergStuff {
     return tasksService
         .forPersist(persist)
         .submit(snapshotTaskRequest)
-        .thenCompose(
-            snapshotObj -> {
-              NessieEntitySnapshot<?> entitySnapshot = snapshotObj.snapshot();
-              if (entitySnapshot instanceof NessieTableSnapshot) {
-                return completedStage((S) mapToTableSnapshot(snapshotObj));
-              }
-              if (entitySnapshot instanceof NessieViewSnapshot) {
-                return completedStage((S) mapToViewSnapshot(snapshotObj));
-              }
-              throw new IllegalArgumentException(
-                  "Unsupported snapshot type: " + snapshotObj.getClass().getSimpleName());
-            });
+        .thenCompose(snapshotObj -> completedStage(mapSnapshot(snapshotObj)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <S extends NessieEntitySnapshot<?>> S mapSnapshot(EntitySnapshotObj snapshotObj) {
+    NessieEntitySnapshot<?> entitySnapshot = snapshotObj.snapshot();
+    if (entitySnapshot instanceof NessieTableSnapshot) {
+      return (S) mapToTableSnapshot(snapshotObj);
+    }
+    if (entitySnapshot instanceof NessieViewSnapshot) {
+      return (S) mapToViewSnapshot(snapshotObj);
+    }
+    throw new IllegalArgumentException(
+        "Unsupported snapshot type: " + snapshotObj.getClass().getSimpleName());
   }
 
   @Nonnull
@@ -105,7 +151,8 @@ public class IcebergStuff {
             snapshotTaskBehavior,
             persist,
             objectIO,
-            executor);
+            executor,
+            importMetrics);
     return triggerIcebergSnapshot(snapshotTaskRequest);
   }
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers for the phases of importing Iceberg table and view metadata into Nessie snapshots,
+ * exposed as {@value #IMPORT_PHASE_TIMER} with the tags {@value #TYPE_TAG} ({@code table} or
+ * {@code view}) and {@value #PHASE_TAG}.
+ */
+public final class ImportSnapshotMetrics {
+
+  public static final String IMPORT_PHASE_TIMER = "nessie.catalog.import.phase";
+  public static final String TYPE_TAG = "type";
+  public static final String PHASE_TAG = "phase";
+
+  /** Import phases. */
+  enum Phase {
+    /** Reading and parsing the Iceberg metadata JSON from the object store. */
+    READ_METADATA("read-metadata"),
+    /** Resolving or creating the Nessie entity object. */
+    RESOLVE_ENTITY("resolve-entity"),
+    /** Converting the Iceberg metadata to the Nessie snapshot. */
+    CONVERT("convert"),
+    /** The whole import. */
+    TOTAL("total");
+
+    private final String tagValue;
+
+    Phase(String tagValue) {
+      this.tagValue = tagValue;
+    }
+  }
+
+  private final MeterRegistry meterRegistry;
+
+  private ImportSnapshotMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /** Creates the import metrics, nothing is recorded if {@code meterRegistry} is {@code null}. */
+  public static ImportSnapshotMetrics importSnapshotMetrics(@Nullable MeterRegistry meterRegistry) {
+    return new ImportSnapshotMetrics(meterRegistry);
+  }
+
+  void record(String entityType, Phase phase, long nanos) {
+    if (meterRegistry != null) {
+      Timer.builder(IMPORT_PHASE_TIMER)
+          .description("Duration of the phases of Iceberg metadata imports")
+          .tag(TYPE_TAG, entityType)
+          .tag(PHASE_TAG, phase.tagValue)
+          .register(meterRegistry)
+          .record(nanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -15,14 +15,20 @@
  */
 package org.projectnessie.catalog.service.impl;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.projectnessie.catalog.formats.iceberg.nessie.NessieModelIceberg.icebergTableSnapshotToNessie;
 import static org.projectnessie.catalog.formats.iceberg.nessie.NessieModelIceberg.icebergViewSnapshotToNessie;
+import static org.projectnessie.catalog.service.impl.ImportSnapshotMetrics.Phase.CONVERT;
+import static org.projectnessie.catalog.service.impl.ImportSnapshotMetrics.Phase.READ_METADATA;
+import static org.projectnessie.catalog.service.impl.ImportSnapshotMetrics.Phase.RESOLVE_ENTITY;
+import static org.projectnessie.catalog.service.impl.ImportSnapshotMetrics.Phase.TOTAL;
 import static org.projectnessie.catalog.service.impl.Util.nessieIdToObjId;
 import static org.projectnessie.catalog.service.impl.Util.objIdToNessieId;
 import static org.projectnessie.catalog.service.objtypes.EntityObj.entityObjIdForContent;
 import static org.projectnessie.nessie.tasks.api.TaskState.successState;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
 
+import com.google.common.base.Stopwatch;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Instant;
@@ -91,11 +97,16 @@ final class ImportSnapshotWorker {
     // table update) and do not need to import it but can just store it.
     if (snapshot == null) {
       StorageUri metadataLocation = StorageUri.of(content.getMetadataLocation());
+      Stopwatch stopwatch = Stopwatch.createStarted();
+      long readMetadataNanos;
+      long entityNanos;
       NessieTable table;
       IcebergTableMetadata tableMetadata;
       try {
         tableMetadata = icebergMetadata(metadataLocation, IcebergTableMetadata.class);
+        readMetadataNanos = stopwatch.elapsed(NANOSECONDS);
         table = entityObjForContent(content, tableMetadata, entityObjId);
+        entityNanos = stopwatch.elapsed(NANOSECONDS) - readMetadataNanos;
       } catch (Exception e) {
         throw new RuntimeException(
             "Failed to read table metadata from " + content.getMetadataLocation(), e);
@@ -143,6 +154,14 @@ final class ImportSnapshotWorker {
 
                 return metadataLocation.resolve(listFile).toString();
               });
+
+      recordImportTimings(
+          "table",
+          metadataLocation,
+          stopwatch,
+          readMetadataNanos,
+          entityNanos,
+          tableMetadata.snapshots().size());
     }
 
     return EntitySnapshotObj.builder()
@@ -171,8 +190,12 @@ final class ImportSnapshotWorker {
       NessieView view;
       IcebergViewMetadata viewMetadata;
       StorageUri metadataLocation = StorageUri.of(content.getMetadataLocation());
+      Stopwatch stopwatch = Stopwatch.createStarted();
+      long readMetadataNanos;
+      long entityNanos;
       try {
         viewMetadata = icebergMetadata(metadataLocation, IcebergViewMetadata.class);
+        readMetadataNanos = stopwatch.elapsed(NANOSECONDS);
         view =
             entityObjForContent(
                 content,
@@ -187,12 +210,21 @@ final class ImportSnapshotWorker {
                                 new IllegalStateException(
                                     "Iceberg view has no version element with the id for the current-version-ID"))
                         .timestampMs());
+        entityNanos = stopwatch.elapsed(NANOSECONDS) - readMetadataNanos;
       } catch (Exception e) {
         throw new RuntimeException(
             "Failed to read view metadata from " + content.getMetadataLocation(), e);
       }
 
       snapshot = icebergViewSnapshotToNessie(snapshotId, null, view, viewMetadata);
+
+      recordImportTimings(
+          "view",
+          metadataLocation,
+          stopwatch,
+          readMetadataNanos,
+          entityNanos,
+          viewMetadata.versions().size());
     }
 
     return EntitySnapshotObj.builder()
@@ -264,10 +296,42 @@ final class ImportSnapshotWorker {
         .build();
   }
 
+  private void recordImportTimings(
+      String entityType,
+      StorageUri metadataLocation,
+      Stopwatch stopwatch,
+      long readMetadataNanos,
+      long entityNanos,
+      int elements) {
+    long totalNanos = stopwatch.elapsed(NANOSECONDS);
+    long convertNanos = totalNanos - readMetadataNanos - entityNanos;
+    ImportSnapshotMetrics metrics = taskRequest.importMetrics();
+    metrics.record(entityType, READ_METADATA, readMetadataNanos);
+    metrics.record(entityType, RESOLVE_ENTITY, entityNanos);
+    metrics.record(entityType, CONVERT, convertNanos);
+    metrics.record(entityType, TOTAL, totalNanos);
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Imported Iceberg {} metadata with {} snapshots/versions for snapshot ID {} from {} "
+              + "in {} ms (read metadata: {} ms, entity: {} ms, convert: {} ms)",
+          entityType,
+          elements,
+          taskRequest.objId(),
+          metadataLocation,
+          NANOSECONDS.toMillis(totalNanos),
+          NANOSECONDS.toMillis(readMetadataNanos),
+          NANOSECONDS.toMillis(entityNanos),
+          NANOSECONDS.toMillis(convertNanos));
+    }
+  }
+
   private <T> T icebergMetadata(StorageUri metadataLocation, Class<? extends T> metadataType)
       throws IOException {
-    InputStream input = metadataInputStream(metadataLocation);
-    return IcebergJson.objectMapper().readValue(input, metadataType);
+    // Parse the metadata directly from the object-store stream, without materializing it
+    try (InputStream input = metadataInputStream(metadataLocation)) {
+      return IcebergJson.objectMapper().readValue(input, metadataType);
+    }
   }
 
   private InputStream metadataInputStream(StorageUri metadataLocation) throws IOException {
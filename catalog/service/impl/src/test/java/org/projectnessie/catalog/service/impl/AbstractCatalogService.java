@@ -30,6 +30,8 @@ import static org.projectnessie.catalog.formats.iceberg.rest.IcebergMetadataUpda
 import static org.projectnessie.catalog.formats.iceberg.rest.IcebergUpdateRequirement.AssertCreate.assertTableDoesNotExist;
 import static org.projectnessie.catalog.secrets.BasicCredentials.basicCredentials;
 import static org.projectnessie.catalog.secrets.UnsafePlainTextSecretsManager.unsafePlainTextSecretsProvider;
+import static org.projectnessie.catalog.service.impl.IcebergMetadataCache.icebergMetadataCache;
+import static org.projectnessie.catalog.service.impl.ImportSnapshotMetrics.importSnapshotMetrics;
 import static org.projectnessie.model.Content.Type.ICEBERG_TABLE;
 import static org.projectnessie.nessie.combined.EmptyHttpHeaders.emptyHttpHeaders;
 import static org.projectnessie.services.authz.AbstractBatchAccessChecker.NOOP_ACCESS_CHECKER;
@@ -223,6 +225,8 @@ public abstract class AbstractCatalogService {
     catalogService.objectIO = objectIO;
     catalogService.persist = persist;
     catalogService.executor = executor;
+    catalogService.icebergMetadataCache = icebergMetadataCache(8);
+    catalogService.importSnapshotMetrics = importSnapshotMetrics(null);
     catalogService.serverConfig = serverConfig;
     catalogService.versionStore = versionStore;
     catalogService.authorizer = authorizer;
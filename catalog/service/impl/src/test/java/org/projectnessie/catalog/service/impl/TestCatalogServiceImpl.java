@@ -40,9 +40,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.assertj.core.api.AbstractThrowableAssert;
@@ -63,6 +65,7 @@ import org.projectnessie.catalog.service.api.CatalogCommit;
 import org.projectnessie.catalog.service.api.CatalogService;
 import org.projectnessie.catalog.service.api.SnapshotReqParams;
 import org.projectnessie.catalog.service.api.SnapshotResponse;
+import org.projectnessie.catalog.service.objtypes.EntitySnapshotObj;
 import org.projectnessie.error.NessieReferenceConflictException;
 import org.projectnessie.model.Branch;
 import org.projectnessie.model.CommitMeta;
@@ -81,6 +84,7 @@ import org.projectnessie.services.authz.Check;
 import org.projectnessie.services.authz.Check.CheckType;
 import org.projectnessie.storage.uri.StorageUri;
 import org.projectnessie.versioned.RequestMeta;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 public class TestCatalogServiceImpl extends AbstractCatalogService {
@@ -354,6 +358,59 @@ public class TestCatalogServiceImpl extends AbstractCatalogService {
         .hasContent(expectedJson);
   }
 
+  @Test
+  public void retrieveSnapshotsBulk() throws Exception {
+    Reference main = api.getReference().refName("main").get();
+    ContentKey key1 = ContentKey.of("mytable1");
+    ContentKey key2 = ContentKey.of("mytable2");
+    ContentKey key3 = ContentKey.of("mytable3");
+
+    ParsedReference committed = commitMultiple(main, API_WRITE, key1, key2, key3);
+
+    // Tables committed via the catalog have already been imported
+    Map<ContentKey, Content> contents =
+        api.getContent()
+            .refName(committed.name())
+            .hashOnRef(committed.hashWithRelativeSpec())
+            .key(key1)
+            .key(key2)
+            .key(key3)
+            .get();
+    ObjId[] snapshotIds =
+        contents.values().stream()
+            .map(EntitySnapshotObj::snapshotObjIdForContent)
+            .toArray(ObjId[]::new);
+    soft.assertThat(catalogService.icebergStuff().fetchExistingSnapshots(snapshotIds))
+        .hasSize(3)
+        .doesNotContainNull();
+
+    AtomicReference<Reference> effectiveReference = new AtomicReference<>();
+    List<SnapshotResponse> snapshots = new ArrayList<>();
+    for (Supplier<CompletionStage<SnapshotResponse>> snapshot :
+        catalogService
+            .retrieveSnapshots(
+                forSnapshotHttpReq(committed, "ICEBERG", "2"),
+                List.of(key1, key2, key3, ContentKey.of("not-there")),
+                effectiveReference::set,
+                API_READ,
+                apiContext("Catalog", 0))
+            .collect(Collectors.toList())) {
+      snapshots.add(snapshot.get().toCompletableFuture().get(5, MINUTES));
+    }
+
+    soft.assertThat(effectiveReference.get())
+        .extracting(Reference::getName, Reference::getHash)
+        .containsExactly(committed.name(), committed.hashWithRelativeSpec());
+    soft.assertThat(snapshots)
+        .extracting(SnapshotResponse::contentKey)
+        .containsExactlyInAnyOrder(key1, key2, key3);
+    soft.assertThat(snapshots)
+        .allSatisfy(
+            snap ->
+                soft.assertThat(snap.entityObject())
+                    .containsInstanceOf(IcebergTableMetadata.class));
+  }
+
   /**
    * Verify behavior of {@link CatalogService#retrieveSnapshot(SnapshotReqParams, ContentKey,
    * Content.Type, RequestMeta, ApiContext)} against related Nessie {@link CheckType check types}
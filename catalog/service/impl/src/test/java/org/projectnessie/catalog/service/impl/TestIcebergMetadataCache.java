@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.catalog.service.impl;
+
+import static org.projectnessie.catalog.formats.iceberg.fixtures.IcebergFixtures.tableMetadataSimple;
+import static org.projectnessie.catalog.model.id.NessieId.randomNessieId;
+import static org.projectnessie.catalog.service.impl.IcebergMetadataCache.icebergMetadataCache;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.catalog.formats.iceberg.IcebergSpec;
+import org.projectnessie.catalog.formats.iceberg.meta.IcebergTableMetadata;
+import org.projectnessie.catalog.model.id.NessieId;
+import org.projectnessie.catalog.service.impl.IcebergMetadataCache.CachedIcebergMetadata;
+import org.projectnessie.model.Branch;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestIcebergMetadataCache {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  static final Branch MAIN_1 = Branch.of("main", "1234567812345678");
+  static final Branch MAIN_2 = Branch.of("main", "8765432187654321");
+
+  @Test
+  public void renderOnce() throws Exception {
+    IcebergMetadataCache cache = icebergMetadataCache(1);
+    AtomicInteger renders = new AtomicInteger();
+    IcebergTableMetadata metadata = tableMetadataSimple().build();
+    Supplier<IcebergTableMetadata> renderer =
+        () -> {
+          renders.incrementAndGet();
+          return metadata;
+        };
+    NessieId id = randomNessieId();
+
+    CachedIcebergMetadata first = cache.tableMetadata(id, Optional.empty(), MAIN_1, renderer);
+    CachedIcebergMetadata second = cache.tableMetadata(id, Optional.empty(), MAIN_1, renderer);
+    soft.assertThat(renders).hasValue(1);
+    soft.assertThat(second).isSameAs(first);
+    soft.assertThat(first.metadata()).isSameAs(metadata);
+    soft.assertThat(first.serialized())
+        .isEqualTo(
+            IcebergSpec.forVersion(metadata.formatVersion())
+                .jsonWriter()
+                .writeValueAsBytes(metadata));
+
+    CachedIcebergMetadata otherCommit =
+        cache.tableMetadata(id, Optional.empty(), MAIN_2, renderer);
+    CachedIcebergMetadata otherSpec =
+        cache.tableMetadata(id, Optional.of(IcebergSpec.V1), MAIN_1, renderer);
+    CachedIcebergMetadata otherSnapshot =
+        cache.tableMetadata(randomNessieId(), Optional.empty(), MAIN_1, renderer);
+    soft.assertThat(renders).hasValue(4);
+    soft.assertThat(otherCommit.entityTag()).isNotEqualTo(first.entityTag());
+    soft.assertThat(otherSpec.entityTag()).isNotEqualTo(first.entityTag());
+    // Serialized using the JSON view of the requested spec
+    soft.assertThat(otherSpec.serialized())
+        .isEqualTo(IcebergSpec.V1.jsonWriter().writeValueAsBytes(metadata));
+    soft.assertThat(otherSnapshot.entityTag()).isNotEqualTo(first.entityTag());
+
+    // The entity tag only depends on the cache key
+    soft.assertThat(
+            icebergMetadataCache(1)
+                .tableMetadata(id, Optional.empty(), MAIN_1, renderer)
+                .entityTag())
+        .isEqualTo(first.entityTag());
+  }
+
+  @Test
+  public void disabled() {
+    IcebergMetadataCache cache = icebergMetadataCache(0);
+    AtomicInteger renders = new AtomicInteger();
+    soft.assertThat(
+            cache.tableMetadata(
+                randomNessieId(),
+                Optional.empty(),
+                MAIN_1,
+                () -> {
+                  renders.incrementAndGet();
+                  return tableMetadataSimple().build();
+                }))
+        .isNull();
+    soft.assertThat(renders).hasValue(0);
+  }
+}
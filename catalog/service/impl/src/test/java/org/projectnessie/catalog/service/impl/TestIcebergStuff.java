@@ -24,8 +24,14 @@ import static org.projectnessie.catalog.formats.iceberg.fixtures.IcebergGenerate
 import static org.projectnessie.catalog.formats.iceberg.fixtures.IcebergGenerateFixtures.generateSimpleMetadata;
 import static org.projectnessie.catalog.formats.iceberg.fixtures.IcebergGenerateFixtures.generateSimpleMetadataForView;
 import static org.projectnessie.catalog.formats.iceberg.fixtures.IcebergGenerateFixtures.objectWriterForPath;
+import static org.projectnessie.catalog.service.impl.ImportSnapshotMetrics.IMPORT_PHASE_TIMER;
+import static org.projectnessie.catalog.service.impl.ImportSnapshotMetrics.PHASE_TAG;
+import static org.projectnessie.catalog.service.impl.ImportSnapshotMetrics.TYPE_TAG;
+import static org.projectnessie.catalog.service.impl.ImportSnapshotMetrics.importSnapshotMetrics;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Duration;
@@ -115,13 +121,15 @@ public class TestIcebergStuff {
     BackendExceptionMapper exceptionMapper = BackendExceptionMapper.builder().build();
 
     ObjectIO objectIO = new LocalObjectIO();
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
     IcebergStuff icebergStuff =
         new IcebergStuff(
             objectIO,
             persist,
             tasksService,
             new EntitySnapshotTaskBehavior(exceptionMapper, Duration.ofMillis(1)),
-            executor);
+            executor,
+            importSnapshotMetrics(meterRegistry));
 
     ObjId snapshotId = randomObjId();
     IcebergTable icebergTable =
@@ -131,6 +139,14 @@ public class TestIcebergStuff {
         icebergStuff.retrieveIcebergSnapshot(snapshotId, icebergTable);
     NessieTableSnapshot snapshot = stage.toCompletableFuture().get(1, TimeUnit.MINUTES);
     soft.assertThat(snapshot).isNotNull();
+    soft.assertThat(
+            meterRegistry
+                .get(IMPORT_PHASE_TIMER)
+                .tag(TYPE_TAG, "table")
+                .tag(PHASE_TAG, "total")
+                .timer()
+                .count())
+        .isEqualTo(1L);
   }
 
   static Stream<Arguments> icebergTableImports() throws Exception {
@@ -153,13 +169,15 @@ public class TestIcebergStuff {
     BackendExceptionMapper exceptionMapper = BackendExceptionMapper.builder().build();
 
     ObjectIO objectIO = new LocalObjectIO();
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
     IcebergStuff icebergStuff =
         new IcebergStuff(
             objectIO,
             persist,
             tasksService,
             new EntitySnapshotTaskBehavior(exceptionMapper, Duration.ofMillis(1)),
-            executor);
+            executor,
+            importSnapshotMetrics(meterRegistry));
 
     ObjId snapshotId = randomObjId();
     IcebergView icebergView = IcebergView.of("1", icebergViewMetadata, 1, 1);
@@ -168,6 +186,14 @@ public class TestIcebergStuff {
         icebergStuff.retrieveIcebergSnapshot(snapshotId, icebergView);
     NessieViewSnapshot snapshot = stage.toCompletableFuture().get(1, TimeUnit.MINUTES);
     soft.assertThat(snapshot).isNotNull();
+    soft.assertThat(
+            meterRegistry
+                .get(IMPORT_PHASE_TIMER)
+                .tag(TYPE_TAG, "view")
+                .tag(PHASE_TAG, "total")
+                .timer()
+                .count())
+        .isEqualTo(1L);
   }
 
   static Stream<Arguments> icebergViewImports() throws Exception {
@@ -21,7 +21,9 @@ import static org.projectnessie.versioned.RequestMeta.API_READ;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
 import java.net.URLEncoder;
@@ -50,6 +52,8 @@ abstract class AbstractCatalogResource {
 
   @Context ExternalBaseUri uriInfo;
 
+  @Context Request request;
+
   Uni<Response> snapshotBased(
       ContentKey key,
       SnapshotReqParams snapshotReqParams,
@@ -57,7 +61,7 @@ abstract class AbstractCatalogResource {
       ApiContext apiContext)
       throws NessieNotFoundException {
     return snapshotResponse(key, snapshotReqParams, expectedType, apiContext)
-        .map(AbstractCatalogResource::snapshotToResponse);
+        .map(this::snapshotToResponse);
   }
 
   Uni<SnapshotResponse> snapshotResponse(
@@ -72,9 +76,23 @@ abstract class AbstractCatalogResource {
                 snapshotReqParams, key, expectedType, API_READ, apiContext));
   }
 
-  private static Response snapshotToResponse(SnapshotResponse snapshot) {
+  private Response snapshotToResponse(SnapshotResponse snapshot) {
     // TODO need the effective Nessie reference incl commit-ID here, add as a HTTP response header?
 
+    Optional<String> entityTag = snapshot.entityTag();
+    if (entityTag.isPresent()) {
+      EntityTag tag = new EntityTag(entityTag.get());
+      Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+      if (notModified != null) {
+        // Client's copy (If-None-Match) is still current
+        return finalizeResponse(notModified.tag(tag), snapshot);
+      }
+      if (snapshot.hasSerializedEntity()) {
+        return finalizeResponse(
+            Response.ok((StreamingOutput) snapshot::produce).tag(tag), snapshot);
+      }
+    }
+
     Optional<Object> entity = snapshot.entityObject();
     if (entity.isPresent()) {
       return finalizeResponse(Response.ok(entity.get()), snapshot);
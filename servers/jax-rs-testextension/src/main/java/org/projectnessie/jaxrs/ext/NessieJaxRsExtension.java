@@ -56,6 +56,7 @@ import org.projectnessie.services.rest.RestNamespaceResource;
 import org.projectnessie.services.rest.RestTreeResource;
 import org.projectnessie.services.rest.RestV2ConfigResource;
 import org.projectnessie.services.rest.RestV2TreeResource;
+import org.projectnessie.services.rest.StreamingResponseWriter;
 import org.projectnessie.services.rest.converters.ContentKeyParamConverterProvider;
 import org.projectnessie.services.rest.converters.NamespaceParamConverterProvider;
 import org.projectnessie.services.rest.converters.ReferenceTypeParamConverterProvider;
@@ -241,6 +242,7 @@ public class NessieJaxRsExtension extends NessieClientResolver
               config.register(NessieExceptionMapper.class);
               config.register(NessieJaxRsJsonParseExceptionMapper.class, 10);
               config.register(NessieJaxRsJsonMappingExceptionMapper.class, 10);
+              config.register(StreamingResponseWriter.class);
               config.register(EncodingFilter.class);
               config.register(GZipEncoder.class);
               config.register(DeflateEncoder.class);
@@ -15,7 +15,10 @@
  */
 package org.projectnessie.server.authz;
 
+import static java.util.Collections.emptyList;
 import static org.projectnessie.services.authz.Check.CheckType.VIEW_REFERENCE;
+import static org.projectnessie.services.cel.CELScriptCache.scriptCache;
+import static org.projectnessie.services.cel.CELUtil.AUTHORIZATION_RULE_DECLARATIONS;
 
 import com.google.common.collect.ImmutableMap;
 import io.quarkus.runtime.Startup;
@@ -26,7 +29,6 @@ import java.util.Map;
 import org.projectnessie.cel.tools.Script;
 import org.projectnessie.cel.tools.ScriptException;
 import org.projectnessie.quarkus.config.QuarkusNessieAuthorizationConfig;
-import org.projectnessie.services.cel.CELUtil;
 
 /**
  * Compiles the authorization rules from {@link QuarkusNessieAuthorizationConfig} at startup and
@@ -65,11 +67,8 @@ public class CompiledAuthorizationRules {
                 key,
                 (k) -> {
                   try {
-                    return CELUtil.SCRIPT_HOST
-                        .buildScript(value)
-                        .withContainer(CELUtil.CONTAINER)
-                        .withDeclarations(CELUtil.AUTHORIZATION_RULE_DECLARATIONS)
-                        .build();
+                    return scriptCache()
+                        .getScript(value, AUTHORIZATION_RULE_DECLARATIONS, emptyList());
                   } catch (ScriptException e) {
                     throw new RuntimeException(
                         String.format(
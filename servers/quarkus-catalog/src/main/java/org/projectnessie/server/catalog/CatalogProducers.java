@@ -32,8 +32,11 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -41,6 +44,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.microprofile.context.ThreadContext;
+import org.projectnessie.catalog.files.DiskObjectCache;
 import org.projectnessie.catalog.files.ResolvingObjectIO;
 import org.projectnessie.catalog.files.adls.AdlsClientSupplier;
 import org.projectnessie.catalog.files.adls.AdlsClients;
@@ -68,12 +72,15 @@ import org.projectnessie.catalog.service.config.LakehouseConfig;
 import org.projectnessie.catalog.service.config.SecretsValidation;
 import org.projectnessie.catalog.service.config.SmallryeConfigs;
 import org.projectnessie.catalog.service.impl.IcebergExceptionMapper;
+import org.projectnessie.catalog.service.impl.IcebergMetadataCache;
 import org.projectnessie.catalog.service.impl.IllegalArgumentExceptionMapper;
+import org.projectnessie.catalog.service.impl.ImportSnapshotMetrics;
 import org.projectnessie.catalog.service.impl.NessieExceptionMapper;
 import org.projectnessie.catalog.service.impl.PreviousTaskExceptionMapper;
 import org.projectnessie.nessie.tasks.async.TasksAsync;
 import org.projectnessie.nessie.tasks.async.pool.JavaPoolTasksAsync;
 import org.projectnessie.nessie.tasks.async.wrapping.ThreadContextTasksAsync;
+import org.projectnessie.nessie.tasks.service.ImmutableTasksServiceConfig;
 import org.projectnessie.nessie.tasks.service.TasksServiceConfig;
 import org.projectnessie.nessie.tasks.service.impl.TasksServiceExecutor;
 import org.projectnessie.quarkus.config.CatalogServiceConfig;
@@ -225,9 +232,26 @@ public class CatalogProducers {
       S3ClientSupplier s3ClientSupplier,
       S3CredentialsResolver s3CredentialsResolver,
       GcsStorageSupplier gcsStorageSupplier,
-      AdlsClientSupplier adlsClientSupplier) {
-    return new ResolvingObjectIO(
-        s3ClientSupplier, s3CredentialsResolver, adlsClientSupplier, gcsStorageSupplier);
+      AdlsClientSupplier adlsClientSupplier,
+      DiskObjectCache diskObjectCache) {
+    return diskObjectCache.wrap(
+        new ResolvingObjectIO(
+            s3ClientSupplier, s3CredentialsResolver, adlsClientSupplier, gcsStorageSupplier));
+  }
+
+  @Produces
+  @Singleton
+  public DiskObjectCache diskObjectCache(CatalogServiceConfig config) throws IOException {
+    Optional<Path> directory = config.objectCacheDirectory();
+    if (directory.isEmpty() || config.objectCacheCapacityMb() <= 0L) {
+      return DiskObjectCache.NO_DISK_OBJECT_CACHE;
+    }
+    return DiskObjectCache.diskObjectCache(
+        directory.get(), config.objectCacheCapacityMb() * 1024L * 1024L);
+  }
+
+  public void closeDiskObjectCache(@Disposes DiskObjectCache diskObjectCache) {
+    diskObjectCache.close();
   }
 
   @Produces
@@ -309,8 +333,10 @@ public class CatalogProducers {
   @Produces
   @Singleton
   public TasksServiceConfig tasksServiceConfig(CatalogServiceConfig config) {
-    return TasksServiceConfig.tasksServiceConfig(
-        "tasks", config.raceWaitMin().toMillis(), config.raceWaitMax().toMillis());
+    return ImmutableTasksServiceConfig.of(
+            "tasks", config.raceWaitMin().toMillis(), config.raceWaitMax().toMillis())
+        .withMaxConcurrentTasksPerType(config.tasksMaxConcurrentPerType())
+        .withDeferredRecheckMillis(config.tasksDeferredRecheckInterval().toMillis());
   }
 
   /** Provides the executor to run actual catalog import jobs, with thread-context propagation. */
@@ -327,4 +353,17 @@ public class CatalogProducers {
         executor,
         "import-jobs");
   }
+
+  @Produces
+  @Singleton
+  public IcebergMetadataCache icebergMetadataCache(CatalogServiceConfig config) {
+    return IcebergMetadataCache.icebergMetadataCache(config.icebergMetadataCacheCapacityMb());
+  }
+
+  @Produces
+  @Singleton
+  public ImportSnapshotMetrics importSnapshotMetrics(@Any Instance<MeterRegistry> meterRegistry) {
+    return ImportSnapshotMetrics.importSnapshotMetrics(
+        meterRegistry.isResolvable() ? meterRegistry.get() : null);
+  }
 }
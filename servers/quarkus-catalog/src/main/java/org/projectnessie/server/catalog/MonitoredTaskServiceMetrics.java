@@ -72,6 +72,10 @@ public class MonitoredTaskServiceMetrics implements TaskServiceMetrics {
   @Counted(PREFIX)
   public void taskExecution() {}
 
+  @Override
+  @Counted(PREFIX)
+  public void taskExecutionDeferred() {}
+
   @Override
   @Counted(PREFIX)
   public void taskExecutionFinished() {}
@@ -19,6 +19,7 @@ import io.quarkus.runtime.annotations.StaticInitSafe;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import java.time.Duration;
+import java.util.Optional;
 import org.projectnessie.versioned.storage.cassandra2.Cassandra2Config;
 
 /**
@@ -35,4 +36,19 @@ public interface QuarkusCassandraConfig extends Cassandra2Config {
   @Override
   @WithDefault(DEFAULT_DDL_TIMEOUT)
   Duration ddlTimeout();
+
+  @Override
+  @WithDefault(DEFAULT_READ_CONCURRENCY)
+  int readConcurrency();
+
+  @Override
+  @WithDefault(DEFAULT_SINGLE_PARTITION_READS)
+  boolean singlePartitionReads();
+
+  @Override
+  Optional<Duration> speculativeReadDelay();
+
+  @Override
+  @WithDefault(DEFAULT_SPECULATIVE_READ_MAX)
+  int speculativeReadMax();
 }
@@ -95,4 +95,16 @@ public interface QuarkusJdbcConfig extends Jdbc2BackendBaseConfig {
   @WithName("datasource")
   @Override
   Optional<String> datasourceName();
+
+  /**
+   * The name of an optional datasource, usually connected to a read replica of the database
+   * configured via {@code nessie.version.store.persist.jdbc.datasource}, used to read objects. Must
+   * correspond to a configured datasource under {@code quarkus.datasource.<name>}. Objects that are
+   * not (yet) present on the replica and objects that can be updated are read from the primary
+   * datasource, references are always read from the primary datasource. Only supported by the
+   * {@code JDBC2} version store type.
+   */
+  @WithName("read-datasource")
+  @Override
+  Optional<String> readDatasourceName();
 }
@@ -20,6 +20,9 @@ import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
 import org.projectnessie.versioned.storage.rocksdb.RocksDBBackendBaseConfig;
 
 /**
@@ -34,4 +37,20 @@ public interface QuarkusRocksConfig extends RocksDBBackendBaseConfig {
   @WithDefault("/tmp/nessie-rocksdb-store")
   @Override
   Path databasePath();
+
+  @WithName("block-cache-size-mb")
+  @Override
+  OptionalLong blockCacheSizeMb();
+
+  @WithName("bloom-filter-bits-per-key")
+  @Override
+  OptionalDouble bloomFilterBitsPerKey();
+
+  @WithName("compression")
+  @Override
+  Optional<Compression> compression();
+
+  @WithName("row-cache-size-mb")
+  @Override
+  OptionalLong rowCacheSizeMb();
 }
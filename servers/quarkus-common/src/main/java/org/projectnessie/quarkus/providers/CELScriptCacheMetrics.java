@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.quarkus.providers;
+
+import static org.projectnessie.services.cel.CELScriptCache.scriptCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+
+/** Exposes the metrics of the compiled CEL scripts cache, shared by all Nessie services. */
+@ApplicationScoped
+public class CELScriptCacheMetrics {
+
+  public void registerMetrics(
+      @Observes StartupEvent event, @Any Instance<MeterRegistry> meterRegistry) {
+    if (meterRegistry.isResolvable()) {
+      scriptCache().registerMetrics(meterRegistry.get());
+    }
+  }
+}
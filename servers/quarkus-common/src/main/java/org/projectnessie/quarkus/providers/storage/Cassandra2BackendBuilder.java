@@ -51,6 +51,10 @@ public class Cassandra2BackendBuilder implements BackendBuilder {
               .keyspace(keyspace)
               .ddlTimeout(config.ddlTimeout())
               .dmlTimeout(config.dmlTimeout())
+              .readConcurrency(config.readConcurrency())
+              .singlePartitionReads(config.singlePartitionReads())
+              .speculativeReadDelay(config.speculativeReadDelay())
+              .speculativeReadMax(config.speculativeReadMax())
               .build();
       return factory.buildBackend(c);
     } catch (InterruptedException | ExecutionException e) {
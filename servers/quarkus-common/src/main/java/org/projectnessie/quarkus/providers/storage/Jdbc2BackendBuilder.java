@@ -26,6 +26,7 @@ import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.Dependent;
 import jakarta.inject.Inject;
 import java.util.List;
+import java.util.Optional;
 import javax.sql.DataSource;
 import org.projectnessie.quarkus.config.QuarkusJdbcConfig;
 import org.projectnessie.quarkus.providers.versionstore.StoreType;
@@ -64,7 +65,13 @@ public class Jdbc2BackendBuilder implements BackendBuilder {
   @Override
   public Backend buildBackend() {
     DataSource dataSource = selectDataSource();
-    Jdbc2BackendConfig c = Jdbc2BackendConfig.builder().from(config).dataSource(dataSource).build();
+    Optional<DataSource> readDataSource = selectReadDataSource();
+    Jdbc2BackendConfig c =
+        Jdbc2BackendConfig.builder()
+            .from(config)
+            .dataSource(dataSource)
+            .readDataSource(readDataSource)
+            .build();
     return new Jdbc2BackendFactory().buildBackend(c);
   }
 
@@ -113,6 +120,17 @@ public class Jdbc2BackendBuilder implements BackendBuilder {
     return dataSource;
   }
 
+  private Optional<DataSource> selectReadDataSource() {
+    return config
+        .readDatasourceName()
+        .map(Jdbc2BackendBuilder::unquoteDataSourceName)
+        .map(
+            dataSourceName -> {
+              LOGGER.info("Selected read datasource: {}", dataSourceName);
+              return findDataSourceByName(dataSourceName);
+            });
+  }
+
   private DataSource findDataSourceByName(String dataSourceName) {
     for (InstanceHandle<DataSource> handle : dataSources) {
       String name = handle.getBean().getName();
@@ -33,6 +33,7 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
 import org.projectnessie.quarkus.config.QuarkusStoreConfig;
 import org.projectnessie.quarkus.config.VersionStoreConfig;
@@ -173,6 +174,18 @@ public class PersistProvider {
 
       info += ", with soft-references " + (enableSoftReferences ? "enabled" : "disabled");
 
+      OptionalInt offHeapCapacityMB = storeConfig.cacheOffHeapCapacityMB();
+      if (offHeapCapacityMB.isPresent() && offHeapCapacityMB.getAsInt() > 0) {
+        cacheConfig.offHeapCapacityMb(offHeapCapacityMB.getAsInt());
+        info += format(", with %d MB off-heap cache tier", offHeapCapacityMB.getAsInt());
+      }
+
+      OptionalInt repositoryCapacityMB = storeConfig.cacheRepositoryCapacityMB();
+      if (repositoryCapacityMB.isPresent() && repositoryCapacityMB.getAsInt() > 0) {
+        cacheConfig.repositoryCapacityMb(repositoryCapacityMB.getAsInt());
+        info += format(", partitioned by repository with %d MB", repositoryCapacityMB.getAsInt());
+      }
+
       CacheBackend cacheBackend = PersistCaches.newBackend(cacheConfig.build());
 
       if (invalidationSender.isResolvable() && cacheInvalidationReceiver.isResolvable()) {
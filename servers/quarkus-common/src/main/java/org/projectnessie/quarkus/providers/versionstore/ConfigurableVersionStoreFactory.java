@@ -15,6 +15,12 @@
  */
 package org.projectnessie.quarkus.providers.versionstore;
 
+import static org.projectnessie.versioned.storage.common.logic.CommitContention.commitContention;
+import static org.projectnessie.versioned.storage.versionstore.CommitContentionMetrics.meteredCommitContention;
+import static org.projectnessie.versioned.storage.versionstore.CommitIndexCache.commitIndexCache;
+import static org.projectnessie.versioned.storage.versionstore.CommitIndexCache.disabledCommitIndexCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.Default;
@@ -30,7 +36,9 @@ import org.projectnessie.quarkus.providers.NotObserved;
 import org.projectnessie.versioned.EventsVersionStore;
 import org.projectnessie.versioned.Result;
 import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.storage.common.logic.CommitContention;
 import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.versionstore.CommitIndexCache;
 import org.projectnessie.versioned.storage.versionstore.VersionStoreImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +56,7 @@ public class ConfigurableVersionStoreFactory {
   private final VersionStoreConfig storeConfig;
   private final Persist persist;
   private final Instance<Consumer<Result>> resultConsumer;
+  private final Instance<MeterRegistry> meterRegistry;
 
   /**
    * Configurable version store factory.
@@ -58,10 +67,12 @@ public class ConfigurableVersionStoreFactory {
   public ConfigurableVersionStoreFactory(
       VersionStoreConfig storeConfig,
       @Default Persist persist,
-      @Any Instance<Consumer<Result>> resultConsumer) {
+      @Any Instance<Consumer<Result>> resultConsumer,
+      @Any Instance<MeterRegistry> meterRegistry) {
     this.storeConfig = storeConfig;
     this.persist = persist;
     this.resultConsumer = resultConsumer;
+    this.meterRegistry = meterRegistry;
   }
 
   /** Version store producer. */
@@ -72,7 +83,20 @@ public class ConfigurableVersionStoreFactory {
     VersionStoreType versionStoreType = storeConfig.getVersionStoreType();
 
     try {
-      VersionStore versionStore = new VersionStoreImpl(persist);
+      int commitIndexCacheCapacityMb = storeConfig.commitIndexCacheCapacityMb();
+      CommitIndexCache commitIndexCache =
+          commitIndexCacheCapacityMb > 0
+              ? commitIndexCache(
+                  commitIndexCacheCapacityMb,
+                  meterRegistry.isResolvable() ? meterRegistry.get() : null)
+              : disabledCommitIndexCache();
+
+      CommitContention commitContention =
+          meterRegistry.isResolvable()
+              ? meteredCommitContention(meterRegistry.get())
+              : commitContention();
+
+      VersionStore versionStore = new VersionStoreImpl(persist, commitIndexCache, commitContention);
 
       if (storeConfig.isEventsEnabled() && resultConsumer.isResolvable()) {
         versionStore = new EventsVersionStore(versionStore, resultConsumer.get());
@@ -18,7 +18,9 @@ package org.projectnessie.quarkus.config;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Optional;
 
 @ConfigMapping(prefix = "nessie.catalog.service")
 public interface CatalogServiceConfig {
@@ -42,6 +44,25 @@ public interface CatalogServiceConfig {
   @WithDefault("PT0.001S")
   Duration tasksMinimumDelay();
 
+  /**
+   * Advanced property, defines the maximum number of tasks of the same type, like imports, that
+   * are executed concurrently by this Nessie instance. Tasks exceeding the limit are left to other
+   * Nessie instances or queued until a task of the same type finishes. A value of {@code 0} means
+   * no limit.
+   */
+  @WithName("tasks.max-concurrent-per-type")
+  @WithDefault("0")
+  int tasksMaxConcurrentPerType();
+
+  /**
+   * Advanced property, defines after which time a task queued due to {@code
+   * tasks.max-concurrent-per-type} is re-checked, to notice that another Nessie instance took it
+   * over.
+   */
+  @WithName("tasks.deferred-recheck-interval")
+  @WithDefault("PT5S")
+  Duration tasksDeferredRecheckInterval();
+
   /** Advanced thread pool setting for async tasks like imports. */
   @WithName("race.wait.min")
   @WithDefault("PT0.005S")
@@ -51,4 +72,28 @@ public interface CatalogServiceConfig {
   @WithName("race.wait.max")
   @WithDefault("PT0.250S")
   Duration raceWaitMax();
+
+  /**
+   * Capacity of the cache of Iceberg table-metadata rendered from Nessie table snapshots, in MB.
+   * Cached table-metadata is also served with an {@code ETag} header, which lets clients use
+   * {@code If-None-Match}. A value of {@code 0} disables the cache.
+   */
+  @WithName("iceberg-metadata-cache.capacity-mb")
+  @WithDefault("64")
+  int icebergMetadataCacheCapacityMb();
+
+  /**
+   * Directory for the local cache of objects read from object stores, like Iceberg table and view
+   * metadata. The cache is disabled, if no directory is configured.
+   *
+   * <p>Cached files are kept in the subdirectory {@code nessie-object-cache}, which is emptied when
+   * Nessie starts and can only be used by one Nessie process at a time.
+   */
+  @WithName("object-cache.directory")
+  Optional<Path> objectCacheDirectory();
+
+  /** Capacity of the local cache of objects read from object stores, in MB. */
+  @WithName("object-cache.capacity-mb")
+  @WithDefault("1024")
+  long objectCacheCapacityMb();
 }
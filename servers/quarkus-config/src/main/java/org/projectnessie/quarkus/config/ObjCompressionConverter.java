@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.quarkus.config;
+
+import java.util.Locale;
+import org.eclipse.microprofile.config.spi.Converter;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.objtypes.Compression;
+
+/**
+ * Converts the {@code obj-compression} setting and rejects compressions that are not supported for
+ * stored objects, so an unsupported value fails when the configuration is read.
+ */
+public class ObjCompressionConverter implements Converter<Compression> {
+
+  public ObjCompressionConverter() {}
+
+  @Override
+  public Compression convert(String s) {
+    if (s == null || s.isBlank()) {
+      return null;
+    }
+    return StoreConfig.checkObjCompression(Compression.valueOf(s.trim().toUpperCase(Locale.ROOT)));
+  }
+}
@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.objtypes.Compression;
 
 @StaticInitSafe
 @ConfigMapping(prefix = QuarkusStoreConfig.NESSIE_VERSION_STORE_PERSIST)
@@ -58,6 +59,11 @@ public interface QuarkusStoreConfig extends StoreConfig {
   @Override
   long commitTimeoutMillis();
 
+  @WithName(CONFIG_COMMIT_GROUP_MAX_SIZE)
+  @WithDefault("" + DEFAULT_COMMIT_GROUP_MAX_SIZE)
+  @Override
+  int commitGroupMaxSize();
+
   @WithName(CONFIG_RETRY_INITIAL_SLEEP_MILLIS_LOWER)
   @WithDefault("" + DEFAULT_RETRY_INITIAL_SLEEP_MILLIS_LOWER)
   @Override
@@ -73,11 +79,41 @@ public interface QuarkusStoreConfig extends StoreConfig {
   @Override
   long retryMaxSleepMillis();
 
+  @WithName(CONFIG_RETRY_ADAPTIVE_BACKOFF)
+  @WithDefault("" + DEFAULT_RETRY_ADAPTIVE_BACKOFF)
+  @Override
+  boolean retryAdaptiveBackoff();
+
+  @WithName(CONFIG_RETRY_OVERLOAD_THRESHOLD)
+  @WithDefault("" + DEFAULT_RETRY_OVERLOAD_THRESHOLD)
+  @Override
+  int retryOverloadThreshold();
+
   @WithName(CONFIG_PARENTS_PER_COMMIT)
   @WithDefault("" + DEFAULT_PARENTS_PER_COMMIT)
   @Override
   int parentsPerCommit();
 
+  @WithName(CONFIG_COMMIT_LOG_READ_AHEAD)
+  @WithDefault("" + DEFAULT_COMMIT_LOG_READ_AHEAD)
+  @Override
+  int commitLogReadAhead();
+
+  @WithName(CONFIG_CONTENT_FETCH_BATCH_SIZE)
+  @WithDefault("" + DEFAULT_CONTENT_FETCH_BATCH_SIZE)
+  @Override
+  int contentFetchBatchSize();
+
+  @WithName(CONFIG_CONTENT_FETCH_PARALLELISM)
+  @WithDefault("" + DEFAULT_CONTENT_FETCH_PARALLELISM)
+  @Override
+  int contentFetchParallelism();
+
+  @WithName(CONFIG_ASYNC_READ_THREADS)
+  @WithDefault("" + DEFAULT_ASYNC_READ_THREADS)
+  @Override
+  int asyncReadThreads();
+
   @WithName(CONFIG_MAX_SERIALIZED_INDEX_SIZE)
   @WithDefault("" + DEFAULT_MAX_SERIALIZED_INDEX_SIZE)
   @Override
@@ -93,6 +129,32 @@ public interface QuarkusStoreConfig extends StoreConfig {
   @Override
   int maxReferenceStripesPerCommit();
 
+  @WithName(CONFIG_INDEX_STRIPE_BLOOM_FILTER_FPP)
+  @WithDefault("" + DEFAULT_INDEX_STRIPE_BLOOM_FILTER_FPP)
+  @Override
+  double indexStripeBloomFilterFpp();
+
+  @WithName(CONFIG_OBJ_COMPRESSION)
+  @WithDefault(DEFAULT_OBJ_COMPRESSION)
+  @WithConverter(ObjCompressionConverter.class)
+  @Override
+  Compression objCompression();
+
+  @WithName(CONFIG_OBJ_COMPRESSION_TYPES)
+  @WithDefault(DEFAULT_OBJ_COMPRESSION_TYPES)
+  @Override
+  String objCompressionTypes();
+
+  @WithName(CONFIG_OBJ_COMPRESSION_MIN_SIZE)
+  @WithDefault("" + DEFAULT_OBJ_COMPRESSION_MIN_SIZE)
+  @Override
+  int objCompressionMinSize();
+
+  @WithName(CONFIG_OBJ_COMPRESSION_DICTIONARY_REFRESH_SECONDS)
+  @WithDefault("" + DEFAULT_OBJ_COMPRESSION_DICTIONARY_REFRESH_SECONDS)
+  @Override
+  int objCompressionDictionaryRefreshSeconds();
+
   @WithName(CONFIG_ASSUMED_WALL_CLOCK_DRIFT_MICROS)
   @WithDefault("" + DEFAULT_ASSUMED_WALL_CLOCK_DRIFT_MICROS)
   @Override
@@ -163,6 +225,32 @@ public interface QuarkusStoreConfig extends StoreConfig {
   @WithName(CONFIG_CACHE_CAPACITY_FRACTION_ADJUST_MB)
   OptionalInt cacheCapacityFractionAdjustMB();
 
+  String CONFIG_CACHE_OFF_HEAP_CAPACITY_MB = "cache-off-heap-capacity-mb";
+
+  /**
+   * Amount of off-heap memory in MB used as a second level cache for serialized objects, the
+   * on-heap objects cache acts as the first level. The off-heap cache tier is disabled by default.
+   *
+   * <p>Off-heap memory is allocated in chunks of 64 MB when needed. Make sure that the JVM option
+   * {@code -XX:MaxDirectMemorySize} is configured accordingly.
+   */
+  @WithName(CONFIG_CACHE_OFF_HEAP_CAPACITY_MB)
+  OptionalInt cacheOffHeapCapacityMB();
+
+  String CONFIG_CACHE_REPOSITORY_CAPACITY_MB = "cache-repository-capacity-mb";
+
+  /**
+   * Optional on-heap objects cache capacity in MB per repository. If set, each repository gets
+   * its own cache partition of this size, so that a repository cannot evict the cached objects of
+   * other repositories. Cache metrics are then tagged with the repository ID.
+   *
+   * <p>All partitions together are bounded by the configured objects cache capacity, which is split
+   * evenly between the partitions, if the number of active repositories multiplied by this value
+   * exceeds the objects cache capacity.
+   */
+  @WithName(CONFIG_CACHE_REPOSITORY_CAPACITY_MB)
+  OptionalInt cacheRepositoryCapacityMB();
+
   @WithName(CONFIG_REFERENCE_CACHE_TTL)
   @Override
   Optional<Duration> referenceCacheTtl();
@@ -74,4 +74,13 @@ public interface VersionStoreConfig {
   @WithName("events.enable")
   @WithDefault("true")
   boolean isEventsEnabled();
+
+  /**
+   * Capacity of the cache of fully loaded key indexes of frequently read commits in MB, used to
+   * serve content lookups without assembling the commit's key index for each request. The cache is
+   * disabled, if set to {@code 0}.
+   */
+  @WithName("commit-index-cache.capacity-mb")
+  @WithDefault("0")
+  int commitIndexCacheCapacityMb();
 }
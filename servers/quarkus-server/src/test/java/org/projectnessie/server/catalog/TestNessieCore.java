@@ -252,6 +252,83 @@ public class TestNessieCore {
         .containsExactly(null, emptyList());
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2})
+  public void tableMetadataEntityTag(int specVersion) throws Exception {
+    var tableMetadataLocation = generateSimpleMetadata(objectWriter(), specVersion);
+
+    var tableName = "tableMetadataEntityTag" + specVersion;
+
+    api.commitMultipleOperations()
+        .commitMeta(fromMessage("a table named " + tableName))
+        .operation(
+            Operation.Put.of(
+                ContentKey.of(tableName), IcebergTable.of(tableMetadataLocation, 1, 0, 0, 0)))
+        .branch(api.getDefaultBranch())
+        .commitWithResponse();
+
+    var snapshotUri = baseUri.resolve("trees/main/snapshot/" + tableName + "?format=iceberg");
+
+    var first = httpResult(snapshotUri, null);
+    soft.assertThat(first.status()).isEqualTo(200);
+    soft.assertThat(first.entityTag()).isNotNull();
+    soft.assertThat(IcebergJson.objectMapper().readValue(first.body(), IcebergTableMetadata.class))
+        .extracting(IcebergTableMetadata::formatVersion)
+        .isEqualTo(specVersion);
+
+    // Served from the cache, same entity tag and same content
+    var second = httpResult(snapshotUri, null);
+    soft.assertThat(second.status()).isEqualTo(200);
+    soft.assertThat(second.entityTag()).isEqualTo(first.entityTag());
+    soft.assertThat(second.body()).isEqualTo(first.body());
+
+    // Client's copy is still current
+    var notModified = httpResult(snapshotUri, first.entityTag());
+    soft.assertThat(notModified.status()).isEqualTo(304);
+    soft.assertThat(notModified.entityTag()).isEqualTo(first.entityTag());
+    soft.assertThat(notModified.body()).isEmpty();
+
+    // Client's copy is outdated
+    var modified = httpResult(snapshotUri, "\"outdated\"");
+    soft.assertThat(modified.status()).isEqualTo(200);
+    soft.assertThat(modified.body()).isEqualTo(first.body());
+
+    // The requested spec version is part of the entity
+    var explicitSpecUri =
+        baseUri.resolve(
+            "trees/main/snapshot/" + tableName + "?format=iceberg&specVersion=" + specVersion);
+    var explicitSpec = httpResult(explicitSpecUri, first.entityTag());
+    soft.assertThat(explicitSpec.status()).isEqualTo(200);
+    soft.assertThat(explicitSpec.entityTag()).isNotNull().isNotEqualTo(first.entityTag());
+  }
+
+  record HttpResult(int status, String entityTag, String body) {}
+
+  private static HttpResult httpResult(URI uri, String ifNoneMatch) throws Exception {
+    return httpClient
+        .request(HttpMethod.GET, uri.getPort(), uri.getHost(), pathAndQuery(uri))
+        .compose(
+            req -> {
+              if (ifNoneMatch != null) {
+                req.putHeader("If-None-Match", ifNoneMatch);
+              }
+              return req.send();
+            })
+        .compose(
+            r ->
+                r.body()
+                    .map(
+                        body ->
+                            new HttpResult(r.statusCode(), r.getHeader("ETag"), body.toString())))
+        .toCompletionStage()
+        .toCompletableFuture()
+        .get(10, SECONDS);
+  }
+
+  private static String pathAndQuery(URI uri) {
+    return uri.getRawPath() + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+  }
+
   private static String httpRequestString(URI uri) throws Exception {
     return httpRequest(uri)
         .map(Buffer::toString)
@@ -266,11 +343,7 @@ public class TestNessieCore {
 
   private static Future<HttpClientResponse> httpResponse(URI uri) {
     return httpClient
-        .request(
-            HttpMethod.GET,
-            uri.getPort(),
-            uri.getHost(),
-            uri.getRawPath() + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : ""))
+        .request(HttpMethod.GET, uri.getPort(), uri.getHost(), pathAndQuery(uri))
         .compose(HttpClientRequest::send)
         .map(
             r -> {
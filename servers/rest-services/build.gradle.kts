@@ -39,6 +39,7 @@ dependencies {
   implementation("com.fasterxml.jackson.core:jackson-databind")
   compileOnly("com.fasterxml.jackson.core:jackson-annotations")
 
+  testImplementation(libs.jakarta.enterprise.cdi.api)
   testImplementation(libs.jakarta.validation.api)
   testImplementation(libs.jakarta.ws.rs.api)
 
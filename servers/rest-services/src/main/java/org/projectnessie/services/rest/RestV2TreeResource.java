@@ -31,6 +31,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.core.HttpHeaders;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Consumer;
 import org.projectnessie.api.v2.http.HttpTreeApi;
 import org.projectnessie.api.v2.params.CommitLogParams;
 import org.projectnessie.api.v2.params.DiffParams;
@@ -79,8 +80,11 @@ import org.projectnessie.services.spi.ConfigService;
 import org.projectnessie.services.spi.ContentService;
 import org.projectnessie.services.spi.DiffService;
 import org.projectnessie.services.spi.PagedCountingResponseHandler;
+import org.projectnessie.services.spi.PagedResponseHandler;
 import org.projectnessie.services.spi.TreeService;
+import org.projectnessie.versioned.NamedRef;
 import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.WithHash;
 
 /** REST endpoint for the tree-API. */
 @RequestScoped
@@ -126,6 +130,13 @@ public class RestV2TreeResource implements HttpTreeApi {
     return treeService;
   }
 
+  /** Whether the client asked for a {@link StreamingPagedResponse streamed response}. */
+  private boolean streamingResponse() {
+    return httpHeaders != null
+        && Boolean.parseBoolean(
+            httpHeaders.getHeaderString(StreamingPagedResponse.STREAMING_RESPONSE_HEADER));
+  }
+
   private DiffService diff() {
     return diffService;
   }
@@ -213,7 +224,46 @@ public class RestV2TreeResource implements HttpTreeApi {
       throws NessieNotFoundException {
     ParsedReference reference = parseRefPathString(ref);
     Integer maxRecords = params.maxRecords();
+    if (streamingResponse()) {
+      return StreamingPagedResponse.entries(
+          maxRecords,
+          (handler, properties) ->
+              getEntries(
+                  reference,
+                  params,
+                  handler,
+                  h -> properties.accept("effectiveReference", toReference(h))));
+    }
     ImmutableEntriesResponse.Builder builder = EntriesResponse.builder();
+    return getEntries(
+        reference,
+        params,
+        new PagedCountingResponseHandler<EntriesResponse, EntriesResponse.Entry>(maxRecords) {
+          @Override
+          public EntriesResponse build() {
+            return builder.build();
+          }
+
+          @Override
+          protected boolean doAddEntry(EntriesResponse.Entry entry) {
+            builder.addEntries(entry);
+            return true;
+          }
+
+          @Override
+          public void hasMore(String pagingToken) {
+            builder.isHasMore(true).token(pagingToken);
+          }
+        },
+        h -> builder.effectiveReference(toReference(h)));
+  }
+
+  private <R> R getEntries(
+      ParsedReference reference,
+      EntriesParams params,
+      PagedResponseHandler<R, EntriesResponse.Entry> handler,
+      Consumer<WithHash<NamedRef>> effectiveReference)
+      throws NessieNotFoundException {
     return tree()
         .getEntries(
             reference.name(),
@@ -222,24 +272,8 @@ public class RestV2TreeResource implements HttpTreeApi {
             params.filter(),
             params.pageToken(),
             params.withContent(),
-            new PagedCountingResponseHandler<>(maxRecords) {
-              @Override
-              public EntriesResponse build() {
-                return builder.build();
-              }
-
-              @Override
-              protected boolean doAddEntry(EntriesResponse.Entry entry) {
-                builder.addEntries(entry);
-                return true;
-              }
-
-              @Override
-              public void hasMore(String pagingToken) {
-                builder.isHasMore(true).token(pagingToken);
-              }
-            },
-            h -> builder.effectiveReference(toReference(h)),
+            handler,
+            effectiveReference,
             params.minKey(),
             params.maxKey(),
             params.prefixKey(),
@@ -252,6 +286,42 @@ public class RestV2TreeResource implements HttpTreeApi {
       throws NessieNotFoundException {
     ParsedReference reference = parseRefPathString(ref);
     Integer maxRecords = params.maxRecords();
+    if (streamingResponse()) {
+      return StreamingPagedResponse.commitLog(
+          maxRecords,
+          MAX_COMMIT_LOG_ENTRIES,
+          (handler, properties) -> getCommitLog(reference, params, handler));
+    }
+    return getCommitLog(
+        reference,
+        params,
+        new PagedCountingResponseHandler<LogResponse, LogEntry>(
+            maxRecords, MAX_COMMIT_LOG_ENTRIES) {
+          final ImmutableLogResponse.Builder builder = ImmutableLogResponse.builder();
+
+          @Override
+          public LogResponse build() {
+            return builder.build();
+          }
+
+          @Override
+          protected boolean doAddEntry(LogEntry entry) {
+            builder.addLogEntries(entry);
+            return true;
+          }
+
+          @Override
+          public void hasMore(String pagingToken) {
+            builder.isHasMore(true).token(pagingToken);
+          }
+        });
+  }
+
+  private <R> R getCommitLog(
+      ParsedReference reference,
+      CommitLogParams params,
+      PagedResponseHandler<R, LogEntry> handler)
+      throws NessieNotFoundException {
     return tree()
         .getCommitLog(
             reference.name(),
@@ -260,25 +330,7 @@ public class RestV2TreeResource implements HttpTreeApi {
             reference.hashWithRelativeSpec(),
             params.filter(),
             params.pageToken(),
-            new PagedCountingResponseHandler<>(maxRecords, MAX_COMMIT_LOG_ENTRIES) {
-              final ImmutableLogResponse.Builder builder = ImmutableLogResponse.builder();
-
-              @Override
-              public LogResponse build() {
-                return builder.build();
-              }
-
-              @Override
-              protected boolean doAddEntry(LogEntry entry) {
-                builder.addLogEntries(entry);
-                return true;
-              }
-
-              @Override
-              public void hasMore(String pagingToken) {
-                builder.isHasMore(true).token(pagingToken);
-              }
-            });
+            handler);
   }
 
   @JsonView(Views.V2.class)
@@ -287,7 +339,52 @@ public class RestV2TreeResource implements HttpTreeApi {
     Integer maxRecords = params.maxRecords();
     ParsedReference from = parseRefPathString(params.getFromRef());
     ParsedReference to = parseRefPathString(params.getToRef());
+    if (streamingResponse()) {
+      return StreamingPagedResponse.diff(
+          maxRecords,
+          (handler, properties) ->
+              getDiff(
+                  params,
+                  from,
+                  to,
+                  handler,
+                  h -> properties.accept("effectiveFromReference", toReference(h)),
+                  h -> properties.accept("effectiveToReference", toReference(h))));
+    }
     ImmutableDiffResponse.Builder builder = DiffResponse.builder();
+    return getDiff(
+        params,
+        from,
+        to,
+        new PagedCountingResponseHandler<DiffResponse, DiffEntry>(maxRecords) {
+          @Override
+          public DiffResponse build() {
+            return builder.build();
+          }
+
+          @Override
+          protected boolean doAddEntry(DiffEntry entry) {
+            builder.addDiffs(entry);
+            return true;
+          }
+
+          @Override
+          public void hasMore(String pagingToken) {
+            builder.isHasMore(true).token(pagingToken);
+          }
+        },
+        h -> builder.effectiveFromReference(toReference(h)),
+        h -> builder.effectiveToReference(toReference(h)));
+  }
+
+  private <R> R getDiff(
+      DiffParams params,
+      ParsedReference from,
+      ParsedReference to,
+      PagedResponseHandler<R, DiffEntry> handler,
+      Consumer<WithHash<NamedRef>> fromReference,
+      Consumer<WithHash<NamedRef>> toReference)
+      throws NessieNotFoundException {
     return diff()
         .getDiff(
             from.name(),
@@ -295,25 +392,9 @@ public class RestV2TreeResource implements HttpTreeApi {
             to.name(),
             to.hashWithRelativeSpec(),
             params.pageToken(),
-            new PagedCountingResponseHandler<>(maxRecords) {
-              @Override
-              public DiffResponse build() {
-                return builder.build();
-              }
-
-              @Override
-              protected boolean doAddEntry(DiffEntry entry) {
-                builder.addDiffs(entry);
-                return true;
-              }
-
-              @Override
-              public void hasMore(String pagingToken) {
-                builder.isHasMore(true).token(pagingToken);
-              }
-            },
-            h -> builder.effectiveFromReference(toReference(h)),
-            h -> builder.effectiveToReference(toReference(h)),
+            handler,
+            fromReference,
+            toReference,
             params.minKey(),
             params.maxKey(),
             params.prefixKey(),
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import org.projectnessie.error.NessieNotFoundException;
+import org.projectnessie.model.DiffResponse;
+import org.projectnessie.model.EntriesResponse;
+import org.projectnessie.model.LogResponse;
+import org.projectnessie.model.PaginatedResponse;
+import org.projectnessie.model.Reference;
+import org.projectnessie.services.spi.PagedCountingResponseHandler;
+import org.projectnessie.services.spi.PagedResponseHandler;
+
+/**
+ * Paginated response, which is not built in memory, but written by {@link StreamingResponseWriter}
+ * to the HTTP response while the service produces the entries.
+ *
+ * <p>The JSON representation is the same as the one of the corresponding non-streamed response
+ * object, except that the order of the properties differs. The accessors of the response objects
+ * must not be used.
+ *
+ * <p>Clients opt in to streamed responses using the {@value #STREAMING_RESPONSE_HEADER} HTTP
+ * header.
+ */
+public abstract class StreamingPagedResponse<E> implements PaginatedResponse {
+
+  public static final String STREAMING_RESPONSE_HEADER = "Nessie-Streaming-Response";
+
+  /** Calls the service, which adds the entries to the given handler. */
+  @FunctionalInterface
+  interface Producer<E> {
+    /**
+     * Produces the response page.
+     *
+     * @param handler receives the entries of the response page
+     * @param properties receives additional properties of the response object, for example the
+     *     effective reference
+     */
+    void produce(PagedResponseHandler<Void, E> handler, BiConsumer<String, Object> properties)
+        throws NessieNotFoundException;
+  }
+
+  private final String entriesProperty;
+  private final Integer maxRecords;
+  private final int strictMax;
+  private final Producer<E> producer;
+
+  StreamingPagedResponse(
+      String entriesProperty, Integer maxRecords, int strictMax, Producer<E> producer) {
+    this.entriesProperty = entriesProperty;
+    this.maxRecords = maxRecords;
+    this.strictMax = strictMax;
+    this.producer = producer;
+  }
+
+  static EntriesResponse entries(Integer maxRecords, Producer<EntriesResponse.Entry> producer) {
+    return new StreamingEntries(maxRecords, producer);
+  }
+
+  static LogResponse commitLog(
+      Integer maxRecords, int strictMax, Producer<LogResponse.LogEntry> producer) {
+    return new StreamingCommitLog(maxRecords, strictMax, producer);
+  }
+
+  static DiffResponse diff(Integer maxRecords, Producer<DiffResponse.DiffEntry> producer) {
+    return new StreamingDiff(maxRecords, producer);
+  }
+
+  /**
+   * Calls the service and writes the response object, each entry is written as soon as it has been
+   * produced.
+   */
+  void writeTo(JsonGenerator generator, ObjectWriter writer)
+      throws IOException, NessieNotFoundException {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    EntryWriter handler = new EntryWriter(generator, writer);
+
+    generator.writeStartObject();
+    generator.writeArrayFieldStart(entriesProperty);
+    try {
+      producer.produce(handler, properties::put);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    generator.writeEndArray();
+
+    if (handler.token != null) {
+      generator.writeBooleanField("hasMore", true);
+      generator.writeStringField("token", handler.token);
+    }
+    for (Map.Entry<String, Object> property : properties.entrySet()) {
+      generator.writeFieldName(property.getKey());
+      writer.writeValue(generator, property.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  @Override
+  public boolean isHasMore() {
+    throw notSupported();
+  }
+
+  @Override
+  public String getToken() {
+    throw notSupported();
+  }
+
+  static UnsupportedOperationException notSupported() {
+    return new UnsupportedOperationException("Streamed responses can only be serialized");
+  }
+
+  private final class EntryWriter extends PagedCountingResponseHandler<Void, E> {
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private String token;
+
+    EntryWriter(JsonGenerator generator, ObjectWriter writer) {
+      super(maxRecords, strictMax);
+      this.generator = generator;
+      this.writer = writer;
+    }
+
+    @Override
+    protected boolean doAddEntry(E entry) {
+      try {
+        writer.writeValue(generator, entry);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return true;
+    }
+
+    @Override
+    public void hasMore(String pagingToken) {
+      this.token = pagingToken;
+    }
+
+    @Override
+    public Void build() {
+      return null;
+    }
+  }
+
+  private static final class StreamingEntries extends StreamingPagedResponse<EntriesResponse.Entry>
+      implements EntriesResponse {
+    StreamingEntries(Integer maxRecords, Producer<Entry> producer) {
+      super("entries", maxRecords, Integer.MAX_VALUE, producer);
+    }
+
+    @Override
+    public List<Entry> getEntries() {
+      throw notSupported();
+    }
+
+    @Override
+    public Reference getEffectiveReference() {
+      throw notSupported();
+    }
+  }
+
+  private static final class StreamingCommitLog
+      extends StreamingPagedResponse<LogResponse.LogEntry> implements LogResponse {
+    StreamingCommitLog(Integer maxRecords, int strictMax, Producer<LogEntry> producer) {
+      super("logEntries", maxRecords, strictMax, producer);
+    }
+
+    @Override
+    public List<LogEntry> getLogEntries() {
+      throw notSupported();
+    }
+  }
+
+  private static final class StreamingDiff extends StreamingPagedResponse<DiffResponse.DiffEntry>
+      implements DiffResponse {
+    StreamingDiff(Integer maxRecords, Producer<DiffEntry> producer) {
+      super("diffs", maxRecords, Integer.MAX_VALUE, producer);
+    }
+
+    @Override
+    public List<DiffEntry> getDiffs() {
+      throw notSupported();
+    }
+
+    @Override
+    public Reference getEffectiveFromReference() {
+      throw notSupported();
+    }
+
+    @Override
+    public Reference getEffectiveToReference() {
+      throw notSupported();
+    }
+  }
+}
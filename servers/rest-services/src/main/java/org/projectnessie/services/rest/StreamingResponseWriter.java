@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.Providers;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import org.projectnessie.error.NessieNotFoundException;
+import org.projectnessie.model.ser.Views;
+
+/**
+ * Writes {@link StreamingPagedResponse}s using the application's {@link ObjectMapper}.
+ *
+ * <p>The response is buffered up to {@value #BUFFER_SIZE} bytes before it is passed to the HTTP
+ * layer. Errors that happen before the buffer has been passed on for the first time, for example
+ * a non-existing reference, an invalid filter or a failed access check, are mapped by the
+ * registered {@link ExceptionMapper}s to the usual error responses. Errors after that abort the
+ * response.
+ */
+@Provider
+@ApplicationScoped
+@Produces(MediaType.APPLICATION_JSON)
+public class StreamingResponseWriter implements MessageBodyWriter<StreamingPagedResponse<?>> {
+
+  static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final ObjectMapper DEFAULT_MAPPER =
+      new ObjectMapper().disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+  private final ObjectWriter writer;
+
+  @Context Providers providers;
+
+  // Mandated by CDI 2.0
+  public StreamingResponseWriter() {
+    this(DEFAULT_MAPPER);
+  }
+
+  @Inject
+  public StreamingResponseWriter(Instance<ObjectMapper> objectMapper) {
+    this(objectMapper.isResolvable() ? objectMapper.get() : DEFAULT_MAPPER);
+  }
+
+  StreamingResponseWriter(ObjectMapper mapper) {
+    this.writer =
+        mapper
+            .writerWithView(Views.V2.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  @Override
+  public boolean isWriteable(
+      Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return StreamingPagedResponse.class.isAssignableFrom(type);
+  }
+
+  @Override
+  public void writeTo(
+      StreamingPagedResponse<?> response,
+      Class<?> type,
+      Type genericType,
+      Annotation[] annotations,
+      MediaType mediaType,
+      MultivaluedMap<String, Object> httpHeaders,
+      OutputStream entityStream)
+      throws IOException {
+    JsonGenerator generator =
+        writer.createGenerator(new BufferedOutputStream(entityStream, BUFFER_SIZE));
+    // Do not close the entity stream, and do not pass anything to the HTTP layer if writing the
+    // response fails while it is still buffered.
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    try {
+      response.writeTo(generator, writer);
+    } catch (NessieNotFoundException | RuntimeException e) {
+      throw mappedException(e);
+    }
+    generator.close();
+  }
+
+  private WebApplicationException mappedException(Exception e) {
+    if (e instanceof WebApplicationException) {
+      return (WebApplicationException) e;
+    }
+    @SuppressWarnings("unchecked")
+    ExceptionMapper<Exception> mapper =
+        providers != null
+            ? (ExceptionMapper<Exception>) providers.getExceptionMapper(e.getClass())
+            : null;
+    if (mapper != null) {
+      return new WebApplicationException(e, mapper.toResponse(e));
+    }
+    return new WebApplicationException(
+        e,
+        e instanceof NessieNotFoundException
+            ? Response.Status.NOT_FOUND
+            : Response.Status.INTERNAL_SERVER_ERROR);
+  }
+}
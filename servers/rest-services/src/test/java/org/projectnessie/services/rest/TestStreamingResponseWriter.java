@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.rest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Providers;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.projectnessie.error.NessieReferenceNotFoundException;
+import org.projectnessie.model.Branch;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.EntriesResponse;
+import org.projectnessie.services.authz.AccessCheckException;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestStreamingResponseWriter {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  static final ObjectMapper MAPPER = new ObjectMapper();
+
+  static final Branch MAIN = Branch.of("main", "1122334455667788");
+  static final EntriesResponse.Entry ENTRY_A =
+      EntriesResponse.Entry.entry(ContentKey.of("a"), Content.Type.ICEBERG_TABLE, "id-a");
+  static final EntriesResponse.Entry ENTRY_B =
+      EntriesResponse.Entry.entry(ContentKey.of("b"), Content.Type.NAMESPACE, "id-b");
+
+  @Test
+  public void entries() throws Exception {
+    ObjectMapper configured =
+        new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+    StreamingResponseWriter writer = new StreamingResponseWriter(configured);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    write(
+        writer,
+        StreamingPagedResponse.entries(
+            null,
+            (handler, properties) -> {
+              handler.addEntry(ENTRY_A);
+              handler.addEntry(ENTRY_B);
+              properties.accept("effectiveReference", MAIN);
+            }),
+        out);
+
+    String json = out.toString(UTF_8.name());
+    // Written using the configured object mapper
+    soft.assertThat(json).contains("\n  \"entries\" : [ {");
+    soft.assertThat(MAPPER.readValue(json, EntriesResponse.class))
+        .isEqualTo(
+            EntriesResponse.builder()
+                .addEntries(ENTRY_A, ENTRY_B)
+                .effectiveReference(MAIN)
+                .build());
+  }
+
+  @Test
+  public void hasMore() throws Exception {
+    StreamingResponseWriter writer = new StreamingResponseWriter(MAPPER);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    write(
+        writer,
+        StreamingPagedResponse.entries(
+            1,
+            (handler, properties) -> {
+              soft.assertThat(handler.addEntry(ENTRY_A)).isTrue();
+              soft.assertThat(handler.addEntry(ENTRY_B)).isFalse();
+              handler.hasMore("next-token");
+            }),
+        out);
+
+    soft.assertThat(MAPPER.readValue(out.toByteArray(), EntriesResponse.class))
+        .isEqualTo(
+            EntriesResponse.builder()
+                .addEntries(ENTRY_A)
+                .isHasMore(true)
+                .token("next-token")
+                .build());
+  }
+
+  static Stream<Exception> errors() {
+    return Stream.of(
+        new NessieReferenceNotFoundException("not found"),
+        new IllegalArgumentException("bad filter"),
+        new AccessCheckException("forbidden"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("errors")
+  public void mappedErrors(Exception error) {
+    Response mapped = mock(Response.class);
+    when(mapped.getStatusInfo()).thenReturn(Response.Status.BAD_REQUEST);
+    when(mapped.getStatus()).thenReturn(Response.Status.BAD_REQUEST.getStatusCode());
+
+    Providers providers = mock(Providers.class);
+    ExceptionMapper<Exception> mapper =
+        e -> {
+          soft.assertThat(e).isSameAs(error);
+          return mapped;
+        };
+    when(providers.getExceptionMapper(error.getClass())).thenAnswer(invocation -> mapper);
+
+    StreamingResponseWriter writer = new StreamingResponseWriter(MAPPER);
+    writer.providers = providers;
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    soft.assertThatThrownBy(
+            () ->
+                write(
+                    writer,
+                    StreamingPagedResponse.entries(
+                        null,
+                        (handler, properties) -> {
+                          handler.addEntry(ENTRY_A);
+                          if (error instanceof RuntimeException) {
+                            throw (RuntimeException) error;
+                          }
+                          throw (NessieReferenceNotFoundException) error;
+                        }),
+                    out))
+        .isInstanceOf(WebApplicationException.class)
+        .hasCause(error)
+        .extracting(e -> ((WebApplicationException) e).getResponse())
+        .isSameAs(mapped);
+    // Nothing has been passed to the HTTP layer
+    soft.assertThat(out.size()).isEqualTo(0);
+  }
+
+  private void write(
+      StreamingResponseWriter writer, EntriesResponse response, ByteArrayOutputStream out)
+      throws Exception {
+    StreamingPagedResponse<?> streaming = (StreamingPagedResponse<?>) response;
+    soft.assertThat(
+            writer.isWriteable(
+                streaming.getClass(), null, new Annotation[0], MediaType.APPLICATION_JSON_TYPE))
+        .isTrue();
+    writer.writeTo(
+        streaming,
+        streaming.getClass(),
+        null,
+        new Annotation[0],
+        MediaType.APPLICATION_JSON_TYPE,
+        null,
+        out);
+  }
+}
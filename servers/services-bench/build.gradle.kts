@@ -40,6 +40,8 @@ dependencies {
   implementation(platform(libs.jackson.bom))
   implementation("com.fasterxml.jackson.core:jackson-annotations")
 
+  jmhImplementation(project(":nessie-services"))
+  jmhImplementation(project(":nessie-services-config"))
   jmhImplementation(libs.jmh.core)
   jmhAnnotationProcessor(libs.jmh.generator.annprocess)
   jmhRuntimeOnly(project(":nessie-versioned-storage-inmemory"))
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.projectnessie.services.cel.CELScriptCache.scriptCache;
+import static org.projectnessie.services.cel.CELUtil.CONTAINER;
+import static org.projectnessie.services.cel.CELUtil.REFERENCES_DECLARATIONS;
+import static org.projectnessie.services.cel.CELUtil.REFERENCES_TYPES;
+import static org.projectnessie.services.cel.CELUtil.SCRIPT_HOST;
+import static org.projectnessie.services.cel.CELUtil.VAR_COMMIT;
+import static org.projectnessie.services.cel.CELUtil.VAR_REF;
+import static org.projectnessie.services.cel.CELUtil.VAR_REF_META;
+import static org.projectnessie.services.cel.CELUtil.VAR_REF_TYPE;
+
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.cel.tools.Script;
+import org.projectnessie.model.Branch;
+import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.ImmutableReferenceMetadata;
+import org.projectnessie.model.Reference;
+import org.projectnessie.model.ReferenceMetadata;
+
+/**
+ * Benchmarks the per-request cost of a reference filter expression, compiling the expression for
+ * each request versus using the compiled scripts cache.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class CelFilterBench {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam {
+
+    @Param({
+      "refType == 'BRANCH'",
+      "ref.name.startsWith('release-') && commit.author == 'nessie-bot'",
+    })
+    public String filter;
+
+    Map<String, Object> arguments;
+
+    @Setup
+    public void setup() {
+      Reference reference = Branch.of("release-1", "cafebabe");
+      CommitMeta commit = CommitMeta.builder().message("msg").author("nessie-bot").build();
+      ReferenceMetadata refMeta =
+          ImmutableReferenceMetadata.builder().commitMetaOfHEAD(commit).build();
+      arguments =
+          Map.of(
+              VAR_REF,
+              reference,
+              VAR_REF_META,
+              refMeta,
+              VAR_COMMIT,
+              commit,
+              VAR_REF_TYPE,
+              reference.getType().name());
+    }
+  }
+
+  @Benchmark
+  public Boolean compilePerRequest(BenchmarkParam param) throws Exception {
+    Script script =
+        SCRIPT_HOST
+            .buildScript(param.filter)
+            .withContainer(CONTAINER)
+            .withDeclarations(REFERENCES_DECLARATIONS)
+            .withTypes(REFERENCES_TYPES)
+            .build();
+    return script.execute(Boolean.class, param.arguments);
+  }
+
+  @Benchmark
+  public Boolean cachedScript(BenchmarkParam param) throws Exception {
+    Script script =
+        scriptCache().getScript(param.filter, REFERENCES_DECLARATIONS, REFERENCES_TYPES);
+    return script.execute(Boolean.class, param.arguments);
+  }
+}
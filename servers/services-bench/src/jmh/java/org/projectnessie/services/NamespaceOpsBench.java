@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.projectnessie.model.CommitMeta.fromMessage;
+import static org.projectnessie.services.authz.ApiContext.apiContext;
+import static org.projectnessie.versioned.RequestMeta.API_WRITE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.GetNamespacesResponse;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.Namespace;
+import org.projectnessie.model.Operation;
+import org.projectnessie.model.Operation.Put;
+import org.projectnessie.services.authz.AbstractBatchAccessChecker;
+import org.projectnessie.services.config.ServerConfig;
+import org.projectnessie.services.impl.NamespaceApiImpl;
+import org.projectnessie.services.spi.NamespaceService;
+import org.projectnessie.versioned.BranchName;
+
+/**
+ * Benchmarks listing and deleting namespaces in a repository with many namespaces and tables, the
+ * cost of these operations should depend on the size of the affected namespace, not on the total
+ * number of keys.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xms8g", "-Xmx8g"})
+@Threads(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class NamespaceOpsBench {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam extends BaseParams {
+
+    @Param({"10", "100"})
+    public int namespaces;
+
+    @Param({"100", "1000"})
+    public int tablesPerNamespace;
+
+    @Param({"In-Memory"})
+    public String backendName;
+
+    final String branch = "branch";
+    NamespaceService namespaceService;
+
+    @Setup
+    public void setup() throws Exception {
+      super.init(backendName);
+
+      BranchName branchName = BranchName.of(branch);
+      versionStore.create(branchName, Optional.empty());
+
+      List<Operation> commitOps = new ArrayList<>();
+      for (int i = 0; i < namespaces; i++) {
+        Namespace ns = namespace(i);
+        Namespace empty = emptyNamespace(i);
+        commitOps.add(Put.of(ns.toContentKey(), ns));
+        commitOps.add(Put.of(empty.toContentKey(), empty));
+        for (int j = 0; j < tablesPerNamespace; j++) {
+          ContentKey key = ContentKey.of(ns, "table-" + j);
+          commitOps.add(Put.of(key, IcebergTable.of("meta-" + j, j, j, j, j)));
+          if (commitOps.size() >= 500) {
+            versionStore.commit(branchName, Optional.empty(), fromMessage("x"), commitOps);
+            commitOps.clear();
+          }
+        }
+      }
+      if (!commitOps.isEmpty()) {
+        versionStore.commit(branchName, Optional.empty(), fromMessage("x"), commitOps);
+      }
+
+      ServerConfig serverConfig =
+          new ServerConfig() {
+            @Override
+            public String getDefaultBranch() {
+              return DEFAULT_BRANCH_NAME;
+            }
+
+            @Override
+            public boolean sendStacktraceToClient() {
+              return false;
+            }
+          };
+      namespaceService =
+          new NamespaceApiImpl(
+              serverConfig,
+              versionStore,
+              (context, apiContext) -> AbstractBatchAccessChecker.NOOP_ACCESS_CHECKER,
+              () -> null,
+              apiContext("Nessie", 2));
+    }
+
+    @Override
+    @TearDown
+    public void tearDown() throws Exception {
+      super.tearDown();
+    }
+
+    static Namespace namespace(int i) {
+      return Namespace.of("namespace-" + i);
+    }
+
+    static Namespace emptyNamespace(int i) {
+      return Namespace.of("namespace-" + i, "empty");
+    }
+
+    int randomNamespace() {
+      return ThreadLocalRandom.current().nextInt(namespaces);
+    }
+  }
+
+  @Benchmark
+  public GetNamespacesResponse listNamespace(BenchmarkParam param) throws Exception {
+    return param.namespaceService.getNamespaces(
+        param.branch, null, BenchmarkParam.namespace(param.randomNamespace()));
+  }
+
+  @Benchmark
+  public Exception deleteNonEmptyNamespace(BenchmarkParam param) {
+    try {
+      param.namespaceService.deleteNamespace(
+          param.branch, BenchmarkParam.namespace(param.randomNamespace()));
+      throw new IllegalStateException("Namespace deletion must fail");
+    } catch (IllegalStateException e) {
+      throw e;
+    } catch (Exception e) {
+      // expected: namespace is not empty
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Namespace deleteAndRecreateEmptyNamespace(BenchmarkParam param) throws Exception {
+    Namespace empty = BenchmarkParam.emptyNamespace(param.randomNamespace());
+    param.namespaceService.deleteNamespace(param.branch, empty);
+    return param.namespaceService.createNamespace(param.branch, empty, API_WRITE);
+  }
+}
@@ -33,6 +33,8 @@ dependencies {
   compileOnly(libs.immutables.value.annotations)
   annotationProcessor(libs.immutables.value.processor)
   implementation(libs.guava)
+  implementation(libs.caffeine)
+  implementation(libs.micrometer.core)
 
   compileOnly(libs.jakarta.validation.api)
   compileOnly(libs.jakarta.annotation.api)
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.cel;
+
+import static org.projectnessie.services.cel.CELUtil.CONTAINER;
+import static org.projectnessie.services.cel.CELUtil.SCRIPT_HOST;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.Objects;
+import org.projectnessie.cel.relocated.com.google.api.expr.v1alpha1.Decl;
+import org.projectnessie.cel.tools.Script;
+import org.projectnessie.cel.tools.ScriptException;
+
+/**
+ * Bounded cache of compiled CEL {@link Script}s, keyed by the expression and the declarations and
+ * types the expression is compiled against.
+ *
+ * <p>Compiling a CEL expression is way more expensive than evaluating it, but clients tend to send
+ * the same few filter expressions over and over again. Compiled scripts are immutable and can be
+ * evaluated concurrently.
+ */
+public final class CELScriptCache {
+
+  public static final String CACHE_NAME = "nessie-cel-scripts";
+
+  public static final int DEFAULT_MAX_SIZE = 1000;
+
+  private static final CELScriptCache SCRIPT_CACHE = new CELScriptCache(DEFAULT_MAX_SIZE);
+
+  private final Cache<ScriptKey, Script> cache;
+
+  @VisibleForTesting
+  CELScriptCache(int maxSize) {
+    this.cache = Caffeine.newBuilder().maximumSize(maxSize).recordStats().build();
+  }
+
+  /** Returns the cache shared by all users of compiled CEL scripts. */
+  public static CELScriptCache scriptCache() {
+    return SCRIPT_CACHE;
+  }
+
+  /**
+   * Returns the compiled script for the given expression, compiles the expression, if it is not
+   * cached.
+   *
+   * @param expression the CEL expression
+   * @param declarations the declarations of the variables available to the expression
+   * @param types the types available to the expression
+   * @throws ScriptException if the expression cannot be compiled, failures are not cached
+   */
+  public Script getScript(String expression, List<Decl> declarations, List<Object> types)
+      throws ScriptException {
+    ScriptKey key = new ScriptKey(expression, declarations, types);
+    Script script = cache.getIfPresent(key);
+    if (script == null) {
+      // Concurrent requests for the same expression might compile it more than once, which is
+      // harmless and avoids holding a lock while compiling.
+      script =
+          SCRIPT_HOST
+              .buildScript(expression)
+              .withContainer(CONTAINER)
+              .withDeclarations(declarations)
+              .withTypes(types)
+              .build();
+      cache.put(key, script);
+    }
+    return script;
+  }
+
+  /** Exposes the cache statistics as Micrometer metrics. */
+  public void registerMetrics(MeterRegistry meterRegistry) {
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  @VisibleForTesting
+  long estimatedSize() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  @VisibleForTesting
+  long hitCount() {
+    return cache.stats().hitCount();
+  }
+
+  private static final class ScriptKey {
+    private final String expression;
+    private final List<Decl> declarations;
+    private final List<Object> types;
+    private final int hash;
+
+    ScriptKey(String expression, List<Decl> declarations, List<Object> types) {
+      this.expression = expression;
+      this.declarations = declarations;
+      this.types = types;
+      this.hash = Objects.hash(expression, declarations, types);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ScriptKey)) {
+        return false;
+      }
+      ScriptKey other = (ScriptKey) o;
+      return hash == other.hash
+          && expression.equals(other.expression)
+          && declarations.equals(other.declarations)
+          && types.equals(other.types);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -15,10 +15,9 @@
  */
 package org.projectnessie.services.impl;
 
-import static org.projectnessie.services.cel.CELUtil.CONTAINER;
+import static org.projectnessie.services.cel.CELScriptCache.scriptCache;
 import static org.projectnessie.services.cel.CELUtil.CONTENT_KEY_DECLARATIONS;
 import static org.projectnessie.services.cel.CELUtil.CONTENT_KEY_TYPES;
-import static org.projectnessie.services.cel.CELUtil.SCRIPT_HOST;
 import static org.projectnessie.services.cel.CELUtil.VAR_KEY;
 import static org.projectnessie.services.cel.CELUtil.forCel;
 
@@ -76,13 +75,7 @@ public abstract class BaseApiImpl {
 
     final Script script;
     try {
-      script =
-          SCRIPT_HOST
-              .buildScript(filter)
-              .withContainer(CONTAINER)
-              .withDeclarations(CONTENT_KEY_DECLARATIONS)
-              .withTypes(CONTENT_KEY_TYPES)
-              .build();
+      script = scriptCache().getScript(filter, CONTENT_KEY_DECLARATIONS, CONTENT_KEY_TYPES);
     } catch (ScriptException e) {
       throw new IllegalArgumentException(e);
     }
@@ -66,6 +66,7 @@ import org.projectnessie.versioned.ReferenceConflictException;
 import org.projectnessie.versioned.ReferenceNotFoundException;
 import org.projectnessie.versioned.RequestMeta;
 import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.VersionStore.KeyRestrictions;
 import org.projectnessie.versioned.paging.PaginationIterator;
 
 public class NamespaceApiImpl extends BaseApiImpl implements NamespaceService {
@@ -136,13 +137,19 @@ public class NamespaceApiImpl extends BaseApiImpl implements NamespaceService {
       Namespace namespace = getNamespace(namespaceToDelete, refWithHash.getHash());
       Delete delete = Delete.of(namespace.toContentKey());
 
+      // Only the keys "below" the namespace need to be inspected, namespaces do not count as
+      // content, so the check can stop at the first non-namespace child.
+      KeyRestrictions keyRestrictions =
+          KeyRestrictions.builder()
+              .prefixKey(namespace.toContentKey())
+              .contentKeyPredicate((key, type) -> !Content.Type.NAMESPACE.equals(type))
+              .build();
       try (PaginationIterator<KeyEntry> keys =
-          getStore().getKeys(refWithHash.getHash(), null, false, NO_KEY_RESTRICTIONS)) {
+          getStore().getKeys(refWithHash.getHash(), null, false, keyRestrictions)) {
         while (keys.hasNext()) {
           KeyEntry k = keys.next();
           if (Namespace.of(k.getKey().contentKey().getElements())
-                  .isSameOrSubElementOf(namespaceToDelete)
-              && !Content.Type.NAMESPACE.equals(k.getKey().type())) {
+              .isSameOrSubElementOf(namespaceToDelete)) {
             throw namespaceNotEmptyException(namespaceToDelete);
           }
         }
@@ -297,7 +304,13 @@ public class NamespaceApiImpl extends BaseApiImpl implements NamespaceService {
   private Stream<KeyEntry> getNamespacesKeyStream(
       @Nullable Namespace namespace, Hash hash, Predicate<KeyEntry> earlyFilterPredicate)
       throws ReferenceNotFoundException {
-    PaginationIterator<KeyEntry> iter = getStore().getKeys(hash, null, false, NO_KEY_RESTRICTIONS);
+    // Seek directly to the namespace in the index, so that only the keys of the namespace and its
+    // children are visited.
+    KeyRestrictions keyRestrictions =
+        namespace == null || namespace.isEmpty()
+            ? NO_KEY_RESTRICTIONS
+            : KeyRestrictions.builder().prefixKey(namespace.toContentKey()).build();
+    PaginationIterator<KeyEntry> iter = getStore().getKeys(hash, null, false, keyRestrictions);
     return stream(spliteratorUnknownSize(iter, 0), false)
         .onClose(iter::close)
         .filter(earlyFilterPredicate)
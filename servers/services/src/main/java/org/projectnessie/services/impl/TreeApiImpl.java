@@ -26,14 +26,13 @@ import static org.projectnessie.model.CommitResponse.AddedContent.addedContent;
 import static org.projectnessie.services.authz.Check.canReadContentKey;
 import static org.projectnessie.services.authz.Check.canReadEntries;
 import static org.projectnessie.services.authz.Check.canViewReference;
+import static org.projectnessie.services.cel.CELScriptCache.scriptCache;
 import static org.projectnessie.services.cel.CELUtil.COMMIT_LOG_DECLARATIONS;
 import static org.projectnessie.services.cel.CELUtil.COMMIT_LOG_TYPES;
-import static org.projectnessie.services.cel.CELUtil.CONTAINER;
 import static org.projectnessie.services.cel.CELUtil.ENTRIES_DECLARATIONS;
 import static org.projectnessie.services.cel.CELUtil.ENTRIES_TYPES;
 import static org.projectnessie.services.cel.CELUtil.REFERENCES_DECLARATIONS;
 import static org.projectnessie.services.cel.CELUtil.REFERENCES_TYPES;
-import static org.projectnessie.services.cel.CELUtil.SCRIPT_HOST;
 import static org.projectnessie.services.cel.CELUtil.VAR_COMMIT;
 import static org.projectnessie.services.cel.CELUtil.VAR_ENTRY;
 import static org.projectnessie.services.cel.CELUtil.VAR_OPERATIONS;
@@ -208,13 +207,7 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
 
     final Script script;
     try {
-      script =
-          SCRIPT_HOST
-              .buildScript(filter)
-              .withContainer(CONTAINER)
-              .withDeclarations(REFERENCES_DECLARATIONS)
-              .withTypes(REFERENCES_TYPES)
-              .build();
+      script = scriptCache().getScript(filter, REFERENCES_DECLARATIONS, REFERENCES_TYPES);
     } catch (ScriptException e) {
       throw new IllegalArgumentException(e);
     }
@@ -597,13 +590,7 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
 
     final Script script;
     try {
-      script =
-          SCRIPT_HOST
-              .buildScript(filter)
-              .withContainer(CONTAINER)
-              .withDeclarations(COMMIT_LOG_DECLARATIONS)
-              .withTypes(COMMIT_LOG_TYPES)
-              .build();
+      script = scriptCache().getScript(filter, COMMIT_LOG_DECLARATIONS, COMMIT_LOG_TYPES);
     } catch (ScriptException e) {
       throw new IllegalArgumentException(e);
     }
@@ -1002,13 +989,7 @@ public class TreeApiImpl extends BaseApiImpl implements TreeService {
 
     final Script script;
     try {
-      script =
-          SCRIPT_HOST
-              .buildScript(filter)
-              .withContainer(CONTAINER)
-              .withDeclarations(ENTRIES_DECLARATIONS)
-              .withTypes(ENTRIES_TYPES)
-              .build();
+      script = scriptCache().getScript(filter, ENTRIES_DECLARATIONS, ENTRIES_TYPES);
     } catch (ScriptException e) {
       throw new IllegalArgumentException(e);
     }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.services.cel;
+
+import static java.util.Collections.emptyList;
+import static org.projectnessie.services.cel.CELUtil.AUTHORIZATION_RULE_DECLARATIONS;
+import static org.projectnessie.services.cel.CELUtil.CONTENT_KEY_DECLARATIONS;
+import static org.projectnessie.services.cel.CELUtil.CONTENT_KEY_TYPES;
+import static org.projectnessie.services.cel.CELUtil.VAR_KEY;
+import static org.projectnessie.services.cel.CELUtil.forCel;
+
+import java.util.Map;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.cel.tools.Script;
+import org.projectnessie.cel.tools.ScriptException;
+import org.projectnessie.model.ContentKey;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestCELScriptCache {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void cachedScripts() throws Exception {
+    CELScriptCache cache = new CELScriptCache(10);
+
+    String expr = "key.name == 'foo'";
+    Script script = cache.getScript(expr, CONTENT_KEY_DECLARATIONS, CONTENT_KEY_TYPES);
+    soft.assertThat(cache.getScript(expr, CONTENT_KEY_DECLARATIONS, CONTENT_KEY_TYPES))
+        .isSameAs(script);
+    soft.assertThat(cache.hitCount()).isEqualTo(1L);
+    Object foo = forCel(ContentKey.of("foo"));
+    Object bar = forCel(ContentKey.of("bar"));
+    soft.assertThat(script.execute(Boolean.class, Map.of(VAR_KEY, foo))).isTrue();
+    soft.assertThat(script.execute(Boolean.class, Map.of(VAR_KEY, bar))).isFalse();
+
+    // Same expression, different declarations
+    soft.assertThat(cache.getScript("true", AUTHORIZATION_RULE_DECLARATIONS, emptyList()))
+        .isNotSameAs(cache.getScript("true", CONTENT_KEY_DECLARATIONS, CONTENT_KEY_TYPES));
+    soft.assertThat(cache.estimatedSize()).isEqualTo(3L);
+  }
+
+  @Test
+  public void compileFailuresAreNotCached() {
+    CELScriptCache cache = new CELScriptCache(10);
+
+    soft.assertThatThrownBy(
+            () -> cache.getScript("key.name ==", CONTENT_KEY_DECLARATIONS, CONTENT_KEY_TYPES))
+        .isInstanceOf(ScriptException.class);
+    soft.assertThat(cache.estimatedSize()).isEqualTo(0L);
+  }
+
+  @Test
+  public void bounded() throws Exception {
+    CELScriptCache cache = new CELScriptCache(10);
+
+    for (int i = 0; i < 100; i++) {
+      cache.getScript("key.name == 'foo" + i + "'", CONTENT_KEY_DECLARATIONS, CONTENT_KEY_TYPES);
+    }
+    soft.assertThat(cache.estimatedSize()).isLessThanOrEqualTo(10L);
+  }
+}
@@ -24,6 +24,8 @@ public interface TasksServiceConfig {
 
   long DEFAULT_RACE_WAIT_MILLIS_MIN = 50L;
   long DEFAULT_RACE_WAIT_MILLIS_MAX = 200L;
+  int UNLIMITED_CONCURRENT_TASKS = 0;
+  long DEFAULT_DEFERRED_RECHECK_MILLIS = 5000L;
 
   @Value.Parameter(order = 1)
   String name();
@@ -40,14 +42,46 @@ public interface TasksServiceConfig {
     return DEFAULT_RACE_WAIT_MILLIS_MAX;
   }
 
+  /**
+   * Maximum number of tasks of the same {@linkplain
+   * org.projectnessie.versioned.storage.common.persist.ObjType object type} that are executed
+   * concurrently by this service instance, {@value #UNLIMITED_CONCURRENT_TASKS} means no limit.
+   *
+   * <p>Tasks exceeding the limit are not claimed in the database but queued locally, which leaves
+   * them to other service instances that have spare capacity. Queued tasks are re-attempted when a
+   * local task of the same type finishes or after {@link #deferredRecheckMillis()}.
+   */
+  @Value.Default
+  default int maxConcurrentTasksPerType() {
+    return UNLIMITED_CONCURRENT_TASKS;
+  }
+
+  /**
+   * Interval after which a task that has been deferred due to {@link #maxConcurrentTasksPerType()}
+   * is re-checked, even if no local task of the same type finished, to notice that another service
+   * instance took it over.
+   */
+  @Value.Default
+  default long deferredRecheckMillis() {
+    return DEFAULT_DEFERRED_RECHECK_MILLIS;
+  }
+
   static TasksServiceConfig tasksServiceConfig(
       String name, long raceWaitMillisMin, long raceWaitMillisMax) {
     return ImmutableTasksServiceConfig.of(name, raceWaitMillisMin, raceWaitMillisMax);
   }
 
+  static TasksServiceConfig tasksServiceConfig(
+      String name, long raceWaitMillisMin, long raceWaitMillisMax, int maxConcurrentTasksPerType) {
+    return ImmutableTasksServiceConfig.of(name, raceWaitMillisMin, raceWaitMillisMax)
+        .withMaxConcurrentTasksPerType(maxConcurrentTasksPerType);
+  }
+
   @Value.Check
   default void check() {
     checkState(raceWaitMillisMin() < raceWaitMillisMax());
     checkState(raceWaitMillisMin() > 0L);
+    checkState(maxConcurrentTasksPerType() >= 0);
+    checkState(deferredRecheckMillis() > 0L);
   }
 }
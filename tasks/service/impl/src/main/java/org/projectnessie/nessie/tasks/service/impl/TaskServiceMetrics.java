@@ -63,6 +63,12 @@ public interface TaskServiceMetrics {
   /** Starting task execution locally. */
   void taskExecution();
 
+  /**
+   * Local task execution deferred, because the maximum number of concurrently executing tasks of
+   * the same type has been reached.
+   */
+  void taskExecutionDeferred();
+
   /** Local task execution finished. */
   void taskExecutionFinished();
 
@@ -20,16 +20,20 @@ import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedStage;
 import static java.util.concurrent.CompletableFuture.failedStage;
+import static org.projectnessie.nessie.tasks.service.TasksServiceConfig.UNLIMITED_CONCURRENT_TASKS;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ConcurrentModificationException;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -61,10 +65,16 @@ public class TasksServiceImpl implements TasksService {
 
   private final long raceWaitMillisMin;
   private final long raceWaitMillisMax;
+  private final int maxConcurrentTasksPerType;
+  private final long deferredRecheckMillis;
 
   private final ConcurrentMap<TaskKey, CompletionStage<TaskObj>> currentTasks =
       new ConcurrentHashMap<>();
 
+  /** Permits for local task executions per object type, if limited. */
+  private final ConcurrentMap<String, ExecutionPermits> executionPermits =
+      new ConcurrentHashMap<>();
+
   private volatile boolean shutdown;
 
   public TasksServiceImpl() {
@@ -81,6 +91,8 @@ public class TasksServiceImpl implements TasksService {
     this.name = config.name();
     this.raceWaitMillisMin = config.raceWaitMillisMin();
     this.raceWaitMillisMax = config.raceWaitMillisMax();
+    this.maxConcurrentTasksPerType = config.maxConcurrentTasksPerType();
+    this.deferredRecheckMillis = config.deferredRecheckMillis();
   }
 
   @Override
@@ -156,6 +168,7 @@ public class TasksServiceImpl implements TasksService {
   }
 
   private void finalResult(ExecParams params, TaskObj result) {
+    releaseExecutionPermit(params);
     try {
       params.resultFuture.complete(result);
     } finally {
@@ -164,6 +177,7 @@ public class TasksServiceImpl implements TasksService {
   }
 
   private void finalFailure(ExecParams params, Throwable t) {
+    releaseExecutionPermit(params);
     try {
       params.resultFuture.completeExceptionally(t);
     } finally {
@@ -171,6 +185,82 @@ public class TasksServiceImpl implements TasksService {
     }
   }
 
+  /**
+   * Acquires the permit to execute the task locally, must be called before the task is claimed in
+   * the database. If no permit is available, the task is queued without claiming it, so another
+   * service instance with spare capacity can pick it up. Queued tasks are re-attempted when a permit
+   * is released or, as a fallback, after {@link TasksServiceConfig#deferredRecheckMillis()}.
+   */
+  // Called while ExecParams is locked from tryLocal()
+  private boolean tryAcquireExecutionPermit(ExecParams params) {
+    if (maxConcurrentTasksPerType == UNLIMITED_CONCURRENT_TASKS || params.hasExecutionPermit) {
+      return true;
+    }
+    ExecutionPermits permits = executionPermits(params);
+    if (permits.semaphore.tryAcquire()) {
+      params.hasExecutionPermit = true;
+      return true;
+    }
+    LOGGER.trace("{}: Deferring local task execution for {}", name, params);
+    metrics.taskExecutionDeferred();
+    params.deferred = true;
+    params.deferredRecheck =
+        async.schedule(
+            () -> resumeDeferred(params),
+            async.clock().instant().plus(deferredRecheckMillis, ChronoUnit.MILLIS));
+    permits.deferred.add(params);
+    // A permit might have been released after the failed tryAcquire() above, but before the task
+    // has been queued.
+    if (permits.semaphore.availablePermits() > 0) {
+      resumeNextDeferred(permits);
+    }
+    return false;
+  }
+
+  private void releaseExecutionPermit(ExecParams params) {
+    if (params.hasExecutionPermit) {
+      params.hasExecutionPermit = false;
+      ExecutionPermits permits = executionPermits(params);
+      permits.semaphore.release();
+      resumeNextDeferred(permits);
+    }
+  }
+
+  private ExecutionPermits executionPermits(ExecParams params) {
+    return executionPermits.computeIfAbsent(
+        params.taskRequest.objType().name(), t -> new ExecutionPermits(maxConcurrentTasksPerType));
+  }
+
+  private void resumeNextDeferred(ExecutionPermits permits) {
+    ExecParams next = permits.deferred.poll();
+    if (next != null) {
+      async.call(() -> resumeDeferred(next));
+    }
+  }
+
+  /**
+   * Re-attempts a deferred task, called when a permit has been released or when the fallback
+   * re-check is due, whichever happens first.
+   */
+  private void resumeDeferred(ExecParams params) {
+    params.lock.lock();
+    try {
+      if (!params.deferred) {
+        return;
+      }
+      params.deferred = false;
+      CompletionStage<Void> recheck = params.deferredRecheck;
+      params.deferredRecheck = null;
+      if (recheck != null) {
+        recheck.toCompletableFuture().cancel(false);
+      }
+    } finally {
+      params.lock.unlock();
+    }
+    executionPermits(params).deferred.remove(params);
+    tryLocal(params);
+  }
+
   private void removeFromCurrentTasks(ExecParams params) {
     TaskKey taskKey = TaskKey.taskKey(params.persist.config().repositoryId(), params.objId());
     currentTasks.remove(taskKey);
@@ -215,6 +305,9 @@ public class TasksServiceImpl implements TasksService {
       LOGGER.trace("{}: Task for {} does not yet exist, creating", name, params);
 
       try {
+        if (!tryAcquireExecutionPermit(params)) {
+          return;
+        }
         metrics.taskCreation();
         TaskBehavior<TaskObj, TaskObj.Builder> behavior = params.taskRequest.behavior();
         TaskObj obj =
@@ -235,6 +328,7 @@ public class TasksServiceImpl implements TasksService {
           // Another process stored the task-obj for the task-request, reschedule but do not loop to
           // be "nice" and give other requests the ability to run.
           metrics.taskCreationRace();
+          releaseExecutionPermit(params);
           reattemptAfterRace(params);
         }
       } catch (Throwable t) {
@@ -262,6 +356,9 @@ public class TasksServiceImpl implements TasksService {
       throws ObjTooLargeException {
     Instant now = async.clock().instant();
     if (now.compareTo(requireNonNull(state.lostNotBefore())) >= 0) {
+      if (!tryAcquireExecutionPermit(params)) {
+        return;
+      }
       metrics.taskLossDetected();
       LOGGER.warn("{}: Detected lost task for {}", name, params);
       TaskBehavior<TaskObj, TaskObj.Builder> behavior = params.taskRequest.behavior();
@@ -277,6 +374,7 @@ public class TasksServiceImpl implements TasksService {
         issueLocalTaskExecution(params, retryState);
       } else {
         metrics.taskLostReassignRace();
+        releaseExecutionPermit(params);
         reattemptAfterRace(params);
       }
     } else {
@@ -289,6 +387,9 @@ public class TasksServiceImpl implements TasksService {
       throws ObjTooLargeException {
     Instant now = async.clock().instant();
     if (now.compareTo(requireNonNull(state.retryNotBefore())) >= 0) {
+      if (!tryAcquireExecutionPermit(params)) {
+        return;
+      }
       TaskBehavior<TaskObj, TaskObj.Builder> behavior = params.taskRequest.behavior();
       TaskObj retryState =
           withNewVersionToken(
@@ -302,6 +403,7 @@ public class TasksServiceImpl implements TasksService {
         issueLocalTaskExecution(params, retryState);
       } else {
         metrics.taskRetryStateChangeRace();
+        releaseExecutionPermit(params);
         reattemptAfterRace(params);
       }
     } else {
@@ -339,6 +441,7 @@ public class TasksServiceImpl implements TasksService {
       TaskObj expected = params.runningObj;
 
       params.cancelRunningStateUpdate();
+      releaseExecutionPermit(params);
 
       metrics.taskExecutionFinished();
 
@@ -534,6 +637,9 @@ public class TasksServiceImpl implements TasksService {
 
     TaskObj runningObj;
     CompletionStage<Void> runningUpdateScheduled;
+    boolean hasExecutionPermit;
+    boolean deferred;
+    CompletionStage<Void> deferredRecheck;
 
     @SuppressWarnings("unchecked")
     ExecParams(Persist persist, TaskRequest<?, ?> taskRequest) {
@@ -564,6 +670,16 @@ public class TasksServiceImpl implements TasksService {
     }
   }
 
+  /** Execution permits and deferred tasks of one object type. */
+  private static final class ExecutionPermits {
+    final Semaphore semaphore;
+    final Queue<ExecParams> deferred = new ConcurrentLinkedQueue<>();
+
+    ExecutionPermits(int permits) {
+      this.semaphore = new Semaphore(permits);
+    }
+  }
+
   private TaskObj withNewVersionToken(TaskObj.Builder builder) {
     return builder.versionToken(ObjId.randomObjId().toString()).build();
   }
@@ -46,10 +46,12 @@ import org.mockito.Mockito;
 import org.projectnessie.nessie.tasks.api.TaskObj;
 import org.projectnessie.nessie.tasks.api.TaskState;
 import org.projectnessie.nessie.tasks.api.Tasks;
+import org.projectnessie.nessie.tasks.service.ImmutableTasksServiceConfig;
 import org.projectnessie.nessie.tasks.service.TasksServiceConfig;
 import org.projectnessie.nessie.tasks.service.tasktypes.BasicTaskObj;
 import org.projectnessie.nessie.tasks.service.tasktypes.BasicTaskRequest;
 import org.projectnessie.nessie.tasks.service.tasktypes.RetryableException;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.inmemorytests.InmemoryBackendTestFactory;
 import org.projectnessie.versioned.storage.testextension.NessieBackend;
@@ -1000,6 +1002,103 @@ public class TestTasksServiceImpl {
     verifyNoMoreInteractions(metrics2);
   }
 
+  @Test
+  public void maxConcurrentTasksPerType() {
+    MutableClock clock = MutableClock.of(Instant.now(), ZoneId.of("UTC"));
+    TestingTasksAsync async = new TestingTasksAsync(clock);
+    TaskServiceMetrics metrics = mock(TaskServiceMetrics.class);
+    // Fallback re-check after the maximum race-wait time, but before the first running-state update
+    long deferredRecheckMillis = DEFAULT_RACE_WAIT_MILLIS_MAX + 20;
+    TasksServiceImpl service =
+        new TasksServiceImpl(
+            async,
+            metrics,
+            ImmutableTasksServiceConfig.of(
+                    "instance#1", DEFAULT_RACE_WAIT_MILLIS_MIN, DEFAULT_RACE_WAIT_MILLIS_MAX)
+                .withMaxConcurrentTasksPerType(1)
+                .withDeferredRecheckMillis(deferredRecheckMillis));
+
+    Tasks tasks = service.forPersist(persist);
+
+    CompletableFuture<BasicTaskObj.Builder> taskCompletionStage1 = new CompletableFuture<>();
+    CompletableFuture<BasicTaskObj.Builder> taskCompletionStage2 = new CompletableFuture<>();
+
+    BasicTaskRequest taskRequest1 = basicTaskRequest("limited-1", () -> taskCompletionStage1);
+    BasicTaskRequest taskRequest2 = basicTaskRequest("limited-2", () -> taskCompletionStage2);
+
+    CompletableFuture<BasicTaskObj> taskFuture1 = tasks.submit(taskRequest1).toCompletableFuture();
+    CompletableFuture<BasicTaskObj> taskFuture2 = tasks.submit(taskRequest2).toCompletableFuture();
+    verify(metrics, times(2)).startNewTaskController();
+    verifyNoMoreInteractions(metrics);
+    reset(metrics);
+
+    // Only one task of the same type is executed, the other one is not claimed
+    soft.assertThat(async.doWork()).isEqualTo(2);
+    soft.assertThat(taskFuture1).isNotDone();
+    soft.assertThat(taskFuture2).isNotDone();
+    verify(metrics, times(2)).taskAttempt();
+    verify(metrics).taskCreation();
+    verify(metrics).taskExecution();
+    verify(metrics).taskExecutionDeferred();
+    verifyNoMoreInteractions(metrics);
+    reset(metrics);
+    soft.assertThatThrownBy(() -> persist.fetchObj(taskRequest2.objId()))
+        .isInstanceOf(ObjNotFoundException.class);
+
+    // The deferred task is not polled
+    clock.add(DEFAULT_RACE_WAIT_MILLIS_MAX, ChronoUnit.MILLIS);
+    soft.assertThat(async.doWork()).isEqualTo(0);
+    verifyNoMoreInteractions(metrics);
+
+    // Fallback re-check of the deferred task, the permit is still taken
+    clock.add(deferredRecheckMillis - DEFAULT_RACE_WAIT_MILLIS_MAX, ChronoUnit.MILLIS);
+    soft.assertThat(async.doWork()).isEqualTo(1);
+    soft.assertThat(taskFuture2).isNotDone();
+    verify(metrics).taskAttempt();
+    verify(metrics).taskExecutionDeferred();
+    verifyNoMoreInteractions(metrics);
+    reset(metrics);
+    soft.assertThatThrownBy(() -> persist.fetchObj(taskRequest2.objId()))
+        .isInstanceOf(ObjNotFoundException.class);
+
+    taskCompletionStage1.complete(
+        BasicTaskObj.builder()
+            .id(taskRequest1.objId())
+            .taskParameter(taskRequest1.taskParameter())
+            .taskResult(taskRequest1.taskParameter() + " finished")
+            .taskState(TaskState.successState()));
+    soft.assertThat(taskFuture1).isCompleted();
+    verify(metrics).taskExecutionFinished();
+    verify(metrics).taskExecutionResult();
+    verifyNoMoreInteractions(metrics);
+    reset(metrics);
+
+    // The permit has been released, the deferred task is resumed immediately
+    soft.assertThat(async.doWork()).isEqualTo(1);
+    soft.assertThat(taskFuture2).isNotDone();
+    verify(metrics).taskAttempt();
+    verify(metrics).taskCreation();
+    verify(metrics).taskExecution();
+    verifyNoMoreInteractions(metrics);
+    reset(metrics);
+
+    taskCompletionStage2.complete(
+        BasicTaskObj.builder()
+            .id(taskRequest2.objId())
+            .taskParameter(taskRequest2.taskParameter())
+            .taskResult(taskRequest2.taskParameter() + " finished")
+            .taskState(TaskState.successState()));
+    soft.assertThat(taskFuture2).isCompleted();
+    verify(metrics).taskExecutionFinished();
+    verify(metrics).taskExecutionResult();
+    verifyNoMoreInteractions(metrics);
+
+    // The fallback re-check has been cancelled
+    clock.add(deferredRecheckMillis, ChronoUnit.MILLIS);
+    soft.assertThat(async.doWork()).isEqualTo(0);
+    verifyNoMoreInteractions(metrics);
+  }
+
   static TasksServiceConfig tasksServiceConfig(int inst) {
     return TasksServiceConfig.tasksServiceConfig(
         "instance#" + inst, DEFAULT_RACE_WAIT_MILLIS_MIN, DEFAULT_RACE_WAIT_MILLIS_MAX);
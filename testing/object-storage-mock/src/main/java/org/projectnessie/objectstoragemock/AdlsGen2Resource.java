@@ -173,15 +173,23 @@ public class AdlsGen2Resource {
 
           StreamingOutput stream = output -> obj.writer().write(range, output);
 
-          long start = range != null ? range.start() : 0L;
-          long end =
-              range != null ? Math.min(range.end(), obj.contentLength()) : obj.contentLength();
+          if (range != null) {
+            return Response.status(Status.PARTIAL_CONTENT)
+                .entity(stream)
+                .tag(obj.etag())
+                .type(contentType)
+                .header(CONTENT_LENGTH, range.length(obj.contentLength()))
+                .header(CONTENT_RANGE, range.contentRange(obj.contentLength()))
+                .lastModified(new Date(obj.lastModified()))
+                .build();
+          }
 
           return Response.ok(stream)
               .tag(obj.etag())
               .type(contentType)
               .header(CONTENT_LENGTH, obj.contentLength())
-              .header(CONTENT_RANGE, "bytes " + start + "-" + end + "/" + obj.contentLength())
+              .header(
+                  CONTENT_RANGE, "bytes 0-" + obj.contentLength() + "/" + obj.contentLength())
               .lastModified(new Date(obj.lastModified()))
               .build();
         });
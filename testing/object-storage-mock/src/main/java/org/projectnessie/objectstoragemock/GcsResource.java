@@ -15,6 +15,7 @@
  */
 package org.projectnessie.objectstoragemock;
 
+import static com.google.common.net.HttpHeaders.CONTENT_RANGE;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 import static jakarta.ws.rs.core.HttpHeaders.IF_MATCH;
@@ -239,6 +240,16 @@ public class GcsResource {
                   .build();
             case media:
               StreamingOutput stream = output -> obj.writer().write(range, output);
+              if (range != null) {
+                return Response.status(Status.PARTIAL_CONTENT)
+                    .entity(stream)
+                    .tag(obj.etag())
+                    .type(obj.contentType())
+                    .header(CONTENT_LENGTH, range.length(obj.contentLength()))
+                    .header(CONTENT_RANGE, range.contentRange(obj.contentLength()))
+                    .lastModified(new Date(obj.lastModified()))
+                    .build();
+              }
               return Response.ok(stream)
                   .tag(obj.etag())
                   .type(obj.contentType())
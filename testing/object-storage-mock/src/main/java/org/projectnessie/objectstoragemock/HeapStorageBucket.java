@@ -182,9 +182,8 @@ public class HeapStorageBucket {
                 if (range == null) {
                   output.write(newData);
                 } else {
-                  int offset = (int) range.start();
-                  long len = Math.min(newData.length - offset, range.end() - range.start());
-                  output.write(newData, offset, (int) len);
+                  int offset = (int) Math.min(range.start(), newData.length);
+                  output.write(newData, offset, (int) range.length(newData.length));
                 }
               }));
 
@@ -39,6 +39,21 @@ public interface Range {
 
   OptionalLong total();
 
+  /** Index of the last byte of this range, inclusive, for an object of the given length. */
+  default long lastByte(long contentLength) {
+    return Math.min(end(), contentLength - 1L);
+  }
+
+  /** Number of bytes of this range for an object of the given length. */
+  default long length(long contentLength) {
+    return Math.max(0L, lastByte(contentLength) - start() + 1L);
+  }
+
+  /** Value of the {@code Content-Range} response header for an object of the given length. */
+  default String contentRange(long contentLength) {
+    return "bytes " + start() + "-" + lastByte(contentLength) + "/" + contentLength;
+  }
+
   /** Can parse AWS style and "standard" {@code Range} header values. */
   @SuppressWarnings("unused") // JAX-RS factory function
   static Range fromString(String rangeString) {
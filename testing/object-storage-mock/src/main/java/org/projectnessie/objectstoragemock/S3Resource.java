@@ -16,6 +16,7 @@
 package org.projectnessie.objectstoragemock;
 
 import static com.google.common.net.HttpHeaders.CONTENT_MD5;
+import static com.google.common.net.HttpHeaders.CONTENT_RANGE;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
@@ -355,6 +356,16 @@ public class S3Resource {
             return notModified(obj.etag());
           }
           StreamingOutput stream = output -> obj.writer().write(range, output);
+          if (range != null) {
+            return Response.status(Status.PARTIAL_CONTENT)
+                .entity(stream)
+                .tag(obj.etag())
+                .type(obj.contentType())
+                .header(CONTENT_LENGTH, range.length(obj.contentLength()))
+                .header(CONTENT_RANGE, range.contentRange(obj.contentLength()))
+                .lastModified(new Date(obj.lastModified()))
+                .build();
+          }
           return Response.ok(stream)
               .tag(obj.etag())
               .type(obj.contentType())
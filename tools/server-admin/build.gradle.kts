@@ -53,6 +53,7 @@ dependencies {
   implementation(project(":nessie-versioned-storage-cassandra2"))
   implementation(project(":nessie-versioned-storage-cleanup"))
   implementation(project(":nessie-versioned-storage-common"))
+  implementation(project(":nessie-versioned-storage-common-serialize"))
   implementation(project(":nessie-versioned-storage-dynamodb"))
   implementation(project(":nessie-versioned-storage-dynamodb2"))
   implementation(project(":nessie-versioned-storage-inmemory"))
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.tools.admin.cli;
+
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.emptyImmutableIndex;
+import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.newCommitHeaders;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.main.LaunchResult;
+import io.quarkus.test.junit.main.QuarkusMainLauncher;
+import io.quarkus.test.junit.main.QuarkusMainTest;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.quarkus.tests.profiles.BaseConfigProfile;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+
+@QuarkusMainTest
+@TestProfile(BaseConfigProfile.class)
+@ExtendWith({NessieServerAdminTestExtension.class, SoftAssertionsExtension.class})
+class ITTrainCompressionDictionary {
+
+  @InjectSoftAssertions private SoftAssertions soft;
+
+  @Test
+  public void notEnoughSamples(QuarkusMainLauncher launcher, Persist persist) {
+    LaunchResult result =
+        launcher.launch("train-compression-dictionary", "--min-samples", "1000000");
+    soft.assertThat(result.exitCode()).isEqualTo(BaseCommand.EXIT_CODE_GENERIC_ERROR);
+    soft.assertThat(result.getErrorOutput()).contains("at least 1000000 are required");
+    soft.assertThat(repositoryLogic(persist).fetchObjCompressionDictionaryId()).isNull();
+  }
+
+  @Test
+  public void train(QuarkusMainLauncher launcher, Persist persist) throws Exception {
+    Obj[] commits = new Obj[1000];
+    for (int i = 0; i < commits.length; i++) {
+      commits[i] =
+          CommitObj.commitBuilder()
+              .id(randomObjId())
+              .seq(i)
+              .created(1_700_000_000_000L + i)
+              .message("Commit number " + i)
+              .headers(newCommitHeaders().add("Author", "user-" + (i % 10)).build())
+              .addTail(randomObjId())
+              .incrementalIndex(emptyImmutableIndex(COMMIT_OP_SERIALIZER).serialize())
+              .build();
+    }
+    persist.storeObjs(commits);
+
+    LaunchResult result =
+        launcher.launch("train-compression-dictionary", "--dictionary-size", "4096");
+    soft.assertThat(result.exitCode()).isEqualTo(0);
+    soft.assertThat(result.getOutput()).contains("Trained compression dictionary");
+    soft.assertThat(repositoryLogic(persist).fetchObjCompressionDictionaryId()).isNotNull();
+  }
+}
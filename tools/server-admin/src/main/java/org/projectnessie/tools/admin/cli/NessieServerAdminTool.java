@@ -36,7 +36,8 @@ import picocli.CommandLine.HelpCommand;
       EraseRepository.class,
       ExportRepository.class,
       ImportRepository.class,
-      ThirdPartyLicenses.class
+      ThirdPartyLicenses.class,
+      TrainCompressionDictionary.class
     })
 public class NessieServerAdminTool extends BaseCommand {
 
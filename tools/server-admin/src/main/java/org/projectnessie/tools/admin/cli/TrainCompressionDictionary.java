@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.tools.admin.cli;
+
+import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.INDEX;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.INDEX_SEGMENTS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.projectnessie.versioned.storage.common.exceptions.RetryTimeoutException;
+import org.projectnessie.versioned.storage.common.logic.RepositoryLogic;
+import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.serialize.CompressionDictionary;
+import org.projectnessie.versioned.storage.serialize.ProtoSerialization;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+    name = "train-compression-dictionary",
+    mixinStandardHelpOptions = true,
+    description =
+        "Train a ZSTD dictionary from existing commits and indexes, used to compress new "
+            + "commits and indexes, if 'nessie.version.store.persist.obj-compression' is 'ZSTD'.")
+public class TrainCompressionDictionary extends BaseCommand {
+
+  @CommandLine.Option(
+      names = {"--max-samples"},
+      defaultValue = "10000",
+      description = "The max number of commit and index objects to train the dictionary from.")
+  private int maxSamples;
+
+  @CommandLine.Option(
+      names = {"--min-samples"},
+      defaultValue = "100",
+      description =
+          "The min number of commit and index objects required to train the dictionary.")
+  private int minSamples;
+
+  @CommandLine.Option(
+      names = {"--dictionary-size"},
+      defaultValue = "65536",
+      description = "The max size of the trained dictionary in bytes.")
+  private int dictionarySize;
+
+  @Override
+  public Integer call() throws RetryTimeoutException {
+    warnOnInMemory();
+
+    RepositoryLogic repositoryLogic = repositoryLogic(persist);
+    if (!repositoryLogic.repositoryExists()) {
+      spec.commandLine().getErr().println("Nessie repository does not exist");
+      return EXIT_CODE_REPO_DOES_NOT_EXIST;
+    }
+
+    List<byte[]> samples = new ArrayList<>();
+    try (CloseableIterator<Obj> objs =
+        persist.scanAllObjects(Set.of(COMMIT, INDEX, INDEX_SEGMENTS))) {
+      while (objs.hasNext() && samples.size() < maxSamples) {
+        samples.add(
+            ProtoSerialization.serializeObj(
+                objs.next(), Integer.MAX_VALUE, Integer.MAX_VALUE, false));
+      }
+    }
+
+    if (samples.size() < minSamples) {
+      spec.commandLine()
+          .getErr()
+          .printf(
+              "Found only %d commit and index objects, at least %d are required to train a "
+                  + "compression dictionary.%n",
+              samples.size(), minSamples);
+      return EXIT_CODE_GENERIC_ERROR;
+    }
+
+    byte[] dictionary = CompressionDictionary.trainDictionary(samples, dictionarySize);
+    ObjId id = repositoryLogic.updateObjCompressionDictionary(dictionary);
+
+    spec.commandLine()
+        .getOut()
+        .printf(
+            "Trained compression dictionary %s of %d bytes from %d objects.%n"
+                + "Note: Nessie servers pick up the new dictionary within "
+                + "'nessie.version.store.persist.obj-compression-dictionary-refresh-seconds'.%n",
+            id, dictionary.length, samples.size());
+    return 0;
+  }
+}
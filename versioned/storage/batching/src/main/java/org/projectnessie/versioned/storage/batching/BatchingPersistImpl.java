@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
@@ -458,4 +459,10 @@ final class BatchingPersistImpl implements BatchingPersist, ValidatingPersist {
   public boolean isCaching() {
     return delegate().isCaching();
   }
+
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return delegate().asyncReadExecutor();
+  }
 }
@@ -48,6 +48,7 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.projectnessie.versioned.storage.common.persist.AsyncReadExecutor;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
 import org.slf4j.Logger;
@@ -65,6 +66,7 @@ public final class BigTableBackend implements Backend {
   final String tableObjs;
   final TableId tableRefsId;
   final TableId tableObjsId;
+  private final AsyncReadExecutor asyncReadExecutor = new AsyncReadExecutor("bigtable");
 
   public BigTableBackend(@Nonnull BigTableBackendConfig config) {
     this.config = config;
@@ -99,8 +101,13 @@ public final class BigTableBackend implements Backend {
     return new BigTablePersistFactory(this);
   }
 
+  AsyncReadExecutor asyncReadExecutor() {
+    return asyncReadExecutor;
+  }
+
   @Override
   public void close() {
+    asyncReadExecutor.close();
     RuntimeException ex = null;
     try {
       dataClient.close();
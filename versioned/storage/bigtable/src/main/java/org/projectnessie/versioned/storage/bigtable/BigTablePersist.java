@@ -33,12 +33,14 @@ import static org.projectnessie.versioned.storage.bigtable.BigTableConstants.QUA
 import static org.projectnessie.versioned.storage.bigtable.BigTableConstants.QUALIFIER_OBJ_VERS;
 import static org.projectnessie.versioned.storage.bigtable.BigTableConstants.QUALIFIER_REFS;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.objIdFromByteBuffer;
+import static org.projectnessie.versioned.storage.serialize.ObjCompression.objCompression;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeReference;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeReference;
 
 import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
 import com.google.api.core.ApiFutures;
 import com.google.api.gax.batching.Batcher;
 import com.google.api.gax.rpc.AbortedException;
@@ -59,16 +61,21 @@ import com.google.cloud.bigtable.data.v2.models.RowMutationEntry;
 import com.google.cloud.bigtable.data.v2.models.TableId;
 import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.ByteString;
 import jakarta.annotation.Nonnull;
 import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -80,6 +87,7 @@ import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedE
 import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
@@ -87,17 +95,20 @@ import org.projectnessie.versioned.storage.common.persist.ObjType;
 import org.projectnessie.versioned.storage.common.persist.ObjTypes;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.serialize.ObjCompression;
 
-public class BigTablePersist implements Persist {
+public class BigTablePersist implements Persist, AsyncPersist {
 
   private final BigTableBackend backend;
   private final StoreConfig config;
+  private final ObjCompression objCompression;
   private final ByteString keyPrefix;
   private final long apiTimeoutMillis;
 
   BigTablePersist(BigTableBackend backend, StoreConfig config) {
     this.backend = backend;
     this.config = config;
+    this.objCompression = objCompression(config, this);
     this.keyPrefix = copyFromUtf8(config.repositoryId() + ':');
     this.apiTimeoutMillis =
         backend.config().totalApiTimeout().orElse(DEFAULT_BULK_READ_TIMEOUT).toMillis();
@@ -137,6 +148,12 @@ public class BigTablePersist implements Persist {
     return config;
   }
 
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return backend.asyncReadExecutor().executor(config.asyncReadThreads());
+  }
+
   @Override
   public Reference fetchReference(@Nonnull String name) {
     try {
@@ -148,6 +165,17 @@ public class BigTablePersist implements Persist {
     }
   }
 
+  @Override
+  @Nonnull
+  public CompletionStage<Reference[]> fetchReferencesAsync(@Nonnull String[] names) {
+    return bulkFetchAsync(
+        backend.tableRefsId,
+        names,
+        Reference.class,
+        this::dbKey,
+        BigTablePersist::referenceFromRow);
+  }
+
   @Override
   @Nonnull
   public Reference[] fetchReferences(@Nonnull String[] names) {
@@ -357,6 +385,21 @@ public class BigTablePersist implements Persist {
     }
   }
 
+  @Override
+  @Nonnull
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    return bulkFetchAsync(
+        backend.tableObjsId,
+        ids,
+        typeClass,
+        this::dbKey,
+        row -> {
+          Obj o = objFromRow(row);
+          return type == null || type.equals(o.type()) ? typeClass.cast(o) : null;
+        });
+  }
+
   @Override
   public boolean storeObj(@Nonnull Obj obj, boolean ignoreSoftSizeRestrictions)
       throws ObjTooLargeException {
@@ -521,7 +564,11 @@ public class BigTablePersist implements Persist {
 
       byte[] serialized =
           serializeObj(
-              obj, effectiveIncrementalIndexSizeLimit(), effectiveIndexSegmentSizeLimit(), false);
+              obj,
+              effectiveIncrementalIndexSizeLimit(),
+              effectiveIndexSegmentSizeLimit(),
+              false,
+              objCompression);
 
       long referenced = config.currentTimeMicros();
       backend
@@ -554,7 +601,11 @@ public class BigTablePersist implements Persist {
 
         byte[] serialized =
             serializeObj(
-                obj, effectiveIncrementalIndexSizeLimit(), effectiveIndexSegmentSizeLimit(), false);
+                obj,
+                effectiveIncrementalIndexSizeLimit(),
+                effectiveIndexSegmentSizeLimit(),
+                false,
+                objCompression);
 
         batcher.add(objToMutation(obj, referenced, RowMutationEntry.create(key), serialized));
       }
@@ -647,7 +698,8 @@ public class BigTablePersist implements Persist {
         ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
     int indexSizeLimit =
         ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
-    byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false);
+    byte[] serialized =
+        serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false, objCompression);
 
     return objToMutation(obj, referenced, Mutation.create(), serialized);
   }
@@ -773,7 +825,7 @@ public class BigTablePersist implements Persist {
     List<RowCell> objVersionCells = row.getCells(FAMILY_OBJS, QUALIFIER_OBJ_VERS);
     String versionToken =
         objVersionCells.isEmpty() ? null : objVersionCells.get(0).getValue().toStringUtf8();
-    return deserializeObj(id, referenced, obj, versionToken);
+    return deserializeObj(id, referenced, obj, versionToken, objCompression);
   }
 
   private <ID, R> void bulkFetch(
@@ -825,4 +877,70 @@ public class BigTablePersist implements Persist {
     }
     return handles;
   }
+
+  /**
+   * Non-blocking variant of {@link #bulkFetch(TableId, Object[], Object[], Function, Function,
+   * Consumer)}, reads all requested rows using a single streaming read.
+   */
+  private <ID, R> CompletionStage<R[]> bulkFetchAsync(
+      TableId tableId,
+      ID[] ids,
+      Class<R> resultType,
+      Function<ID, ByteString> keyGen,
+      Function<Row, R> resultGen) {
+    int num = ids.length;
+    @SuppressWarnings("unchecked")
+    R[] r = (R[]) Array.newInstance(resultType, num);
+
+    Query query = Query.create(tableId);
+    ByteString[] keys = new ByteString[num];
+    boolean any = false;
+    for (int idx = 0; idx < num; idx++) {
+      ID id = ids[idx];
+      if (id != null) {
+        ByteString key = keyGen.apply(id);
+        keys[idx] = key;
+        query.rowKey(key);
+        any = true;
+      }
+    }
+    if (!any) {
+      return CompletableFuture.completedFuture(r);
+    }
+
+    CompletableFuture<R[]> result = new CompletableFuture<>();
+    ApiFutures.addCallback(
+        backend.client().readRowsCallable().all().futureCall(query),
+        new ApiFutureCallback<>() {
+          @Override
+          public void onFailure(Throwable t) {
+            result.completeExceptionally(
+                t instanceof ApiException ? apiException((ApiException) t) : t);
+          }
+
+          @Override
+          public void onSuccess(List<Row> rows) {
+            try {
+              Map<ByteString, Row> rowsByKey = new HashMap<>(rows.size() * 2);
+              for (Row row : rows) {
+                rowsByKey.put(row.getKey(), row);
+              }
+              for (int idx = 0; idx < num; idx++) {
+                ByteString key = keys[idx];
+                if (key != null) {
+                  Row row = rowsByKey.get(key);
+                  if (row != null) {
+                    r[idx] = resultGen.apply(row);
+                  }
+                }
+              }
+              result.complete(r);
+            } catch (RuntimeException e) {
+              result.completeExceptionally(e);
+            }
+          }
+        },
+        MoreExecutors.directExecutor());
+    return result.orTimeout(apiTimeoutMillis, MILLISECONDS);
+  }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.projectnessie.versioned.storage.cache.CacheBackend.NON_EXISTENT_REFERENCE_SENTINEL;
+
+import jakarta.annotation.Nonnull;
+import java.lang.reflect.Array;
+import java.util.concurrent.CompletionStage;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+
+/**
+ * Caching {@link Persist} for {@link Persist} implementations that also implement {@link
+ * AsyncPersist}. Cache hits are served immediately, cache misses are loaded using the non-blocking
+ * functions of the wrapped {@link AsyncPersist}. Asynchronous loads are coalesced with concurrent
+ * synchronous and asynchronous loads for the same objects.
+ */
+final class AsyncCachingPersistImpl extends CachingPersistImpl implements AsyncPersist {
+
+  private final AsyncPersist asyncPersist;
+
+  AsyncCachingPersistImpl(
+      Persist persist, ObjCache cache, ObjLoadCoalescer loadCoalescer, String repositoryId) {
+    this(persist, cache, loadCoalescer, repositoryId, true);
+  }
+
+  private AsyncCachingPersistImpl(
+      Persist persist,
+      ObjCache cache,
+      ObjLoadCoalescer loadCoalescer,
+      String repositoryId,
+      boolean cacheAdmission) {
+    super(persist, cache, loadCoalescer, repositoryId, cacheAdmission);
+    this.asyncPersist = (AsyncPersist) persist;
+  }
+
+  @Override
+  @Nonnull
+  public Persist withoutCacheAdmission() {
+    return cacheAdmission
+        ? new AsyncCachingPersistImpl(persist, cache, loadCoalescer, repositoryId, false)
+        : this;
+  }
+
+  @Nonnull
+  @Override
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    @SuppressWarnings("unchecked")
+    T[] r = (T[]) Array.newInstance(typeClass, ids.length);
+
+    ObjId[] backendIds = fetchObjsPre(ids, r, type, typeClass);
+
+    if (backendIds == null) {
+      return completedFuture(r);
+    }
+
+    return loadCoalescer
+        .loadAsync(
+            repositoryId,
+            backendIds,
+            type,
+            typeClass,
+            loadIds -> asyncPersist.fetchTypedObjsIfExistAsync(loadIds, type, typeClass),
+            loadedCallback(type))
+        .thenApply(backendResult -> fetchObjsPost(backendIds, backendResult, r));
+  }
+
+  @Nonnull
+  @Override
+  public CompletionStage<Reference[]> fetchReferencesAsync(@Nonnull String[] names) {
+    Reference[] r = new Reference[names.length];
+
+    String[] backend = null;
+    for (int i = 0; i < names.length; i++) {
+      String name = names[i];
+      if (name != null) {
+        Reference cr = cache.getReference(name);
+        if (cr != null) {
+          if (cr != NON_EXISTENT_REFERENCE_SENTINEL) {
+            r[i] = cr;
+          }
+        } else {
+          if (backend == null) {
+            backend = new String[names.length];
+          }
+          backend[i] = name;
+        }
+      }
+    }
+
+    if (backend == null) {
+      return completedFuture(r);
+    }
+
+    String[] backendNames = backend;
+    return asyncPersist
+        .fetchReferencesAsync(backendNames)
+        .thenApply(
+            br -> {
+              for (int i = 0; i < br.length; i++) {
+                String name = backendNames[i];
+                if (name != null) {
+                  Reference ref = br[i];
+                  if (ref != null) {
+                    r[i] = ref;
+                    cache.putReferenceLocal(ref);
+                  } else {
+                    cache.putReferenceNegative(name);
+                  }
+                }
+              }
+              return r;
+            });
+  }
+}
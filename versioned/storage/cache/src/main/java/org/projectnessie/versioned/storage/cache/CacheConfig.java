@@ -21,6 +21,7 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.LongSupplier;
 import org.immutables.value.Value;
 
@@ -30,6 +31,9 @@ public interface CacheConfig {
   String INVALID_REFERENCE_NEGATIVE_TTL =
       "Cache reference-negative-TTL must only be present, if reference-TTL is configured, and must only be positive.";
   String INVALID_REFERENCE_TTL = "Cache reference-TTL must be positive, if present.";
+  String INVALID_OFF_HEAP_CAPACITY = "Cache off-heap capacity must be positive, if present.";
+  String INVALID_REPOSITORY_CAPACITY =
+      "Cache per-repository capacity must be positive, if present.";
 
   long capacityMb();
 
@@ -41,6 +45,20 @@ public interface CacheConfig {
 
   Optional<Boolean> enableSoftReferences();
 
+  /**
+   * Capacity of the optional second-level cache tier, which holds serialized objects in off-heap
+   * memory. The on-heap cache acts as the first-level cache in front of the off-heap tier.
+   */
+  OptionalLong offHeapCapacityMb();
+
+  /**
+   * Optional on-heap capacity per repository. If present, each repository gets its own cache
+   * partition with this capacity, so that repositories cannot evict each other's objects. All
+   * partitions together are bounded by {@link #capacityMb()}, which is then split evenly between
+   * the partitions. Cache metrics are then tagged with the repository ID.
+   */
+  OptionalLong repositoryCapacityMb();
+
   @Value.Default
   default LongSupplier clockNanos() {
     return System::nanoTime;
@@ -52,6 +70,10 @@ public interface CacheConfig {
 
   @Value.Check
   default void check() {
+    offHeapCapacityMb()
+        .ifPresent(capacity -> checkState(capacity > 0L, INVALID_OFF_HEAP_CAPACITY));
+    repositoryCapacityMb()
+        .ifPresent(capacity -> checkState(capacity > 0L, INVALID_REPOSITORY_CAPACITY));
     referenceTtl()
         .ifPresent(ttl -> checkState(ttl.compareTo(Duration.ZERO) > 0, INVALID_REFERENCE_TTL));
     referenceNegativeTtl()
@@ -81,6 +103,12 @@ public interface CacheConfig {
     @CanIgnoreReturnValue
     Builder enableSoftReferences(boolean enableSoftReferences);
 
+    @CanIgnoreReturnValue
+    Builder offHeapCapacityMb(long offHeapCapacityMb);
+
+    @CanIgnoreReturnValue
+    Builder repositoryCapacityMb(long repositoryCapacityMb);
+
     CacheConfig build();
   }
 }
@@ -23,6 +23,7 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -41,10 +42,27 @@ class CachingPersistImpl implements Persist {
 
   final Persist persist;
   final ObjCache cache;
-
-  CachingPersistImpl(Persist persist, ObjCache cache) {
+  final ObjLoadCoalescer loadCoalescer;
+  final String repositoryId;
+  /** Whether objects loaded from the backend are added to the cache. */
+  final boolean cacheAdmission;
+
+  CachingPersistImpl(
+      Persist persist, ObjCache cache, ObjLoadCoalescer loadCoalescer, String repositoryId) {
+    this(persist, cache, loadCoalescer, repositoryId, true);
+  }
+
+  CachingPersistImpl(
+      Persist persist,
+      ObjCache cache,
+      ObjLoadCoalescer loadCoalescer,
+      String repositoryId,
+      boolean cacheAdmission) {
     this.persist = persist;
     this.cache = cache;
+    this.loadCoalescer = loadCoalescer;
+    this.repositoryId = repositoryId;
+    this.cacheAdmission = cacheAdmission;
   }
 
   @Override
@@ -57,14 +75,11 @@ class CachingPersistImpl implements Persist {
       }
       throw new ObjNotFoundException(id);
     }
-    try {
-      o = persist.fetchObj(id);
-      cache.putLocal(o);
-      return o;
-    } catch (ObjNotFoundException e) {
-      cache.remove(id);
-      throw e;
+    o = loadSingle(id, null, Obj.class, persist::fetchObj);
+    if (o == null) {
+      throw new ObjNotFoundException(id);
     }
+    return o;
   }
 
   @Override
@@ -89,12 +104,9 @@ class CachingPersistImpl implements Persist {
         throw new ObjNotFoundException(id);
       }
     } else {
-      try {
-        o = persist.fetchTypedObj(id, type, typeClass);
-        cache.putLocal(o);
-      } catch (ObjNotFoundException e) {
-        cache.putReferenceNegative(id, type);
-        throw e;
+      o = loadSingle(id, type, typeClass, i -> persist.fetchTypedObj(i, type, typeClass));
+      if (o == null) {
+        throw new ObjNotFoundException(id);
       }
     }
     @SuppressWarnings("unchecked")
@@ -128,8 +140,24 @@ class CachingPersistImpl implements Persist {
       return r;
     }
 
-    Obj[] backendResult = persist.fetchObjs(backendIds);
-    return fetchObjsPost(backendIds, backendResult, r, null);
+    Obj[] backendResult = loadMultiple(backendIds, null, Obj.class, persist::fetchObjs);
+    List<ObjId> notFound = null;
+    for (int i = 0; i < backendIds.length; i++) {
+      ObjId id = backendIds[i];
+      if (id != null) {
+        if (backendResult[i] == null) {
+          if (notFound == null) {
+            notFound = new ArrayList<>();
+          }
+          notFound.add(id);
+        }
+        r[i] = backendResult[i];
+      }
+    }
+    if (notFound != null) {
+      throw new ObjNotFoundException(notFound);
+    }
+    return r;
   }
 
   @Nonnull
@@ -142,8 +170,13 @@ class CachingPersistImpl implements Persist {
     ObjId[] backendIds = fetchObjsPre(ids, r, type, typeClass);
 
     if (backendIds != null) {
-      T[] backendResult = persist.fetchTypedObjsIfExist(backendIds, type, typeClass);
-      r = fetchObjsPost(backendIds, backendResult, r, type);
+      T[] backendResult =
+          loadMultiple(
+              backendIds,
+              type,
+              typeClass,
+              missing -> persist.fetchTypedObjsIfExist(missing, type, typeClass));
+      r = fetchObjsPost(backendIds, backendResult, r);
     }
 
     List<ObjId> notFound = null;
@@ -175,11 +208,16 @@ class CachingPersistImpl implements Persist {
       return r;
     }
 
-    T[] backendResult = persist.fetchTypedObjsIfExist(backendIds, type, typeClass);
-    return fetchObjsPost(backendIds, backendResult, r, type);
+    T[] backendResult =
+        loadMultiple(
+            backendIds,
+            type,
+            typeClass,
+            missing -> persist.fetchTypedObjsIfExist(missing, type, typeClass));
+    return fetchObjsPost(backendIds, backendResult, r);
   }
 
-  private <T extends Obj> ObjId[] fetchObjsPre(
+  <T extends Obj> ObjId[] fetchObjsPre(
       ObjId[] ids, T[] r, ObjType type, @SuppressWarnings("unused") @Nonnull Class<T> typeClass) {
     ObjId[] backendIds = null;
     for (int i = 0; i < ids.length; i++) {
@@ -204,23 +242,72 @@ class CachingPersistImpl implements Persist {
     return backendIds;
   }
 
-  private <T extends Obj> T[] fetchObjsPost(
-      ObjId[] backendIds, T[] backendResult, T[] r, ObjType type) {
+  static <T extends Obj> T[] fetchObjsPost(ObjId[] backendIds, T[] backendResult, T[] r) {
     for (int i = 0; i < backendResult.length; i++) {
-      ObjId id = backendIds[i];
-      if (id != null) {
+      if (backendIds[i] != null) {
         T o = backendResult[i];
         if (o != null) {
           r[i] = o;
-          cache.putLocal(o);
-        } else {
-          cache.putReferenceNegative(id, type);
         }
       }
     }
     return r;
   }
 
+  @FunctionalInterface
+  interface SingleLoader<T extends Obj> {
+    T load(ObjId id) throws ObjNotFoundException;
+  }
+
+  /**
+   * Loads a single object from the backend, coalesced with concurrent loads for the same object.
+   * Returns {@code null}, if the object does not exist.
+   */
+  private <T extends Obj> T loadSingle(
+      ObjId id, ObjType type, Class<T> typeClass, SingleLoader<T> loader) {
+    return loadMultiple(
+        new ObjId[] {id},
+        type,
+        typeClass,
+        ids -> {
+          @SuppressWarnings("unchecked")
+          T[] r = (T[]) Array.newInstance(typeClass, 1);
+          try {
+            r[0] = loader.load(ids[0]);
+          } catch (ObjNotFoundException e) {
+            // r[0] == null
+          }
+          return r;
+        })[0];
+  }
+
+  /**
+   * Loads objects from the backend, coalesced with concurrent loads for the same objects, and
+   * updates the cache, unless {@linkplain #withoutCacheAdmission() cache admission} is disabled.
+   */
+  private <T extends Obj, E extends Exception> T[] loadMultiple(
+      ObjId[] ids, ObjType type, Class<T> typeClass, ObjLoadCoalescer.BulkLoader<T, E> loader)
+      throws E {
+    return loadCoalescer.load(repositoryId, ids, type, typeClass, loader, loadedCallback(type));
+  }
+
+  /**
+   * Updates the cache for objects loaded from the backend, unless {@linkplain
+   * #withoutCacheAdmission() cache admission} is disabled.
+   */
+  <T extends Obj> ObjLoadCoalescer.LoadedCallback<T> loadedCallback(ObjType type) {
+    return (id, o) -> {
+      if (!cacheAdmission) {
+        return;
+      }
+      if (o != null) {
+        cache.putLocal(o);
+      } else {
+        cache.putReferenceNegative(id, type);
+      }
+    };
+  }
+
   @Override
   @Nonnull
   public Obj[] fetchObjsIfExist(@Nonnull ObjId[] ids) {
@@ -232,8 +319,8 @@ class CachingPersistImpl implements Persist {
       return r;
     }
 
-    Obj[] backendResult = persist.fetchObjsIfExist(backendIds);
-    return fetchObjsPost(backendIds, backendResult, r, null);
+    Obj[] backendResult = loadMultiple(backendIds, null, Obj.class, persist::fetchObjsIfExist);
+    return fetchObjsPost(backendIds, backendResult, r);
   }
 
   @Override
@@ -525,4 +612,18 @@ class CachingPersistImpl implements Persist {
   public boolean isCaching() {
     return true;
   }
+
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return persist.asyncReadExecutor();
+  }
+
+  @Override
+  @Nonnull
+  public Persist withoutCacheAdmission() {
+    return cacheAdmission
+        ? new CachingPersistImpl(persist, cache, loadCoalescer, repositoryId, false)
+        : this;
+  }
 }
@@ -16,6 +16,7 @@
 package org.projectnessie.versioned.storage.cache;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
@@ -28,13 +29,18 @@ import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.s
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
 import jakarta.annotation.Nonnull;
 import java.lang.ref.SoftReference;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
@@ -49,11 +55,17 @@ class CaffeineCacheBackend implements CacheBackend {
       new CacheKeyValue("x", ObjId.EMPTY_OBJ_ID, 0L, new byte[0], null, false);
 
   private final CacheConfig config;
+  /** The cache shared by all repositories, {@code null} if caches are partitioned by repository. */
   final Cache<CacheKeyValue, CacheKeyValue> cache;
+  /** Per-repository caches, {@code null} if all repositories share the same cache. */
+  private final Map<String, Cache<CacheKeyValue, CacheKeyValue>> repositoryCaches;
+  private final long repositoryCapacityMb;
 
   private final long refCacheTtlNanos;
   private final long refCacheNegativeTtlNanos;
   private final boolean enableSoftReferences;
+  final OffHeapCacheTier offHeap;
+  final ObjLoadCoalescer loadCoalescer;
 
   CaffeineCacheBackend(CacheConfig config) {
     this.config = config;
@@ -62,64 +74,155 @@ class CaffeineCacheBackend implements CacheBackend {
     refCacheNegativeTtlNanos = config.referenceNegativeTtl().orElse(Duration.ZERO).toNanos();
     enableSoftReferences = config.enableSoftReferences().orElse(true);
 
+    if (config.repositoryCapacityMb().isPresent()) {
+      this.repositoryCapacityMb =
+          Math.min(config.repositoryCapacityMb().getAsLong(), config.capacityMb());
+      this.repositoryCaches = new ConcurrentHashMap<>();
+      this.cache = null;
+    } else {
+      this.repositoryCapacityMb = 0L;
+      this.repositoryCaches = null;
+      this.cache = newCache(config.capacityMb(), emptyList());
+    }
+    config
+        .meterRegistry()
+        .ifPresent(
+            meterRegistry ->
+                meterRegistry.gauge(
+                    "cache_capacity_mb",
+                    singletonList(Tag.of("cache", CACHE_NAME)),
+                    "",
+                    x -> config.capacityMb()));
+
+    this.loadCoalescer = new ObjLoadCoalescer(config.meterRegistry());
+
+    this.offHeap =
+        config.offHeapCapacityMb().isPresent()
+            ? new OffHeapCacheTier(config, config.offHeapCapacityMb().getAsLong())
+            : null;
+  }
+
+  private Cache<CacheKeyValue, CacheKeyValue> newCache(long capacityMb, List<Tag> tags) {
     Caffeine<CacheKeyValue, CacheKeyValue> cacheBuilder =
         Caffeine.newBuilder()
-            .maximumWeight(config.capacityMb() * 1024L * 1024L)
+            .maximumWeight(capacityMb * 1024L * 1024L)
             .weigher(this::weigher)
-            .expireAfter(
-                new Expiry<CacheKeyValue, CacheKeyValue>() {
-                  @Override
-                  public long expireAfterCreate(
-                      CacheKeyValue key, CacheKeyValue value, long currentTimeNanos) {
-                    long expire = key.expiresAtNanosEpoch;
-                    if (expire == CACHE_UNLIMITED) {
-                      return Long.MAX_VALUE;
-                    }
-                    if (expire == NOT_CACHED) {
-                      return 0L;
-                    }
-                    long remaining = expire - currentTimeNanos;
-                    return Math.max(0L, remaining);
-                  }
-
-                  @Override
-                  public long expireAfterUpdate(
-                      CacheKeyValue key,
-                      CacheKeyValue value,
-                      long currentTimeNanos,
-                      @NonNegative long currentDurationNanos) {
-                    return expireAfterCreate(key, value, currentTimeNanos);
-                  }
-
-                  @Override
-                  public long expireAfterRead(
-                      CacheKeyValue key,
-                      CacheKeyValue value,
-                      long currentTimeNanos,
-                      @NonNegative long currentDurationNanos) {
-                    return currentDurationNanos;
-                  }
-                })
+            .expireAfter(CaffeineCacheBackend.<CacheKeyValue>keyExpiry())
             .ticker(config.clockNanos()::getAsLong);
     config
         .meterRegistry()
         .ifPresent(
-            meterRegistry -> {
-              cacheBuilder.recordStats(() -> new CaffeineStatsCounter(meterRegistry, CACHE_NAME));
-              meterRegistry.gauge(
-                  "cache_capacity_mb",
-                  singletonList(Tag.of("cache", CACHE_NAME)),
-                  "",
-                  x -> config.capacityMb());
-            });
-
-    this.cache = cacheBuilder.build();
+            meterRegistry ->
+                cacheBuilder.recordStats(
+                    () -> new CaffeineStatsCounter(meterRegistry, CACHE_NAME, tags)));
+    return cacheBuilder.build();
+  }
+
+  /** Returns the cache for the given repository, creating its partition, if necessary. */
+  Cache<CacheKeyValue, CacheKeyValue> cache(String repositoryId) {
+    if (repositoryCaches == null) {
+      return cache;
+    }
+    Cache<CacheKeyValue, CacheKeyValue> repositoryCache = repositoryCaches.get(repositoryId);
+    if (repositoryCache != null) {
+      return repositoryCache;
+    }
+    synchronized (repositoryCaches) {
+      repositoryCache =
+          repositoryCaches.computeIfAbsent(
+              repositoryId,
+              repo -> newCache(repositoryCapacityMb, singletonList(Tag.of("repository", repo))));
+      resizePartitions();
+      return repositoryCache;
+    }
+  }
+
+  /**
+   * Adjusts the maximum weight of all repository partitions, so that each partition gets at most
+   * {@link CacheConfig#repositoryCapacityMb()} and all partitions together do not exceed {@link
+   * CacheConfig#capacityMb()}.
+   */
+  private void resizePartitions() {
+    long capacity = config.capacityMb() * 1024L * 1024L;
+    long maximumWeight =
+        Math.min(
+            repositoryCapacityMb * 1024L * 1024L,
+            capacity / Math.max(1, repositoryCaches.size()));
+    repositoryCaches
+        .values()
+        .forEach(c -> c.policy().eviction().ifPresent(e -> e.setMaximum(maximumWeight)));
+  }
+
+  /** Drops the partition of the given repository including its meters. */
+  private void dropPartition(String repositoryId) {
+    Cache<CacheKeyValue, CacheKeyValue> repositoryCache;
+    synchronized (repositoryCaches) {
+      repositoryCache = repositoryCaches.remove(repositoryId);
+      if (repositoryCache == null) {
+        return;
+      }
+      resizePartitions();
+    }
+    repositoryCache.invalidateAll();
+    config
+        .meterRegistry()
+        .ifPresent(
+            meterRegistry ->
+                meterRegistry.getMeters().stream()
+                    .filter(
+                        m -> {
+                          Meter.Id id = m.getId();
+                          return CACHE_NAME.equals(id.getTag("cache"))
+                              && repositoryId.equals(id.getTag("repository"));
+                        })
+                    .forEach(meterRegistry::remove));
+  }
+
+  /**
+   * Cache expiry for both the on-heap and off-heap tiers, using the expiration timestamp held in
+   * the cache key.
+   */
+  static <V> Expiry<CacheKeyValue, V> keyExpiry() {
+    return new Expiry<CacheKeyValue, V>() {
+      @Override
+      public long expireAfterCreate(CacheKeyValue key, V value, long currentTimeNanos) {
+        long expire = key.expiresAtNanosEpoch;
+        if (expire == CACHE_UNLIMITED) {
+          return Long.MAX_VALUE;
+        }
+        if (expire == NOT_CACHED) {
+          return 0L;
+        }
+        long remaining = expire - currentTimeNanos;
+        return Math.max(0L, remaining);
+      }
+
+      @Override
+      public long expireAfterUpdate(
+          CacheKeyValue key,
+          V value,
+          long currentTimeNanos,
+          @NonNegative long currentDurationNanos) {
+        return expireAfterCreate(key, value, currentTimeNanos);
+      }
+
+      @Override
+      public long expireAfterRead(
+          CacheKeyValue key,
+          V value,
+          long currentTimeNanos,
+          @NonNegative long currentDurationNanos) {
+        return currentDurationNanos;
+      }
+    };
   }
 
   @Override
   public Persist wrap(@Nonnull Persist persist) {
     ObjCacheImpl cache = new ObjCacheImpl(this, persist.config());
-    return new CachingPersistImpl(persist, cache);
+    return AsyncPersist.isNonBlocking(persist)
+        ? new AsyncCachingPersistImpl(persist, cache, loadCoalescer, cache.repositoryId())
+        : new CachingPersistImpl(persist, cache, loadCoalescer, cache.repositoryId());
   }
 
   private int weigher(CacheKeyValue key, CacheKeyValue value) {
@@ -131,8 +234,16 @@ class CaffeineCacheBackend implements CacheBackend {
   @Override
   public Obj get(@Nonnull String repositoryId, @Nonnull ObjId id) {
     CacheKeyValue key = cacheKeyForRead(repositoryId, id);
-    CacheKeyValue value = cache.getIfPresent(key);
+    CacheKeyValue value = cache(repositoryId).getIfPresent(key);
     if (value == null) {
+      if (offHeap != null) {
+        value = offHeap.get(repositoryId, id, enableSoftReferences);
+        if (value != null) {
+          // promote to the on-heap tier
+          cache(repositoryId).put(value, value);
+          return value.getObj();
+        }
+      }
       return null;
     }
     if (value == NON_EXISTING_SENTINEL) {
@@ -163,7 +274,10 @@ class CaffeineCacheBackend implements CacheBackend {
       CacheKeyValue keyValue =
           cacheKeyValue(
               repositoryId, obj.id(), expiresAtNanos, serialized, obj, enableSoftReferences);
-      cache.put(keyValue, keyValue);
+      cache(repositoryId).put(keyValue, keyValue);
+      if (offHeap != null) {
+        offHeap.put(repositoryId, obj.id(), expiresAtNanos, serialized);
+      }
     } catch (ObjTooLargeException e) {
       // this should never happen
       throw new RuntimeException(e);
@@ -184,18 +298,31 @@ class CaffeineCacheBackend implements CacheBackend {
         expiresAt == CACHE_UNLIMITED ? CACHE_UNLIMITED : MICROSECONDS.toNanos(expiresAt);
     CacheKeyValue keyValue = cacheKeyValue(repositoryId, id, expiresAtNanos, enableSoftReferences);
 
-    cache.put(keyValue, NON_EXISTING_SENTINEL);
+    cache(repositoryId).put(keyValue, NON_EXISTING_SENTINEL);
+    if (offHeap != null) {
+      offHeap.remove(repositoryId, id);
+    }
   }
 
   @Override
   public void remove(@Nonnull String repositoryId, @Nonnull ObjId id) {
     CacheKeyValue key = cacheKeyForRead(repositoryId, id);
-    cache.invalidate(key);
+    cache(repositoryId).invalidate(key);
+    if (offHeap != null) {
+      offHeap.remove(repositoryId, id);
+    }
   }
 
   @Override
   public void clear(@Nonnull String repositoryId) {
-    cache.asMap().keySet().removeIf(k -> k.repositoryId.equals(repositoryId));
+    if (repositoryCaches != null) {
+      dropPartition(repositoryId);
+    } else {
+      cache.asMap().keySet().removeIf(k -> k.repositoryId.equals(repositoryId));
+    }
+    if (offHeap != null) {
+      offHeap.clear(repositoryId);
+    }
   }
 
   private ObjId refObjId(String name) {
@@ -209,7 +336,7 @@ class CaffeineCacheBackend implements CacheBackend {
     }
     ObjId id = refObjId(name);
     CacheKeyValue key = cacheKeyForRead(repositoryId, id);
-    cache.invalidate(key);
+    cache(repositoryId).invalidate(key);
   }
 
   @Override
@@ -231,7 +358,7 @@ class CaffeineCacheBackend implements CacheBackend {
             serializeReference(r),
             r,
             enableSoftReferences);
-    cache.put(keyValue, keyValue);
+    cache(repositoryId).put(keyValue, keyValue);
   }
 
   @Override
@@ -246,7 +373,7 @@ class CaffeineCacheBackend implements CacheBackend {
             id,
             config.clockNanos().getAsLong() + refCacheNegativeTtlNanos,
             enableSoftReferences);
-    cache.put(key, NON_EXISTING_SENTINEL);
+    cache(repositoryId).put(key, NON_EXISTING_SENTINEL);
   }
 
   @Override
@@ -255,7 +382,7 @@ class CaffeineCacheBackend implements CacheBackend {
       return null;
     }
     ObjId id = refObjId(name);
-    CacheKeyValue value = cache.getIfPresent(cacheKeyForRead(repositoryId, id));
+    CacheKeyValue value = cache(repositoryId).getIfPresent(cacheKeyForRead(repositoryId, id));
     if (value == null) {
       return null;
     }
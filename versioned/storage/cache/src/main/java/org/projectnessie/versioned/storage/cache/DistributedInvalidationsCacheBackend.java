@@ -16,7 +16,9 @@
 package org.projectnessie.versioned.storage.cache;
 
 import jakarta.annotation.Nonnull;
+import java.util.Optional;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
@@ -26,11 +28,16 @@ import org.projectnessie.versioned.storage.common.persist.Reference;
 final class DistributedInvalidationsCacheBackend implements CacheBackend {
   private final CacheBackend local;
   private final DistributedCacheInvalidation sender;
+  private final ObjLoadCoalescer loadCoalescer;
 
   DistributedInvalidationsCacheBackend(
       DistributedCacheInvalidations distributedCacheInvalidations) {
     this.local = distributedCacheInvalidations.localBackend();
     this.sender = distributedCacheInvalidations.invalidationSender();
+    this.loadCoalescer =
+        local instanceof CaffeineCacheBackend
+            ? ((CaffeineCacheBackend) local).loadCoalescer
+            : new ObjLoadCoalescer(Optional.empty());
     distributedCacheInvalidations
         .invalidationListenerReceiver()
         .applyDistributedCacheInvalidation(
@@ -50,7 +57,9 @@ final class DistributedInvalidationsCacheBackend implements CacheBackend {
   @Override
   public Persist wrap(@Nonnull Persist persist) {
     ObjCacheImpl cache = new ObjCacheImpl(this, persist.config());
-    return new CachingPersistImpl(persist, cache);
+    return AsyncPersist.isNonBlocking(persist)
+        ? new AsyncCachingPersistImpl(persist, cache, loadCoalescer, cache.repositoryId())
+        : new CachingPersistImpl(persist, cache, loadCoalescer, cache.repositoryId());
   }
 
   @Override
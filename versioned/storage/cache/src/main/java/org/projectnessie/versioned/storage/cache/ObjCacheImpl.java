@@ -31,6 +31,10 @@ final class ObjCacheImpl implements ObjCache {
     this.repositoryId = config.repositoryId();
   }
 
+  String repositoryId() {
+    return repositoryId;
+  }
+
   @Override
   public Obj get(@Nonnull ObjId id) {
     return backend.get(repositoryId, id);
@@ -0,0 +1,424 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+
+/**
+ * Merges concurrent backend loads for the same repository ID + object ID into a single backend
+ * read.
+ *
+ * <p>The first caller that misses the cache for an object becomes responsible to load the object,
+ * concurrent callers for the same object wait for that load to finish. This also works for
+ * partially overlapping bulk loads: a caller only loads those objects from the backend, that are
+ * not already being loaded by another caller.
+ *
+ * <p>A load that has been performed with a specific {@link ObjType} does not tell whether an
+ * object with a different type exists, waiting callers fall back to load such objects from the
+ * backend. Callers also fall back to load objects themselves, if the load they were waiting for
+ * failed.
+ */
+final class ObjLoadCoalescer {
+
+  private final ConcurrentHashMap<LoadKey, InFlightLoad> inFlight = new ConcurrentHashMap<>();
+
+  private final AtomicLong backendLoads = new AtomicLong();
+  private final AtomicLong coalescedLoads = new AtomicLong();
+
+  ObjLoadCoalescer(Optional<MeterRegistry> meterRegistry) {
+    meterRegistry.ifPresent(
+        registry -> {
+          FunctionCounter.builder("cache_loads_backend", backendLoads, AtomicLong::get)
+              .description("Number of objects loaded from the backend after a cache miss.")
+              .tags(singletonList(Tag.of("cache", CaffeineCacheBackend.CACHE_NAME)))
+              .register(registry);
+          FunctionCounter.builder("cache_loads_coalesced", coalescedLoads, AtomicLong::get)
+              .description("Number of object loads served by a concurrent load.")
+              .tags(singletonList(Tag.of("cache", CaffeineCacheBackend.CACHE_NAME)))
+              .register(registry);
+        });
+  }
+
+  @FunctionalInterface
+  interface BulkLoader<T extends Obj, E extends Exception> {
+    /**
+     * Loads the objects with the given IDs, the returned array must have the same length as the
+     * given array and contain {@code null} elements for objects that do not exist or for {@code
+     * null} IDs.
+     */
+    T[] load(ObjId[] ids) throws E;
+  }
+
+  @FunctionalInterface
+  interface AsyncBulkLoader<T extends Obj> {
+    /** Non-blocking variant of {@link BulkLoader#load(ObjId[])}. */
+    CompletionStage<T[]> load(ObjId[] ids);
+  }
+
+  @FunctionalInterface
+  interface LoadedCallback<T extends Obj> {
+    /**
+     * Called for every object that has been loaded from the backend, before concurrent callers
+     * waiting for the same object are notified.
+     *
+     * @param obj the loaded object or {@code null}, if the object does not exist
+     */
+    void loaded(ObjId id, T obj);
+  }
+
+  long backendLoads() {
+    return backendLoads.get();
+  }
+
+  long coalescedLoads() {
+    return coalescedLoads.get();
+  }
+
+  /**
+   * Loads the objects with the given IDs, coalescing the loads with other concurrent loads for the
+   * same objects.
+   *
+   * @param ids IDs of the objects to load, may contain {@code null} elements
+   * @param type the requested object type or {@code null} for any type
+   * @return an array with the same length as {@code ids} containing the loaded objects, or {@code
+   *     null} for objects that do not exist or have a different type
+   */
+  <T extends Obj, E extends Exception> T[] load(
+      String repositoryId,
+      ObjId[] ids,
+      ObjType type,
+      Class<T> typeClass,
+      BulkLoader<T, E> loader,
+      LoadedCallback<T> callback)
+      throws E {
+    T[] r = newArray(typeClass, ids.length);
+
+    LoadKey[] keys = new LoadKey[ids.length];
+    InFlightLoad[] loads = new InFlightLoad[ids.length];
+    ObjId[] ownIds = register(repositoryId, ids, type, keys, loads);
+
+    if (ownIds != null) {
+      boolean success = false;
+      try {
+        completeOwned(ownIds, loads, r, loader.load(ownIds), callback);
+        success = true;
+      } finally {
+        releaseOwned(keys, loads, success);
+      }
+    }
+
+    // Waits for the loads performed by concurrent callers
+    ObjId[] fallbackIds = collectWaited(ids, keys, loads, type, typeClass, r);
+    if (fallbackIds != null) {
+      applyFallback(fallbackIds, loader.load(fallbackIds), r, callback);
+    }
+
+    return r;
+  }
+
+  /**
+   * Non-blocking variant of {@link #load(String, ObjId[], ObjType, Class, BulkLoader,
+   * LoadedCallback)}, the returned completion stage completes when the objects loaded by this call
+   * and by concurrent callers are available.
+   */
+  <T extends Obj> CompletionStage<T[]> loadAsync(
+      String repositoryId,
+      ObjId[] ids,
+      ObjType type,
+      Class<T> typeClass,
+      AsyncBulkLoader<T> loader,
+      LoadedCallback<T> callback) {
+    T[] r = newArray(typeClass, ids.length);
+
+    LoadKey[] keys = new LoadKey[ids.length];
+    InFlightLoad[] loads = new InFlightLoad[ids.length];
+    ObjId[] ownIds = register(repositoryId, ids, type, keys, loads);
+
+    List<CompletableFuture<?>> pending = new ArrayList<>();
+    if (ownIds != null) {
+      pending.add(
+          startAsync(loader, ownIds)
+              .handle(
+                  (loaded, failure) -> {
+                    boolean success = false;
+                    try {
+                      if (failure == null) {
+                        completeOwned(ownIds, loads, r, loaded, callback);
+                        success = true;
+                      }
+                    } finally {
+                      releaseOwned(keys, loads, success);
+                    }
+                    if (failure != null) {
+                      throw failure instanceof CompletionException
+                          ? (CompletionException) failure
+                          : new CompletionException(failure);
+                    }
+                    return null;
+                  }));
+    }
+    for (int i = 0; i < ids.length; i++) {
+      if (loads[i] != null && keys[i] == null) {
+        // Loads of concurrent callers never complete exceptionally
+        pending.add(loads[i].result);
+      }
+    }
+
+    return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+        .thenCompose(
+            x -> {
+              // All awaited loads are complete, collectWaited() does not block
+              ObjId[] fallbackIds = collectWaited(ids, keys, loads, type, typeClass, r);
+              if (fallbackIds == null) {
+                return completedFuture(r);
+              }
+              return startAsync(loader, fallbackIds)
+                  .thenApply(
+                      fallback -> {
+                        applyFallback(fallbackIds, fallback, r, callback);
+                        return r;
+                      });
+            });
+  }
+
+  /**
+   * Registers in-flight loads for the given IDs. Populates {@code keys} for the IDs that have to be
+   * loaded by the caller and {@code loads} for all requested IDs.
+   *
+   * @return the IDs to be loaded by the caller or {@code null}, if all objects are being loaded by
+   *     concurrent callers
+   */
+  private ObjId[] register(
+      String repositoryId, ObjId[] ids, ObjType type, LoadKey[] keys, InFlightLoad[] loads) {
+    ObjId[] ownIds = null;
+    for (int i = 0; i < ids.length; i++) {
+      ObjId id = ids[i];
+      if (id == null) {
+        continue;
+      }
+      LoadKey key = new LoadKey(repositoryId, id);
+      InFlightLoad load = new InFlightLoad(type);
+      InFlightLoad existing = inFlight.putIfAbsent(key, load);
+      if (existing == null) {
+        if (ownIds == null) {
+          ownIds = new ObjId[ids.length];
+        }
+        ownIds[i] = id;
+        keys[i] = key;
+        loads[i] = load;
+      } else {
+        loads[i] = existing;
+      }
+    }
+    return ownIds;
+  }
+
+  private <T extends Obj> void completeOwned(
+      ObjId[] ownIds, InFlightLoad[] loads, T[] r, T[] loaded, LoadedCallback<T> callback) {
+    for (int i = 0; i < loaded.length; i++) {
+      ObjId id = ownIds[i];
+      if (id != null) {
+        backendLoads.incrementAndGet();
+        T o = loaded[i];
+        callback.loaded(id, o);
+        r[i] = o;
+        loads[i].complete(new LoadResult(o));
+      }
+    }
+  }
+
+  private void releaseOwned(LoadKey[] keys, InFlightLoad[] loads, boolean success) {
+    for (int i = 0; i < keys.length; i++) {
+      LoadKey key = keys[i];
+      if (key != null) {
+        InFlightLoad load = loads[i];
+        if (!success) {
+          load.complete(LoadResult.FAILED);
+        }
+        inFlight.remove(key, load);
+      }
+    }
+  }
+
+  /**
+   * Collects the results of the loads performed by concurrent callers, waits for those loads, if
+   * necessary.
+   *
+   * @return the IDs that have to be loaded by the caller or {@code null}
+   */
+  private <T extends Obj> ObjId[] collectWaited(
+      ObjId[] ids,
+      LoadKey[] keys,
+      InFlightLoad[] loads,
+      ObjType type,
+      Class<T> typeClass,
+      T[] r) {
+    ObjId[] fallbackIds = null;
+    for (int i = 0; i < ids.length; i++) {
+      InFlightLoad load = loads[i];
+      if (load == null || keys[i] != null) {
+        // not requested or loaded by this call
+        continue;
+      }
+      LoadResult result = load.await();
+      if (result == LoadResult.FAILED) {
+        fallbackIds = addFallback(fallbackIds, ids, i);
+        continue;
+      }
+      Obj o = result.obj;
+      if (o != null) {
+        if ((type == null || type.equals(o.type())) && typeClass.isInstance(o)) {
+          r[i] = typeClass.cast(o);
+        }
+      } else if (load.type != null && !load.type.equals(type)) {
+        // Object of the type requested by the other load does not exist, but that doesn't tell
+        // whether an object with the type requested by this call exists.
+        fallbackIds = addFallback(fallbackIds, ids, i);
+        continue;
+      }
+      coalescedLoads.incrementAndGet();
+    }
+    return fallbackIds;
+  }
+
+  private <T extends Obj> void applyFallback(
+      ObjId[] fallbackIds, T[] fallback, T[] r, LoadedCallback<T> callback) {
+    for (int i = 0; i < fallback.length; i++) {
+      ObjId id = fallbackIds[i];
+      if (id != null) {
+        backendLoads.incrementAndGet();
+        T o = fallback[i];
+        callback.loaded(id, o);
+        r[i] = o;
+      }
+    }
+  }
+
+  private static <T extends Obj> CompletableFuture<T[]> startAsync(
+      AsyncBulkLoader<T> loader, ObjId[] ids) {
+    try {
+      return loader.load(ids).toCompletableFuture();
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private static ObjId[] addFallback(ObjId[] fallbackIds, ObjId[] ids, int i) {
+    if (fallbackIds == null) {
+      fallbackIds = new ObjId[ids.length];
+    }
+    fallbackIds[i] = ids[i];
+    return fallbackIds;
+  }
+
+  private static <T> T[] newArray(Class<T> typeClass, int length) {
+    @SuppressWarnings("unchecked")
+    T[] r = (T[]) Array.newInstance(typeClass, length);
+    return r;
+  }
+
+  private static final class LoadResult {
+    static final LoadResult FAILED = new LoadResult(null);
+
+    final Obj obj;
+
+    LoadResult(Obj obj) {
+      this.obj = obj;
+    }
+  }
+
+  private static final class InFlightLoad {
+    final ObjType type;
+    final CompletableFuture<LoadResult> result = new CompletableFuture<>();
+
+    InFlightLoad(ObjType type) {
+      this.type = type;
+    }
+
+    void complete(LoadResult loadResult) {
+      result.complete(loadResult);
+    }
+
+    LoadResult await() {
+      boolean interrupted = false;
+      try {
+        while (true) {
+          try {
+            return result.get();
+          } catch (InterruptedException e) {
+            interrupted = true;
+          } catch (ExecutionException e) {
+            return LoadResult.FAILED;
+          }
+        }
+      } finally {
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+  }
+
+  private static final class LoadKey {
+    final String repositoryId;
+    final ObjId id;
+
+    LoadKey(String repositoryId, ObjId id) {
+      this.repositoryId = repositoryId;
+      this.id = id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof LoadKey)) {
+        return false;
+      }
+      LoadKey loadKey = (LoadKey) o;
+      return repositoryId.equals(loadKey.repositoryId) && id.equals(loadKey.id);
+    }
+
+    @Override
+    public int hashCode() {
+      return repositoryId.hashCode() * 31 + id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return "{" + repositoryId + ", " + id + '}';
+    }
+  }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static java.util.Collections.singletonList;
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.cacheKeyForRead;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.CacheKeyValue;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/**
+ * Second level cache tier that keeps the serialized representation of objects in direct, off-heap
+ * memory, used "behind" the on-heap {@link CaffeineCacheBackend}.
+ *
+ * <p>Off-heap memory is managed as fixed size blocks, carved out of lazily allocated direct memory
+ * slabs. Each cached object occupies as many blocks as needed for its serialized representation,
+ * so there is no fragmentation. The on-heap footprint of an entry is only its key and the indexes
+ * of the used blocks. Eviction and expiration are implemented by a Caffeine cache that is weighed
+ * by the number of off-heap bytes used by each entry, blocks are returned to the free-list when an
+ * entry gets removed from that cache.
+ *
+ * <p>The keys of the cached entries are also tracked per repository, so that clearing a repository
+ * does not need to scan the keys of all repositories.
+ */
+final class OffHeapCacheTier {
+
+  public static final String CACHE_NAME = "nessie-objects-offheap";
+
+  static final int BLOCK_SIZE = 1024;
+  static final int SLAB_SIZE = 64 * 1024 * 1024;
+  static final int BLOCKS_PER_SLAB = SLAB_SIZE / BLOCK_SIZE;
+
+  /** Objects that would occupy more than this fraction of the tier's capacity are not cached. */
+  static final int MAX_ENTRY_FRACTION = 16;
+
+  final Cache<CacheKeyValue, OffHeapEntry> cache;
+
+  /**
+   * IDs of the cached objects per repository. Updated while holding Caffeine's lock for the cache
+   * key, by {@link #put(String, ObjId, long, byte[])}, {@link #remove(String, ObjId)} and the
+   * eviction listener.
+   */
+  private final Map<String, Set<ObjId>> repositoryObjIds = new ConcurrentHashMap<>();
+
+  private final long capacityMb;
+  private final int maxBlocks;
+  private final ByteBuffer[] slabs;
+
+  // Free-list management, guarded by 'this'
+  private int nextUnusedBlock;
+  private int[] freeBlocks = new int[1024];
+  private int freeBlocksCount;
+
+  private final AtomicLong usedBlocks = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+
+  OffHeapCacheTier(CacheConfig config, long capacityMb) {
+    this.capacityMb = capacityMb;
+    long blocks = capacityMb * 1024L * 1024L / BLOCK_SIZE;
+    this.maxBlocks = (int) Math.min(blocks, Integer.MAX_VALUE - BLOCKS_PER_SLAB);
+    this.slabs = new ByteBuffer[(maxBlocks + BLOCKS_PER_SLAB - 1) / BLOCKS_PER_SLAB];
+
+    // Keep enough headroom in the block pool for the largest possible entry, because Caffeine
+    // only evicts after the maximum weight has been exceeded.
+    long maximumWeight = (long) (maxBlocks - maxBlocks / MAX_ENTRY_FRACTION) * BLOCK_SIZE;
+
+    Caffeine<CacheKeyValue, OffHeapEntry> cacheBuilder =
+        Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher((CacheKeyValue k, OffHeapEntry v) -> v.blocks.length * BLOCK_SIZE)
+            .expireAfter(CaffeineCacheBackend.<OffHeapEntry>keyExpiry())
+            // Run cache maintenance and removal notifications synchronously, so that blocks of
+            // evicted entries are immediately available for new entries.
+            .executor(Runnable::run)
+            .evictionListener((CacheKeyValue k, OffHeapEntry v, RemovalCause cause) -> untrack(k))
+            .removalListener((k, v, cause) -> release(v))
+            .ticker(config.clockNanos()::getAsLong);
+    config
+        .meterRegistry()
+        .ifPresent(
+            meterRegistry -> {
+              cacheBuilder.recordStats(() -> new CaffeineStatsCounter(meterRegistry, CACHE_NAME));
+              meterRegistry.gauge(
+                  "cache_capacity_mb",
+                  singletonList(Tag.of("cache", CACHE_NAME)),
+                  "",
+                  x -> this.capacityMb);
+              meterRegistry.gauge(
+                  "cache_offheap_used_bytes",
+                  singletonList(Tag.of("cache", CACHE_NAME)),
+                  "",
+                  x -> (double) usedBlocks.get() * BLOCK_SIZE);
+              meterRegistry.gauge(
+                  "cache_offheap_rejected",
+                  singletonList(Tag.of("cache", CACHE_NAME)),
+                  "",
+                  x -> rejected.get());
+            });
+
+    this.cache = cacheBuilder.build();
+  }
+
+  /**
+   * Returns the cached, serialized object as a {@link CacheKeyValue} suitable to be put into the
+   * on-heap cache, or {@code null} if this tier does not contain the object.
+   */
+  CacheKeyValue get(String repositoryId, ObjId id, boolean enableSoftReferences) {
+    OffHeapEntry entry = cache.getIfPresent(cacheKeyForRead(repositoryId, id));
+    if (entry == null) {
+      return null;
+    }
+    byte[] serialized = entry.read();
+    if (serialized == null) {
+      // concurrently evicted
+      return null;
+    }
+    return new CacheKeyValue(
+        repositoryId, id, entry.expiresAtNanosEpoch, serialized, null, enableSoftReferences);
+  }
+
+  void put(String repositoryId, ObjId id, long expiresAtNanosEpoch, byte[] serialized) {
+    int numBlocks = Math.max(1, (serialized.length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    if (numBlocks > maxBlocks / MAX_ENTRY_FRACTION) {
+      rejected.incrementAndGet();
+      return;
+    }
+
+    int[] blocks = allocate(numBlocks);
+    if (blocks == null) {
+      // Let Caffeine evict entries to make room, then try again.
+      cache.cleanUp();
+      blocks = allocate(numBlocks);
+      if (blocks == null) {
+        rejected.incrementAndGet();
+        return;
+      }
+    }
+
+    OffHeapEntry entry = new OffHeapEntry(expiresAtNanosEpoch, blocks, serialized.length);
+    entry.write(serialized);
+
+    CacheKeyValue key = new CacheKeyValue(repositoryId, id, expiresAtNanosEpoch, false);
+    cache
+        .asMap()
+        .compute(
+            key,
+            (k, existing) -> {
+              track(k);
+              return entry;
+            });
+  }
+
+  void remove(String repositoryId, ObjId id) {
+    cache
+        .asMap()
+        .computeIfPresent(
+            cacheKeyForRead(repositoryId, id),
+            (k, existing) -> {
+              untrack(k);
+              return null;
+            });
+  }
+
+  void clear(String repositoryId) {
+    Set<ObjId> ids = repositoryObjIds.remove(repositoryId);
+    if (ids != null) {
+      for (ObjId id : ids) {
+        cache.invalidate(cacheKeyForRead(repositoryId, id));
+      }
+    }
+  }
+
+  private void track(CacheKeyValue key) {
+    repositoryObjIds.compute(
+        key.repositoryId,
+        (repo, ids) -> {
+          if (ids == null) {
+            ids = ConcurrentHashMap.newKeySet();
+          }
+          ids.add(key.id);
+          return ids;
+        });
+  }
+
+  private void untrack(CacheKeyValue key) {
+    repositoryObjIds.computeIfPresent(
+        key.repositoryId,
+        (repo, ids) -> {
+          ids.remove(key.id);
+          return ids.isEmpty() ? null : ids;
+        });
+  }
+
+  long usedBytes() {
+    return usedBlocks.get() * BLOCK_SIZE;
+  }
+
+  long rejectedCount() {
+    return rejected.get();
+  }
+
+  private synchronized int[] allocate(int numBlocks) {
+    int available = freeBlocksCount + (maxBlocks - nextUnusedBlock);
+    if (available < numBlocks) {
+      return null;
+    }
+
+    int[] blocks = new int[numBlocks];
+    int i = 0;
+    for (; i < numBlocks && freeBlocksCount > 0; i++) {
+      blocks[i] = freeBlocks[--freeBlocksCount];
+    }
+    for (; i < numBlocks; i++) {
+      int block = nextUnusedBlock++;
+      int slab = block / BLOCKS_PER_SLAB;
+      if (slabs[slab] == null) {
+        int slabBlocks = Math.min(BLOCKS_PER_SLAB, maxBlocks - slab * BLOCKS_PER_SLAB);
+        slabs[slab] = ByteBuffer.allocateDirect(slabBlocks * BLOCK_SIZE);
+      }
+      blocks[i] = block;
+    }
+
+    usedBlocks.addAndGet(numBlocks);
+    return blocks;
+  }
+
+  private synchronized void free(int[] blocks) {
+    int required = freeBlocksCount + blocks.length;
+    if (required > freeBlocks.length) {
+      freeBlocks = Arrays.copyOf(freeBlocks, Math.max(required, freeBlocks.length * 2));
+    }
+    System.arraycopy(blocks, 0, freeBlocks, freeBlocksCount, blocks.length);
+    freeBlocksCount = required;
+    usedBlocks.addAndGet(-blocks.length);
+  }
+
+  private void release(OffHeapEntry entry) {
+    if (entry != null) {
+      int[] blocks = entry.release();
+      if (blocks != null) {
+        free(blocks);
+      }
+    }
+  }
+
+  private ByteBuffer blockBuffer(int block) {
+    ByteBuffer buffer = slabs[block / BLOCKS_PER_SLAB].duplicate();
+    buffer.position((block % BLOCKS_PER_SLAB) * BLOCK_SIZE);
+    return buffer;
+  }
+
+  /** On-heap handle of an off-heap cache entry. */
+  final class OffHeapEntry {
+    // Revisit this field before 2262-04-11T23:47:16.854Z (64-bit signed long overflow) ;) ;)
+    final long expiresAtNanosEpoch;
+    final int[] blocks;
+    final int length;
+
+    // guarded by 'this'
+    private boolean released;
+
+    OffHeapEntry(long expiresAtNanosEpoch, int[] blocks, int length) {
+      this.expiresAtNanosEpoch = expiresAtNanosEpoch;
+      this.blocks = blocks;
+      this.length = length;
+    }
+
+    void write(byte[] serialized) {
+      for (int i = 0, off = 0; off < length; i++, off += BLOCK_SIZE) {
+        blockBuffer(blocks[i]).put(serialized, off, Math.min(BLOCK_SIZE, length - off));
+      }
+    }
+
+    synchronized byte[] read() {
+      if (released) {
+        return null;
+      }
+      byte[] serialized = new byte[length];
+      for (int i = 0, off = 0; off < length; i++, off += BLOCK_SIZE) {
+        blockBuffer(blocks[i]).get(serialized, off, Math.min(BLOCK_SIZE, length - off));
+      }
+      return serialized;
+    }
+
+    /**
+     * Marks this entry as released, returns the blocks to be returned to the free-list or {@code
+     * null}, if this entry has already been released.
+     */
+    synchronized int[] release() {
+      if (released) {
+        return null;
+      }
+      released = true;
+      return blocks;
+    }
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.projectnessie.versioned.storage.cache;
 
+import static org.projectnessie.versioned.storage.cache.CacheConfig.INVALID_OFF_HEAP_CAPACITY;
 import static org.projectnessie.versioned.storage.cache.CacheConfig.INVALID_REFERENCE_NEGATIVE_TTL;
 import static org.projectnessie.versioned.storage.cache.CacheConfig.INVALID_REFERENCE_TTL;
 
@@ -72,6 +73,18 @@ public class TestCacheConfig {
         .withMessage(INVALID_REFERENCE_NEGATIVE_TTL);
   }
 
+  @Test
+  public void offHeapCapacity() {
+    soft.assertThatCode(() -> defaultBuilder().offHeapCapacityMb(1).build())
+        .doesNotThrowAnyException();
+    soft.assertThatIllegalStateException()
+        .isThrownBy(() -> defaultBuilder().offHeapCapacityMb(0).build())
+        .withMessage(INVALID_OFF_HEAP_CAPACITY);
+    soft.assertThatIllegalStateException()
+        .isThrownBy(() -> defaultBuilder().offHeapCapacityMb(-1).build())
+        .withMessage(INVALID_OFF_HEAP_CAPACITY);
+  }
+
   private static CacheConfig.Builder defaultBuilder() {
     return CacheConfig.builder().capacityMb(1);
   }
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.commontests.AbstractPersistTests;
 import org.projectnessie.versioned.storage.testextension.NessiePersist;
@@ -56,5 +57,29 @@ public class TestCachingInmemoryPersist extends AbstractPersistTests {
       persist.fetchObj(obj.id());
       soft.assertThat(persist.getImmediate(obj.id())).isEqualTo(obj);
     }
+
+    @Test
+    public void withoutCacheAdmission() throws Exception {
+      Persist bulk = persist.withoutCacheAdmission();
+      soft.assertThat(bulk).isNotSameAs(persist);
+      soft.assertThat(bulk.isCaching()).isTrue();
+      soft.assertThat(bulk.withoutCacheAdmission()).isSameAs(bulk);
+
+      Obj obj =
+          contentValue(randomObjId(), 420L, randomContentId(), 1, ByteString.copyFromUtf8("hello"));
+      // 'upsertObj' removes the object from the cache
+      persist.upsertObj(obj);
+      soft.assertThat(persist.getImmediate(obj.id())).isNull();
+
+      soft.assertThat(bulk.fetchObj(obj.id())).isEqualTo(obj);
+      soft.assertThat(bulk.fetchObjsIfExist(new ObjId[] {obj.id(), randomObjId()}))
+          .containsExactly(obj, null);
+      soft.assertThat(persist.getImmediate(obj.id())).isNull();
+
+      // cache hits are served to bulk operations
+      persist.fetchObj(obj.id());
+      soft.assertThat(persist.getImmediate(obj.id())).isEqualTo(obj);
+      soft.assertThat(bulk.getImmediate(obj.id())).isEqualTo(obj);
+    }
   }
 }
@@ -0,0 +1,360 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.objtypes.StandardObjType;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestObjLoadCoalescer {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  private ExecutorService executor;
+
+  private final Obj obj1 = contentValue("cid1", 42, ByteString.copyFromUtf8("1"));
+  private final Obj obj2 = contentValue("cid2", 42, ByteString.copyFromUtf8("2"));
+  private final Obj obj3 = contentValue("cid3", 42, ByteString.copyFromUtf8("3"));
+  private final Map<ObjId, Obj> objs = Map.of(obj1.id(), obj1, obj2.id(), obj2, obj3.id(), obj3);
+
+  @BeforeEach
+  public void setup() {
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void overlappingBulkLoads() throws Exception {
+    ObjLoadCoalescer coalescer = new ObjLoadCoalescer(Optional.empty());
+
+    List<List<ObjId>> backendCalls = new CopyOnWriteArrayList<>();
+    Map<ObjId, Obj> loaded = new ConcurrentHashMap<>();
+    CountDownLatch firstLoadStarted = new CountDownLatch(1);
+    CountDownLatch secondLoadStarted = new CountDownLatch(1);
+
+    Future<Obj[]> first =
+        executor.submit(
+            () ->
+                coalescer.load(
+                    "repo",
+                    new ObjId[] {obj1.id(), obj2.id()},
+                    null,
+                    Obj.class,
+                    ids -> {
+                      firstLoadStarted.countDown();
+                      secondLoadStarted.await(30, SECONDS);
+                      return backendLoad(backendCalls, ids);
+                    },
+                    loaded::put));
+
+    firstLoadStarted.await(30, SECONDS);
+
+    Future<Obj[]> second =
+        executor.submit(
+            () ->
+                coalescer.load(
+                    "repo",
+                    new ObjId[] {obj2.id(), obj3.id()},
+                    null,
+                    Obj.class,
+                    ids -> {
+                      secondLoadStarted.countDown();
+                      return backendLoad(backendCalls, ids);
+                    },
+                    loaded::put));
+
+    soft.assertThat(first.get(30, SECONDS)).containsExactly(obj1, obj2);
+    soft.assertThat(second.get(30, SECONDS)).containsExactly(obj2, obj3);
+
+    soft.assertThat(backendCalls)
+        .containsExactlyInAnyOrder(
+            Arrays.asList(obj1.id(), obj2.id()), Arrays.asList(null, obj3.id()));
+    soft.assertThat(loaded).containsOnlyKeys(obj1.id(), obj2.id(), obj3.id());
+    soft.assertThat(coalescer.backendLoads()).isEqualTo(3L);
+    soft.assertThat(coalescer.coalescedLoads()).isEqualTo(1L);
+  }
+
+  @Test
+  public void asyncLoads() throws Exception {
+    ObjLoadCoalescer coalescer = new ObjLoadCoalescer(Optional.empty());
+
+    List<List<ObjId>> backendCalls = new CopyOnWriteArrayList<>();
+    Map<ObjId, Obj> loaded = new ConcurrentHashMap<>();
+    CompletableFuture<Obj[]> firstBackendLoad = new CompletableFuture<>();
+    CountDownLatch secondLoadStarted = new CountDownLatch(1);
+
+    CompletionStage<Obj[]> first =
+        coalescer.loadAsync(
+            "repo",
+            new ObjId[] {obj1.id(), obj2.id()},
+            null,
+            Obj.class,
+            ids -> {
+              backendCalls.add(Arrays.asList(ids));
+              return firstBackendLoad;
+            },
+            loaded::put);
+
+    // Synchronous load waits for the asynchronous load
+    Future<Obj[]> second =
+        executor.submit(
+            () ->
+                coalescer.load(
+                    "repo",
+                    new ObjId[] {obj2.id(), obj3.id()},
+                    null,
+                    Obj.class,
+                    ids -> {
+                      secondLoadStarted.countDown();
+                      return backendLoad(backendCalls, ids);
+                    },
+                    loaded::put));
+    secondLoadStarted.await(30, SECONDS);
+
+    // Asynchronous load is served by the pending asynchronous load
+    CompletionStage<Obj[]> third =
+        coalescer.loadAsync(
+            "repo",
+            new ObjId[] {obj1.id()},
+            null,
+            Obj.class,
+            ids -> completedFuture(backendLoad(backendCalls, ids)),
+            loaded::put);
+
+    soft.assertThat(first.toCompletableFuture()).isNotDone();
+    soft.assertThat(third.toCompletableFuture()).isNotDone();
+
+    firstBackendLoad.complete(new Obj[] {obj1, obj2});
+
+    soft.assertThat(first.toCompletableFuture().get(30, SECONDS)).containsExactly(obj1, obj2);
+    soft.assertThat(second.get(30, SECONDS)).containsExactly(obj2, obj3);
+    soft.assertThat(third.toCompletableFuture().get(30, SECONDS)).containsExactly(obj1);
+
+    soft.assertThat(backendCalls)
+        .containsExactlyInAnyOrder(
+            Arrays.asList(obj1.id(), obj2.id()), Arrays.asList(null, obj3.id()));
+    soft.assertThat(loaded).containsOnlyKeys(obj1.id(), obj2.id(), obj3.id());
+    soft.assertThat(coalescer.backendLoads()).isEqualTo(3L);
+    soft.assertThat(coalescer.coalescedLoads()).isEqualTo(2L);
+  }
+
+  @Test
+  public void asyncFallbackOnFailure() throws Exception {
+    ObjLoadCoalescer coalescer = new ObjLoadCoalescer(Optional.empty());
+
+    List<List<ObjId>> backendCalls = new CopyOnWriteArrayList<>();
+    CompletableFuture<Obj[]> firstBackendLoad = new CompletableFuture<>();
+
+    CompletionStage<Obj[]> first =
+        coalescer.loadAsync(
+            "repo",
+            new ObjId[] {obj1.id()},
+            null,
+            Obj.class,
+            ids -> firstBackendLoad,
+            (id, o) -> {});
+    CompletionStage<Obj[]> second =
+        coalescer.loadAsync(
+            "repo",
+            new ObjId[] {obj1.id(), obj2.id()},
+            null,
+            Obj.class,
+            ids -> completedFuture(backendLoad(backendCalls, ids)),
+            (id, o) -> {});
+
+    firstBackendLoad.completeExceptionally(new IllegalStateException("backend failure"));
+
+    soft.assertThatThrownBy(() -> first.toCompletableFuture().get(30, SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+    soft.assertThat(second.toCompletableFuture().get(30, SECONDS)).containsExactly(obj1, obj2);
+    soft.assertThat(backendCalls)
+        .containsExactly(Arrays.asList(null, obj2.id()), Arrays.asList(obj1.id(), null));
+    soft.assertThat(coalescer.coalescedLoads()).isEqualTo(0L);
+  }
+
+  @Test
+  public void otherRepository() throws Exception {
+    ObjLoadCoalescer coalescer = new ObjLoadCoalescer(Optional.empty());
+
+    List<List<ObjId>> backendCalls = new CopyOnWriteArrayList<>();
+    CountDownLatch firstLoadStarted = new CountDownLatch(1);
+    CountDownLatch secondLoadDone = new CountDownLatch(1);
+
+    Future<Obj[]> first =
+        executor.submit(
+            () ->
+                coalescer.load(
+                    "repo1",
+                    new ObjId[] {obj1.id()},
+                    null,
+                    Obj.class,
+                    ids -> {
+                      firstLoadStarted.countDown();
+                      secondLoadDone.await(30, SECONDS);
+                      return backendLoad(backendCalls, ids);
+                    },
+                    (id, o) -> {}));
+
+    firstLoadStarted.await(30, SECONDS);
+
+    soft.assertThat(
+            coalescer.load(
+                "repo2",
+                new ObjId[] {obj1.id()},
+                null,
+                Obj.class,
+                ids -> backendLoad(backendCalls, ids),
+                (id, o) -> {}))
+        .containsExactly(obj1);
+    secondLoadDone.countDown();
+
+    soft.assertThat(first.get(30, SECONDS)).containsExactly(obj1);
+    soft.assertThat(backendCalls).hasSize(2);
+    soft.assertThat(coalescer.coalescedLoads()).isEqualTo(0L);
+  }
+
+  @Test
+  public void fallbackOnFailure() throws Exception {
+    ObjLoadCoalescer coalescer = new ObjLoadCoalescer(Optional.empty());
+
+    List<List<ObjId>> backendCalls = new CopyOnWriteArrayList<>();
+    CountDownLatch firstLoadStarted = new CountDownLatch(1);
+    CountDownLatch secondLoadStarted = new CountDownLatch(1);
+
+    Future<Obj[]> first =
+        executor.submit(
+            () ->
+                coalescer.load(
+                    "repo",
+                    new ObjId[] {obj1.id(), obj2.id()},
+                    null,
+                    Obj.class,
+                    ids -> {
+                      firstLoadStarted.countDown();
+                      secondLoadStarted.await(30, SECONDS);
+                      throw new IllegalStateException("backend failure");
+                    },
+                    (id, o) -> {}));
+
+    firstLoadStarted.await(30, SECONDS);
+
+    Future<Obj[]> second =
+        executor.submit(
+            () ->
+                coalescer.load(
+                    "repo",
+                    new ObjId[] {obj2.id(), obj3.id()},
+                    null,
+                    Obj.class,
+                    ids -> {
+                      secondLoadStarted.countDown();
+                      return backendLoad(backendCalls, ids);
+                    },
+                    (id, o) -> {}));
+
+    soft.assertThatThrownBy(() -> first.get(30, SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+    soft.assertThat(second.get(30, SECONDS)).containsExactly(obj2, obj3);
+    soft.assertThat(backendCalls)
+        .containsExactly(Arrays.asList(null, obj3.id()), Arrays.asList(obj2.id(), null));
+    soft.assertThat(coalescer.coalescedLoads()).isEqualTo(0L);
+  }
+
+  @Test
+  public void typedNotFoundFallsBack() throws Exception {
+    ObjLoadCoalescer coalescer = new ObjLoadCoalescer(Optional.empty());
+
+    List<List<ObjId>> backendCalls = new CopyOnWriteArrayList<>();
+    CountDownLatch firstLoadStarted = new CountDownLatch(1);
+    CountDownLatch secondLoadStarted = new CountDownLatch(1);
+
+    // 'obj1' is not a commit, the typed load yields "not found"
+    Future<Obj[]> first =
+        executor.submit(
+            () ->
+                coalescer.load(
+                    "repo",
+                    new ObjId[] {obj1.id()},
+                    StandardObjType.COMMIT,
+                    Obj.class,
+                    ids -> {
+                      firstLoadStarted.countDown();
+                      secondLoadStarted.await(30, SECONDS);
+                      backendCalls.add(Arrays.asList(ids));
+                      return new Obj[ids.length];
+                    },
+                    (id, o) -> {}));
+
+    firstLoadStarted.await(30, SECONDS);
+
+    Future<Obj[]> second =
+        executor.submit(
+            () ->
+                coalescer.load(
+                    "repo",
+                    new ObjId[] {obj1.id(), obj3.id()},
+                    null,
+                    Obj.class,
+                    ids -> {
+                      secondLoadStarted.countDown();
+                      return backendLoad(backendCalls, ids);
+                    },
+                    (id, o) -> {}));
+
+    soft.assertThat(first.get(30, SECONDS)).containsExactly((Obj) null);
+    soft.assertThat(second.get(30, SECONDS)).containsExactly(obj1, obj3);
+    soft.assertThat(backendCalls).hasSize(3);
+  }
+
+  private Obj[] backendLoad(List<List<ObjId>> backendCalls, ObjId[] ids) {
+    backendCalls.add(Arrays.asList(ids));
+    Obj[] r = new Obj[ids.length];
+    for (int i = 0; i < ids.length; i++) {
+      if (ids[i] != null) {
+        r[i] = objs.get(ids[i]);
+      }
+    }
+    return r;
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.cacheKeyForRead;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestOffHeapCacheTier {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void secondLevelLookup(boolean enableSoftReferences) {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(
+            CacheConfig.builder()
+                .capacityMb(8)
+                .offHeapCapacityMb(1)
+                .enableSoftReferences(enableSoftReferences)
+                .build());
+
+    ContentValueObj obj1 = contentValue("cid1", 42, ByteString.copyFromUtf8("value1"));
+    ContentValueObj obj2 = contentValue("cid2", 42, ByteString.copyFrom(new byte[3000]));
+
+    backend.put("repo", obj1);
+    backend.put("repo", obj2);
+
+    soft.assertThat(backend.offHeap.usedBytes()).isEqualTo(4 * OffHeapCacheTier.BLOCK_SIZE);
+
+    // evict from the on-heap tier only
+    backend.cache.invalidateAll();
+    soft.assertThat(backend.cache.asMap()).isEmpty();
+
+    soft.assertThat(backend.get("repo", obj1.id())).isEqualTo(obj1);
+    soft.assertThat(backend.get("repo", obj2.id())).isEqualTo(obj2);
+    soft.assertThat(backend.get("other", obj1.id())).isNull();
+
+    // promoted to the on-heap tier
+    soft.assertThat(backend.cache.asMap())
+        .containsKey(cacheKeyForRead("repo", obj1.id()))
+        .containsKey(cacheKeyForRead("repo", obj2.id()));
+
+    backend.remove("repo", obj1.id());
+    soft.assertThat(backend.get("repo", obj1.id())).isNull();
+    soft.assertThat(backend.offHeap.usedBytes()).isEqualTo(3 * OffHeapCacheTier.BLOCK_SIZE);
+
+    backend.clear("repo");
+    soft.assertThat(backend.get("repo", obj2.id())).isNull();
+    soft.assertThat(backend.offHeap.usedBytes()).isEqualTo(0L);
+  }
+
+  @Test
+  public void clearRepository() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(CacheConfig.builder().capacityMb(8).offHeapCapacityMb(1).build());
+    OffHeapCacheTier offHeap = backend.offHeap;
+
+    ContentValueObj obj1 = contentValue("cid1", 42, ByteString.copyFromUtf8("value1"));
+    ContentValueObj obj2 = contentValue("cid2", 42, ByteString.copyFromUtf8("value2"));
+    backend.put("repo1", obj1);
+    backend.put("repo1", obj2);
+    backend.put("repo2", obj1);
+    // replacing an entry must not drop it from the keys tracked for the repository
+    backend.put("repo1", obj1);
+
+    backend.clear("repo1");
+    soft.assertThat(offHeap.cache.asMap()).containsOnlyKeys(cacheKeyForRead("repo2", obj1.id()));
+    soft.assertThat(offHeap.usedBytes()).isEqualTo(OffHeapCacheTier.BLOCK_SIZE);
+
+    backend.remove("repo2", obj1.id());
+    backend.put("repo2", obj2);
+    backend.clear("repo2");
+    soft.assertThat(offHeap.cache.asMap()).isEmpty();
+    soft.assertThat(offHeap.usedBytes()).isEqualTo(0L);
+  }
+
+  @Test
+  public void negativeCachingRemovesFromOffHeap() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(CacheConfig.builder().capacityMb(8).offHeapCapacityMb(1).build());
+
+    ContentValueObj obj = contentValue("cid", 42, ByteString.copyFromUtf8("value"));
+    backend.put("repo", obj);
+    backend.putNegative("repo", obj.id(), obj.type());
+
+    soft.assertThat(backend.get("repo", obj.id())).isSameAs(CacheBackend.NOT_FOUND_OBJ_SENTINEL);
+    soft.assertThat(backend.offHeap.cache.asMap()).isEmpty();
+    soft.assertThat(backend.offHeap.usedBytes()).isEqualTo(0L);
+  }
+
+  @Test
+  public void evictionAndRejection() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(CacheConfig.builder().capacityMb(8).offHeapCapacityMb(1).build());
+    OffHeapCacheTier offHeap = backend.offHeap;
+
+    // larger than 1/16th of the off-heap capacity
+    ContentValueObj tooLarge = contentValue("large", 42, ByteString.copyFrom(new byte[100_000]));
+    backend.put("repo", tooLarge);
+    soft.assertThat(offHeap.rejectedCount()).isEqualTo(1L);
+    soft.assertThat(offHeap.usedBytes()).isEqualTo(0L);
+
+    // write twice the amount of data that fits into the off-heap tier
+    List<ContentValueObj> objs = new ArrayList<>();
+    for (int i = 0; i < 2 * 1024; i++) {
+      byte[] payload = new byte[900];
+      payload[0] = (byte) i;
+      payload[1] = (byte) (i >> 8);
+      ContentValueObj obj = contentValue("cid" + i, 42, ByteString.copyFrom(payload));
+      objs.add(obj);
+      backend.put("repo", obj);
+    }
+    offHeap.cache.cleanUp();
+
+    soft.assertThat(offHeap.usedBytes()).isLessThanOrEqualTo(1024L * 1024L);
+    soft.assertThat(offHeap.cache.estimatedSize()).isLessThanOrEqualTo(1024L);
+
+    backend.cache.invalidateAll();
+    for (ContentValueObj obj : objs) {
+      ContentValueObj cached = (ContentValueObj) backend.get("repo", obj.id());
+      if (cached != null) {
+        soft.assertThat(cached).isEqualTo(obj);
+      }
+    }
+
+    backend.clear("repo");
+    soft.assertThat(offHeap.usedBytes()).isEqualTo(0L);
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cache;
+
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.CACHE_NAME;
+import static org.projectnessie.versioned.storage.cache.CaffeineCacheBackend.cacheKeyForRead;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestRepositoryCachePartitions {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void partitionedByRepository() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(
+            CacheConfig.builder()
+                .capacityMb(8)
+                .repositoryCapacityMb(1)
+                .meterRegistry(meterRegistry)
+                .build());
+
+    soft.assertThat(backend.cache).isNull();
+
+    ContentValueObj hot = contentValue("hot", 42, ByteString.copyFromUtf8("hot"));
+    backend.put("repo1", hot);
+
+    // fill the partition of another repository way beyond its capacity
+    for (int i = 0; i < 1000; i++) {
+      backend.put("repo2", contentValue("cid" + i, 42, ByteString.copyFrom(new byte[10_000])));
+    }
+    backend.cache("repo2").cleanUp();
+
+    soft.assertThat(
+            backend.cache("repo2").policy().eviction().orElseThrow().weightedSize().orElseThrow())
+        .isLessThanOrEqualTo(1024L * 1024L);
+    soft.assertThat(backend.get("repo1", hot.id())).isEqualTo(hot);
+    soft.assertThat(backend.get("repo2", hot.id())).isNull();
+    soft.assertThat(backend.cache("repo1").asMap())
+        .containsOnlyKeys(cacheKeyForRead("repo1", hot.id()));
+
+    soft.assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("repository", "repo1")
+                .tag("result", "hit")
+                .counter()
+                .count())
+        .isEqualTo(1d);
+    soft.assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("repository", "repo2")
+                .tag("result", "miss")
+                .counter()
+                .count())
+        .isEqualTo(1d);
+
+    backend.clear("repo2");
+    soft.assertThat(backend.cache("repo2").asMap()).isEmpty();
+    soft.assertThat(backend.get("repo1", hot.id())).isEqualTo(hot);
+  }
+
+  @Test
+  public void partitionsShareTotalCapacity() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(
+            CacheConfig.builder().capacityMb(2).repositoryCapacityMb(2).build());
+
+    soft.assertThat(maximum(backend, "repo1")).isEqualTo(2L * 1024L * 1024L);
+    backend.cache("repo2");
+    backend.cache("repo3");
+    backend.cache("repo4");
+    for (String repo : new String[] {"repo1", "repo2", "repo3", "repo4"}) {
+      soft.assertThat(maximum(backend, repo)).isEqualTo(512L * 1024L);
+    }
+
+    backend.clear("repo3");
+    backend.clear("repo4");
+    soft.assertThat(maximum(backend, "repo1")).isEqualTo(1024L * 1024L);
+    soft.assertThat(maximum(backend, "repo2")).isEqualTo(1024L * 1024L);
+  }
+
+  @Test
+  public void clearRemovesPartitionMeters() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(
+            CacheConfig.builder()
+                .capacityMb(8)
+                .repositoryCapacityMb(1)
+                .meterRegistry(meterRegistry)
+                .build());
+
+    backend.cache("repo1");
+    backend.cache("repo2");
+    soft.assertThat(meterRegistry.find("cache.gets").tag("repository", "repo1").meters())
+        .isNotEmpty();
+
+    backend.clear("repo1");
+    soft.assertThat(meterRegistry.find("cache.gets").tag("repository", "repo1").meters())
+        .isEmpty();
+    soft.assertThat(meterRegistry.find("cache.gets").tag("repository", "repo2").meters())
+        .isNotEmpty();
+  }
+
+  private static long maximum(CaffeineCacheBackend backend, String repositoryId) {
+    return backend.cache(repositoryId).policy().eviction().orElseThrow().getMaximum();
+  }
+
+  @Test
+  public void partitionCapacityBoundedByTotalCapacity() {
+    CaffeineCacheBackend backend =
+        new CaffeineCacheBackend(
+            CacheConfig.builder().capacityMb(2).repositoryCapacityMb(16).build());
+
+    soft.assertThat(backend.cache("repo").policy().eviction().orElseThrow().getMaximum())
+        .isEqualTo(2L * 1024L * 1024L);
+  }
+}
@@ -83,6 +83,7 @@ import java.util.stream.Stream;
 import org.agrona.collections.Hashing;
 import org.agrona.collections.Object2IntHashMap;
 import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
+import org.projectnessie.versioned.storage.common.persist.AsyncReadExecutor;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
 
@@ -93,6 +94,7 @@ public final class CassandraBackend implements Backend {
 
   private final Map<String, PreparedStatement> statements = new ConcurrentHashMap<>();
   private final CqlSession session;
+  private final AsyncReadExecutor asyncReadExecutor = new AsyncReadExecutor("cassandra");
 
   public CassandraBackend(CassandraBackendConfig config, boolean closeClient) {
     this.config = config;
@@ -367,8 +369,13 @@ public final class CassandraBackend implements Backend {
     return new CassandraPersistFactory(this);
   }
 
+  AsyncReadExecutor asyncReadExecutor() {
+    return asyncReadExecutor;
+  }
+
   @Override
   public void close() {
+    asyncReadExecutor.close();
     if (closeClient) {
       session.close();
     }
@@ -58,6 +58,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -101,6 +102,12 @@ public class CassandraPersist implements Persist {
     return config;
   }
 
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return backend.asyncReadExecutor().executor(config.asyncReadThreads());
+  }
+
   @Override
   public Reference fetchReference(@Nonnull String name) {
     return fetchReferences(new String[] {name})[0];
@@ -109,11 +109,17 @@ public class CommitObjSerializer extends ObjSerializer<CommitObj> {
     Stripes.Builder b = Stripes.newBuilder();
     obj.referenceIndexStripes().stream()
         .map(
-            s ->
-                Stripe.newBuilder()
-                    .setFirstKey(s.firstKey().rawString())
-                    .setLastKey(s.lastKey().rawString())
-                    .setSegment(s.segment().asBytes()))
+            s -> {
+              Stripe.Builder sb =
+                  Stripe.newBuilder()
+                      .setFirstKey(s.firstKey().rawString())
+                      .setLastKey(s.lastKey().rawString())
+                      .setSegment(s.segment().asBytes());
+              if (s.bloomFilter() != null) {
+                sb.setBloomFilter(s.bloomFilter());
+              }
+              return sb;
+            })
         .forEach(b::addStripes);
     stmt.setByteBuffer(
         COL_COMMIT_REFERENCE_INDEX_STRIPES.name(), b.build().toByteString().asReadOnlyByteBuffer());
@@ -175,7 +181,8 @@ public class CommitObjSerializer extends ObjSerializer<CommitObj> {
                   indexStripe(
                       keyFromString(s.getFirstKey()),
                       keyFromString(s.getLastKey()),
-                      objIdFromByteBuffer(s.getSegment().asReadOnlyByteBuffer())))
+                      objIdFromByteBuffer(s.getSegment().asReadOnlyByteBuffer()),
+                      s.hasBloomFilter() ? s.getBloomFilter() : null))
           .forEach(b::addReferenceIndexStripes);
     } catch (IOException e) {
       throw new RuntimeException(e);
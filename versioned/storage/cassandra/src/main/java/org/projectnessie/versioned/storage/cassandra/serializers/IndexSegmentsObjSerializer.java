@@ -61,11 +61,17 @@ public class IndexSegmentsObjSerializer extends ObjSerializer<IndexSegmentsObj>
     Stripes.Builder b = Stripes.newBuilder();
     obj.stripes().stream()
         .map(
-            s ->
-                Stripe.newBuilder()
-                    .setFirstKey(s.firstKey().rawString())
-                    .setLastKey(s.lastKey().rawString())
-                    .setSegment(s.segment().asBytes()))
+            s -> {
+              Stripe.Builder sb =
+                  Stripe.newBuilder()
+                      .setFirstKey(s.firstKey().rawString())
+                      .setLastKey(s.lastKey().rawString())
+                      .setSegment(s.segment().asBytes());
+              if (s.bloomFilter() != null) {
+                sb.setBloomFilter(s.bloomFilter());
+              }
+              return sb;
+            })
         .forEach(b::addStripes);
     stmt.setByteBuffer(
         COL_SEGMENTS_STRIPES.name(), b.build().toByteString().asReadOnlyByteBuffer());
@@ -83,7 +89,8 @@ public class IndexSegmentsObjSerializer extends ObjSerializer<IndexSegmentsObj>
                       indexStripe(
                           keyFromString(s.getFirstKey()),
                           keyFromString(s.getLastKey()),
-                          objIdFromByteBuffer(s.getSegment().asReadOnlyByteBuffer())))
+                          objIdFromByteBuffer(s.getSegment().asReadOnlyByteBuffer()),
+                          s.hasBloomFilter() ? s.getBloomFilter() : null))
               .collect(Collectors.toList());
       return indexSegments(id, referenced, stripeList);
     } catch (IOException e) {
@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 import org.projectnessie.nessie.testing.containerspec.ContainerSpecHelper;
 import org.projectnessie.versioned.storage.cassandra2.Cassandra2Backend;
 import org.projectnessie.versioned.storage.cassandra2.Cassandra2BackendConfig;
+import org.projectnessie.versioned.storage.cassandra2.ImmutableCassandra2BackendConfig;
 import org.projectnessie.versioned.storage.testextension.BackendTestFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,8 +60,15 @@ public abstract class AbstractCassandraBackendTestFactory implements BackendTest
   public Cassandra2Backend createNewBackend() {
     CqlSession client = buildNewClient();
     maybeCreateKeyspace(client);
-    return new Cassandra2Backend(
-        Cassandra2BackendConfig.builder().client(client).keyspace(KEYSPACE_FOR_TEST).build(), true);
+    ImmutableCassandra2BackendConfig.Builder config =
+        Cassandra2BackendConfig.builder().client(client).keyspace(KEYSPACE_FOR_TEST);
+    return new Cassandra2Backend(configureBackend(config).build(), true);
+  }
+
+  /** Allows subclasses to customize the backend configuration. */
+  protected ImmutableCassandra2BackendConfig.Builder configureBackend(
+      ImmutableCassandra2BackendConfig.Builder builder) {
+    return builder;
   }
 
   public void maybeCreateKeyspace() {
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.cassandra2tests;
+
+import java.time.Duration;
+import org.projectnessie.versioned.storage.cassandra2.ImmutableCassandra2BackendConfig;
+
+/** Cassandra backend using single-partition object reads and speculative reads. */
+public class CassandraSinglePartitionReadsBackendTestFactory extends CassandraBackendTestFactory {
+
+  @Override
+  protected ImmutableCassandra2BackendConfig.Builder configureBackend(
+      ImmutableCassandra2BackendConfig.Builder builder) {
+    return builder
+        .singlePartitionReads(true)
+        .readConcurrency(50)
+        .speculativeReadDelay(Duration.ofMillis(20))
+        .speculativeReadMax(2);
+  }
+}
@@ -23,6 +23,7 @@ import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static java.lang.String.format;
 import static java.util.Map.entry;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.COL_OBJ_ID;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.COL_OBJ_TYPE;
@@ -41,7 +42,6 @@ import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.ERASE_OBJS_SCAN;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.ERASE_REF;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.ERASE_REFS_SCAN;
-import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.MAX_CONCURRENT_BATCH_READS;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.MAX_CONCURRENT_DELETES;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.SELECT_BATCH_SIZE;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.TABLE_OBJS;
@@ -66,6 +66,7 @@ import com.datastax.oss.driver.api.core.servererrors.QueryConsistencyException;
 import jakarta.annotation.Nonnull;
 import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -73,9 +74,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiFunction;
@@ -86,6 +91,7 @@ import java.util.stream.Stream;
 import org.agrona.collections.Hashing;
 import org.agrona.collections.Object2IntHashMap;
 import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
+import org.projectnessie.versioned.storage.common.persist.AsyncReadExecutor;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
 
@@ -96,6 +102,7 @@ public final class Cassandra2Backend implements Backend {
 
   private final Map<String, PreparedStatement> statements = new ConcurrentHashMap<>();
   private final CqlSession session;
+  private final AsyncReadExecutor asyncReadExecutor = new AsyncReadExecutor("cassandra2");
 
   public Cassandra2Backend(Cassandra2BackendConfig config, boolean closeClient) {
     this.config = config;
@@ -103,13 +110,39 @@ public final class Cassandra2Backend implements Backend {
     this.closeClient = closeClient;
   }
 
+  /**
+   * Number of keys per query for bulk reads of objects, {@code 1}, if {@link
+   * Cassandra2Config#singlePartitionReads()} is enabled.
+   */
+  int objReadBatchSize() {
+    return config.singlePartitionReads() ? 1 : SELECT_BATCH_SIZE;
+  }
+
   <K, R> BatchedQuery<K, R> newBatchedQuery(
       Function<List<K>, CompletionStage<AsyncResultSet>> queryBuilder,
       Function<Row, R> rowToResult,
       Function<R, K> idExtractor,
       int results,
       Class<? extends R> elementType) {
-    return new BatchedQueryImpl<>(queryBuilder, rowToResult, idExtractor, results, elementType);
+    return newBatchedQuery(
+        queryBuilder, rowToResult, idExtractor, results, elementType, SELECT_BATCH_SIZE);
+  }
+
+  <K, R> BatchedQuery<K, R> newBatchedQuery(
+      Function<List<K>, CompletionStage<AsyncResultSet>> queryBuilder,
+      Function<Row, R> rowToResult,
+      Function<R, K> idExtractor,
+      int results,
+      Class<? extends R> elementType,
+      int batchSize) {
+    return new BatchedQueryImpl<>(
+        queryBuilder,
+        rowToResult,
+        idExtractor,
+        results,
+        elementType,
+        batchSize,
+        config.readConcurrency());
   }
 
   interface BatchedQuery<K, R> extends AutoCloseable {
@@ -128,7 +161,8 @@ public final class Cassandra2Backend implements Backend {
     private final long id;
     private final Function<List<K>, CompletionStage<AsyncResultSet>> queryBuilder;
     private final List<K> keys = new ArrayList<>();
-    private final Semaphore permits = new Semaphore(MAX_CONCURRENT_BATCH_READS);
+    private final int batchSize;
+    private final Semaphore permits;
     private final Function<Row, R> rowToResult;
     private final Function<R, K> idExtractor;
     private final Object2IntHashMap<K> idToIndex;
@@ -145,7 +179,11 @@ public final class Cassandra2Backend implements Backend {
         Function<Row, R> rowToResult,
         Function<R, K> idExtractor,
         int results,
-        Class<? extends R> elementType) {
+        Class<? extends R> elementType,
+        int batchSize,
+        int concurrency) {
+      this.batchSize = batchSize;
+      this.permits = new Semaphore(concurrency);
       this.idToIndex = new Object2IntHashMap<>(results * 2, Hashing.DEFAULT_LOAD_FACTOR, -1);
       this.result = new AtomicReferenceArray<>(results);
       this.elementType = elementType;
@@ -164,7 +202,7 @@ public final class Cassandra2Backend implements Backend {
     public void add(K key, int index) {
       idToIndex.put(key, index);
       keys.add(key);
-      if (keys.size() == SELECT_BATCH_SIZE) {
+      if (keys.size() == batchSize) {
         flush();
       }
     }
@@ -303,6 +341,169 @@ public final class Cassandra2Backend implements Backend {
     }
   }
 
+  /**
+   * Non-blocking variant of {@link BatchedQuery}, executes the queries for batches of up to {@value
+   * Cassandra2Constants#SELECT_BATCH_SIZE} keys, with at most {@link
+   * Cassandra2Config#readConcurrency()} concurrent queries.
+   *
+   * @param keys keys to query, {@code null} elements are legal
+   * @return completion stage yielding an array of the same length as {@code keys}
+   */
+  <K, R> CompletionStage<R[]> batchedQueryAsync(
+      K[] keys,
+      Function<List<K>, CompletionStage<AsyncResultSet>> queryBuilder,
+      Function<Row, R> rowToResult,
+      Function<R, K> idExtractor,
+      Class<? extends R> elementType) {
+    return batchedQueryAsync(
+        keys, queryBuilder, rowToResult, idExtractor, elementType, SELECT_BATCH_SIZE);
+  }
+
+  /** Variant of {@link #batchedQueryAsync} with a specific number of keys per query. */
+  <K, R> CompletionStage<R[]> batchedQueryAsync(
+      K[] keys,
+      Function<List<K>, CompletionStage<AsyncResultSet>> queryBuilder,
+      Function<Row, R> rowToResult,
+      Function<R, K> idExtractor,
+      Class<? extends R> elementType,
+      int batchSize) {
+    return new AsyncBatchedQuery<>(
+            keys,
+            queryBuilder,
+            rowToResult,
+            idExtractor,
+            elementType,
+            batchSize,
+            config.readConcurrency())
+        .start();
+  }
+
+  private static final class AsyncBatchedQuery<K, R> {
+    private final Function<List<K>, CompletionStage<AsyncResultSet>> queryBuilder;
+    private final Function<Row, R> rowToResult;
+    private final Function<R, K> idExtractor;
+    private final Object2IntHashMap<K> idToIndex;
+    private final List<List<K>> batches = new ArrayList<>();
+    private final AtomicReferenceArray<R> result;
+    private final Class<? extends R> elementType;
+    private final AtomicInteger nextBatch = new AtomicInteger();
+    private final AtomicInteger pendingBatches;
+    private final CompletableFuture<R[]> future = new CompletableFuture<>();
+    private final int concurrency;
+
+    AsyncBatchedQuery(
+        K[] keys,
+        Function<List<K>, CompletionStage<AsyncResultSet>> queryBuilder,
+        Function<Row, R> rowToResult,
+        Function<R, K> idExtractor,
+        Class<? extends R> elementType,
+        int batchSize,
+        int concurrency) {
+      this.concurrency = concurrency;
+      this.queryBuilder = queryBuilder;
+      this.rowToResult = rowToResult;
+      this.idExtractor = idExtractor;
+      this.elementType = elementType;
+      this.idToIndex = new Object2IntHashMap<>(keys.length * 2, Hashing.DEFAULT_LOAD_FACTOR, -1);
+      this.result = new AtomicReferenceArray<>(keys.length);
+
+      List<K> batch = new ArrayList<>();
+      for (int i = 0; i < keys.length; i++) {
+        K key = keys[i];
+        if (key != null) {
+          idToIndex.put(key, i);
+          batch.add(key);
+          if (batch.size() == batchSize) {
+            batches.add(batch);
+            batch = new ArrayList<>();
+          }
+        }
+      }
+      if (!batch.isEmpty()) {
+        batches.add(batch);
+      }
+      this.pendingBatches = new AtomicInteger(batches.size());
+    }
+
+    CompletionStage<R[]> start() {
+      if (batches.isEmpty()) {
+        future.complete(resultToArray());
+      } else {
+        for (int i = 0; i < concurrency; i++) {
+          submitNext();
+        }
+      }
+      return future;
+    }
+
+    private void submitNext() {
+      if (future.isDone()) {
+        return;
+      }
+      int batch = nextBatch.getAndIncrement();
+      if (batch >= batches.size()) {
+        return;
+      }
+      try {
+        queryBuilder.apply(batches.get(batch)).whenCompleteAsync(this::handlePage);
+      } catch (Throwable t) {
+        fail(t);
+      }
+    }
+
+    private void handlePage(AsyncResultSet rs, Throwable ex) {
+      if (ex != null) {
+        fail(ex);
+        return;
+      }
+      try {
+        for (Row row : rs.currentPage()) {
+          R resultItem = rowToResult.apply(row);
+          if (resultItem != null) {
+            int i = idToIndex.getValue(idExtractor.apply(resultItem));
+            if (i != -1) {
+              result.set(i, resultItem);
+            }
+          }
+        }
+
+        if (rs.hasMorePages()) {
+          rs.fetchNextPage().whenCompleteAsync(this::handlePage);
+          return;
+        }
+      } catch (Throwable t) {
+        fail(t);
+        return;
+      }
+
+      if (pendingBatches.decrementAndGet() == 0) {
+        future.complete(resultToArray());
+      } else {
+        submitNext();
+      }
+    }
+
+    private void fail(Throwable t) {
+      if (t instanceof CompletionException && t.getCause() != null) {
+        t = t.getCause();
+      }
+      if (t instanceof DriverException) {
+        t = unhandledException((DriverException) t);
+      }
+      future.completeExceptionally(t);
+    }
+
+    private R[] resultToArray() {
+      int l = result.length();
+      @SuppressWarnings("unchecked")
+      R[] r = (R[]) Array.newInstance(elementType, l);
+      for (int i = 0; i < l; i++) {
+        r[i] = result.get(i);
+      }
+      return r;
+    }
+  }
+
   @Nonnull
   BoundStatement buildStatement(String cql, boolean idempotent, Object... values) {
     PreparedStatement prepared =
@@ -344,6 +545,50 @@ public final class Cassandra2Backend implements Backend {
     return session.executeAsync(stmt);
   }
 
+  /**
+   * Executes an idempotent read, speculatively executes the read again, if it did not complete
+   * within {@link Cassandra2Config#speculativeReadDelay()}, up to {@link
+   * Cassandra2Config#speculativeReadMax()} times. The first successful result is used, the read
+   * fails, if all executions failed.
+   */
+  CompletionStage<AsyncResultSet> executeSpeculativeAsync(BoundStatement stmt) {
+    Optional<Duration> delay = config.speculativeReadDelay();
+    if (delay.isEmpty() || !Boolean.TRUE.equals(stmt.isIdempotent())) {
+      return session.executeAsync(stmt);
+    }
+
+    CompletableFuture<AsyncResultSet> result = new CompletableFuture<>();
+    AtomicInteger outstanding = new AtomicInteger();
+    executeSpeculation(stmt, result, outstanding);
+
+    long delayNanos = delay.get().toNanos();
+    for (int i = 1; i <= config.speculativeReadMax(); i++) {
+      Executor delayed = CompletableFuture.delayedExecutor(delayNanos * i, NANOSECONDS);
+      delayed.execute(
+          () -> {
+            if (!result.isDone()) {
+              executeSpeculation(stmt, result, outstanding);
+            }
+          });
+    }
+    return result;
+  }
+
+  private void executeSpeculation(
+      BoundStatement stmt, CompletableFuture<AsyncResultSet> result, AtomicInteger outstanding) {
+    outstanding.incrementAndGet();
+    session
+        .executeAsync(stmt)
+        .whenComplete(
+            (rs, ex) -> {
+              if (ex == null) {
+                result.complete(rs);
+              } else if (outstanding.decrementAndGet() == 0) {
+                result.completeExceptionally(ex);
+              }
+            });
+  }
+
   static RuntimeException unhandledException(DriverException e) {
     if (isUnknownOperationResult(e)) {
       return new UnknownOperationResultException(e);
@@ -370,8 +615,13 @@ public final class Cassandra2Backend implements Backend {
     return new Cassandra2PersistFactory(this);
   }
 
+  AsyncReadExecutor asyncReadExecutor() {
+    return asyncReadExecutor;
+  }
+
   @Override
   public void close() {
+    asyncReadExecutor.close();
     if (closeClient) {
       session.close();
     }
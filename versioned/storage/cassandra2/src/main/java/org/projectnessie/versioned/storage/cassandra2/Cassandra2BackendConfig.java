@@ -15,8 +15,11 @@
  */
 package org.projectnessie.versioned.storage.cassandra2;
 
+import static com.google.common.base.Preconditions.checkState;
+
 import com.datastax.oss.driver.api.core.CqlSession;
 import java.time.Duration;
+import java.util.Optional;
 import org.immutables.value.Value;
 
 @Value.Immutable
@@ -40,6 +43,33 @@ public interface Cassandra2BackendConfig extends Cassandra2Config {
     return Duration.parse(DEFAULT_DML_TIMEOUT);
   }
 
+  @Override
+  @Value.Default
+  default int readConcurrency() {
+    return Integer.parseInt(DEFAULT_READ_CONCURRENCY);
+  }
+
+  @Override
+  @Value.Default
+  default boolean singlePartitionReads() {
+    return Boolean.parseBoolean(DEFAULT_SINGLE_PARTITION_READS);
+  }
+
+  @Override
+  Optional<Duration> speculativeReadDelay();
+
+  @Override
+  @Value.Default
+  default int speculativeReadMax() {
+    return Integer.parseInt(DEFAULT_SPECULATIVE_READ_MAX);
+  }
+
+  @Value.Check
+  default void check() {
+    checkState(readConcurrency() > 0, "readConcurrency must be positive");
+    checkState(speculativeReadMax() > 0, "speculativeReadMax must be positive");
+  }
+
   static ImmutableCassandra2BackendConfig.Builder builder() {
     return ImmutableCassandra2BackendConfig.builder();
   }
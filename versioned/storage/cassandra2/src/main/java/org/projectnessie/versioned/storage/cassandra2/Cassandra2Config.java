@@ -16,6 +16,7 @@
 package org.projectnessie.versioned.storage.cassandra2;
 
 import java.time.Duration;
+import java.util.Optional;
 
 public interface Cassandra2Config {
 
@@ -25,7 +26,35 @@ public interface Cassandra2Config {
   /** Timeout used for queries and updates. */
   Duration dmlTimeout();
 
+  /** Maximum number of concurrent queries issued by a single bulk read of objects or refs. */
+  int readConcurrency();
+
+  /**
+   * When enabled, bulk reads of objects issue one single-partition query per object ID instead of
+   * multi-partition {@code IN} queries. Single-partition queries are routed by the driver's
+   * token-aware load balancing directly to a replica of the partition, while an {@code IN} query
+   * is coordinated by a single node. Recommended for large clusters, together with a higher {@link
+   * #readConcurrency()}.
+   */
+  boolean singlePartitionReads();
+
+  /**
+   * Delay after which an object read that has not completed yet is speculatively executed again,
+   * the first result is used. Applies to object reads only, which are idempotent. Speculative
+   * reads are disabled, if not set.
+   */
+  Optional<Duration> speculativeReadDelay();
+
+  /** Maximum number of speculative executions per object read. */
+  int speculativeReadMax();
+
   String DEFAULT_DDL_TIMEOUT = "PT5S";
 
   String DEFAULT_DML_TIMEOUT = "PT3S";
+
+  String DEFAULT_READ_CONCURRENCY = "20";
+
+  String DEFAULT_SINGLE_PARTITION_READS = "false";
+
+  String DEFAULT_SPECULATIVE_READ_MAX = "1";
 }
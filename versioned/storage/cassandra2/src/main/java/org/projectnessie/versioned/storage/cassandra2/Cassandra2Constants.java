@@ -18,7 +18,6 @@ package org.projectnessie.versioned.storage.cassandra2;
 public final class Cassandra2Constants {
 
   static final int SELECT_BATCH_SIZE = 20;
-  static final int MAX_CONCURRENT_BATCH_READS = 20;
   static final int MAX_CONCURRENT_DELETES = 20;
   static final int MAX_CONCURRENT_STORES = 20;
 
@@ -325,6 +324,25 @@ public final class Cassandra2Constants {
           + COL_OBJ_ID
           + " IN ?";
 
+  static final String FIND_OBJ =
+      "SELECT "
+          + COL_OBJ_ID
+          + ", "
+          + COL_OBJ_TYPE
+          + ", "
+          + COL_OBJ_VERS
+          + ", "
+          + COL_OBJ_VALUE
+          + ", "
+          + COL_OBJ_REFERENCED
+          + " FROM %s."
+          + TABLE_OBJS
+          + " WHERE "
+          + COL_REPO_ID
+          + "=? AND "
+          + COL_OBJ_ID
+          + "=?";
+
   static final String SCAN_OBJS =
       "SELECT "
           + COL_OBJ_ID
@@ -32,6 +32,7 @@ import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.DELETE_OBJ_REFERENCED;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.EXPECTED_SUFFIX;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.FETCH_OBJ_TYPE;
+import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.FIND_OBJ;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.FIND_OBJS;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.FIND_REFERENCES;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants.MARK_REFERENCE_AS_DELETED;
@@ -46,6 +47,7 @@ import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Constants
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Serde.deserializeObjId;
 import static org.projectnessie.versioned.storage.cassandra2.Cassandra2Serde.serializeObjId;
 import static org.projectnessie.versioned.storage.common.persist.ObjTypes.objTypeByName;
+import static org.projectnessie.versioned.storage.serialize.ObjCompression.objCompression;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializePreviousPointers;
 
@@ -63,6 +65,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -75,22 +78,26 @@ import org.projectnessie.versioned.storage.common.exceptions.RefAlreadyExistsExc
 import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedException;
 import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.serialize.ObjCompression;
 import org.projectnessie.versioned.storage.serialize.ProtoSerialization;
 
-public class Cassandra2Persist implements Persist {
+public class Cassandra2Persist implements Persist, AsyncPersist {
 
   private final Cassandra2Backend backend;
   private final StoreConfig config;
+  private final ObjCompression objCompression;
 
   Cassandra2Persist(Cassandra2Backend backend, StoreConfig config) {
     this.backend = backend;
     this.config = config;
+    this.objCompression = objCompression(config, this);
   }
 
   @Nonnull
@@ -105,6 +112,12 @@ public class Cassandra2Persist implements Persist {
     return config;
   }
 
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return backend.asyncReadExecutor().executor(config.asyncReadThreads());
+  }
+
   @Override
   public Reference fetchReference(@Nonnull String name) {
     return fetchReferences(new String[] {name})[0];
@@ -115,9 +128,7 @@ public class Cassandra2Persist implements Persist {
   public Reference[] fetchReferences(@Nonnull String[] names) {
     try (BatchedQuery<String, Reference> batchedQuery =
         backend.newBatchedQuery(
-            keys ->
-                backend.executeAsync(
-                    backend.buildStatement(FIND_REFERENCES, true, config.repositoryId(), keys)),
+            this::findReferencesQuery,
             Cassandra2Serde::deserializeReference,
             Reference::name,
             names.length,
@@ -136,6 +147,22 @@ public class Cassandra2Persist implements Persist {
     }
   }
 
+  @Nonnull
+  @Override
+  public CompletionStage<Reference[]> fetchReferencesAsync(@Nonnull String[] names) {
+    return backend.batchedQueryAsync(
+        names,
+        this::findReferencesQuery,
+        Cassandra2Serde::deserializeReference,
+        Reference::name,
+        Reference.class);
+  }
+
+  private CompletionStage<AsyncResultSet> findReferencesQuery(List<String> keys) {
+    return backend.executeAsync(
+        backend.buildStatement(FIND_REFERENCES, true, config.repositoryId(), keys));
+  }
+
   @Nonnull
   @Override
   public Reference addReference(@Nonnull Reference reference) throws RefAlreadyExistsException {
@@ -272,32 +299,15 @@ public class Cassandra2Persist implements Persist {
   @Override
   public <T extends Obj> T[] fetchTypedObjsIfExist(
       @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
-    Function<List<ObjId>, List<ByteBuffer>> idsToByteBuffers =
-        queryIds -> queryIds.stream().map(ObjId::asByteBuffer).collect(Collectors.toList());
-
-    Function<List<ObjId>, CompletionStage<AsyncResultSet>> queryFunc =
-        keys ->
-            backend.executeAsync(
-                backend.buildStatement(
-                    FIND_OBJS, true, config.repositoryId(), idsToByteBuffers.apply(keys)));
-
-    Function<Row, T> rowMapper =
-        row -> {
-          ObjType objType = objTypeByName(requireNonNull(row.getString(COL_OBJ_TYPE.name())));
-          if (type != null && !type.equals(objType)) {
-            return null;
-          }
-          ObjId id = deserializeObjId(row.getByteBuffer(COL_OBJ_ID.name()));
-          String versionToken = row.getString(COL_OBJ_VERS.name());
-          ByteBuffer serialized = row.getByteBuffer(COL_OBJ_VALUE.name());
-          String colReferenced = COL_OBJ_REFERENCED.name();
-          long referenced = row.isNull(colReferenced) ? -1 : row.getLong(colReferenced);
-          return typeClass.cast(deserializeObj(id, referenced, serialized, versionToken));
-        };
-
     T[] r;
     try (BatchedQuery<ObjId, T> batchedQuery =
-        backend.newBatchedQuery(queryFunc, rowMapper, Obj::id, ids.length, typeClass)) {
+        backend.newBatchedQuery(
+            this::findObjsQuery,
+            objRowMapper(type, typeClass),
+            Obj::id,
+            ids.length,
+            typeClass,
+            backend.objReadBatchSize())) {
 
       for (int i = 0; i < ids.length; i++) {
         ObjId id = ids[i];
@@ -314,6 +324,47 @@ public class Cassandra2Persist implements Persist {
     return r;
   }
 
+  @Nonnull
+  @Override
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    return backend.batchedQueryAsync(
+        ids,
+        this::findObjsQuery,
+        objRowMapper(type, typeClass),
+        Obj::id,
+        typeClass,
+        backend.objReadBatchSize());
+  }
+
+  private CompletionStage<AsyncResultSet> findObjsQuery(List<ObjId> keys) {
+    if (keys.size() == 1) {
+      // Single-partition query, which can be routed directly to a replica of the partition
+      return backend.executeSpeculativeAsync(
+          backend.buildStatement(
+              FIND_OBJ, true, config.repositoryId(), keys.get(0).asByteBuffer()));
+    }
+    List<ByteBuffer> ids = keys.stream().map(ObjId::asByteBuffer).collect(Collectors.toList());
+    return backend.executeSpeculativeAsync(
+        backend.buildStatement(FIND_OBJS, true, config.repositoryId(), ids));
+  }
+
+  private <T extends Obj> Function<Row, T> objRowMapper(ObjType type, Class<T> typeClass) {
+    return row -> {
+      ObjType objType = objTypeByName(requireNonNull(row.getString(COL_OBJ_TYPE.name())));
+      if (type != null && !type.equals(objType)) {
+        return null;
+      }
+      ObjId id = deserializeObjId(row.getByteBuffer(COL_OBJ_ID.name()));
+      String versionToken = row.getString(COL_OBJ_VERS.name());
+      ByteBuffer serialized = row.getByteBuffer(COL_OBJ_VALUE.name());
+      String colReferenced = COL_OBJ_REFERENCED.name();
+      long referenced = row.isNull(colReferenced) ? -1 : row.getLong(colReferenced);
+      return typeClass.cast(
+          deserializeObj(id, referenced, serialized, versionToken, objCompression));
+    };
+  }
+
   @Override
   public boolean storeObj(@Nonnull Obj obj, boolean ignoreSoftSizeRestrictions)
       throws ObjTooLargeException {
@@ -394,7 +445,8 @@ public class Cassandra2Persist implements Persist {
             newValue,
             effectiveIncrementalIndexSizeLimit(),
             effectiveIndexSegmentSizeLimit(),
-            false);
+            false,
+            objCompression);
 
     long referenced = config.currentTimeMicros();
 
@@ -545,7 +597,7 @@ public class Cassandra2Persist implements Persist {
 
     byte[] serialized =
         ProtoSerialization.serializeObj(
-            obj, incrementalIndexSizeLimit, indexSegmentSizeLimit, false);
+            obj, incrementalIndexSizeLimit, indexSegmentSizeLimit, false, objCompression);
 
     BoundStatementBuilder stmt =
         backend
@@ -633,7 +685,7 @@ public class Cassandra2Persist implements Persist {
         String versionToken = row.getString(COL_OBJ_VERS.name());
         ByteBuffer serialized = row.getByteBuffer(COL_OBJ_VALUE.name());
         long referenced = row.getLong(COL_OBJ_REFERENCED.name());
-        return deserializeObj(id, referenced, serialized, versionToken);
+        return deserializeObj(id, referenced, serialized, versionToken, objCompression);
       }
     }
   }
@@ -74,6 +74,9 @@ public class Cleanup {
    * bloom filter based {@link ReferencedObjectsFilter}, both configured using {@link
    * CleanupParams}'s attributes.
    *
+   * <p>Objects read by the cleanup are {@linkplain Persist#withoutCacheAdmission() not added to
+   * the cache}, to not evict objects used by other requests.
+   *
    * @param persist the persistence/repository to run against
    * @param maxObjReferencedInMicrosSinceEpoch only {@link Obj}s with a {@link Obj#referenced()}
    *     older than {@code maxObjReferenced} will be deleted. Production workloads should set this
@@ -86,7 +89,8 @@ public class Cleanup {
     var referencedObjects = new ReferencedObjectsFilterImpl(cleanupParams);
     var purgeFilter =
         referencedObjectsPurgeFilter(referencedObjects, maxObjReferencedInMicrosSinceEpoch);
-    return objectsResolverContext(persist, cleanupParams, referencedObjects, purgeFilter);
+    return objectsResolverContext(
+        persist.withoutCacheAdmission(), cleanupParams, referencedObjects, purgeFilter);
   }
 
   /**
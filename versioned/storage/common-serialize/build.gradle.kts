@@ -27,6 +27,11 @@ dependencies {
   implementation(platform(libs.jackson.bom))
   implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
 
+  implementation(libs.slf4j.api)
+  implementation(libs.zstd.jni)
+
+  compileOnly(libs.jakarta.annotation.api)
+
   // required for custom object serialization tests
   testImplementation("com.fasterxml.jackson.datatype:jackson-datatype-guava")
   testImplementation("com.fasterxml.jackson.datatype:jackson-datatype-jdk8")
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.serialize;
+
+import static org.projectnessie.versioned.storage.common.logic.Logics.repositoryLogic;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.STRING;
+import static org.projectnessie.versioned.storage.serialize.CompressionDictionary.compressionDictionary;
+
+import jakarta.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.objtypes.StringObj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides the compression dictionaries of a repository.
+ *
+ * <p>Dictionaries are immutable and identified by the ID of the object holding them, loaded
+ * dictionaries are kept for the lifetime of this instance. The ID of the current dictionary is
+ * refreshed in the background using the {@linkplain Persist#asyncReadExecutor() async read
+ * executor} of the backend, so newly trained dictionaries are picked up without blocking writes.
+ *
+ * <p>If a dictionary cannot be loaded, the failure is remembered for {@link
+ * #LOAD_FAILURE_RETRY_SECONDS} seconds. Reads of objects compressed using that dictionary fail
+ * during that time without accessing the backend again.
+ */
+final class CompressionDictionaries {
+  private static final Logger LOGGER = LoggerFactory.getLogger(CompressionDictionaries.class);
+
+  static final long LOAD_FAILURE_RETRY_SECONDS = 10L;
+
+  private final Supplier<ObjId> currentDictionaryId;
+  private final Function<ObjId, byte[]> dictionaryLoader;
+  private final Executor refreshExecutor;
+  private final LongSupplier nanoClock;
+  private final long refreshIntervalNanos;
+
+  private final Map<ObjId, CompressionDictionary> dictionaries = new ConcurrentHashMap<>();
+  private final Map<ObjId, LoadFailure> loadFailures = new ConcurrentHashMap<>();
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private volatile CompressionDictionary current;
+  private volatile long nextRefresh;
+
+  CompressionDictionaries(
+      Supplier<ObjId> currentDictionaryId,
+      Function<ObjId, byte[]> dictionaryLoader,
+      Executor refreshExecutor,
+      LongSupplier nanoClock,
+      long refreshIntervalSeconds) {
+    this.currentDictionaryId = currentDictionaryId;
+    this.dictionaryLoader = dictionaryLoader;
+    this.refreshExecutor = refreshExecutor;
+    this.nanoClock = nanoClock;
+    this.refreshIntervalNanos = TimeUnit.SECONDS.toNanos(refreshIntervalSeconds);
+    this.nextRefresh = nanoClock.getAsLong();
+  }
+
+  static CompressionDictionaries compressionDictionaries(
+      Persist persist, long refreshIntervalSeconds) {
+    return new CompressionDictionaries(
+        () -> repositoryLogic(persist).fetchObjCompressionDictionaryId(),
+        id -> {
+          try {
+            return persist.fetchTypedObj(id, STRING, StringObj.class).text().toByteArray();
+          } catch (ObjNotFoundException e) {
+            throw new IllegalStateException("Compression dictionary " + id + " not found", e);
+          }
+        },
+        // Resolved lazily, this instance is created while the Persist instance is constructed
+        command -> persist.asyncReadExecutor().execute(command),
+        System::nanoTime,
+        refreshIntervalSeconds);
+  }
+
+  /**
+   * Returns the current dictionary to compress objects with, or {@code null} if there is none or
+   * if it has not been loaded yet.
+   */
+  @Nullable
+  CompressionDictionary current() {
+    if (nanoClock.getAsLong() - nextRefresh >= 0L && refreshing.compareAndSet(false, true)) {
+      try {
+        refreshExecutor.execute(this::refresh);
+      } catch (RejectedExecutionException e) {
+        LOGGER.warn("Failed to schedule the refresh of the current compression dictionary", e);
+        refreshDone();
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Returns the dictionary with the given ID, to uncompress objects.
+   *
+   * @throws IllegalStateException if the dictionary does not exist or could not be loaded, also
+   *     if loading it failed within the last {@link #LOAD_FAILURE_RETRY_SECONDS} seconds
+   */
+  CompressionDictionary dictionary(ObjId id) {
+    CompressionDictionary dictionary = dictionaries.get(id);
+    if (dictionary != null) {
+      return dictionary;
+    }
+
+    LoadFailure failure = loadFailures.get(id);
+    if (failure != null) {
+      if (nanoClock.getAsLong() - failure.retryAfter < 0L) {
+        throw new IllegalStateException(
+            "Compression dictionary " + id + " could not be loaded", failure.cause);
+      }
+      loadFailures.remove(id, failure);
+    }
+
+    try {
+      dictionary = compressionDictionary(id, dictionaryLoader.apply(id));
+    } catch (RuntimeException e) {
+      loadFailures.put(
+          id,
+          new LoadFailure(
+              e, nanoClock.getAsLong() + TimeUnit.SECONDS.toNanos(LOAD_FAILURE_RETRY_SECONDS)));
+      throw e;
+    }
+    CompressionDictionary existing = dictionaries.putIfAbsent(id, dictionary);
+    return existing != null ? existing : dictionary;
+  }
+
+  void refresh() {
+    try {
+      ObjId id = currentDictionaryId.get();
+      current = id != null ? dictionary(id) : null;
+    } catch (RuntimeException e) {
+      LOGGER.warn("Failed to refresh the current compression dictionary", e);
+    } finally {
+      refreshDone();
+    }
+  }
+
+  private void refreshDone() {
+    nextRefresh = nanoClock.getAsLong() + refreshIntervalNanos;
+    refreshing.set(false);
+  }
+
+  private static final class LoadFailure {
+    final RuntimeException cause;
+    final long retryAfter;
+
+    LoadFailure(RuntimeException cause, long retryAfter) {
+      this.cause = cause;
+      this.retryAfter = retryAfter;
+    }
+  }
+}
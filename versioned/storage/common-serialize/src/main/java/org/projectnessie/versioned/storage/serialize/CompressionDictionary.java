@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.serialize;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import java.util.List;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/**
+ * A trained ZSTD dictionary, identified by the ID of the {@link
+ * org.projectnessie.versioned.storage.common.objtypes.StringObj} holding it.
+ */
+public final class CompressionDictionary {
+
+  private final ObjId id;
+  private final ZstdDictCompress compress;
+  private final ZstdDictDecompress decompress;
+
+  private CompressionDictionary(ObjId id, byte[] dictionary) {
+    this.id = id;
+    this.compress = new ZstdDictCompress(dictionary, Zstd.defaultCompressionLevel());
+    this.decompress = new ZstdDictDecompress(dictionary);
+  }
+
+  public static CompressionDictionary compressionDictionary(ObjId id, byte[] dictionary) {
+    return new CompressionDictionary(id, dictionary);
+  }
+
+  /**
+   * Trains a ZSTD dictionary of up to {@code dictionarySize} bytes from the given samples, which
+   * are usually serialized objects.
+   */
+  public static byte[] trainDictionary(List<byte[]> samples, int dictionarySize) {
+    int samplesSize = samples.stream().mapToInt(s -> s.length).sum();
+    ZstdDictTrainer trainer = new ZstdDictTrainer(samplesSize, dictionarySize);
+    samples.forEach(trainer::addSample);
+    return trainer.trainSamples();
+  }
+
+  public ObjId id() {
+    return id;
+  }
+
+  byte[] compress(byte[] uncompressed) {
+    return Zstd.compress(uncompressed, compress);
+  }
+
+  byte[] uncompress(byte[] compressed) {
+    long size = Zstd.getFrameContentSize(compressed);
+    if (size < 0L || size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid or unknown ZSTD frame content size " + size);
+    }
+    return Zstd.decompress(compressed, decompress, (int) size);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.serialize;
+
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.INDEX;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.INDEX_SEGMENTS;
+import static org.projectnessie.versioned.storage.serialize.CompressionDictionaries.compressionDictionaries;
+
+import jakarta.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.objtypes.Compression;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+import org.projectnessie.versioned.storage.common.persist.ObjTypes;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+
+/**
+ * Defines which serialized objects are compressed by {@link ProtoSerialization#serializeObj(
+ * org.projectnessie.versioned.storage.common.persist.Obj, int, int, boolean, ObjCompression)},
+ * configured via {@link StoreConfig#objCompression()}, {@link StoreConfig#objCompressionTypes()}
+ * and {@link StoreConfig#objCompressionMinSize()}.
+ *
+ * <p>With {@code ZSTD}, {@linkplain #DICTIONARY_OBJ_TYPES commits and indexes} are compressed
+ * using the repository's trained {@link CompressionDictionary}, if there is one.
+ */
+public final class ObjCompression {
+
+  public static final ObjCompression NO_OBJ_COMPRESSION =
+      new ObjCompression(Compression.NONE, Set.of(), Integer.MAX_VALUE, null, false);
+
+  /** Object types that are compressed using the repository's trained dictionary, if available. */
+  static final Set<ObjType> DICTIONARY_OBJ_TYPES = Set.of(COMMIT, INDEX, INDEX_SEGMENTS);
+
+  private final Compression compression;
+  private final Set<ObjType> objTypes;
+  private final int minSize;
+  private final CompressionDictionaries dictionaries;
+  private final boolean compressWithDictionary;
+
+  ObjCompression(
+      Compression compression,
+      Set<ObjType> objTypes,
+      int minSize,
+      @Nullable CompressionDictionaries dictionaries,
+      boolean compressWithDictionary) {
+    this.compression = compression;
+    this.objTypes = objTypes;
+    this.minSize = minSize;
+    this.dictionaries = dictionaries;
+    this.compressWithDictionary = compressWithDictionary;
+  }
+
+  public static ObjCompression objCompression(StoreConfig config) {
+    return objCompression(config, null);
+  }
+
+  /**
+   * Returns the object compression for the given configuration. Objects that have been compressed
+   * using a trained dictionary can only be read, if {@code persist} is not {@code null}, which is
+   * then used to lazily load the repository's dictionaries.
+   */
+  public static ObjCompression objCompression(StoreConfig config, @Nullable Persist persist) {
+    CompressionDictionaries dictionaries =
+        persist != null
+            ? compressionDictionaries(persist, config.objCompressionDictionaryRefreshSeconds())
+            : null;
+    Compression compression = StoreConfig.checkObjCompression(config.objCompression());
+    if (compression == Compression.NONE) {
+      return dictionaries != null
+          ? new ObjCompression(compression, Set.of(), Integer.MAX_VALUE, dictionaries, false)
+          : NO_OBJ_COMPRESSION;
+    }
+    Set<ObjType> objTypes =
+        Arrays.stream(config.objCompressionTypes().split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .map(ObjTypes::objTypeByName)
+            .collect(Collectors.toUnmodifiableSet());
+    boolean compressWithDictionary =
+        compression == Compression.ZSTD && config.objCompressionDictionaryRefreshSeconds() > 0;
+    return new ObjCompression(
+        compression,
+        objTypes,
+        Math.max(0, config.objCompressionMinSize()),
+        dictionaries,
+        compressWithDictionary);
+  }
+
+  public Compression compression() {
+    return compression;
+  }
+
+  /** Whether serialized objects of the given type with the given size shall be compressed. */
+  public boolean compresses(ObjType type, int serializedSize) {
+    return serializedSize >= minSize && objTypes.contains(type);
+  }
+
+  /** Returns the dictionary to compress objects of the given type with, if any. */
+  @Nullable
+  CompressionDictionary compressionDictionary(ObjType type) {
+    return compressWithDictionary && dictionaries != null && DICTIONARY_OBJ_TYPES.contains(type)
+        ? dictionaries.current()
+        : null;
+  }
+
+  /** Returns the dictionary with the given ID to uncompress an object. */
+  CompressionDictionary dictionary(ObjId id) {
+    if (dictionaries == null) {
+      throw new IllegalStateException(
+          "Object has been compressed using the dictionary "
+              + id
+              + ", but no compression dictionaries are available");
+    }
+    return dictionaries.dictionary(id);
+  }
+}
@@ -27,6 +27,7 @@ import static org.projectnessie.versioned.storage.common.objtypes.StringObj.stri
 import static org.projectnessie.versioned.storage.common.objtypes.TagObj.tag;
 import static org.projectnessie.versioned.storage.common.objtypes.UniqueIdObj.uniqueId;
 import static org.projectnessie.versioned.storage.common.persist.ObjTypes.objTypeByName;
+import static org.projectnessie.versioned.storage.serialize.ObjCompression.NO_OBJ_COMPRESSION;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -61,6 +62,7 @@ import org.projectnessie.versioned.storage.common.persist.Reference;
 import org.projectnessie.versioned.storage.common.proto.StorageTypes;
 import org.projectnessie.versioned.storage.common.proto.StorageTypes.CommitProto;
 import org.projectnessie.versioned.storage.common.proto.StorageTypes.CommitTypeProto;
+import org.projectnessie.versioned.storage.common.proto.StorageTypes.CompressedProto;
 import org.projectnessie.versioned.storage.common.proto.StorageTypes.CompressionProto;
 import org.projectnessie.versioned.storage.common.proto.StorageTypes.ContentValueProto;
 import org.projectnessie.versioned.storage.common.proto.StorageTypes.CustomProto;
@@ -74,6 +76,7 @@ import org.projectnessie.versioned.storage.common.proto.StorageTypes.StringProto
 import org.projectnessie.versioned.storage.common.proto.StorageTypes.Stripe;
 import org.projectnessie.versioned.storage.common.proto.StorageTypes.TagProto;
 import org.projectnessie.versioned.storage.common.proto.StorageTypes.UniqueIdProto;
+import org.projectnessie.versioned.storage.common.util.Compressions;
 
 public final class ProtoSerialization {
 
@@ -247,14 +250,66 @@ public final class ProtoSerialization {
     }
   }
 
+  /**
+   * Serializes the given object like {@link #serializeObj(Obj, int, int, boolean)}, but compresses
+   * the serialized object, if the object's type and size match the given {@link ObjCompression}
+   * and the compressed representation is smaller. Commits and indexes are compressed using the
+   * repository's current {@link CompressionDictionary}, if available.
+   */
+  public static byte[] serializeObj(
+      Obj obj,
+      int incrementalIndexSizeLimit,
+      int indexSizeLimit,
+      boolean includeVersionToken,
+      ObjCompression objCompression)
+      throws ObjTooLargeException {
+    byte[] serialized =
+        serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, includeVersionToken);
+    if (serialized == null || !objCompression.compresses(obj.type(), serialized.length)) {
+      return serialized;
+    }
+    Compression compression = objCompression.compression();
+    CompressedProto.Builder compressedProto =
+        CompressedProto.newBuilder().setCompression(CompressionProto.valueOf(compression.name()));
+    CompressionDictionary dictionary = objCompression.compressionDictionary(obj.type());
+    if (dictionary != null) {
+      compressedProto
+          .setDictionary(serializeObjId(dictionary.id()))
+          .setData(ByteString.copyFrom(dictionary.compress(serialized)));
+    } else {
+      compressedProto.setData(ByteString.copyFrom(Compressions.compress(compression, serialized)));
+    }
+    byte[] compressed =
+        ObjProto.newBuilder()
+            .setReferenced(obj.referenced())
+            .setCompressed(compressedProto)
+            .build()
+            .toByteArray();
+    return compressed.length < serialized.length ? compressed : serialized;
+  }
+
   public static Obj deserializeObj(
       ObjId id, long referenced, ByteBuffer serialized, String versionToken) {
+    return deserializeObj(id, referenced, serialized, versionToken, NO_OBJ_COMPRESSION);
+  }
+
+  /**
+   * Deserializes an object, objects that have been compressed using a {@link
+   * CompressionDictionary} are uncompressed using the dictionaries provided by {@code
+   * objCompression}.
+   */
+  public static Obj deserializeObj(
+      ObjId id,
+      long referenced,
+      ByteBuffer serialized,
+      String versionToken,
+      ObjCompression objCompression) {
     if (serialized == null) {
       return null;
     }
     try {
       ObjProto obj = ObjProto.parseFrom(serialized);
-      return deserializeObjProto(id, referenced, obj, versionToken);
+      return deserializeObjProto(id, referenced, obj, versionToken, objCompression);
     } catch (InvalidProtocolBufferException e) {
       throw new RuntimeException(e);
     }
@@ -262,12 +317,26 @@ public final class ProtoSerialization {
 
   public static Obj deserializeObj(
       ObjId id, long referenced, byte[] serialized, String versionToken) {
+    return deserializeObj(id, referenced, serialized, versionToken, NO_OBJ_COMPRESSION);
+  }
+
+  /**
+   * Deserializes an object, objects that have been compressed using a {@link
+   * CompressionDictionary} are uncompressed using the dictionaries provided by {@code
+   * objCompression}.
+   */
+  public static Obj deserializeObj(
+      ObjId id,
+      long referenced,
+      byte[] serialized,
+      String versionToken,
+      ObjCompression objCompression) {
     if (serialized == null) {
       return null;
     }
     try {
       ObjProto obj = ObjProto.parseFrom(serialized);
-      return deserializeObjProto(id, referenced, obj, versionToken);
+      return deserializeObjProto(id, referenced, obj, versionToken, objCompression);
     } catch (InvalidProtocolBufferException e) {
       throw new RuntimeException(e);
     }
@@ -275,6 +344,15 @@ public final class ProtoSerialization {
 
   public static Obj deserializeObjProto(
       ObjId id, long referenced, ObjProto obj, String versionToken) {
+    return deserializeObjProto(id, referenced, obj, versionToken, NO_OBJ_COMPRESSION);
+  }
+
+  public static Obj deserializeObjProto(
+      ObjId id,
+      long referenced,
+      ObjProto obj,
+      String versionToken,
+      ObjCompression objCompression) {
     if (referenced == 0L) {
       referenced = obj.getReferenced();
     }
@@ -306,9 +384,36 @@ public final class ProtoSerialization {
       CustomProto custom = obj.getCustom();
       return deserializeCustom(id, referenced, custom, versionToken);
     }
+    if (obj.hasCompressed()) {
+      return deserializeCompressed(
+          id, referenced, obj.getCompressed(), versionToken, objCompression);
+    }
     throw new UnsupportedOperationException("Cannot deserialize " + obj);
   }
 
+  private static Obj deserializeCompressed(
+      ObjId id,
+      long referenced,
+      CompressedProto compressed,
+      String versionToken,
+      ObjCompression objCompression) {
+    byte[] data = compressed.getData().toByteArray();
+    byte[] serialized;
+    if (compressed.hasDictionary()) {
+      ObjId dictionaryId = deserializeObjId(compressed.getDictionary());
+      serialized = objCompression.dictionary(dictionaryId).uncompress(data);
+    } else {
+      serialized =
+          Compressions.uncompress(Compression.valueOf(compressed.getCompression().name()), data);
+    }
+    try {
+      return deserializeObjProto(
+          id, referenced, ObjProto.parseFrom(serialized), versionToken, objCompression);
+    } catch (InvalidProtocolBufferException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private static CommitObj deserializeCommit(ObjId id, long referenced, CommitProto commit) {
     CommitObj.Builder b =
         commitBuilder()
@@ -337,7 +442,8 @@ public final class ProtoSerialization {
           indexStripe(
               keyFromString(s.getFirstKey()),
               keyFromString(s.getLastKey()),
-              deserializeObjId(s.getSegment())));
+              deserializeObjId(s.getSegment()),
+              s.hasBloomFilter() ? s.getBloomFilter() : null));
     }
     return b.build();
   }
@@ -362,11 +468,7 @@ public final class ProtoSerialization {
       b.setReferenceIndex(serializeObjId(referenceIndexId));
     }
     for (IndexStripe indexStripe : obj.referenceIndexStripes()) {
-      b.addReferenceIndexStripes(
-          Stripe.newBuilder()
-              .setFirstKey(indexStripe.firstKey().rawString())
-              .setLastKey(indexStripe.lastKey().rawString())
-              .setSegment(serializeObjId(indexStripe.segment())));
+      b.addReferenceIndexStripes(serializeStripe(indexStripe));
     }
     return b;
   }
@@ -428,7 +530,8 @@ public final class ProtoSerialization {
           indexStripe(
               keyFromString(s.getFirstKey()),
               keyFromString(s.getLastKey()),
-              deserializeObjId(s.getSegment())));
+              deserializeObjId(s.getSegment()),
+              s.hasBloomFilter() ? s.getBloomFilter() : null));
     }
     return indexSegments(id, referenced, stripes);
   }
@@ -436,11 +539,20 @@ public final class ProtoSerialization {
   private static IndexSegmentsProto.Builder serializeIndexSegments(IndexSegmentsObj obj) {
     IndexSegmentsProto.Builder b = IndexSegmentsProto.newBuilder();
     for (IndexStripe indexStripe : obj.stripes()) {
-      b.addStripes(
-          Stripe.newBuilder()
-              .setFirstKey(indexStripe.firstKey().rawString())
-              .setLastKey(indexStripe.lastKey().rawString())
-              .setSegment(serializeObjId(indexStripe.segment())));
+      b.addStripes(serializeStripe(indexStripe));
+    }
+    return b;
+  }
+
+  private static Stripe.Builder serializeStripe(IndexStripe indexStripe) {
+    Stripe.Builder b =
+        Stripe.newBuilder()
+            .setFirstKey(indexStripe.firstKey().rawString())
+            .setLastKey(indexStripe.lastKey().rawString())
+            .setSegment(serializeObjId(indexStripe.segment()));
+    ByteString bloomFilter = indexStripe.bloomFilter();
+    if (bloomFilter != null) {
+      b.setBloomFilter(bloomFilter);
     }
     return b;
   }
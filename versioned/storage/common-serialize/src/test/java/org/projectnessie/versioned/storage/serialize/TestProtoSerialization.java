@@ -28,6 +28,8 @@ import static org.projectnessie.versioned.storage.common.objtypes.IndexObj.index
 import static org.projectnessie.versioned.storage.common.objtypes.IndexSegmentsObj.indexSegments;
 import static org.projectnessie.versioned.storage.common.objtypes.IndexStripe.indexStripe;
 import static org.projectnessie.versioned.storage.common.objtypes.RefObj.ref;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.VALUE;
 import static org.projectnessie.versioned.storage.common.objtypes.StringObj.stringData;
 import static org.projectnessie.versioned.storage.common.objtypes.TagObj.tag;
 import static org.projectnessie.versioned.storage.common.objtypes.UniqueIdObj.uniqueId;
@@ -35,6 +37,8 @@ import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ
 import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
 import static org.projectnessie.versioned.storage.common.persist.Reference.PreviousPointer.previousPointer;
 import static org.projectnessie.versioned.storage.common.persist.Reference.reference;
+import static org.projectnessie.versioned.storage.serialize.ObjCompression.NO_OBJ_COMPRESSION;
+import static org.projectnessie.versioned.storage.serialize.ObjCompression.objCompression;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObjId;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObjIds;
@@ -51,10 +55,15 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
@@ -63,8 +72,10 @@ import org.immutables.value.Value;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.Compression;
@@ -145,6 +156,171 @@ public class TestProtoSerialization {
     }
   }
 
+  @ParameterizedTest
+  @MethodSource("objs")
+  void compressedObjs(Obj obj) throws Exception {
+    ObjCompression objCompression =
+        objCompression(
+            StoreConfig.Adjustable.empty()
+                .withObjCompression(Compression.ZSTD)
+                .withObjCompressionTypes(obj.type().name())
+                .withObjCompressionMinSize(0));
+    byte[] uncompressed = serializeObj(obj, Integer.MAX_VALUE, Integer.MAX_VALUE, true);
+    byte[] serialized =
+        serializeObj(obj, Integer.MAX_VALUE, Integer.MAX_VALUE, true, objCompression);
+    soft.assertThat(serialized.length).isLessThanOrEqualTo(uncompressed.length);
+    soft.assertThat(deserializeObj(obj.id(), 0L, serialized, null)).isEqualTo(obj);
+    soft.assertThat(deserializeObj(obj.id(), 0L, ByteBuffer.wrap(serialized), null))
+        .isEqualTo(obj);
+    soft.assertThat(
+            serializeObj(obj, Integer.MAX_VALUE, Integer.MAX_VALUE, true, NO_OBJ_COMPRESSION))
+        .isEqualTo(uncompressed);
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = Compression.class,
+      names = {"GZIP", "DEFLATE", "SNAPPY", "ZSTD"})
+  void compressLargeObj(Compression compression) throws Exception {
+    Obj obj =
+        contentValue(randomObjId(), 420L, "cid", 0, ByteString.copyFromUtf8("x".repeat(100_000)));
+    StoreConfig.Adjustable config = StoreConfig.Adjustable.empty().withObjCompression(compression);
+
+    byte[] serialized =
+        serializeObj(obj, Integer.MAX_VALUE, Integer.MAX_VALUE, false, objCompression(config));
+    StorageTypes.ObjProto proto = StorageTypes.ObjProto.parseFrom(serialized);
+    soft.assertThat(proto.hasCompressed()).isTrue();
+    soft.assertThat(proto.getReferenced()).isEqualTo(420L);
+    soft.assertThat(serialized.length).isLessThan(10_000);
+    soft.assertThat(deserializeObj(obj.id(), 0L, serialized, null)).isEqualTo(obj);
+    soft.assertThat(deserializeObj(obj.id(), 42L, serialized, null).referenced()).isEqualTo(42L);
+
+    // below the minimum size or not a configured object type
+    for (StoreConfig notCompressed :
+        List.of(config.withObjCompressionMinSize(200_000), config.withObjCompressionTypes("c,i"))) {
+      byte[] plain =
+          serializeObj(
+              obj, Integer.MAX_VALUE, Integer.MAX_VALUE, false, objCompression(notCompressed));
+      soft.assertThat(StorageTypes.ObjProto.parseFrom(plain).hasCompressed()).isFalse();
+      soft.assertThat(deserializeObj(obj.id(), 0L, plain, null)).isEqualTo(obj);
+    }
+  }
+
+  @Test
+  public void dictionaryCompression() throws Exception {
+    List<byte[]> samples = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      samples.add(serializeObj(dictionaryCommit(i), Integer.MAX_VALUE, Integer.MAX_VALUE, false));
+    }
+    ObjId dictionaryId = randomObjId();
+    byte[] dictionary = CompressionDictionary.trainDictionary(samples, 16 * 1024);
+    CompressionDictionaries dictionaries =
+        new CompressionDictionaries(
+            () -> dictionaryId,
+            Map.of(dictionaryId, dictionary)::get,
+            Runnable::run,
+            System::nanoTime,
+            300L);
+    dictionaries.refresh();
+    ObjCompression objCompression =
+        new ObjCompression(Compression.ZSTD, Set.of(COMMIT, VALUE), 0, dictionaries, true);
+
+    Obj commit = dictionaryCommit(4711);
+    byte[] plain = serializeObj(commit, Integer.MAX_VALUE, Integer.MAX_VALUE, false);
+    byte[] serialized =
+        serializeObj(commit, Integer.MAX_VALUE, Integer.MAX_VALUE, false, objCompression);
+    StorageTypes.ObjProto proto = StorageTypes.ObjProto.parseFrom(serialized);
+    soft.assertThat(proto.hasCompressed()).isTrue();
+    soft.assertThat(deserializeObjId(proto.getCompressed().getDictionary()))
+        .isEqualTo(dictionaryId);
+    soft.assertThat(serialized.length).isLessThan(plain.length);
+    soft.assertThat(deserializeObj(commit.id(), 0L, serialized, null, objCompression))
+        .isEqualTo(commit);
+    soft.assertThat(
+            deserializeObj(commit.id(), 0L, ByteBuffer.wrap(serialized), null, objCompression))
+        .isEqualTo(commit);
+    // dictionaries are required to read dictionary compressed objects
+    soft.assertThatIllegalStateException()
+        .isThrownBy(() -> deserializeObj(commit.id(), 0L, serialized, null));
+
+    // values are never compressed using the dictionary
+    Obj value =
+        contentValue(randomObjId(), 0L, "cid", 0, ByteString.copyFromUtf8("x".repeat(10_000)));
+    proto =
+        StorageTypes.ObjProto.parseFrom(
+            serializeObj(value, Integer.MAX_VALUE, Integer.MAX_VALUE, false, objCompression));
+    soft.assertThat(proto.hasCompressed()).isTrue();
+    soft.assertThat(proto.getCompressed().hasDictionary()).isFalse();
+  }
+
+  @Test
+  public void dictionaryLoadFailures() {
+    ObjId dictionaryId = randomObjId();
+    AtomicLong clock = new AtomicLong();
+    AtomicInteger loads = new AtomicInteger();
+    List<Runnable> refreshes = new ArrayList<>();
+    CompressionDictionaries dictionaries =
+        new CompressionDictionaries(
+            () -> dictionaryId,
+            id -> {
+              loads.incrementAndGet();
+              throw new IllegalStateException("Compression dictionary " + id + " not found");
+            },
+            refreshes::add,
+            clock::get,
+            300L);
+
+    // refresh runs on the given executor, only one refresh at a time
+    soft.assertThat(dictionaries.current()).isNull();
+    soft.assertThat(dictionaries.current()).isNull();
+    soft.assertThat(refreshes).hasSize(1);
+    refreshes.get(0).run();
+    soft.assertThat(dictionaries.current()).isNull();
+    soft.assertThat(loads).hasValue(1);
+
+    // failed load is remembered
+    soft.assertThatIllegalStateException()
+        .isThrownBy(() -> dictionaries.dictionary(dictionaryId))
+        .withMessage("Compression dictionary " + dictionaryId + " could not be loaded");
+    soft.assertThat(loads).hasValue(1);
+
+    // ... until it is retried
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(CompressionDictionaries.LOAD_FAILURE_RETRY_SECONDS));
+    soft.assertThatIllegalStateException()
+        .isThrownBy(() -> dictionaries.dictionary(dictionaryId))
+        .withMessage("Compression dictionary " + dictionaryId + " not found");
+    soft.assertThat(loads).hasValue(2);
+  }
+
+  private static CommitObj dictionaryCommit(int i) {
+    return CommitObj.commitBuilder()
+        .id(randomObjId())
+        .seq(i)
+        .created(1_700_000_000_000L + i)
+        .message("Update table metadata of table " + i + " on branch main")
+        .headers(newCommitHeaders().add("Author", "user-" + (i % 10)).build())
+        .addTail(randomObjId())
+        .incrementalIndex(emptyImmutableIndex(COMMIT_OP_SERIALIZER).serialize())
+        .build();
+  }
+
+  @Test
+  public void unsupportedObjCompression() {
+    soft.assertThat(objCompression(StoreConfig.Adjustable.empty())).isSameAs(NO_OBJ_COMPRESSION);
+    StoreConfig lz4 =
+        new StoreConfig() {
+          @Override
+          public Compression objCompression() {
+            return Compression.LZ4;
+          }
+        };
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(() -> objCompression(lz4))
+        .withMessage(
+            "Unsupported obj-compression value LZ4, "
+                + "supported values are NONE, GZIP, DEFLATE, SNAPPY and ZSTD");
+  }
+
   @Test
   public void nullInputs() throws Exception {
     soft.assertThat(serializeReference(null)).isNull();
@@ -216,6 +392,8 @@ public class TestProtoSerialization {
             .addSecondaryParents(randomObjId())
             .addReferenceIndexStripes(indexStripe(key("a"), key("b"), randomObjId()))
             .addReferenceIndexStripes(indexStripe(key("c"), key("d"), randomObjId()))
+            .addReferenceIndexStripes(
+                indexStripe(key("e"), key("f"), randomObjId(), ByteString.copyFrom(new byte[12])))
             .referenceIndex(randomObjId())
             .incrementalIndex(emptyImmutableIndex(COMMIT_OP_SERIALIZER).serialize())
             .build(),
@@ -240,7 +418,8 @@ public class TestProtoSerialization {
             420L,
             asList(
                 indexStripe(key("a"), key("b"), randomObjId()),
-                indexStripe(key("c"), key("d"), randomObjId()))),
+                indexStripe(key("c"), key("d"), randomObjId()),
+                indexStripe(key("e"), key("f"), randomObjId(), ByteString.copyFrom(new byte[12])))),
         index(randomObjId(), 420L, emptyImmutableIndex(COMMIT_OP_SERIALIZER).serialize()),
         JsonObj.json(
             randomObjId(),
@@ -116,6 +116,7 @@ import org.projectnessie.versioned.storage.common.objtypes.StandardObjType;
 import org.projectnessie.versioned.storage.common.objtypes.StringObj;
 import org.projectnessie.versioned.storage.common.objtypes.TagObj;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.ImmutableReference;
 import org.projectnessie.versioned.storage.common.persist.Obj;
@@ -518,7 +519,8 @@ public class AbstractBasePersistTests {
         indexSegments(
             asList(
                 indexStripe(key(nonAscii), key(nonAscii), randomObjId()),
-                indexStripe(key("moo", "woof"), key("zoo", "woof"), randomObjId()))),
+                indexStripe(key("moo", "woof"), key("zoo", "woof"), randomObjId()),
+                indexStripe(key("zoo", "zoo"), key("zzz"), randomObjId(), fooBar))),
         index(emptyIndex.serialize()),
         index(index.serialize()),
         // 10
@@ -544,6 +546,7 @@ public class AbstractBasePersistTests {
             .addReferenceIndexStripes(indexStripe(key("abc"), key("def"), randomObjId()))
             .addReferenceIndexStripes(indexStripe(key("def"), key("ghi"), randomObjId()))
             .addReferenceIndexStripes(indexStripe(key("ghi"), key("jkl"), randomObjId()))
+            .addReferenceIndexStripes(indexStripe(key("jkl"), key("mno"), randomObjId(), fooBar))
             .incrementalIndex(index.serialize())
             .commitType(CommitType.INTERNAL)
             .seq(42L)
@@ -988,6 +991,43 @@ public class AbstractBasePersistTests {
     soft.assertThat(fetched).containsExactlyElementsOf(objects);
   }
 
+  @Test
+  public void asyncFetch() throws Exception {
+    List<TagObj> objects =
+        IntStream.range(0, 123)
+            .mapToObj(i -> tag(randomObjId(), 42L, null, null, ByteString.copyFrom(new byte[42])))
+            .collect(Collectors.toList());
+    persist.storeObjs(objects.toArray(new Obj[0]));
+    Reference reference = reference("async-ref", randomObjId(), false, 42L, null);
+    persist.addReference(reference);
+
+    AsyncPersist asyncPersist = AsyncPersist.asyncPersist(persist, Runnable::run);
+
+    ObjId[] ids =
+        Stream.concat(Stream.of(null, randomObjId()), objects.stream().map(Obj::id))
+            .toArray(ObjId[]::new);
+    List<Obj> expected = new ArrayList<>();
+    expected.add(null);
+    expected.add(null);
+    expected.addAll(objects);
+
+    soft.assertThat(AsyncPersist.join(asyncPersist.fetchObjsIfExistAsync(ids)))
+        .containsExactlyElementsOf(expected);
+    soft.assertThat(
+            AsyncPersist.join(asyncPersist.fetchTypedObjsIfExistAsync(ids, TAG, TagObj.class)))
+        .containsExactlyElementsOf(expected);
+    soft.assertThat(
+            AsyncPersist.join(asyncPersist.fetchTypedObjsIfExistAsync(ids, COMMIT, Obj.class)))
+        .containsOnlyNulls();
+    soft.assertThat(AsyncPersist.join(asyncPersist.fetchObjsIfExistAsync(new ObjId[0])))
+        .isEmpty();
+
+    soft.assertThat(
+            AsyncPersist.join(
+                asyncPersist.fetchReferencesAsync(new String[] {null, "async-ref", "missing"})))
+        .containsExactly(null, reference, null);
+  }
+
   @Test
   public void multipleStoreObjs() throws Exception {
     Obj obj1 = tag(randomObjId(), 42L, null, null, ByteString.EMPTY);
@@ -27,6 +27,7 @@ import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_COMMIT_LOG_READ_AHEAD;
 import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
 import static org.projectnessie.versioned.storage.common.logic.CommitConflict.ConflictType.VALUE_DIFFERS;
 import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.commitLogQuery;
@@ -49,6 +50,7 @@ import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObj
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -87,6 +89,7 @@ import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
 import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.NessieStoreConfig;
 import org.projectnessie.versioned.storage.testextension.PersistExtension;
 
 /** {@link CommitLogic} related tests to be run against every {@link Persist} implementation. */
@@ -355,6 +358,97 @@ public class AbstractCommitLogicTests {
     }
   }
 
+  @Test
+  public void commitLogReadAhead(
+      @NessieStoreConfig(name = CONFIG_COMMIT_LOG_READ_AHEAD, value = "3") @NessiePersist
+          Persist readAheadPersist)
+      throws Exception {
+    CommitLogic commitLogic = commitLogic(readAheadPersist);
+
+    soft.assertThatThrownBy(
+            () -> newArrayList(commitLogic.commitLog(commitLogQuery(randomObjId()))))
+        .isInstanceOf(NoSuchElementException.class);
+    soft.assertThatThrownBy(
+            () -> newArrayList(commitLogic.commitIdLog(commitLogQuery(randomObjId()))))
+        .isInstanceOf(NoSuchElementException.class);
+
+    List<ObjId> expected = new ArrayList<>();
+    ObjId tip = EMPTY_OBJ_ID;
+    for (int i = 0; i < 150; i++) {
+      tip =
+          requireNonNull(
+                  commitLogic.doCommit(
+                      stdCommit().parentCommitId(tip).message("commit #" + i).build(),
+                      emptyList()))
+              .id();
+      expected.add(0, tip);
+    }
+
+    soft.assertThat(newArrayList(commitLogic.commitLog(commitLogQuery(tip))))
+        .extracting(Obj::id)
+        .containsExactlyElementsOf(expected);
+    soft.assertThat(newArrayList(commitLogic.commitIdLog(commitLogQuery(tip))))
+        .containsExactlyElementsOf(expected);
+
+    for (int i : new int[] {0, 1, 19, 20, 21, 77, 149}) {
+      ObjId end = expected.get(i);
+      soft.assertThat(newArrayList(commitLogic.commitLog(commitLogQuery(null, tip, end))))
+          .extracting(Obj::id)
+          .containsExactlyElementsOf(expected.subList(0, i + 1));
+      soft.assertThat(newArrayList(commitLogic.commitIdLog(commitLogQuery(null, tip, end))))
+          .containsExactlyElementsOf(expected.subList(0, i + 1));
+
+      PagingToken token = emptyPagingToken();
+      PagedResult<CommitObj, ObjId> iter = commitLogic.commitLog(commitLogQuery(tip));
+      for (int j = 0; j <= i; j++) {
+        token = iter.tokenForKey(iter.next().id());
+      }
+      soft.assertThat(newArrayList(commitLogic.commitLog(commitLogQuery(token, tip, null))))
+          .extracting(Obj::id)
+          .containsExactlyElementsOf(expected.subList(i, expected.size()));
+    }
+  }
+
+  @Test
+  public void commitLogMissingCommit(
+      @NessieStoreConfig(name = CONFIG_COMMIT_LOG_READ_AHEAD, value = "3") @NessiePersist
+          Persist readAheadPersist)
+      throws Exception {
+    // Read-ahead must not change the behavior for missing commits
+    for (Persist p : new Persist[] {persist, readAheadPersist}) {
+      CommitLogic commitLogic = commitLogic(p);
+
+      List<ObjId> expected = new ArrayList<>();
+      ObjId tip = EMPTY_OBJ_ID;
+      for (int i = 0; i < 50; i++) {
+        tip =
+            requireNonNull(
+                    commitLogic.doCommit(
+                        stdCommit().parentCommitId(tip).message("missing #" + i).build(),
+                        emptyList()))
+                .id();
+        expected.add(0, tip);
+      }
+
+      // The last commit in the tail of the HEAD commit
+      ObjId missing = expected.get(p.config().parentsPerCommit());
+      p.deleteObj(missing);
+
+      ObjId head = tip;
+      Iterator<ObjId> commitIds = commitLogic.commitIdLog(commitLogQuery(head));
+      for (int i = 0; i < p.config().parentsPerCommit(); i++) {
+        soft.assertThat(commitIds.next()).isEqualTo(expected.get(i));
+      }
+      soft.assertThatThrownBy(() -> newArrayList(commitIds))
+          .isInstanceOf(NoSuchElementException.class)
+          .hasMessage("Commit '" + missing + "' not found");
+
+      soft.assertThatThrownBy(() -> newArrayList(commitLogic.commitLog(commitLogQuery(head))))
+          .isInstanceOf(NoSuchElementException.class)
+          .hasMessage("Commit '" + missing + "' not found");
+    }
+  }
+
   @Test
   public void commitIdLog() throws Exception {
     CommitLogic commitLogic = commitLogic(persist);
@@ -28,6 +28,7 @@ import static org.projectnessie.versioned.storage.common.logic.Logics.repository
 import static org.projectnessie.versioned.storage.common.logic.ReferencesQuery.referencesQuery;
 import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.EMPTY_COMMIT_HEADERS;
 import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.STRING;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
 import static org.projectnessie.versioned.storage.common.persist.Reference.reference;
@@ -54,6 +55,7 @@ import org.projectnessie.versioned.storage.common.logic.RepositoryDescription;
 import org.projectnessie.versioned.storage.common.logic.RepositoryLogic;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.CommitType;
+import org.projectnessie.versioned.storage.common.objtypes.StringObj;
 import org.projectnessie.versioned.storage.common.persist.CloseableIterator;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
@@ -263,4 +265,27 @@ public class AbstractRepositoryLogicTests {
                 .defaultBranchName("main2")
                 .build());
   }
+
+  @Test
+  public void objCompressionDictionary() throws Exception {
+    RepositoryLogic repositoryLogic = repositoryLogic(persist);
+
+    repositoryLogic.initialize("main");
+    RepositoryDescription description = repositoryLogic.fetchRepositoryDescription();
+    soft.assertThat(repositoryLogic.fetchObjCompressionDictionaryId()).isNull();
+
+    byte[] dictionary1 = new byte[] {1, 2, 3, (byte) 0xff, 0};
+    byte[] dictionary2 = new byte[] {4, 5, 6};
+    ObjId id1 = repositoryLogic.updateObjCompressionDictionary(dictionary1);
+    soft.assertThat(repositoryLogic.fetchObjCompressionDictionaryId()).isEqualTo(id1);
+    ObjId id2 = repositoryLogic.updateObjCompressionDictionary(dictionary2);
+    soft.assertThat(repositoryLogic.fetchObjCompressionDictionaryId()).isEqualTo(id2);
+
+    // previous dictionaries remain available
+    soft.assertThat(persist.fetchTypedObj(id1, STRING, StringObj.class).text().toByteArray())
+        .containsExactly(dictionary1);
+    soft.assertThat(persist.fetchTypedObj(id2, STRING, StringObj.class).text().toByteArray())
+        .containsExactly(dictionary2);
+    soft.assertThat(repositoryLogic.fetchRepositoryDescription()).isEqualTo(description);
+  }
 }
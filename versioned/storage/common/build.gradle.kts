@@ -34,6 +34,7 @@ dependencies {
   compileOnly(libs.errorprone.annotations)
   implementation(libs.agrona)
   implementation(libs.guava)
+  implementation(libs.caffeine)
   implementation(project(path = ":nessie-protobuf-relocated", configuration = "shadow"))
   implementation(libs.slf4j.api)
 
@@ -46,6 +47,7 @@ dependencies {
   implementation("com.fasterxml.jackson.core:jackson-annotations")
 
   implementation(libs.snappy.java)
+  implementation(libs.zstd.jni)
 
   testImplementation(platform(libs.junit.bom))
   testImplementation(libs.bundles.junit.testing)
@@ -62,6 +64,7 @@ dependencies {
 
   jmhImplementation(libs.jmh.core)
   jmhImplementation(project(":nessie-versioned-storage-common-tests"))
+  jmhImplementation(project(":nessie-versioned-storage-inmemory"))
   jmhAnnotationProcessor(libs.jmh.generator.annprocess)
 }
 
@@ -69,4 +72,8 @@ tasks.named("processJmhJandexIndex").configure { enabled = false }
 
 tasks.named("processTestJandexIndex").configure { enabled = false }
 
-jmh { jmhVersion = libs.versions.jmh.get() }
+jmh {
+  jmhVersion = libs.versions.jmh.get()
+  // Report allocations per operation (gc.alloc.rate.norm)
+  profilers.add("gc")
+}
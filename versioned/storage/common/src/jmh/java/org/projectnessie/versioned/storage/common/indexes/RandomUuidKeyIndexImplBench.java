@@ -41,7 +41,11 @@ import org.projectnessie.versioned.storage.commontests.KeyIndexTestSet;
 import org.projectnessie.versioned.storage.commontests.KeyIndexTestSet.IndexTestSetGenerator;
 import org.projectnessie.versioned.storage.commontests.KeyIndexTestSet.RandomUuidKeySet;
 
-/** Benchmark that uses {@link RandomUuidKeySet} to generate keys. */
+/**
+ * Benchmark that uses {@link RandomUuidKeySet} to generate keys.
+ *
+ * <p>See {@link RealisticKeyIndexImplBench} regarding the {@code gc.alloc.rate.norm} values.
+ */
 @Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
 @Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
 @Fork(1)
@@ -88,4 +92,16 @@ public class RandomUuidKeyIndexImplBench {
   public void randomGetKey(BenchmarkParam param, Blackhole bh) {
     bh.consume(param.keyIndexTestSet.randomGetKey());
   }
+
+  @Benchmark
+  public void deserializeGetRandomKey(BenchmarkParam param, Blackhole bh) {
+    StoreIndex<CommitOp> deserialized = param.keyIndexTestSet.deserialize();
+    bh.consume(deserialized.get(param.keyIndexTestSet.randomKey()));
+  }
+
+  @Benchmark
+  public void deserializeContainsRandomKey(BenchmarkParam param, Blackhole bh) {
+    StoreIndex<CommitOp> deserialized = param.keyIndexTestSet.deserialize();
+    bh.consume(deserialized.contains(param.keyIndexTestSet.randomKey()));
+  }
 }
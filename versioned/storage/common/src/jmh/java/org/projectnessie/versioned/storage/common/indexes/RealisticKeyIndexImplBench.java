@@ -43,7 +43,13 @@ import org.projectnessie.versioned.storage.commontests.ImmutableRealisticKeySet;
 import org.projectnessie.versioned.storage.commontests.KeyIndexTestSet;
 import org.projectnessie.versioned.storage.commontests.KeyIndexTestSet.IndexTestSetGenerator;
 
-/** Benchmark that uses {@link RealisticKeySet} to generate keys. */
+/**
+ * Benchmark that uses {@link RealisticKeySet} to generate keys.
+ *
+ * <p>The {@code gc} profiler is enabled for the JMH runs of this module, use the reported {@code
+ * gc.alloc.rate.norm} values to compare the allocations per operation, especially of the lookup
+ * benchmarks on deserialized indexes.
+ */
 @Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
 @Measurement(iterations = 3, time = 1000, timeUnit = MILLISECONDS)
 @Fork(1)
@@ -132,6 +138,20 @@ public class RealisticKeyIndexImplBench {
     return deserialized.get(param.keyIndexTestSet.randomKey());
   }
 
+  @Benchmark
+  public boolean deserializeContainsRandomKey(BenchmarkParam param) {
+    StoreIndex<CommitOp> deserialized = param.keyIndexTestSet.deserialize();
+    return deserialized.contains(param.keyIndexTestSet.randomKey());
+  }
+
+  @Benchmark
+  public void deserializeGet25RandomKeys(BenchmarkParam param, Blackhole bh) {
+    StoreIndex<CommitOp> deserialized = param.keyIndexTestSet.deserialize();
+    for (int i = 0; i < 25; i++) {
+      bh.consume(deserialized.get(param.keyIndexTestSet.randomKey()));
+    }
+  }
+
   @Benchmark
   public void deserializeIterate250(BenchmarkParam param, Blackhole bh) {
     StoreIndex<CommitOp> deserialized = param.keyIndexTestSet.deserialize();
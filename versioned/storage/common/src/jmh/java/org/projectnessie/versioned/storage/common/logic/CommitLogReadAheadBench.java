@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.logic;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.commitLogQuery;
+import static org.projectnessie.versioned.storage.common.logic.CreateCommit.newCommitBuilder;
+import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.EMPTY_COMMIT_HEADERS;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Iterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.persist.Backend;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.inmemory.InmemoryBackendFactory;
+
+/**
+ * Measures the latency to read a commit log page against a simulated high-latency backend, with
+ * and without commit log read-ahead.
+ */
+@Warmup(iterations = 2, time = 2000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 3, time = 2000, timeUnit = MILLISECONDS)
+@Fork(1)
+@Threads(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+public class CommitLogReadAheadBench {
+  @State(Scope.Benchmark)
+  public static class BenchmarkParam {
+
+    @Param({"0", "1", "4"})
+    public int readAhead;
+
+    @Param({"2"})
+    public int backendLatencyMillis;
+
+    @Param({"100", "1000"})
+    public int pageSize;
+
+    @Param({"20"})
+    public int parentsPerCommit;
+
+    private Backend backend;
+    private CommitLogic commitLogic;
+    private ObjId head;
+
+    @Setup
+    public void init() throws Exception {
+      InmemoryBackendFactory factory = new InmemoryBackendFactory();
+      backend = factory.buildBackend(factory.newConfigInstance());
+      backend.setupSchema();
+      Persist persist =
+          backend
+              .createFactory()
+              .newPersist(
+                  StoreConfig.Adjustable.empty()
+                      .withParentsPerCommit(parentsPerCommit)
+                      .withCommitLogReadAhead(readAhead));
+
+      CommitLogic writer = commitLogic(persist);
+      head = EMPTY_OBJ_ID;
+      for (int i = 0; i < pageSize + parentsPerCommit; i++) {
+        head =
+            requireNonNull(
+                    writer.doCommit(
+                        newCommitBuilder()
+                            .parentCommitId(head)
+                            .headers(EMPTY_COMMIT_HEADERS)
+                            .message("commit #" + i)
+                            .build(),
+                        emptyList()))
+                .id();
+      }
+
+      commitLogic = commitLogic(highLatency(persist, backendLatencyMillis));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+      backend.close();
+    }
+  }
+
+  @Benchmark
+  public void commitLogPage(BenchmarkParam param, Blackhole bh) {
+    Iterator<CommitObj> iter = param.commitLogic.commitLog(commitLogQuery(param.head));
+    for (int i = 0; i < param.pageSize && iter.hasNext(); i++) {
+      bh.consume(iter.next());
+    }
+  }
+
+  @Benchmark
+  public void commitIdLogPage(BenchmarkParam param, Blackhole bh) {
+    Iterator<ObjId> iter = param.commitLogic.commitIdLog(commitLogQuery(param.head));
+    for (int i = 0; i < param.pageSize && iter.hasNext(); i++) {
+      bh.consume(iter.next());
+    }
+  }
+
+  /** Simulates a high-latency database by delaying all {@code fetch*} calls. */
+  static Persist highLatency(Persist persist, int latencyMillis) {
+    return (Persist)
+        Proxy.newProxyInstance(
+            Persist.class.getClassLoader(),
+            new Class<?>[] {Persist.class},
+            (proxy, method, args) -> {
+              if (method.getName().startsWith("fetch")) {
+                Thread.sleep(latencyMillis);
+              }
+              try {
+                return method.invoke(persist, args);
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              }
+            });
+  }
+}
@@ -21,9 +21,11 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Function;
 import org.immutables.value.Value;
+import org.projectnessie.versioned.storage.common.objtypes.Compression;
 
 public interface StoreConfig {
 
@@ -33,12 +35,27 @@ public interface StoreConfig {
   String CONFIG_PARENTS_PER_COMMIT = "parents-per-commit";
   int DEFAULT_PARENTS_PER_COMMIT = 20;
 
+  String CONFIG_COMMIT_LOG_READ_AHEAD = "commit-log-read-ahead";
+  int DEFAULT_COMMIT_LOG_READ_AHEAD = 0;
+
+  String CONFIG_CONTENT_FETCH_BATCH_SIZE = "content-fetch-batch-size";
+  int DEFAULT_CONTENT_FETCH_BATCH_SIZE = 50;
+
+  String CONFIG_CONTENT_FETCH_PARALLELISM = "content-fetch-parallelism";
+  int DEFAULT_CONTENT_FETCH_PARALLELISM = 1;
+
+  String CONFIG_ASYNC_READ_THREADS = "async-read-threads";
+  int DEFAULT_ASYNC_READ_THREADS = 16;
+
   String CONFIG_COMMIT_TIMEOUT_MILLIS = "commit-timeout-millis";
   int DEFAULT_COMMIT_TIMEOUT_MILLIS = 5_000;
 
   String CONFIG_COMMIT_RETRIES = "commit-retries";
   int DEFAULT_COMMIT_RETRIES = Integer.MAX_VALUE;
 
+  String CONFIG_COMMIT_GROUP_MAX_SIZE = "commit-group-max-size";
+  int DEFAULT_COMMIT_GROUP_MAX_SIZE = 0;
+
   String CONFIG_RETRY_INITIAL_SLEEP_MILLIS_LOWER = "retry-initial-sleep-millis-lower";
   int DEFAULT_RETRY_INITIAL_SLEEP_MILLIS_LOWER = 5;
 
@@ -48,6 +65,12 @@ public interface StoreConfig {
   String CONFIG_RETRY_MAX_SLEEP_MILLIS = "retry-max-sleep-millis";
   int DEFAULT_RETRY_MAX_SLEEP_MILLIS = 250;
 
+  String CONFIG_RETRY_ADAPTIVE_BACKOFF = "retry-adaptive-backoff";
+  boolean DEFAULT_RETRY_ADAPTIVE_BACKOFF = false;
+
+  String CONFIG_RETRY_OVERLOAD_THRESHOLD = "retry-overload-threshold";
+  int DEFAULT_RETRY_OVERLOAD_THRESHOLD = 0;
+
   String CONFIG_MAX_INCREMENTAL_INDEX_SIZE = "max-incremental-index-size";
   int DEFAULT_MAX_INCREMENTAL_INDEX_SIZE = 50 * 1024;
 
@@ -57,6 +80,22 @@ public interface StoreConfig {
   String CONFIG_MAX_REFERENCE_STRIPES_PER_COMMIT = "max-reference-stripes-per-commit";
   int DEFAULT_MAX_REFERENCE_STRIPES_PER_COMMIT = 50;
 
+  String CONFIG_INDEX_STRIPE_BLOOM_FILTER_FPP = "index-stripe-bloom-filter-fpp";
+  double DEFAULT_INDEX_STRIPE_BLOOM_FILTER_FPP = 0d;
+
+  String CONFIG_OBJ_COMPRESSION = "obj-compression";
+  String DEFAULT_OBJ_COMPRESSION = "NONE";
+
+  String CONFIG_OBJ_COMPRESSION_TYPES = "obj-compression-types";
+  String DEFAULT_OBJ_COMPRESSION_TYPES = "COMMIT,INDEX,INDEX_SEGMENTS,VALUE";
+
+  String CONFIG_OBJ_COMPRESSION_MIN_SIZE = "obj-compression-min-size";
+  int DEFAULT_OBJ_COMPRESSION_MIN_SIZE = 1024;
+
+  String CONFIG_OBJ_COMPRESSION_DICTIONARY_REFRESH_SECONDS =
+      "obj-compression-dictionary-refresh-seconds";
+  int DEFAULT_OBJ_COMPRESSION_DICTIONARY_REFRESH_SECONDS = 300;
+
   String CONFIG_ASSUMED_WALL_CLOCK_DRIFT_MICROS = "assumed-wall-clock-drift-micros";
   long DEFAULT_ASSUMED_WALL_CLOCK_DRIFT_MICROS = 5_000_000L;
 
@@ -133,6 +172,20 @@ public interface StoreConfig {
     return DEFAULT_COMMIT_TIMEOUT_MILLIS;
   }
 
+  /**
+   * Maximum number of concurrent commits to the same branch that are chained into consecutive
+   * commits and made visible with a single reference pointer update. Commits are queued per branch
+   * within a Nessie instance, which reduces the contention on the reference pointer when many
+   * clients commit to the same branch. Defaults to {@code 0}, which disables grouping of commits.
+   *
+   * @see #commitRetries()
+   * @see #commitTimeoutMillis()
+   */
+  @Value.Default
+  default int commitGroupMaxSize() {
+    return DEFAULT_COMMIT_GROUP_MAX_SIZE;
+  }
+
   /**
    * When the commit logic has to retry an operation due to a concurrent, conflicting update to the
    * database state, usually a concurrent change to a branch HEAD, this parameter defines the
@@ -179,6 +232,35 @@ public interface StoreConfig {
     return DEFAULT_RETRY_MAX_SLEEP_MILLIS;
   }
 
+  /**
+   * When enabled, the initial bounds of the exponential backoff of commit retries are adapted to
+   * the observed contention of the reference: the upper bound is multiplied by the number of
+   * committers that are concurrently retrying against the same reference, and the lower bound is
+   * raised to the average duration of recent successful commits to that reference, both limited
+   * by {@link #retryMaxSleepMillis()}.
+   *
+   * @see #retryInitialSleepMillisLower()
+   * @see #retryInitialSleepMillisUpper()
+   * @see #retryOverloadThreshold()
+   */
+  @Value.Default
+  default boolean retryAdaptiveBackoff() {
+    return DEFAULT_RETRY_ADAPTIVE_BACKOFF;
+  }
+
+  /**
+   * Maximum number of committers that may concurrently retry commits against the same reference.
+   * Commits that would exceed this number fail immediately instead of retrying, reported like a
+   * commit retry timeout. Defaults to {@code 0}, which means no limit.
+   *
+   * @see #commitRetries()
+   * @see #retryAdaptiveBackoff()
+   */
+  @Value.Default
+  default int retryOverloadThreshold() {
+    return DEFAULT_RETRY_OVERLOAD_THRESHOLD;
+  }
+
   /**
    * Number of parent-commit-hashes stored in each commit. This is used to allow bulk-fetches when
    * accessing the commit log.
@@ -188,6 +270,52 @@ public interface StoreConfig {
     return DEFAULT_PARENTS_PER_COMMIT;
   }
 
+  /**
+   * Number of commit log pages to fetch ahead, while the commit log is being iterated. Each page
+   * contains up to {@link #parentsPerCommit()} commits, the IDs of the commits of the next page are
+   * taken from the last commit of the previous page. Read-ahead reduces the latency of commit log
+   * requests against databases with high per-request latencies, at the cost of potentially
+   * fetching commits that are not consumed. Defaults to {@code 0}, which disables read-ahead.
+   */
+  @Value.Default
+  default int commitLogReadAhead() {
+    return DEFAULT_COMMIT_LOG_READ_AHEAD;
+  }
+
+  /**
+   * Number of content objects fetched from the database with a single bulk-fetch, when listing
+   * keys with content values or when retrieving the values for many keys.
+   *
+   * @see #contentFetchParallelism()
+   */
+  @Value.Default
+  default int contentFetchBatchSize() {
+    return DEFAULT_CONTENT_FETCH_BATCH_SIZE;
+  }
+
+  /**
+   * Maximum number of concurrent bulk-fetches of content objects per request, each fetching up to
+   * {@link #contentFetchBatchSize()} objects. Listing keys with content values fetches the next
+   * batches while the entries of the current batch are returned, which may fetch batches that are
+   * not consumed. Defaults to {@code 1}, which fetches the batches one after another and only when
+   * needed.
+   */
+  @Value.Default
+  default int contentFetchParallelism() {
+    return DEFAULT_CONTENT_FETCH_PARALLELISM;
+  }
+
+  /**
+   * Maximum number of threads that run concurrent reads, like commit log read-ahead and concurrent
+   * content fetches, against databases whose drivers do not support non-blocking reads. The
+   * threads are shared by all requests against the same backend, further reads are queued. The
+   * threads are stopped when the backend is closed.
+   */
+  @Value.Default
+  default int asyncReadThreads() {
+    return DEFAULT_ASYNC_READ_THREADS;
+  }
+
   /**
    * The maximum allowed serialized size of the content index structure in a <em>Nessie commit</em>,
    * called <em>incremental index</em>. This value is used to determine, when elements in an
@@ -227,6 +355,82 @@ public interface StoreConfig {
     return DEFAULT_MAX_REFERENCE_STRIPES_PER_COMMIT;
   }
 
+  /**
+   * False-positive probability of the Bloom filters that are persisted for each stripe of a
+   * reference index. Bloom filters allow answering lookups for keys that do not exist in a
+   * reference index without fetching the covering stripe. Each Bloom filter takes roughly 1.2 bytes
+   * per key in the stripe for a false-positive probability of {@code 0.01}, which increases the
+   * size of the stripe lists in commits and index segment objects accordingly.
+   *
+   * <p>Defaults to {@code 0}, which disables Bloom filters for new stripes. Stripes persisted with
+   * or without Bloom filters can always be read.
+   */
+  @Value.Default
+  default double indexStripeBloomFilterFpp() {
+    return DEFAULT_INDEX_STRIPE_BLOOM_FILTER_FPP;
+  }
+
+  /**
+   * Compression applied to serialized objects of the {@link #objCompressionTypes() configured
+   * object types} before those are written to the database. Supported values are {@code NONE},
+   * {@code GZIP}, {@code DEFLATE}, {@code SNAPPY} and {@code ZSTD}.
+   *
+   * <p>Defaults to {@code NONE}, which disables object compression. Compressed and uncompressed
+   * objects can always be read, so changing this setting does not require a migration.
+   *
+   * <p>Size limits like {@link #maxSerializedIndexSize()} always apply to the uncompressed size.
+   */
+  @Value.Default
+  default Compression objCompression() {
+    return Compression.valueOf(DEFAULT_OBJ_COMPRESSION);
+  }
+
+  /**
+   * Returns the given compression, if it is supported for {@link #objCompression()}, throws an
+   * {@link IllegalArgumentException} otherwise.
+   */
+  static Compression checkObjCompression(Compression compression) {
+    if (compression == Compression.LZ4) {
+      throw new IllegalArgumentException(
+          "Unsupported "
+              + CONFIG_OBJ_COMPRESSION
+              + " value "
+              + compression
+              + ", supported values are NONE, GZIP, DEFLATE, SNAPPY and ZSTD");
+    }
+    return compression;
+  }
+
+  /**
+   * Comma-separated list of the names or short names of the object types that are compressed, if
+   * {@link #objCompression()} is enabled. Defaults to commits, indexes, index segments and content
+   * values.
+   */
+  @Value.Default
+  default String objCompressionTypes() {
+    return DEFAULT_OBJ_COMPRESSION_TYPES;
+  }
+
+  /**
+   * Minimum size in bytes of a serialized object to be compressed, if {@link #objCompression()} is
+   * enabled. Objects are only stored compressed, if that is smaller than the uncompressed object.
+   */
+  @Value.Default
+  default int objCompressionMinSize() {
+    return DEFAULT_OBJ_COMPRESSION_MIN_SIZE;
+  }
+
+  /**
+   * Interval in seconds to check for a newly trained compression dictionary of the repository, if
+   * {@link #objCompression()} is {@code ZSTD}. Commits, indexes and index segments are compressed
+   * using the current dictionary, if one has been trained. A value of {@code 0} disables the use of
+   * trained dictionaries for compression, objects compressed using a dictionary can always be read.
+   */
+  @Value.Default
+  default int objCompressionDictionaryRefreshSeconds() {
+    return DEFAULT_OBJ_COMPRESSION_DICTIONARY_REFRESH_SECONDS;
+  }
+
   /** Assumed wall-clock drift between multiple Nessie instances in microseconds. */
   @Value.Default
   default long assumedWallClockDriftMicros() {
@@ -310,6 +514,11 @@ public interface StoreConfig {
       return ImmutableAdjustable.builder().build();
     }
 
+    @Value.Check
+    default void check() {
+      checkObjCompression(objCompression());
+    }
+
     default Adjustable from(StoreConfig config) {
       return ImmutableAdjustable.builder().from(this).from(config).build();
     }
@@ -330,6 +539,10 @@ public interface StoreConfig {
       if (v != null) {
         a = a.withCommitTimeoutMillis(Long.parseLong(v.trim()));
       }
+      v = configFunction.apply(CONFIG_COMMIT_GROUP_MAX_SIZE);
+      if (v != null) {
+        a = a.withCommitGroupMaxSize(Integer.parseInt(v.trim()));
+      }
       v = configFunction.apply(CONFIG_RETRY_INITIAL_SLEEP_MILLIS_LOWER);
       if (v != null) {
         a = a.withRetryInitialSleepMillisLower(Long.parseLong(v.trim()));
@@ -342,10 +555,34 @@ public interface StoreConfig {
       if (v != null) {
         a = a.withRetryMaxSleepMillis(Long.parseLong(v.trim()));
       }
+      v = configFunction.apply(CONFIG_RETRY_ADAPTIVE_BACKOFF);
+      if (v != null) {
+        a = a.withRetryAdaptiveBackoff(Boolean.parseBoolean(v.trim()));
+      }
+      v = configFunction.apply(CONFIG_RETRY_OVERLOAD_THRESHOLD);
+      if (v != null) {
+        a = a.withRetryOverloadThreshold(Integer.parseInt(v.trim()));
+      }
       v = configFunction.apply(CONFIG_PARENTS_PER_COMMIT);
       if (v != null) {
         a = a.withParentsPerCommit(Integer.parseInt(v.trim()));
       }
+      v = configFunction.apply(CONFIG_COMMIT_LOG_READ_AHEAD);
+      if (v != null) {
+        a = a.withCommitLogReadAhead(Integer.parseInt(v.trim()));
+      }
+      v = configFunction.apply(CONFIG_CONTENT_FETCH_BATCH_SIZE);
+      if (v != null) {
+        a = a.withContentFetchBatchSize(Integer.parseInt(v.trim()));
+      }
+      v = configFunction.apply(CONFIG_CONTENT_FETCH_PARALLELISM);
+      if (v != null) {
+        a = a.withContentFetchParallelism(Integer.parseInt(v.trim()));
+      }
+      v = configFunction.apply(CONFIG_ASYNC_READ_THREADS);
+      if (v != null) {
+        a = a.withAsyncReadThreads(Integer.parseInt(v.trim()));
+      }
       v = configFunction.apply(CONFIG_MAX_INCREMENTAL_INDEX_SIZE);
       if (v != null) {
         a = a.withMaxIncrementalIndexSize(Integer.parseInt(v.trim()));
@@ -358,6 +595,26 @@ public interface StoreConfig {
       if (v != null) {
         a = a.withMaxReferenceStripesPerCommit(Integer.parseInt(v.trim()));
       }
+      v = configFunction.apply(CONFIG_INDEX_STRIPE_BLOOM_FILTER_FPP);
+      if (v != null) {
+        a = a.withIndexStripeBloomFilterFpp(Double.parseDouble(v.trim()));
+      }
+      v = configFunction.apply(CONFIG_OBJ_COMPRESSION);
+      if (v != null) {
+        a = a.withObjCompression(Compression.valueOf(v.trim().toUpperCase(Locale.ROOT)));
+      }
+      v = configFunction.apply(CONFIG_OBJ_COMPRESSION_TYPES);
+      if (v != null) {
+        a = a.withObjCompressionTypes(v.trim());
+      }
+      v = configFunction.apply(CONFIG_OBJ_COMPRESSION_MIN_SIZE);
+      if (v != null) {
+        a = a.withObjCompressionMinSize(Integer.parseInt(v.trim()));
+      }
+      v = configFunction.apply(CONFIG_OBJ_COMPRESSION_DICTIONARY_REFRESH_SECONDS);
+      if (v != null) {
+        a = a.withObjCompressionDictionaryRefreshSeconds(Integer.parseInt(v.trim()));
+      }
       v = configFunction.apply(CONFIG_ASSUMED_WALL_CLOCK_DRIFT_MICROS);
       if (v != null) {
         a = a.withAssumedWallClockDriftMicros(Integer.parseInt(v.trim()));
@@ -394,6 +651,9 @@ public interface StoreConfig {
     /** See {@link StoreConfig#commitTimeoutMillis()}. */
     Adjustable withCommitTimeoutMillis(long commitTimeoutMillis);
 
+    /** See {@link StoreConfig#commitGroupMaxSize()}. */
+    Adjustable withCommitGroupMaxSize(int commitGroupMaxSize);
+
     /** See {@link StoreConfig#retryInitialSleepMillisLower()}. */
     Adjustable withRetryInitialSleepMillisLower(long retryInitialSleepMillisLower);
 
@@ -403,9 +663,27 @@ public interface StoreConfig {
     /** See {@link StoreConfig#retryMaxSleepMillis()}. */
     Adjustable withRetryMaxSleepMillis(long retryMaxSleepMillis);
 
+    /** See {@link StoreConfig#retryAdaptiveBackoff()}. */
+    Adjustable withRetryAdaptiveBackoff(boolean retryAdaptiveBackoff);
+
+    /** See {@link StoreConfig#retryOverloadThreshold()}. */
+    Adjustable withRetryOverloadThreshold(int retryOverloadThreshold);
+
     /** See {@link StoreConfig#parentsPerCommit()}. */
     Adjustable withParentsPerCommit(int parentsPerCommit);
 
+    /** See {@link StoreConfig#commitLogReadAhead()}. */
+    Adjustable withCommitLogReadAhead(int commitLogReadAhead);
+
+    /** See {@link StoreConfig#contentFetchBatchSize()}. */
+    Adjustable withContentFetchBatchSize(int contentFetchBatchSize);
+
+    /** See {@link StoreConfig#contentFetchParallelism()}. */
+    Adjustable withContentFetchParallelism(int contentFetchParallelism);
+
+    /** See {@link StoreConfig#asyncReadThreads()}. */
+    Adjustable withAsyncReadThreads(int asyncReadThreads);
+
     /** See {@link StoreConfig#maxIncrementalIndexSize()}. */
     Adjustable withMaxIncrementalIndexSize(int maxIncrementalIndexSize);
 
@@ -415,6 +693,22 @@ public interface StoreConfig {
     /** See {@link StoreConfig#maxReferenceStripesPerCommit()}. */
     Adjustable withMaxReferenceStripesPerCommit(int maxReferenceStripesPerCommit);
 
+    /** See {@link StoreConfig#indexStripeBloomFilterFpp()}. */
+    Adjustable withIndexStripeBloomFilterFpp(double indexStripeBloomFilterFpp);
+
+    /** See {@link StoreConfig#objCompression()}. */
+    Adjustable withObjCompression(Compression objCompression);
+
+    /** See {@link StoreConfig#objCompressionTypes()}. */
+    Adjustable withObjCompressionTypes(String objCompressionTypes);
+
+    /** See {@link StoreConfig#objCompressionMinSize()}. */
+    Adjustable withObjCompressionMinSize(int objCompressionMinSize);
+
+    /** See {@link StoreConfig#objCompressionDictionaryRefreshSeconds()}. */
+    Adjustable withObjCompressionDictionaryRefreshSeconds(
+        int objCompressionDictionaryRefreshSeconds);
+
     /** See {@link StoreConfig#assumedWallClockDriftMicros()}. */
     Adjustable withAssumedWallClockDriftMicros(long assumedWallClockDriftMicros);
 
@@ -21,11 +21,22 @@ public final class RetryTimeoutException extends Exception {
 
   private final int retry;
   private final long timeNanos;
+  private final boolean overloaded;
 
   public RetryTimeoutException(int retry, long timeNanos) {
-    super("Retry timeout after " + Duration.ofNanos(timeNanos) + ", " + retry + " retries");
+    this(retry, timeNanos, false);
+  }
+
+  public RetryTimeoutException(int retry, long timeNanos, boolean overloaded) {
+    super(
+        (overloaded ? "Reference overloaded after " : "Retry timeout after ")
+            + Duration.ofNanos(timeNanos)
+            + ", "
+            + retry
+            + " retries");
     this.retry = retry;
     this.timeNanos = timeNanos;
+    this.overloaded = overloaded;
   }
 
   public int getRetry() {
@@ -35,4 +46,12 @@ public final class RetryTimeoutException extends Exception {
   public long getTimeNanos() {
     return timeNanos;
   }
+
+  /**
+   * Whether the operation failed fast, because too many concurrent operations were retrying
+   * against the same reference.
+   */
+  public boolean isOverloaded() {
+    return overloaded;
+  }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.indexes;
+
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.Iterators.unmodifiableIterator;
+import static java.util.Collections.emptyList;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+
+/**
+ * Immutable, fully loaded copy of another index, safe for concurrent reads from multiple threads.
+ */
+final class ImmutableIndexImpl<V> implements StoreIndex<V> {
+
+  private final ElementSerializer<V> serializer;
+  private final StoreIndex<V> elements;
+
+  ImmutableIndexImpl(StoreIndex<V> source, ElementSerializer<V> serializer) {
+    this.serializer = serializer;
+    this.elements = copy(source, serializer);
+  }
+
+  private static <V> StoreIndex<V> copy(StoreIndex<V> source, ElementSerializer<V> serializer) {
+    // Elements are returned in natural order, so the copy does not need to search for the position
+    // of each element.
+    ArrayList<StoreIndexElement<V>> elements = new ArrayList<>(source.elementCount());
+    StoreKey previous = null;
+    for (StoreIndexElement<V> el : source) {
+      StoreKey key = el.key();
+      checkState(
+          previous == null || previous.compareTo(key) <= 0, "Index elements are not in order");
+      StoreIndexElement<V> element = indexElement(key, el.content());
+      if (key.equals(previous)) {
+        elements.set(elements.size() - 1, element);
+      } else {
+        elements.add(element);
+      }
+      previous = key;
+    }
+    return StoreIndexImpl.fromSortedElements(elements, serializer);
+  }
+
+  @Override
+  public boolean isModified() {
+    return false;
+  }
+
+  @Override
+  public StoreIndex<V> loadIfNecessary(Set<StoreKey> keys) {
+    return this;
+  }
+
+  @Override
+  public boolean isLoaded() {
+    return true;
+  }
+
+  @Override
+  public StoreIndex<V> asMutableIndex() {
+    return copy(elements, serializer);
+  }
+
+  @Override
+  public boolean isMutable() {
+    return false;
+  }
+
+  @Override
+  public List<StoreIndex<V>> divide(int parts) {
+    throw new UnsupportedOperationException("Operation not supported for non-mutable indexes");
+  }
+
+  @Override
+  public List<StoreIndex<V>> stripes() {
+    return emptyList();
+  }
+
+  @Override
+  public int elementCount() {
+    return elements.elementCount();
+  }
+
+  @Override
+  public int estimatedSerializedSize() {
+    return elements.estimatedSerializedSize();
+  }
+
+  @Override
+  public boolean add(@Nonnull StoreIndexElement<V> element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void updateAll(Function<StoreIndexElement<V>, V> updater) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(@Nonnull StoreKey key) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean contains(@Nonnull StoreKey key) {
+    return elements.contains(key);
+  }
+
+  @Nullable
+  @Override
+  public StoreIndexElement<V> get(@Nonnull StoreKey key) {
+    return elements.get(key);
+  }
+
+  @Nullable
+  @Override
+  public StoreKey first() {
+    return elements.first();
+  }
+
+  @Nullable
+  @Override
+  public StoreKey last() {
+    return elements.last();
+  }
+
+  @Override
+  public List<StoreKey> asKeyList() {
+    return elements.asKeyList();
+  }
+
+  @Nonnull
+  @Override
+  public Iterator<StoreIndexElement<V>> iterator(
+      @Nullable StoreKey begin, @Nullable StoreKey end, boolean prefetch) {
+    return unmodifiableIterator(elements.iterator(begin, end, prefetch));
+  }
+
+  @Nonnull
+  @Override
+  public ByteString serialize() {
+    // Serialization uses a scratch buffer in the wrapped index.
+    synchronized (elements) {
+      return elements.serialize();
+    }
+  }
+}
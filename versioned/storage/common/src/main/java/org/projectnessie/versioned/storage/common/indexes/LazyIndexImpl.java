@@ -32,6 +32,7 @@ final class LazyIndexImpl<V> implements StoreIndex<V> {
   private final Supplier<StoreIndex<V>> loader;
   private boolean loaded;
   private ObjId objId;
+  private StoreKeyBloomFilter bloomFilter;
   private final StoreKey firstKey;
   private final StoreKey lastKey;
 
@@ -64,6 +65,17 @@ final class LazyIndexImpl<V> implements StoreIndex<V> {
     return this;
   }
 
+  @Override
+  public StoreKeyBloomFilter getBloomFilter() {
+    return isModified() ? null : bloomFilter;
+  }
+
+  @Override
+  public StoreIndex<V> setBloomFilter(StoreKeyBloomFilter bloomFilter) {
+    this.bloomFilter = bloomFilter;
+    return this;
+  }
+
   @Override
   public boolean isModified() {
     if (!loaded) {
@@ -132,15 +144,26 @@ final class LazyIndexImpl<V> implements StoreIndex<V> {
     if (!loaded && (key.equals(firstKey) || key.equals(lastKey))) {
       return true;
     }
+    if (definitelyNotContained(key)) {
+      return false;
+    }
     return loaded().contains(key);
   }
 
   @Override
   @Nullable
   public StoreIndexElement<V> get(@Nonnull StoreKey key) {
+    if (definitelyNotContained(key)) {
+      return null;
+    }
     return loaded().get(key);
   }
 
+  private boolean definitelyNotContained(StoreKey key) {
+    StoreKeyBloomFilter filter = bloomFilter;
+    return !loaded && filter != null && !filter.mightContain(key);
+  }
+
   @Override
   @Nullable
   public StoreKey first() {
@@ -43,6 +43,19 @@ public interface StoreIndex<V> extends Iterable<StoreIndexElement<V>> {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * The Bloom filter over the keys of this index, if this index represents an unmodified reference
+   * index stripe that has been persisted with a Bloom filter, otherwise {@code null}.
+   */
+  @Nullable
+  default StoreKeyBloomFilter getBloomFilter() {
+    return null;
+  }
+
+  default StoreIndex<V> setBloomFilter(StoreKeyBloomFilter bloomFilter) {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * Load the index, if this instance represents a lazily loaded index instance.
    *
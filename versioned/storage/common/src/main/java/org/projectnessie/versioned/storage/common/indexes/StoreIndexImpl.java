@@ -35,6 +35,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -133,9 +134,35 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   private final int originalSerializedSize;
 
   private int estimatedSerializedSizeDiff;
-  private final List<StoreIndexElement<V>> elements;
+
+  /**
+   * The elements of this index, {@code null} for a deserialized index that has not been accessed
+   * via functions that require the elements, see {@link #elements()}.
+   */
+  private List<StoreIndexElement<V>> elements;
+
   private final ElementSerializer<V> serializer;
 
+  /**
+   * Offset table of a deserialized index, used as long as {@link #elements} has not been
+   * materialized. Holds five {@code int}s per element: key offset, prefix length, value offset, end
+   * offset and the index of the predecessor, see {@link LazyStoreIndexElement}.
+   *
+   * <p>Point lookups via {@link #get(StoreKey)} and {@link #contains(StoreKey)} perform the binary
+   * search directly on the serialized representation using this table, without materializing any
+   * {@link StoreKey} except the one of the returned element.
+   */
+  private int[] offsets;
+
+  private int offsetsSize;
+
+  private static final int ENTRY_KEY_OFFSET = 0;
+  private static final int ENTRY_PREFIX_LEN = 1;
+  private static final int ENTRY_VALUE_OFFSET = 2;
+  private static final int ENTRY_END_OFFSET = 3;
+  private static final int ENTRY_PREDECESSOR = 4;
+  private static final int ENTRY_INTS = 5;
+
   /**
    * Buffer that holds the raw serialized value of a store index. This buffer's {@link
    * ByteBuffer#position()} and {@link ByteBuffer#limit()} are updated by the users of this buffer
@@ -152,6 +179,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   private boolean modified;
   private ObjId objId;
+  private StoreKeyBloomFilter bloomFilter;
 
   // NOTE: The implementation uses j.u.ArrayList to optimize for reads. Additions to this data
   // structure are rather inefficient, when elements need to be added "in the middle" of the
@@ -195,6 +223,17 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     return this;
   }
 
+  @Override
+  public StoreKeyBloomFilter getBloomFilter() {
+    return modified ? null : bloomFilter;
+  }
+
+  @Override
+  public StoreIndex<V> setBloomFilter(StoreKeyBloomFilter bloomFilter) {
+    this.bloomFilter = bloomFilter;
+    return this;
+  }
+
   @Override
   public StoreIndex<V> loadIfNecessary(Set<StoreKey> keys) {
     return this;
@@ -217,7 +256,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public List<StoreIndex<V>> divide(int parts) {
-    List<StoreIndexElement<V>> elems = elements;
+    List<StoreIndexElement<V>> elems = elements();
     int size = elems.size();
     checkArgument(
         parts > 0 && parts <= size,
@@ -231,7 +270,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     int index = 0;
     for (int i = 0; i < parts; i++) {
       int end = i < parts - 1 ? index + partSize : elems.size();
-      List<StoreIndexElement<V>> partElements = new ArrayList<>(elements.subList(index, end));
+      List<StoreIndexElement<V>> partElements = new ArrayList<>(elems.subList(index, end));
       StoreIndexImpl<V> part = new StoreIndexImpl<>(partElements, serializedMax, serializer, true);
       result.add(part);
       index = end;
@@ -246,12 +285,13 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public int elementCount() {
-    return elements.size();
+    List<StoreIndexElement<V>> e = elements;
+    return e != null ? e.size() : offsetsSize;
   }
 
   @Override
   public void updateAll(Function<StoreIndexElement<V>, V> updater) {
-    List<StoreIndexElement<V>> e = elements;
+    List<StoreIndexElement<V>> e = elements();
     ElementSerializer<V> serializer = this.serializer;
     int size = e.size();
     for (int i = 0; i < size; i++) {
@@ -276,7 +316,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   @Override
   public boolean add(@Nonnull StoreIndexElement<V> element) {
     modified = true;
-    List<StoreIndexElement<V>> e = elements;
+    List<StoreIndexElement<V>> e = elements();
     ElementSerializer<V> serializer = this.serializer;
     int idx = search(e, element);
     int elementSerializedSize = element.contentSerializedSize(serializer);
@@ -308,7 +348,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public boolean remove(@Nonnull StoreKey key) {
-    List<StoreIndexElement<V>> e = elements;
+    List<StoreIndexElement<V>> e = elements();
     int idx = search(e, key);
     if (idx < 0) {
       return false;
@@ -329,13 +369,21 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public boolean contains(@Nonnull StoreKey key) {
-    int idx = search(elements, key);
+    List<StoreIndexElement<V>> e = elements;
+    int idx = e != null ? search(e, key) : searchSerialized(key);
     return idx >= 0;
   }
 
   @Override
   public @Nullable StoreIndexElement<V> get(@Nonnull StoreKey key) {
     List<StoreIndexElement<V>> e = elements;
+    if (e == null) {
+      int idx = searchSerialized(key);
+      if (idx < 0) {
+        return null;
+      }
+      return indexElement(serializedKey(idx), serializedContent(idx));
+    }
     int idx = search(e, key);
     if (idx < 0) {
       return null;
@@ -347,6 +395,9 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   @Override
   public StoreKey first() {
     List<StoreIndexElement<V>> e = elements;
+    if (e == null) {
+      return offsetsSize == 0 ? null : serializedKey(0);
+    }
     return e.isEmpty() ? null : e.get(0).key();
   }
 
@@ -354,13 +405,16 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   @Override
   public StoreKey last() {
     List<StoreIndexElement<V>> e = elements;
+    if (e == null) {
+      return offsetsSize == 0 ? null : serializedKey(offsetsSize - 1);
+    }
     return e.isEmpty() ? null : e.get(e.size() - 1).key();
   }
 
   @Override
   public @Nonnull Iterator<StoreIndexElement<V>> iterator(
       @Nullable StoreKey begin, @Nullable StoreKey end, boolean prefetch) {
-    List<StoreIndexElement<V>> e = elements;
+    List<StoreIndexElement<V>> e = elements();
 
     if (begin == null && end == null) {
       return e.iterator();
@@ -393,7 +447,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
   }
 
   private int iteratorIndex(StoreKey from, int exactAdd) {
-    int fromIdx = search(elements, from);
+    int fromIdx = search(elements(), from);
     if (fromIdx < 0) {
       fromIdx = -fromIdx - 1;
     } else {
@@ -413,13 +467,13 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     }
     @SuppressWarnings("unchecked")
     StoreIndexImpl<V> that = (StoreIndexImpl<V>) o;
-    return elements.equals(that.elements);
+    return elements().equals(that.elements());
   }
 
   @Override
   @VisibleForTesting
   public int hashCode() {
-    return elements.hashCode();
+    return elements().hashCode();
   }
 
   @Override
@@ -433,15 +487,16 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
 
   @Override
   public List<StoreKey> asKeyList() {
+    List<StoreIndexElement<V>> e = elements();
     return new AbstractList<>() {
       @Override
       public StoreKey get(int index) {
-        return elements.get(index).key();
+        return e.get(index).key();
       }
 
       @Override
       public int size() {
-        return elements.size();
+        return e.size();
       }
     };
   }
@@ -471,7 +526,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
       @SuppressWarnings("UnnecessaryLocalVariable")
       ElementSerializer<V> ser = serializer;
 
-      List<StoreIndexElement<V>> elements = this.elements;
+      List<StoreIndexElement<V>> elements = elements();
       boolean onlyLazy;
       StoreIndexElement<V> previous = null;
       for (StoreIndexElement<V> el : elements) {
@@ -542,26 +597,43 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     return previousKey;
   }
 
+  /**
+   * Creates an index from elements that are sorted by key and do not contain duplicate keys,
+   * without the per-element binary search performed by {@link #add(StoreIndexElement)}. The given
+   * list is used as is.
+   */
+  static <V> StoreIndexImpl<V> fromSortedElements(
+      ArrayList<StoreIndexElement<V>> elements, ElementSerializer<V> serializer) {
+    StoreIndexImpl<V> index = new StoreIndexImpl<>(elements, 2, serializer, !elements.isEmpty());
+    int diff = 0;
+    for (StoreIndexElement<V> element : elements) {
+      diff += addElementDiff(element, element.contentSerializedSize(serializer));
+    }
+    index.estimatedSerializedSizeDiff = diff;
+    return index;
+  }
+
   static <V> StoreIndex<V> deserializeStoreIndex(ByteBuffer serialized, ElementSerializer<V> ser) {
     return new StoreIndexImpl<>(serialized, ser);
   }
 
   /**
-   * Private constructor handling deserialization, required to instantiate the inner {@link
-   * LazyStoreIndexElement} class.
+   * Private constructor handling deserialization, builds the {@link #offsets offset table}. The
+   * inner {@link LazyStoreIndexElement}s are only instantiated when needed, see {@link
+   * #elements()}.
    */
   private StoreIndexImpl(ByteBuffer serialized, ElementSerializer<V> ser) {
     byte version = serialized.get();
     checkArgument(
         version == 1 || version == 2, "Unsupported serialized representation of KeyIndexSegment");
 
-    List<StoreIndexElement<V>> elements =
-        version >= 2 ? new ArrayList<>(readVarInt(serialized)) : new ArrayList<>();
+    int[] offsets = new int[(version >= 2 ? readVarInt(serialized) : 16) * ENTRY_INTS];
+    int size = 0;
 
     boolean first = true;
     int previousKeyLen = 0;
-    LazyStoreIndexElement predecessor = null;
-    LazyStoreIndexElement previous = null;
+    int predecessor = -1;
+    int previous = -1;
 
     while (serialized.remaining() > 0) {
       int strip = first ? 0 : readVarInt(serialized);
@@ -577,26 +649,36 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
       int keyPartLen = valueOffset - keyOffset;
       int totalKeyLen = prefixLen + keyPartLen;
 
-      predecessor = cutPredecessor(predecessor, prefixLen, previous);
+      predecessor = cutPredecessor(offsets, predecessor, prefixLen, previous);
 
       // 'prefixLen==0' means that the current key represents the "full" key.
       // It has no predecessor that would be needed to re-construct (aka materialize) the full key.
-      LazyStoreIndexElement elementPredecessor = prefixLen > 0 ? predecessor : null;
-      LazyStoreIndexElement element =
-          new LazyStoreIndexElement(
-              elementPredecessor, previous, keyOffset, prefixLen, valueOffset, endOffset);
-      if (elementPredecessor == null) {
-        predecessor = element;
-      } else if (predecessor.prefixLen > prefixLen) {
-        predecessor = element;
+      int elementPredecessor = prefixLen > 0 ? predecessor : -1;
+
+      int o = size * ENTRY_INTS;
+      if (o == offsets.length) {
+        offsets = Arrays.copyOf(offsets, Math.max(offsets.length * 2, 16 * ENTRY_INTS));
+      }
+      offsets[o + ENTRY_KEY_OFFSET] = keyOffset;
+      offsets[o + ENTRY_PREFIX_LEN] = prefixLen;
+      offsets[o + ENTRY_VALUE_OFFSET] = valueOffset;
+      offsets[o + ENTRY_END_OFFSET] = endOffset;
+      offsets[o + ENTRY_PREDECESSOR] = elementPredecessor;
+
+      if (elementPredecessor == -1) {
+        predecessor = size;
+      } else if (offsets[predecessor * ENTRY_INTS + ENTRY_PREFIX_LEN] > prefixLen) {
+        predecessor = size;
       }
-      elements.add(element);
 
-      previous = element;
+      previous = size;
       previousKeyLen = totalKeyLen;
+      size++;
     }
 
-    this.elements = elements;
+    this.offsets = offsets;
+    this.offsetsSize = size;
+    this.elements = null;
     this.serializer = ser;
     this.serialized = serialized.duplicate().clear();
     this.originalSerializedSize = serialized.position();
@@ -608,18 +690,17 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
    * prefixLen==0}) can easily become very long in the order of many thousands "hops", which makes
    * key materialization overly expensive.
    */
-  private LazyStoreIndexElement cutPredecessor(
-      LazyStoreIndexElement predecessor, int prefixLen, LazyStoreIndexElement previous) {
-    if (predecessor != null) {
-      if (predecessor.prefixLen < prefixLen) {
+  private static int cutPredecessor(int[] offsets, int predecessor, int prefixLen, int previous) {
+    if (predecessor != -1) {
+      if (offsets[predecessor * ENTRY_INTS + ENTRY_PREFIX_LEN] < prefixLen) {
         // If the current element's prefixLen is higher, let the current element's predecessor point
         // to the previous element.
         predecessor = previous;
       } else {
         // Otherwise find the predecessor that has "enough" data. Without this step, the chain of
         // predecessors would become extremely long.
-        for (LazyStoreIndexElement p = predecessor; ; p = p.predecessor) {
-          if (p == null || p.prefixLen < prefixLen) {
+        for (int p = predecessor; ; p = offsets[p * ENTRY_INTS + ENTRY_PREDECESSOR]) {
+          if (p == -1 || offsets[p * ENTRY_INTS + ENTRY_PREFIX_LEN] < prefixLen) {
             break;
           }
           predecessor = p;
@@ -629,6 +710,172 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
     return predecessor;
   }
 
+  /**
+   * Returns the elements of this index, instantiates the {@link LazyStoreIndexElement}s from the
+   * {@link #offsets offset table} of a deserialized index on first access.
+   */
+  private List<StoreIndexElement<V>> elements() {
+    List<StoreIndexElement<V>> e = elements;
+    if (e == null) {
+      int[] offsets = this.offsets;
+      int size = offsetsSize;
+      e = new ArrayList<>(size);
+      LazyStoreIndexElement previous = null;
+      for (int i = 0, o = 0; i < size; i++, o += ENTRY_INTS) {
+        int predecessorIndex = offsets[o + ENTRY_PREDECESSOR];
+        LazyStoreIndexElement predecessor =
+            predecessorIndex != -1 ? (LazyStoreIndexElement) e.get(predecessorIndex) : null;
+        LazyStoreIndexElement element =
+            new LazyStoreIndexElement(
+                predecessor,
+                previous,
+                offsets[o + ENTRY_KEY_OFFSET],
+                offsets[o + ENTRY_PREFIX_LEN],
+                offsets[o + ENTRY_VALUE_OFFSET],
+                offsets[o + ENTRY_END_OFFSET]);
+        e.add(element);
+        previous = element;
+      }
+      elements = e;
+      this.offsets = null;
+      offsetsSize = 0;
+    }
+    return e;
+  }
+
+  /**
+   * Binary search for the given key directly on the serialized representation, using the {@link
+   * #offsets offset table}.
+   *
+   * @return same as {@link java.util.Collections#binarySearch(List, Object, Comparator)}
+   */
+  private int searchSerialized(StoreKey key) {
+    String rawKey = key.rawString();
+    int low = 0;
+    int high = offsetsSize - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compareSerializedKey(mid, rawKey);
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  /**
+   * Reconstructs the serialized key of the element at the given index in {@link #scratchKeyBuffer}
+   * and returns the length of the serialized key, including the two trailing {@code 0} bytes.
+   */
+  private int serializedKeyBytes(int index) {
+    int[] offsets = this.offsets;
+    ByteBuffer serialized = requireNonNull(this.serialized);
+    ByteBuffer keyBuffer = scratchKeyBuffer.clear();
+
+    int o = index * ENTRY_INTS;
+    int prefixLen = offsets[o + ENTRY_PREFIX_LEN];
+
+    // Same as 'LazyStoreIndexElement.prefixKey()', but using the offset table.
+    int remaining = prefixLen;
+    for (int p = offsets[o + ENTRY_PREDECESSOR];
+        p != -1;
+        p = offsets[p * ENTRY_INTS + ENTRY_PREDECESSOR]) {
+      int po = p * ENTRY_INTS;
+      int pPrefixLen = offsets[po + ENTRY_PREFIX_LEN];
+      int take = remaining - pPrefixLen;
+      if (take > 0) {
+        remaining -= take;
+        for (int src = offsets[po + ENTRY_KEY_OFFSET], dst = pPrefixLen; take-- > 0; src++, dst++) {
+          keyBuffer.put(dst, serialized.get(src));
+        }
+      }
+    }
+
+    int keyLen = prefixLen;
+    for (int src = offsets[o + ENTRY_KEY_OFFSET], end = offsets[o + ENTRY_VALUE_OFFSET];
+        src < end;
+        src++) {
+      keyBuffer.put(keyLen++, serialized.get(src));
+    }
+    return keyLen;
+  }
+
+  /**
+   * Compares the serialized key of the element at the given index with the given raw key string,
+   * yielding the same result as {@link StoreKey#compareTo(StoreKey)}. The serialized key is decoded
+   * from UTF-8 on the fly to compare the UTF-16 {@code char}s, like {@link
+   * String#compareTo(String)} does.
+   */
+  private int compareSerializedKey(int index, String rawKey) {
+    ByteBuffer keyBuffer = scratchKeyBuffer;
+    // exclude the two trailing 0 bytes
+    int len = serializedKeyBytes(index) - 2;
+    int rawLen = rawKey.length();
+    int r = 0;
+    for (int i = 0; i < len; ) {
+      int b = keyBuffer.get(i) & 0xff;
+      char c;
+      char low = 0;
+      if (b < 0x80) {
+        c = (char) b;
+        i++;
+      } else if (b < 0xe0) {
+        c = (char) (((b & 0x1f) << 6) | (keyBuffer.get(i + 1) & 0x3f));
+        i += 2;
+      } else if (b < 0xf0) {
+        c =
+            (char)
+                (((b & 0x0f) << 12)
+                    | ((keyBuffer.get(i + 1) & 0x3f) << 6)
+                    | (keyBuffer.get(i + 2) & 0x3f));
+        i += 3;
+      } else {
+        int codePoint =
+            ((b & 0x07) << 18)
+                | ((keyBuffer.get(i + 1) & 0x3f) << 12)
+                | ((keyBuffer.get(i + 2) & 0x3f) << 6)
+                | (keyBuffer.get(i + 3) & 0x3f);
+        c = Character.highSurrogate(codePoint);
+        low = Character.lowSurrogate(codePoint);
+        i += 4;
+      }
+
+      if (r == rawLen) {
+        return 1;
+      }
+      int cmp = c - rawKey.charAt(r++);
+      if (cmp != 0) {
+        return cmp;
+      }
+      if (low != 0) {
+        if (r == rawLen) {
+          return 1;
+        }
+        cmp = low - rawKey.charAt(r++);
+        if (cmp != 0) {
+          return cmp;
+        }
+      }
+    }
+    return r == rawLen ? 0 : -1;
+  }
+
+  private StoreKey serializedKey(int index) {
+    int len = serializedKeyBytes(index);
+    return deserializeKey(scratchKeyBuffer.clear().limit(len));
+  }
+
+  private V serializedContent(int index) {
+    int o = index * ENTRY_INTS;
+    ByteBuffer serialized = requireNonNull(this.serialized);
+    return serializer.deserialize(
+        serialized.limit(offsets[o + ENTRY_END_OFFSET]).position(offsets[o + ENTRY_VALUE_OFFSET]));
+  }
+
   private final class LazyStoreIndexElement extends AbstractStoreIndexElement<V> {
     /**
      * Points to the predecessor (in index order) that has a required part of the store-key needed
@@ -637,7 +884,7 @@ final class StoreIndexImpl<V> implements StoreIndex<V> {
      * predecessors in-between would yield no part of the store-key to be re-constructed.
      *
      * <p>This fields holds the "earliest" predecessor in deserialization order, as determined by
-     * {@link #cutPredecessor(LazyStoreIndexElement, int, LazyStoreIndexElement)}.
+     * {@link #cutPredecessor(int[], int, int, int)}.
      *
      * <p>Example:<code><pre>
      *  IndexElement #0 { prefixLen = 0, key = "aaa", predecessor = null }
@@ -36,6 +36,17 @@ public final class StoreIndexes {
     return new StoreIndexImpl<>(serializer);
   }
 
+  /**
+   * Returns an immutable copy of all elements of the given index, which is safe to be read
+   * concurrently from multiple threads. All elements of {@code index} will be loaded.
+   *
+   * <p>Used to cache the complete index of a commit.
+   */
+  public static <V> StoreIndex<V> immutableIndexCopy(
+      StoreIndex<V> index, ElementSerializer<V> serializer) {
+    return new ImmutableIndexImpl<>(index, serializer);
+  }
+
   public static <V> StoreIndex<V> deserializeStoreIndex(
       ByteString serialized, ElementSerializer<V> ser) {
     return StoreIndexImpl.deserializeStoreIndex(serialized.asReadOnlyByteBuffer(), ser);
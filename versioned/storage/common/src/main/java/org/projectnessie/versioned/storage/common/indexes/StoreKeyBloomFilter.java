@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.indexes;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.projectnessie.nessie.relocated.protobuf.UnsafeByteOperations.unsafeWrap;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+
+/**
+ * Bloom filter over the {@link StoreKey}s of a reference index stripe, persisted alongside the
+ * stripe's first and last keys, so that lookups for keys that are not present in a stripe do not
+ * need to fetch the stripe.
+ *
+ * <p>Serialized format: one byte format version, one byte number of hash functions, followed by the
+ * bit set. Bit positions are derived from the 128 bit murmur3 hash of the key's {@link
+ * StoreKey#rawString() raw string}, using the "double hashing" technique.
+ */
+public final class StoreKeyBloomFilter {
+
+  private static final byte FORMAT_VERSION = 1;
+  private static final int HEADER_SIZE = 2;
+  private static final int MIN_BYTES = 8;
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  private final ByteString serialized;
+  private final int numHashFunctions;
+  private final long numBits;
+
+  private StoreKeyBloomFilter(ByteString serialized) {
+    this.serialized = serialized;
+    this.numHashFunctions = serialized.byteAt(1) & 0xff;
+    this.numBits = (long) (serialized.size() - HEADER_SIZE) * 8L;
+  }
+
+  /**
+   * Returns the Bloom filter for the given serialized representation, or {@code null}, if {@code
+   * serialized} is {@code null} or has an unknown format. Callers must treat a {@code null} filter
+   * as "might contain any key".
+   */
+  @Nullable
+  public static StoreKeyBloomFilter fromSerialized(@Nullable ByteString serialized) {
+    if (serialized == null
+        || serialized.size() < HEADER_SIZE + MIN_BYTES
+        || serialized.byteAt(0) != FORMAT_VERSION
+        || serialized.byteAt(1) == 0) {
+      return null;
+    }
+    return new StoreKeyBloomFilter(serialized);
+  }
+
+  /**
+   * Builds a Bloom filter containing all keys of the given index.
+   *
+   * @param index the index to build the filter for, all keys of the index will be accessed
+   * @param falsePositiveProbability the desired false-positive probability, must be greater than
+   *     {@code 0} and less than {@code 1}
+   */
+  @Nonnull
+  public static StoreKeyBloomFilter build(
+      @Nonnull StoreIndex<?> index, double falsePositiveProbability) {
+    checkArgument(
+        falsePositiveProbability > 0d && falsePositiveProbability < 1d,
+        "False positive probability must be greater than 0 and less than 1, but is %s",
+        falsePositiveProbability);
+
+    int expectedKeys = Math.max(index.elementCount(), 1);
+    long optimalBits =
+        (long) (-expectedKeys * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+    int numBytes = (int) Math.max(MIN_BYTES, (optimalBits + 7) / 8);
+    long numBits = numBytes * 8L;
+    int numHashFunctions =
+        (int) Math.min(255, Math.max(1, Math.round((double) numBits / expectedKeys * Math.log(2))));
+
+    byte[] bytes = new byte[HEADER_SIZE + numBytes];
+    bytes[0] = FORMAT_VERSION;
+    bytes[1] = (byte) numHashFunctions;
+    for (StoreIndexElement<?> el : index) {
+      long[] hashes = hashes(el.key());
+      long hash2 = hashes[1];
+      long combined = hashes[0];
+      for (int i = 0; i < numHashFunctions; i++) {
+        long bit = (combined & Long.MAX_VALUE) % numBits;
+        bytes[HEADER_SIZE + (int) (bit >>> 3)] |= (byte) (1 << (bit & 7));
+        combined += hash2;
+      }
+    }
+
+    return new StoreKeyBloomFilter(unsafeWrap(bytes));
+  }
+
+  /**
+   * Returns {@code false}, if the given key is definitely not contained in the set of keys this
+   * filter has been built for, {@code true} if the key might be contained.
+   */
+  public boolean mightContain(@Nonnull StoreKey key) {
+    long[] hashes = hashes(key);
+    long hash2 = hashes[1];
+    long combined = hashes[0];
+    ByteString bits = serialized;
+    for (int i = 0; i < numHashFunctions; i++) {
+      long bit = (combined & Long.MAX_VALUE) % numBits;
+      if ((bits.byteAt(HEADER_SIZE + (int) (bit >>> 3)) & (1 << (bit & 7))) == 0) {
+        return false;
+      }
+      combined += hash2;
+    }
+    return true;
+  }
+
+  /** The serialized representation of this filter, see {@link #fromSerialized(ByteString)}. */
+  @Nonnull
+  public ByteString serialized() {
+    return serialized;
+  }
+
+  private static long[] hashes(StoreKey key) {
+    ByteBuffer hash =
+        ByteBuffer.wrap(HASH_FUNCTION.hashString(key.rawString(), UTF_8).asBytes())
+            .order(ByteOrder.LITTLE_ENDIAN);
+    return new long[] {hash.getLong(0), hash.getLong(8)};
+  }
+}
@@ -78,6 +78,10 @@ final class StripedIndexImpl<V> implements StoreIndex<V> {
       }
       StoreIndex<V> index = stripes[idx];
       if (!index.isLoaded()) {
+        StoreKeyBloomFilter bloomFilter = index.getBloomFilter();
+        if (bloomFilter != null && !bloomFilter.mightContain(key)) {
+          continue;
+        }
         indexesToLoad[idx] = index;
         cnt++;
       }
@@ -116,6 +120,12 @@ final class StripedIndexImpl<V> implements StoreIndex<V> {
     for (int i = 0; i < loadedIndexes.length; i++) {
       StoreIndex<V> loaded = loadedIndexes[i];
       if (loaded != null) {
+        // Retain the Bloom filter of the stripe, so it can be persisted again, if the stripe does
+        // not get modified.
+        StoreKeyBloomFilter bloomFilter = stripes[i].getBloomFilter();
+        if (bloomFilter != null && loaded != stripes[i]) {
+          loaded.setBloomFilter(bloomFilter);
+        }
         stripes[i] = loaded;
       }
     }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.logic;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps per-reference statistics about the contention of commits, used by {@link
+ * CommitRetry#commitRetry(org.projectnessie.versioned.storage.common.persist.Persist,
+ * CommitContention, String, CommitRetry.CommitAttempt)} to adapt the back-off of retries and to
+ * fail fast when a reference is overloaded.
+ *
+ * <p>Statistics are only maintained for references that have seen at least one retry. Statistics
+ * of a reference are dropped, if the reference has not been accessed for {@link
+ * #EXPIRE_AFTER_ACCESS}, and the number of tracked references is bounded by {@link
+ * #MAX_REFERENCES}.
+ */
+public final class CommitContention {
+
+  /** Weight of the most recent sample in the exponentially weighted moving averages. */
+  static final double EWMA_ALPHA = 0.2d;
+
+  /** Duration after which the statistics of a reference that has not been accessed are dropped. */
+  public static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
+  /** Maximum number of references for which statistics are tracked. */
+  public static final int MAX_REFERENCES = 1000;
+
+  private final Cache<String, ReferenceContention> references;
+  private final Consumer<ReferenceContention> newReferenceListener;
+
+  private CommitContention(
+      Consumer<ReferenceContention> newReferenceListener,
+      Consumer<ReferenceContention> removedReferenceListener,
+      LongSupplier clockNanos) {
+    this.newReferenceListener = newReferenceListener;
+    this.references =
+        Caffeine.newBuilder()
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .maximumSize(MAX_REFERENCES)
+            // Eviction listeners run synchronously, so the removed-listener for a reference is
+            // called before the new-listener for the same reference name.
+            .evictionListener(
+                (String name, ReferenceContention r, RemovalCause cause) ->
+                    removedReferenceListener.accept(r))
+            .scheduler(Scheduler.systemScheduler())
+            .ticker(clockNanos::getAsLong)
+            .build();
+  }
+
+  public static CommitContention commitContention() {
+    return new CommitContention(r -> {}, r -> {}, System::nanoTime);
+  }
+
+  /**
+   * Creates a new instance, the given listeners are called once for each reference for which
+   * statistics start being tracked and once when the statistics of that reference are dropped, for
+   * example to register and remove metrics for the reference.
+   */
+  public static CommitContention commitContention(
+      @Nonnull Consumer<ReferenceContention> newReferenceListener,
+      @Nonnull Consumer<ReferenceContention> removedReferenceListener) {
+    return new CommitContention(newReferenceListener, removedReferenceListener, System::nanoTime);
+  }
+
+  static CommitContention commitContention(
+      Consumer<ReferenceContention> newReferenceListener,
+      Consumer<ReferenceContention> removedReferenceListener,
+      LongSupplier clockNanos) {
+    return new CommitContention(newReferenceListener, removedReferenceListener, clockNanos);
+  }
+
+  /** Returns the statistics for the given reference, if the reference has seen contention. */
+  @Nullable
+  public ReferenceContention existing(@Nonnull String reference) {
+    return references.getIfPresent(reference);
+  }
+
+  /** Returns the statistics for the given reference, starts tracking the reference if necessary. */
+  @Nonnull
+  public ReferenceContention forReference(@Nonnull String reference) {
+    return references.get(
+        reference,
+        r -> {
+          ReferenceContention created = new ReferenceContention(r);
+          newReferenceListener.accept(created);
+          return created;
+        });
+  }
+
+  /** Number of references for which statistics are currently tracked. */
+  long trackedReferences() {
+    references.cleanUp();
+    return references.estimatedSize();
+  }
+
+  /** Contention statistics of a single reference. */
+  public static final class ReferenceContention {
+    private final String reference;
+    private final AtomicInteger retrying = new AtomicInteger();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong fastFailures = new AtomicLong();
+
+    // Guarded by 'this'
+    private double conflictRate;
+    private double commitDurationNanos;
+
+    ReferenceContention(String reference) {
+      this.reference = reference;
+    }
+
+    public String reference() {
+      return reference;
+    }
+
+    /** Number of committers that are currently retrying a commit against the reference. */
+    public int retrying() {
+      return retrying.get();
+    }
+
+    /** Total number of failed commit attempts due to a concurrent change of the reference. */
+    public long conflicts() {
+      return conflicts.get();
+    }
+
+    /** Total number of commits that failed fast, because the reference was overloaded. */
+    public long fastFailures() {
+      return fastFailures.get();
+    }
+
+    /** Moving average of the ratio of commit attempts that failed due to a concurrent change. */
+    public synchronized double conflictRate() {
+      return conflictRate;
+    }
+
+    /** Moving average of the duration of successful commits, including retries. */
+    public synchronized long commitDurationNanos() {
+      return (long) commitDurationNanos;
+    }
+
+    void retryStarted() {
+      retrying.incrementAndGet();
+    }
+
+    void retryFinished() {
+      retrying.decrementAndGet();
+    }
+
+    void fastFailure() {
+      fastFailures.incrementAndGet();
+    }
+
+    synchronized void conflict() {
+      conflicts.incrementAndGet();
+      conflictRate += EWMA_ALPHA * (1d - conflictRate);
+    }
+
+    synchronized void committed(long durationNanos) {
+      conflictRate -= EWMA_ALPHA * conflictRate;
+      commitDurationNanos =
+          commitDurationNanos == 0d
+              ? durationNanos
+              : commitDurationNanos + EWMA_ALPHA * (durationNanos - commitDurationNanos);
+    }
+  }
+}
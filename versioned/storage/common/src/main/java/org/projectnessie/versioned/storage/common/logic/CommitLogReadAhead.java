@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.logic;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
+import static org.projectnessie.versioned.storage.common.persist.AsyncPersist.asyncPersist;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+
+/**
+ * Fetches commit log pages ahead of the commit log iterators in {@link CommitLogicImpl}.
+ *
+ * <p>A page is the bulk-fetch of the commit IDs in the {@link CommitObj#tail()} of the last commit
+ * of the previous page. Since the IDs of a page are only known once the previous page has been
+ * fetched, pages are fetched one after another, but concurrently to the consumption of the already
+ * fetched pages. Up to the configured number of pages are fetched ahead.
+ *
+ * <p>Pages are fetched via {@link AsyncPersist#asyncPersist(Persist)}, which uses a shared, bounded
+ * executor for {@link Persist} implementations that do not support non-blocking reads.
+ *
+ * <p>Instances are not thread-safe, each commit log iterator uses its own instance.
+ */
+final class CommitLogReadAhead {
+
+  private static final Page NO_PAGE = new Page(emptyList(), new CommitObj[0]);
+
+  private final AsyncPersist persist;
+  private final int pages;
+  private final ObjId endCommitId;
+  private final boolean lastCommitOnly;
+  private final Deque<CompletableFuture<Page>> pending = new ArrayDeque<>();
+
+  /**
+   * @param pages number of pages to fetch ahead
+   * @param endCommitId the commit ID at which the commit log stops, no pages after the page that
+   *     contains this commit ID will be fetched
+   * @param lastCommitOnly whether only the last commit of each page needs to be fetched, as for
+   *     the commit ID log
+   */
+  CommitLogReadAhead(Persist persist, int pages, ObjId endCommitId, boolean lastCommitOnly) {
+    this.persist = asyncPersist(persist);
+    this.pages = pages;
+    this.endCommitId = endCommitId;
+    this.lastCommitOnly = lastCommitOnly;
+  }
+
+  /**
+   * Returns the commits for the given IDs, either from an already fetched (or in-flight) page or
+   * fetched directly, and fetches the following pages ahead.
+   *
+   * @return commits for the given IDs, {@code null} elements for commits that do not exist
+   */
+  CommitObj[] fetch(List<ObjId> ids) {
+    Page page = null;
+    CompletableFuture<Page> head = pending.pollFirst();
+    if (head != null) {
+      try {
+        Page p = AsyncPersist.join(head);
+        if (p.ids.equals(ids)) {
+          page = p;
+        }
+      } catch (RuntimeException e) {
+        // Ignore a failed read-ahead, the page is fetched directly below.
+      }
+      if (page == null) {
+        pending.clear();
+      }
+    }
+
+    if (page == null) {
+      page = AsyncPersist.join(fetchPage(ids));
+    }
+
+    CompletableFuture<Page> last = pending.isEmpty() ? completedFuture(page) : pending.peekLast();
+    while (pending.size() < pages) {
+      last = last.thenCompose(this::fetchNextPage);
+      pending.addLast(last);
+    }
+
+    return page.commits;
+  }
+
+  private CompletionStage<Page> fetchNextPage(Page previous) {
+    CommitObj[] commits = previous.commits;
+    if (commits.length == 0 || (endCommitId != null && previous.ids.contains(endCommitId))) {
+      return completedFuture(NO_PAGE);
+    }
+    CommitObj lastCommit = commits[commits.length - 1];
+    if (lastCommit == null) {
+      return completedFuture(NO_PAGE);
+    }
+
+    List<ObjId> ids = lastCommit.tail();
+    int i = ids.indexOf(EMPTY_OBJ_ID);
+    if (i != -1) {
+      ids = ids.subList(0, i);
+    }
+    if (lastCommitOnly && !ids.isEmpty()) {
+      ObjId lastId = ids.get(ids.size() - 1);
+      ids = endCommitId != null && ids.contains(endCommitId) ? emptyList() : singletonList(lastId);
+    }
+    if (ids.isEmpty()) {
+      return completedFuture(NO_PAGE);
+    }
+    return fetchPage(ids);
+  }
+
+  private CompletionStage<Page> fetchPage(List<ObjId> ids) {
+    return persist
+        .fetchTypedObjsIfExistAsync(ids.toArray(new ObjId[0]), COMMIT, CommitObj.class)
+        .thenApply(commits -> new Page(ids, commits));
+  }
+
+  private static final class Page {
+    final List<ObjId> ids;
+    final CommitObj[] commits;
+
+    Page(List<ObjId> ids, CommitObj[] commits) {
+      this.ids = ids;
+      this.commits = commits;
+    }
+  }
+}
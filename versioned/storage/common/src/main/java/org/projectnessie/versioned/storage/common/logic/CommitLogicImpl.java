@@ -119,9 +119,24 @@ final class CommitLogicImpl implements CommitLogic {
     return new CommitLogIter(startCommitId, commitLogQuery.endCommitId().orElse(null));
   }
 
+  private CommitLogReadAhead readAhead(ObjId endCommitId, boolean lastCommitOnly) {
+    int pages = persist.config().commitLogReadAhead();
+    return pages > 0 ? new CommitLogReadAhead(persist, pages, endCommitId, lastCommitOnly) : null;
+  }
+
+  private static NoSuchElementException commitsNotFound(List<ObjId> ids) {
+    return new NoSuchElementException(
+        ids.size() == 1
+            ? "Commit '" + ids.get(0) + "' not found"
+            : "Commit(s) "
+                + ids.stream().map(ObjId::toString).collect(Collectors.joining(", "))
+                + " not found");
+  }
+
   private final class CommitLogIter extends AbstractIterator<CommitObj>
       implements PagedResult<CommitObj, ObjId> {
     private final ObjId endCommitId;
+    private final CommitLogReadAhead readAhead;
 
     private Iterator<Obj> batch;
     private List<ObjId> next;
@@ -129,6 +144,7 @@ final class CommitLogicImpl implements CommitLogic {
     CommitLogIter(ObjId startCommitId, ObjId endCommitId) {
       this.next = singletonList(startCommitId);
       this.endCommitId = endCommitId;
+      this.readAhead = readAhead(endCommitId, false);
     }
 
     @Override
@@ -150,17 +166,7 @@ final class CommitLogicImpl implements CommitLogic {
             return endOfData();
           }
 
-          try {
-            b = batch = Arrays.asList(persist.fetchObjs(n.toArray(new ObjId[0]))).iterator();
-          } catch (ObjNotFoundException e) {
-            List<ObjId> ids = e.objIds();
-            throw new NoSuchElementException(
-                ids.size() == 1
-                    ? "Commit '" + ids.get(0) + "' not found"
-                    : "Commit(s) "
-                        + ids.stream().map(ObjId::toString).collect(Collectors.joining(", "))
-                        + " not found");
-          }
+          b = batch = Arrays.asList(fetchBatch(n)).iterator();
         }
 
         if (b.hasNext()) {
@@ -183,6 +189,31 @@ final class CommitLogicImpl implements CommitLogic {
       }
     }
 
+    private Obj[] fetchBatch(List<ObjId> ids) {
+      if (readAhead == null) {
+        try {
+          return persist.fetchObjs(ids.toArray(new ObjId[0]));
+        } catch (ObjNotFoundException e) {
+          throw commitsNotFound(e.objIds());
+        }
+      }
+
+      CommitObj[] commits = readAhead.fetch(ids);
+      List<ObjId> notFound = null;
+      for (int i = 0; i < commits.length; i++) {
+        if (commits[i] == null) {
+          if (notFound == null) {
+            notFound = new ArrayList<>();
+          }
+          notFound.add(ids.get(i));
+        }
+      }
+      if (notFound != null) {
+        throw commitsNotFound(notFound);
+      }
+      return commits;
+    }
+
     @Nonnull
     @Override
     public PagingToken tokenForKey(ObjId key) {
@@ -207,12 +238,15 @@ final class CommitLogicImpl implements CommitLogic {
       implements PagedResult<ObjId, ObjId> {
     private final ObjId endCommitId;
 
+    private final CommitLogReadAhead readAhead;
+
     private Iterator<ObjId> batch;
     private List<ObjId> next;
 
     CommitIdIter(ObjId startCommitId, ObjId endCommitId) {
       this.next = singletonList(startCommitId);
       this.endCommitId = endCommitId;
+      this.readAhead = readAhead(endCommitId, true);
     }
 
     @Override
@@ -246,7 +280,7 @@ final class CommitLogicImpl implements CommitLogic {
           } else if (!b.hasNext()) {
             CommitObj obj;
             try {
-              obj = fetchCommit(c);
+              obj = readAhead != null ? fetchCommitReadAhead(c) : fetchCommit(c);
             } catch (ObjNotFoundException e) {
               throw new NoSuchElementException("Commit '" + c + "' not found");
             }
@@ -262,6 +296,21 @@ final class CommitLogicImpl implements CommitLogic {
       }
     }
 
+    /**
+     * Same as {@link #fetchCommit(ObjId)}, but served by the read-ahead, throws {@link
+     * ObjNotFoundException} for missing commits like {@link #fetchCommit(ObjId)}.
+     */
+    private CommitObj fetchCommitReadAhead(ObjId commitId) throws ObjNotFoundException {
+      if (EMPTY_OBJ_ID.equals(commitId)) {
+        return null;
+      }
+      CommitObj commit = readAhead.fetch(singletonList(commitId))[0];
+      if (commit == null) {
+        throw new ObjNotFoundException(commitId);
+      }
+      return commit;
+    }
+
     @Nonnull
     @Override
     public PagingToken tokenForKey(ObjId key) {
@@ -24,6 +24,7 @@ import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
@@ -31,6 +32,7 @@ import org.projectnessie.versioned.storage.common.exceptions.CommitConflictExcep
 import org.projectnessie.versioned.storage.common.exceptions.CommitWrappedException;
 import org.projectnessie.versioned.storage.common.exceptions.RetryTimeoutException;
 import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
+import org.projectnessie.versioned.storage.common.logic.CommitContention.ReferenceContention;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 
 public class CommitRetry {
@@ -46,6 +48,18 @@ public class CommitRetry {
     return commitRetry(persist, attempt, newTryLoopState(persist));
   }
 
+  /**
+   * Variant of {@link #commitRetry(Persist, CommitAttempt)} for operations against the given
+   * reference, which records the contention of the reference in {@code contention} and uses it to
+   * adapt the back-off of retries, see {@link StoreConfig#retryAdaptiveBackoff()} and {@link
+   * StoreConfig#retryOverloadThreshold()}.
+   */
+  public static <T> T commitRetry(
+      Persist persist, CommitContention contention, String reference, CommitAttempt<T> attempt)
+      throws CommitWrappedException, CommitConflictException, RetryTimeoutException {
+    return commitRetry(persist, attempt, newTryLoopState(persist, contention, reference));
+  }
+
   @VisibleForTesting
   static <T> T commitRetry(Persist persist, CommitAttempt<T> attempt, TryLoopState tls)
       throws CommitWrappedException, CommitConflictException, RetryTimeoutException {
@@ -53,19 +67,25 @@ public class CommitRetry {
 
     long t0 = tls.currentNanos();
     long t1 = t0;
-    for (int i = 0; true; i++, t1 = tls.currentNanos()) {
-      try {
-        return attempt.attempt(persist, retryState);
-      } catch (RetryException e) {
-        if (!tls.retry(t1)) {
-          throw new RetryTimeoutException(i, tls.currentNanos() - t0);
-        }
-        retryState = e.retryState();
-      } catch (UnknownOperationResultException e) {
-        if (!tls.retry(t1)) {
-          throw new RetryTimeoutException(i, tls.currentNanos() - t0);
+    try {
+      for (int i = 0; true; i++, t1 = tls.currentNanos()) {
+        try {
+          T result = attempt.attempt(persist, retryState);
+          tls.succeeded();
+          return result;
+        } catch (RetryException e) {
+          if (!tls.retry(t1)) {
+            throw new RetryTimeoutException(i, tls.currentNanos() - t0, tls.overloaded());
+          }
+          retryState = e.retryState();
+        } catch (UnknownOperationResultException e) {
+          if (!tls.retry(t1)) {
+            throw new RetryTimeoutException(i, tls.currentNanos() - t0, tls.overloaded());
+          }
         }
       }
+    } finally {
+      tls.finished();
     }
   }
 
@@ -106,12 +126,26 @@ public class CommitRetry {
     private final long maxTime;
     private final int maxRetries;
     private final long maxSleep;
+    private final CommitContention contention;
+    private final String reference;
+    private final boolean adaptiveBackoff;
+    private final int overloadThreshold;
     private long lowerBound;
     private long upperBound;
     private int retries;
     private boolean unsuccessful;
+    private boolean overloaded;
+    private ReferenceContention referenceContention;
 
     TryLoopState(StoreConfig config, MonotonicClock monotonicClock) {
+      this(config, monotonicClock, null, null);
+    }
+
+    TryLoopState(
+        StoreConfig config,
+        MonotonicClock monotonicClock,
+        @Nullable CommitContention contention,
+        @Nullable String reference) {
       this.maxTime = MILLISECONDS.toNanos(config.commitTimeoutMillis());
       this.maxRetries = config.commitRetries();
       this.monotonicClock = monotonicClock;
@@ -119,9 +153,18 @@ public class CommitRetry {
       this.lowerBound = config.retryInitialSleepMillisLower();
       this.upperBound = config.retryInitialSleepMillisUpper();
       this.maxSleep = config.retryMaxSleepMillis();
+      this.contention = contention;
+      this.reference = reference;
+      this.adaptiveBackoff = contention != null && config.retryAdaptiveBackoff();
+      this.overloadThreshold = contention != null ? config.retryOverloadThreshold() : 0;
     }
 
     public static TryLoopState newTryLoopState(Persist persist) {
+      return newTryLoopState(persist, null, null);
+    }
+
+    static TryLoopState newTryLoopState(
+        Persist persist, @Nullable CommitContention contention, @Nullable String reference) {
       return new TryLoopState(
           persist.config(),
           new MonotonicClock() {
@@ -138,7 +181,9 @@ public class CommitRetry {
                 Thread.currentThread().interrupt();
               }
             }
-          });
+          },
+          contention,
+          reference);
     }
 
     long currentNanos() {
@@ -152,6 +197,16 @@ public class CommitRetry {
 
       retries++;
 
+      ReferenceContention refContention = recordConflict();
+      if (refContention != null
+          && overloadThreshold > 0
+          && refContention.retrying() > overloadThreshold) {
+        refContention.fastFailure();
+        unsuccessful = true;
+        overloaded = true;
+        return false;
+      }
+
       long current = currentNanos();
       long totalElapsed = current - t0;
       long attemptElapsed = timeAttemptStarted - current;
@@ -161,11 +216,66 @@ public class CommitRetry {
         return false;
       }
 
+      if (adaptiveBackoff && retries == 1) {
+        adaptBackoff(refContention);
+      }
+
       sleepAndBackoff(totalElapsed, attemptElapsed);
 
       return true;
     }
 
+    boolean overloaded() {
+      return overloaded;
+    }
+
+    /** Records the failed attempt, returns the contention statistics of the reference, if any. */
+    private ReferenceContention recordConflict() {
+      if (contention == null) {
+        return null;
+      }
+      ReferenceContention refContention = referenceContention;
+      if (refContention == null) {
+        refContention = referenceContention = contention.forReference(reference);
+        refContention.retryStarted();
+      }
+      refContention.conflict();
+      return refContention;
+    }
+
+    /**
+     * Widens the initial back-off window according to the number of committers that are
+     * currently retrying against the same reference, and does not retry before a "usual" commit
+     * to the reference could have finished.
+     */
+    private void adaptBackoff(ReferenceContention refContention) {
+      long max = maxSleep;
+      long upper = Math.min(max, upperBound * Math.max(1, refContention.retrying()));
+      long averageCommitMillis = NANOSECONDS.toMillis(refContention.commitDurationNanos());
+      long lower = Math.max(lowerBound, Math.min(averageCommitMillis, upper));
+      lowerBound = lower;
+      upperBound = Math.max(lower, upper);
+    }
+
+    /** Records a successful attempt. */
+    void succeeded() {
+      if (contention == null) {
+        return;
+      }
+      ReferenceContention refContention =
+          referenceContention != null ? referenceContention : contention.existing(reference);
+      if (refContention != null) {
+        refContention.committed(currentNanos() - t0);
+      }
+    }
+
+    /** Must be called when the retry loop is finished, whether successful or not. */
+    void finished() {
+      if (referenceContention != null) {
+        referenceContention.retryFinished();
+      }
+    }
+
     private void sleepAndBackoff(long totalElapsed, long attemptElapsed) {
       long lower = lowerBound;
       long upper = upperBound;
@@ -37,6 +37,7 @@ import static org.projectnessie.versioned.storage.common.objtypes.IndexSegmentsO
 import static org.projectnessie.versioned.storage.common.objtypes.IndexStripe.indexStripe;
 import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.COMMIT;
 import static org.projectnessie.versioned.storage.common.objtypes.StandardObjType.INDEX;
+import static org.projectnessie.versioned.storage.common.persist.AsyncPersist.asyncPersist;
 import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ_ID;
 import static org.projectnessie.versioned.storage.common.util.SupplyOnce.memoize;
 
@@ -51,6 +52,8 @@ import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
@@ -60,12 +63,14 @@ import org.projectnessie.versioned.storage.common.indexes.IndexLoader;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
 import org.projectnessie.versioned.storage.common.indexes.StoreKey;
+import org.projectnessie.versioned.storage.common.indexes.StoreKeyBloomFilter;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
 import org.projectnessie.versioned.storage.common.objtypes.IndexObj;
 import org.projectnessie.versioned.storage.common.objtypes.IndexSegmentsObj;
 import org.projectnessie.versioned.storage.common.objtypes.IndexStripe;
 import org.projectnessie.versioned.storage.common.objtypes.StandardObjType;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
@@ -313,7 +318,8 @@ final class IndexesLogicImpl implements IndexesLogic {
                   },
                   s.firstKey(),
                   s.lastKey())
-              .setObjId(s.segment()));
+              .setObjId(s.segment())
+              .setBloomFilter(StoreKeyBloomFilter.fromSerialized(s.bloomFilter())));
       firstLastKeys.add(s.firstKey());
       firstLastKeys.add(s.lastKey());
     }
@@ -394,10 +400,13 @@ final class IndexesLogicImpl implements IndexesLogic {
 
   private List<IndexStripe> buildIndexStripes(
       List<StoreIndex<CommitOp>> stripes, List<Obj> toStore) {
+    double bloomFilterFpp = persist.config().indexStripeBloomFilterFpp();
     List<IndexStripe> indexStripes = new ArrayList<>(stripes.size());
     for (StoreIndex<CommitOp> indexSegment : stripes) {
       ObjId segId;
+      StoreKeyBloomFilter bloomFilter = null;
       if (!indexSegment.isModified()) {
+        bloomFilter = indexSegment.getBloomFilter();
         segId =
             requireNonNull(
                 indexSegment.getObjId(), "Loaded index segment does not contain its ObjId");
@@ -411,7 +420,15 @@ final class IndexesLogicImpl implements IndexesLogic {
       StoreKey last = indexSegment.last();
       checkState(first != null && last != null);
 
-      indexStripes.add(indexStripe(first, last, segId));
+      // Build a Bloom filter for new and modified stripes, and for already loaded stripes that
+      // were persisted without one. Unloaded stripes keep their Bloom filter, if any.
+      if (bloomFilterFpp > 0d && bloomFilter == null && indexSegment.isLoaded()) {
+        bloomFilter = StoreKeyBloomFilter.build(indexSegment, bloomFilterFpp);
+      }
+
+      indexStripes.add(
+          indexStripe(
+              first, last, segId, bloomFilter != null ? bloomFilter.serialized() : null));
     }
 
     return indexStripes;
@@ -439,6 +456,25 @@ final class IndexesLogicImpl implements IndexesLogic {
     }
   }
 
+  private static void checkPrefetched(ObjId[] ids, Obj[] objs) throws ObjNotFoundException {
+    List<ObjId> notFound = new ArrayList<>();
+    for (int i = 0; i < ids.length; i++) {
+      if (objs[i] == null) {
+        notFound.add(ids[i]);
+      }
+    }
+    if (!notFound.isEmpty()) {
+      throw new ObjNotFoundException(notFound);
+    }
+  }
+
+  private static CompletionStage<Obj[]> prefetchNext(
+      AsyncPersist asyncPersist, IntFunction<ObjId[]> prefetchIds, int offset, int totalCommits) {
+    return offset < totalCommits
+        ? asyncPersist.fetchObjsIfExistAsync(prefetchIds.apply(offset))
+        : CompletableFuture.completedFuture(null);
+  }
+
   @VisibleForTesting
   void completeIndexesInCommitChain(
       @Nonnull ObjId commitId, @Nonnull Deque<ObjId> idsToProcess, Runnable progressCallback)
@@ -473,8 +509,11 @@ final class IndexesLogicImpl implements IndexesLogic {
     IntFunction<ObjId[]> prefetchIds =
         i -> commitsToUpdate.subList(i, Math.min(totalCommits, i + 100)).toArray(new ObjId[0]);
 
-    // perform a bulk-load against the database, populates the cache
+    // Perform bulk-loads against the database, which populate the cache. The next batch of commits
+    // is loaded while the current batch is processed.
+    AsyncPersist asyncPersist = asyncPersist(persist);
     persist.fetchObjs(prefetchIds.apply(0));
+    CompletionStage<Obj[]> prefetch = prefetchNext(asyncPersist, prefetchIds, 100, totalCommits);
 
     CommitObj current = persist.fetchTypedObj(oldestCommitId, COMMIT, CommitObj.class);
     CommitObj parent =
@@ -486,8 +525,8 @@ final class IndexesLogicImpl implements IndexesLogic {
 
     for (int i = 0; i < totalCommits; i++) {
       if (i > 0 && (i % 100) == 0) {
-        // perform a bulk-load against the database, populates the cache
-        persist.fetchObjs(prefetchIds.apply(i));
+        checkPrefetched(prefetchIds.apply(i), AsyncPersist.join(prefetch));
+        prefetch = prefetchNext(asyncPersist, prefetchIds, i + 100, totalCommits);
       }
 
       ObjId currentId = commitsToUpdate.get(i);
@@ -63,4 +63,10 @@ public interface InternalRef {
   }
 
   StoreKey KEY_REPO_DESCRIPTION = key("repo", "description");
+
+  /**
+   * Key of the current dictionary for the compression of serialized objects in the HEAD commit of
+   * {@link #REF_REPO}.
+   */
+  StoreKey KEY_OBJ_COMPRESSION_DICTIONARY = key("repo", "obj-compression-dictionary");
 }
@@ -19,6 +19,7 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.function.Consumer;
 import org.projectnessie.versioned.storage.common.exceptions.RetryTimeoutException;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
 
 /** Logic to setup/initialize a Nessie repository. */
 public interface RepositoryLogic {
@@ -46,4 +47,20 @@ public interface RepositoryLogic {
       throws RetryTimeoutException;
 
   boolean repositoryExists();
+
+  /**
+   * Returns the ID of the {@link org.projectnessie.versioned.storage.common.objtypes.StringObj}
+   * holding the current dictionary for the compression of serialized objects, or {@code null} if
+   * no dictionary has been stored yet.
+   */
+  @Nullable
+  ObjId fetchObjCompressionDictionaryId();
+
+  /**
+   * Stores a new dictionary for the compression of serialized objects, and returns the ID of the
+   * {@link org.projectnessie.versioned.storage.common.objtypes.StringObj} holding the dictionary.
+   * Previous dictionaries remain available, because existing objects may have been compressed
+   * using those.
+   */
+  ObjId updateObjCompressionDictionary(byte[] dictionary) throws RetryTimeoutException;
 }
@@ -21,6 +21,7 @@ import static java.util.Objects.requireNonNull;
 import static org.projectnessie.versioned.storage.common.logic.CommitRetry.commitRetry;
 import static org.projectnessie.versioned.storage.common.logic.CreateCommit.Add.commitAdd;
 import static org.projectnessie.versioned.storage.common.logic.CreateCommit.newCommitBuilder;
+import static org.projectnessie.versioned.storage.common.logic.InternalRef.KEY_OBJ_COMPRESSION_DICTIONARY;
 import static org.projectnessie.versioned.storage.common.logic.InternalRef.KEY_REPO_DESCRIPTION;
 import static org.projectnessie.versioned.storage.common.logic.InternalRef.REF_REFS;
 import static org.projectnessie.versioned.storage.common.logic.InternalRef.REF_REPO;
@@ -48,6 +49,7 @@ import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundExceptio
 import org.projectnessie.versioned.storage.common.exceptions.RetryTimeoutException;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
+import org.projectnessie.versioned.storage.common.indexes.StoreKey;
 import org.projectnessie.versioned.storage.common.logic.CommitRetry.RetryException;
 import org.projectnessie.versioned.storage.common.logic.StringLogic.StringValue;
 import org.projectnessie.versioned.storage.common.objtypes.CommitHeaders;
@@ -55,6 +57,7 @@ import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
 import org.projectnessie.versioned.storage.common.objtypes.CommitType;
 import org.projectnessie.versioned.storage.common.objtypes.StringObj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
 
@@ -62,6 +65,7 @@ import org.projectnessie.versioned.storage.common.persist.Reference;
 final class RepositoryLogicImpl implements RepositoryLogic {
 
   static final String REFS_HEADS = "refs/heads/";
+  static final String DICTIONARY_CONTENT_TYPE = "application/zstd-dictionary";
   private final Persist persist;
 
   RepositoryLogicImpl(Persist persist) {
@@ -113,32 +117,12 @@ final class RepositoryLogicImpl implements RepositoryLogic {
   @Override
   public RepositoryDescription fetchRepositoryDescription() {
     try {
-      Reference ref = persist.fetchReference(REF_REPO.name());
-      if (ref == null) {
-        return null;
-      }
-
-      CommitObj repoDescCommit = commitLogic(persist).fetchCommit(ref.pointer());
-      if (repoDescCommit == null) {
+      ObjId valueId = fetchRepoValueId(KEY_REPO_DESCRIPTION);
+      if (valueId == null) {
         return null;
       }
 
-      StoreIndex<CommitOp> index =
-          indexesLogic(persist).buildCompleteIndex(repoDescCommit, Optional.empty());
-      StoreIndexElement<CommitOp> el = index.get(KEY_REPO_DESCRIPTION);
-      if (el == null) {
-        return null;
-      }
-      CommitOp op = el.content();
-      if (!op.action().exists()) {
-        return null;
-      }
-
-      StringValue value =
-          stringLogic(persist)
-              .fetchString(
-                  requireNonNull(
-                      op.value(), "Commit operation for repository description has no value"));
+      StringValue value = stringLogic(persist).fetchString(valueId);
 
       return deserialize(value);
     } catch (ObjNotFoundException e) {
@@ -146,6 +130,83 @@ final class RepositoryLogicImpl implements RepositoryLogic {
     }
   }
 
+  @Nullable
+  @Override
+  public ObjId fetchObjCompressionDictionaryId() {
+    try {
+      return fetchRepoValueId(KEY_OBJ_COMPRESSION_DICTIONARY);
+    } catch (ObjNotFoundException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public ObjId updateObjCompressionDictionary(byte[] dictionary) throws RetryTimeoutException {
+    StringLogic stringLogic = stringLogic(persist);
+    ObjId dictionaryId =
+        requireNonNull(stringLogic.updateString(null, DICTIONARY_CONTENT_TYPE, dictionary).id());
+    try {
+      commitRetry(
+          persist,
+          (p, retryState) -> {
+            try {
+              Reference reference =
+                  requireNonNull(persist.fetchReferenceForUpdate(REF_REPO.name()));
+              return stringLogic.updateStringOnRef(
+                  reference,
+                  KEY_OBJ_COMPRESSION_DICTIONARY,
+                  b ->
+                      b.message("Update object compression dictionary")
+                          .commitType(CommitType.INTERNAL),
+                  DICTIONARY_CONTENT_TYPE,
+                  dictionary);
+            } catch (RefConditionFailedException | CommitConflictException e) {
+              throw new RetryException();
+            } catch (ObjNotFoundException | RefNotFoundException e) {
+              throw new CommitWrappedException(e);
+            }
+          });
+      return dictionaryId;
+    } catch (CommitConflictException e) {
+      throw new RuntimeException(
+          "An unexpected internal error happened while committing a compression dictionary");
+    } catch (CommitWrappedException e) {
+      throw new RuntimeException(
+          "An unexpected internal error happened while committing a compression dictionary",
+          e.getCause());
+    }
+  }
+
+  /**
+   * Returns the ID of the value for the given key in the HEAD commit of {@link
+   * InternalRef#REF_REPO}, or {@code null}.
+   */
+  @Nullable
+  private ObjId fetchRepoValueId(StoreKey key) throws ObjNotFoundException {
+    Reference ref = persist.fetchReference(REF_REPO.name());
+    if (ref == null) {
+      return null;
+    }
+
+    CommitObj repoCommit = commitLogic(persist).fetchCommit(ref.pointer());
+    if (repoCommit == null) {
+      return null;
+    }
+
+    StoreIndex<CommitOp> index =
+        indexesLogic(persist).buildCompleteIndex(repoCommit, Optional.empty());
+    StoreIndexElement<CommitOp> el = index.get(key);
+    if (el == null) {
+      return null;
+    }
+    CommitOp op = el.content();
+    if (!op.action().exists()) {
+      return null;
+    }
+
+    return requireNonNull(op.value(), "Commit operation for " + key + " has no value");
+  }
+
   private static RepositoryDescription deserialize(StringValue value) {
     try {
       return SHARED_OBJECT_MAPPER.readValue(value.completeValue(), RepositoryDescription.class);
@@ -15,8 +15,11 @@
  */
 package org.projectnessie.versioned.storage.common.objtypes;
 
+import jakarta.annotation.Nullable;
 import org.immutables.value.Value;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.indexes.StoreKey;
+import org.projectnessie.versioned.storage.common.indexes.StoreKeyBloomFilter;
 import org.projectnessie.versioned.storage.common.persist.Hashable;
 import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjIdHasher;
@@ -33,15 +36,32 @@ public interface IndexStripe extends Hashable {
   @Value.Parameter(order = 3)
   ObjId segment();
 
+  /**
+   * Optional, serialized {@link StoreKeyBloomFilter} over the keys in the stripe, used to answer
+   * lookups for non-existing keys without fetching the stripe. Stripes persisted without a Bloom
+   * filter have a {@code null} value.
+   */
+  @Nullable
+  ByteString bloomFilter();
+
   static IndexStripe indexStripe(StoreKey firstKey, StoreKey lastKey, ObjId segment) {
     return ImmutableIndexStripe.of(firstKey, lastKey, segment);
   }
 
+  static IndexStripe indexStripe(
+      StoreKey firstKey, StoreKey lastKey, ObjId segment, @Nullable ByteString bloomFilter) {
+    return ImmutableIndexStripe.of(firstKey, lastKey, segment).withBloomFilter(bloomFilter);
+  }
+
   @Override
   default void hash(ObjIdHasher idHasher) {
     idHasher
         .hash(firstKey().rawString())
         .hash(lastKey().rawString())
         .hash(segment().asByteBuffer());
+    ByteString bloomFilter = bloomFilter();
+    if (bloomFilter != null) {
+      idHasher.hash(bloomFilter.asReadOnlyByteBuffer());
+    }
   }
 }
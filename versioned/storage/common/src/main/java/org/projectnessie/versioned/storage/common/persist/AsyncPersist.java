@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.logic.ReferenceLogic;
+
+/**
+ * Asynchronous, non-blocking companion of {@link Persist} for read operations.
+ *
+ * <p>Database specific implementations of {@link Persist}, whose database drivers support
+ * asynchronous operations, implement this interface in addition to {@link Persist}. Use {@link
+ * #asyncPersist(Persist, Executor)} to get an {@link AsyncPersist} for any {@link Persist}
+ * instance.
+ *
+ * <p>Write operations, notably reference pointer updates, are intentionally not part of this
+ * interface: those are sequential by nature and handled via {@link Persist}.
+ */
+public interface AsyncPersist {
+
+  /**
+   * Asynchronous variant of {@link Persist#fetchTypedObjsIfExist(ObjId[], ObjType, Class)}.
+   *
+   * @return a completion stage that yields an array of the same length as {@code ids}, containing
+   *     {@code null} elements for {@code null} IDs and objects that do not exist or have a
+   *     different type
+   */
+  @Nonnull
+  <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass);
+
+  /** Asynchronous variant of {@link Persist#fetchObjsIfExist(ObjId[])}. */
+  @Nonnull
+  default CompletionStage<Obj[]> fetchObjsIfExistAsync(@Nonnull ObjId[] ids) {
+    return fetchTypedObjsIfExistAsync(ids, null, Obj.class);
+  }
+
+  /**
+   * Asynchronous variant of {@link Persist#fetchReferences(String[])}.
+   *
+   * <p><em>Do not use this function from service implementations, use {@link ReferenceLogic}
+   * instead!</em>
+   */
+  @Nonnull
+  CompletionStage<Reference[]> fetchReferencesAsync(@Nonnull String[] names);
+
+  /**
+   * Whether the functions of this instance are non-blocking. Wrappers, like {@link
+   * ObservingPersist}, implement {@link AsyncPersist} regardless of the wrapped {@link Persist} and
+   * return whether the wrapped instance is non-blocking.
+   */
+  default boolean nonBlocking() {
+    return true;
+  }
+
+  /**
+   * Whether the given {@link Persist} implements {@link AsyncPersist} with {@linkplain
+   * #nonBlocking() non-blocking} functions.
+   */
+  static boolean isNonBlocking(@Nonnull Persist persist) {
+    return persist instanceof AsyncPersist && ((AsyncPersist) persist).nonBlocking();
+  }
+
+  /**
+   * Returns an {@link AsyncPersist} for the given {@link Persist}. If {@code persist} natively
+   * implements {@link AsyncPersist}, {@code persist} itself is returned, otherwise the blocking
+   * {@link Persist} functions are executed using the given {@link Executor}.
+   */
+  static AsyncPersist asyncPersist(@Nonnull Persist persist, @Nonnull Executor executor) {
+    if (isNonBlocking(persist)) {
+      return (AsyncPersist) persist;
+    }
+    return new ExecutorAsyncPersist(persist, executor);
+  }
+
+  /**
+   * Returns an {@link AsyncPersist} for the given {@link Persist}, like {@link
+   * #asyncPersist(Persist, Executor)}, using the {@linkplain Persist#asyncReadExecutor() executor}
+   * of the backend, which runs up to {@link StoreConfig#asyncReadThreads()} reads concurrently.
+   */
+  static AsyncPersist asyncPersist(@Nonnull Persist persist) {
+    if (isNonBlocking(persist)) {
+      return (AsyncPersist) persist;
+    }
+    return new ExecutorAsyncPersist(persist, persist.asyncReadExecutor());
+  }
+
+  /**
+   * Blocking adapter, waits for the given completion stage and returns its result. Runtime
+   * exceptions are re-thrown "as is", without the wrapping {@link CompletionException}.
+   */
+  static <R> R join(@Nonnull CompletionStage<R> stage) {
+    try {
+      return stage.toCompletableFuture().join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+
+/**
+ * Bounded executor that runs the blocking reads of {@link Persist} implementations that do not
+ * implement {@link AsyncPersist}, see {@link Persist#asyncReadExecutor()}.
+ *
+ * <p>A {@link Backend} owns one instance, which is shared by all {@link Persist} instances of that
+ * backend and closed by {@link Backend#close()}. The thread pool is created on first use with the
+ * {@link StoreConfig#asyncReadThreads()} of the requesting {@link Persist}. At most that many reads
+ * run concurrently, further reads are queued, so submitting a read never blocks the caller.
+ */
+public final class AsyncReadExecutor implements AutoCloseable {
+  private final String name;
+  private ThreadPoolExecutor executor;
+
+  public AsyncReadExecutor(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Returns the executor, creates it with the given number of threads, if it does not exist yet.
+   */
+  public synchronized Executor executor(int threads) {
+    checkArgument(threads > 0, "Number of async read threads must be positive");
+    if (executor == null) {
+      executor =
+          new ThreadPoolExecutor(
+              threads,
+              threads,
+              60L,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("nessie-async-read-" + name + "-%d")
+                  .build());
+      executor.allowCoreThreadTimeOut(true);
+    }
+    return executor;
+  }
+
+  /**
+   * Shuts down the thread pool, already submitted reads are still executed. If used again, a new
+   * thread pool is created.
+   */
+  @Override
+  public synchronized void close() {
+    if (executor != null) {
+      executor.shutdown();
+      executor = null;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link AsyncPersist} implementation for {@link Persist} implementations that do not natively
+ * support asynchronous operations, runs the blocking operations using an {@link Executor}.
+ */
+final class ExecutorAsyncPersist implements AsyncPersist {
+  private final Persist persist;
+  private final Executor executor;
+
+  ExecutorAsyncPersist(Persist persist, Executor executor) {
+    this.persist = persist;
+    this.executor = executor;
+  }
+
+  @Nonnull
+  @Override
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    return supplyAsync(() -> persist.fetchTypedObjsIfExist(ids, type, typeClass), executor);
+  }
+
+  @Nonnull
+  @Override
+  public CompletionStage<Reference[]> fetchReferencesAsync(@Nonnull String[] names) {
+    return supplyAsync(() -> persist.fetchReferences(names), executor);
+  }
+}
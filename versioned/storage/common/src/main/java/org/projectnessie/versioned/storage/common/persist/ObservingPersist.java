@@ -21,6 +21,8 @@ import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -29,13 +31,29 @@ import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedE
 import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
 import org.projectnessie.versioned.storage.common.objtypes.UpdateableObj;
 
-public class ObservingPersist implements Persist {
+/**
+ * Adds metrics and traces to a {@link Persist}. Implements {@link AsyncPersist}, which delegates to
+ * the wrapped {@link Persist}, if that one implements {@link AsyncPersist}, {@link #nonBlocking()}
+ * returns whether the wrapped instance is non-blocking.
+ */
+public class ObservingPersist implements Persist, AsyncPersist {
   private final Persist delegate;
+  private final AsyncPersist asyncDelegate;
 
   private static final String PREFIX = "nessie.storage.persist";
 
   public ObservingPersist(Persist delegate) {
     this.delegate = delegate;
+    // Blocking fallback, callers check nonBlocking() via AsyncPersist.asyncPersist()
+    this.asyncDelegate =
+        delegate instanceof AsyncPersist
+            ? (AsyncPersist) delegate
+            : new ExecutorAsyncPersist(delegate, Runnable::run);
+  }
+
+  @Override
+  public boolean nonBlocking() {
+    return AsyncPersist.isNonBlocking(delegate);
   }
 
   @Override
@@ -213,6 +231,34 @@ public class ObservingPersist implements Persist {
     return delegate.fetchTypedObjsIfExist(ids, type, typeClass);
   }
 
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  @Nonnull
+  public <T extends Obj> CompletionStage<T[]> fetchTypedObjsIfExistAsync(
+      @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+    return asyncDelegate.fetchTypedObjsIfExistAsync(ids, type, typeClass);
+  }
+
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  @Nonnull
+  public CompletionStage<Obj[]> fetchObjsIfExistAsync(@Nonnull ObjId[] ids) {
+    return asyncDelegate.fetchObjsIfExistAsync(ids);
+  }
+
+  @WithSpan
+  @Override
+  @Counted(PREFIX)
+  @Timed(value = PREFIX, histogram = true)
+  @Nonnull
+  public CompletionStage<Reference[]> fetchReferencesAsync(@Nonnull String[] names) {
+    return asyncDelegate.fetchReferencesAsync(names);
+  }
+
   @WithSpan
   @Override
   @Counted(PREFIX)
@@ -317,4 +363,17 @@ public class ObservingPersist implements Persist {
   public boolean isCaching() {
     return delegate.isCaching();
   }
+
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return delegate.asyncReadExecutor();
+  }
+
+  @Override
+  @Nonnull
+  public Persist withoutCacheAdmission() {
+    Persist bulk = delegate.withoutCacheAdmission();
+    return bulk == delegate ? this : new ObservingPersist(bulk);
+  }
 }
@@ -15,11 +15,14 @@
  */
 package org.projectnessie.versioned.storage.common.persist;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -453,4 +456,31 @@ public interface Persist {
   default boolean isCaching() {
     return false;
   }
+
+  /**
+   * Executor that runs blocking background reads, like the reads issued via {@link
+   * AsyncPersist#asyncPersist(Persist)}, if this instance does not implement {@link AsyncPersist}
+   * with {@linkplain AsyncPersist#nonBlocking() non-blocking} functions.
+   *
+   * <p>Database specific implementations return the {@link AsyncReadExecutor} of their {@link
+   * Backend}, wrappers return the executor of the wrapped instance. The default implementation runs
+   * reads on the calling thread.
+   */
+  @Nonnull
+  default Executor asyncReadExecutor() {
+    return directExecutor();
+  }
+
+  /**
+   * Returns a {@link Persist} instance for bulk operations that read large parts of a repository,
+   * like cleanup or export. Reads are served from the cache, if possible, but objects read from
+   * the backend are not added to the cache, so that bulk operations do not evict objects that are
+   * needed by other requests. Write operations update the cache as usual.
+   *
+   * <p>Non-caching implementations return {@code this}.
+   */
+  @Nonnull
+  default Persist withoutCacheAdmission() {
+    return this;
+  }
 }
@@ -15,6 +15,7 @@
  */
 package org.projectnessie.versioned.storage.common.util;
 
+import com.github.luben.zstd.Zstd;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
@@ -55,6 +56,8 @@ public final class Compressions {
         return deflate(uncompressed);
       case SNAPPY:
         return snappyCompress(uncompressed);
+      case ZSTD:
+        return Zstd.compress(uncompressed);
       default:
         throw new IllegalArgumentException("Compression " + compression + " not implemented");
     }
@@ -70,6 +73,8 @@ public final class Compressions {
         return inflate(compressed);
       case SNAPPY:
         return snappyUncompress(compressed);
+      case ZSTD:
+        return zstdUncompress(compressed);
       default:
         throw new IllegalArgumentException("Compression " + compression + " not implemented");
     }
@@ -134,4 +139,12 @@ public final class Compressions {
     }
     return out.toByteArray();
   }
+
+  private static byte[] zstdUncompress(byte[] compressed) {
+    long size = Zstd.getFrameContentSize(compressed);
+    if (size < 0L || size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid or unknown ZSTD frame content size " + size);
+    }
+    return Zstd.decompress(compressed, (int) size);
+  }
 }
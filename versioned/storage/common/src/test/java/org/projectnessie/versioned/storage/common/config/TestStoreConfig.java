@@ -25,6 +25,7 @@ import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONF
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_MAX_REFERENCE_STRIPES_PER_COMMIT;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_MAX_SERIALIZED_INDEX_SIZE;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_NAMESPACE_VALIDATION;
+import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_OBJ_COMPRESSION;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_PARENTS_PER_COMMIT;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_REPOSITORY_ID;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_RETRY_INITIAL_SLEEP_MILLIS_LOWER;
@@ -41,11 +42,13 @@ import java.util.stream.Stream;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.projectnessie.versioned.storage.common.config.StoreConfig.Adjustable;
+import org.projectnessie.versioned.storage.common.objtypes.Compression;
 
 @ExtendWith(SoftAssertionsExtension.class)
 public class TestStoreConfig {
@@ -111,6 +114,11 @@ public class TestStoreConfig {
             "1234567",
             (Function<Adjustable, StoreConfig>) e -> e.withAssumedWallClockDriftMicros(1234567),
             (Predicate<StoreConfig>) c -> c.assumedWallClockDriftMicros() == 1234567),
+        arguments(
+            CONFIG_OBJ_COMPRESSION,
+            "zstd",
+            (Function<Adjustable, StoreConfig>) e -> e.withObjCompression(Compression.ZSTD),
+            (Predicate<StoreConfig>) c -> c.objCompression() == Compression.ZSTD),
         arguments(
             CONFIG_NAMESPACE_VALIDATION,
             "false",
@@ -147,4 +155,17 @@ public class TestStoreConfig {
         .isEqualTo(e)
         .matches(checker);
   }
+
+  @Test
+  public void unsupportedObjCompression() {
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(() -> Adjustable.empty().withObjCompression(Compression.LZ4))
+        .withMessage(
+            "Unsupported obj-compression value LZ4, "
+                + "supported values are NONE, GZIP, DEFLATE, SNAPPY and ZSTD");
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(
+            () -> Adjustable.empty().fromFunction(singletonMap(CONFIG_OBJ_COMPRESSION, "lz4")::get))
+        .withMessageStartingWith("Unsupported obj-compression value LZ4");
+  }
 }
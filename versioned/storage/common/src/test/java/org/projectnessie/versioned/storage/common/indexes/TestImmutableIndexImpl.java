@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.indexes;
+
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.immutableIndexCopy;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.ADD;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.commitOp;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestImmutableIndexImpl {
+  @InjectSoftAssertions SoftAssertions soft;
+
+  @Test
+  public void copy() {
+    StoreIndex<CommitOp> source = newStoreIndex(COMMIT_OP_SERIALIZER);
+    for (int i = 0; i < 100; i++) {
+      source.add(indexElement(key("key-" + i), commitOp(ADD, i, ObjId.randomObjId())));
+    }
+
+    StoreIndex<CommitOp> copy = immutableIndexCopy(source, COMMIT_OP_SERIALIZER);
+
+    soft.assertThat(copy.isMutable()).isFalse();
+    soft.assertThat(copy.isModified()).isFalse();
+    soft.assertThat(copy.elementCount()).isEqualTo(source.elementCount());
+    soft.assertThat(copy.asKeyList()).containsExactlyElementsOf(source.asKeyList());
+    soft.assertThat(copy).containsExactlyElementsOf(source);
+    soft.assertThat(copy.estimatedSerializedSize()).isEqualTo(source.estimatedSerializedSize());
+    soft.assertThat(copy.serialize()).isEqualTo(source.serialize());
+    soft.assertThat(copy.get(key("key-42"))).isEqualTo(source.get(key("key-42")));
+    soft.assertThat(copy.get(key("key-999"))).isNull();
+    soft.assertThatThrownBy(() -> copy.add(source.get(key("key-1"))))
+        .isInstanceOf(UnsupportedOperationException.class);
+
+    StoreIndex<CommitOp> mutable = copy.asMutableIndex();
+    soft.assertThat(mutable.isMutable()).isTrue();
+    soft.assertThat(mutable.add(indexElement(key("key-a"), commitOp(ADD, 0, ObjId.randomObjId())))).isTrue();
+    soft.assertThat(mutable.elementCount()).isEqualTo(101);
+    soft.assertThat(copy.elementCount()).isEqualTo(100);
+  }
+}
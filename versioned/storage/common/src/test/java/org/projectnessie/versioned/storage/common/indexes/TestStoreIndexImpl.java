@@ -622,6 +622,71 @@ public class TestStoreIndexImpl {
     soft.assertThat(index.last()).isEqualTo(key("j", "J"));
   }
 
+  @Test
+  public void lookupsOnSerialized() {
+    List<StoreKey> keys =
+        Stream.of(
+                key("a"),
+                key("a", "b"),
+                key("a", "b", "c"),
+                key("a", "bb"),
+                key("aä"),
+                key("aä", "öü"),
+                key("a€", "x"),
+                key("a😀"),
+                key("a😀", "y"),
+                key("a￿"),
+                key("b"),
+                key("ä"))
+            .sorted()
+            .collect(Collectors.toList());
+    List<StoreKey> notExisting =
+        asList(
+            key("!"),
+            key("0"),
+            key("a", "a"),
+            key("a", "b", "b"),
+            key("a", "b", "c", "d"),
+            key("aã"),
+            key("aä", "ö"),
+            key("a😁"),
+            key("a\ud83d"),
+            key("a￾"),
+            key("c"),
+            key("å"));
+
+    StoreIndex<ObjId> index = newStoreIndex(OBJ_ID_SERIALIZER);
+    keys.forEach(k -> index.add(indexElement(k, randomObjId())));
+    ByteString serialized = index.serialize();
+
+    StoreIndex<ObjId> deserialized = deserializeStoreIndex(serialized, OBJ_ID_SERIALIZER);
+    soft.assertThat(deserialized.elementCount()).isEqualTo(keys.size());
+    soft.assertThat(deserialized.first()).isEqualTo(keys.get(0));
+    soft.assertThat(deserialized.last()).isEqualTo(keys.get(keys.size() - 1));
+    for (StoreKey key : keys) {
+      soft.assertThat(deserialized.contains(key)).describedAs("%s", key).isTrue();
+      soft.assertThat(deserialized.get(key)).describedAs("%s", key).isEqualTo(index.get(key));
+    }
+    for (StoreKey key : notExisting) {
+      soft.assertThat(deserialized.contains(key)).describedAs("%s", key).isFalse();
+      soft.assertThat(deserialized.get(key)).describedAs("%s", key).isNull();
+    }
+
+    // modification after lookups on the serialized representation
+    StoreKey added = key("a", "ba");
+    ObjId addedId = randomObjId();
+    deserialized.add(indexElement(added, addedId));
+    soft.assertThat(deserialized.asKeyList())
+        .containsExactlyElementsOf(
+            Stream.concat(keys.stream(), Stream.of(added))
+                .sorted()
+                .collect(Collectors.toList()));
+    soft.assertThat(deserialized.get(added)).isEqualTo(indexElement(added, addedId));
+    soft.assertThat(deserialized.remove(added)).isTrue();
+    soft.assertThat(deserialized).isEqualTo(index);
+    soft.assertThat(deserialized.serialize()).containsExactlyElementsOf(serialized);
+  }
+
   @Test
   public void iterator() {
     StoreIndex<CommitOp> index = newStoreIndex(COMMIT_OP_SERIALIZER);
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.indexes;
+
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.emptyImmutableIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.ADD;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.commitOp;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.projectnessie.nessie.relocated.protobuf.ByteString;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestStoreKeyBloomFilter {
+  @InjectSoftAssertions SoftAssertions soft;
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 100, 1000, 10000})
+  public void containsAllKeys(int numKeys) {
+    StoreIndex<CommitOp> index = index(numKeys);
+
+    StoreKeyBloomFilter filter = StoreKeyBloomFilter.build(index, 0.01d);
+
+    for (StoreIndexElement<CommitOp> el : index) {
+      soft.assertThat(filter.mightContain(el.key())).describedAs("%s", el.key()).isTrue();
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {0.1d, 0.01d, 0.001d})
+  public void falsePositiveProbability(double fpp) {
+    int numKeys = 5000;
+    StoreKeyBloomFilter filter = StoreKeyBloomFilter.build(index(numKeys), fpp);
+
+    int falsePositives = 0;
+    int probes = 20000;
+    for (int i = 0; i < probes; i++) {
+      if (filter.mightContain(key("missing", "key-" + i))) {
+        falsePositives++;
+      }
+    }
+    // Allow some slack over the configured probability
+    soft.assertThat((double) falsePositives / probes).isLessThan(fpp * 2d);
+  }
+
+  @Test
+  public void serialization() {
+    StoreIndex<CommitOp> index = index(100);
+    StoreKeyBloomFilter filter = StoreKeyBloomFilter.build(index, 0.01d);
+
+    StoreKeyBloomFilter deserialized = StoreKeyBloomFilter.fromSerialized(filter.serialized());
+    soft.assertThat(deserialized).isNotNull();
+    soft.assertThat(deserialized.serialized()).isEqualTo(filter.serialized());
+    for (StoreIndexElement<CommitOp> el : index) {
+      soft.assertThat(deserialized.mightContain(el.key())).isTrue();
+    }
+
+    StoreKeyBloomFilter empty =
+        StoreKeyBloomFilter.build(emptyImmutableIndex(COMMIT_OP_SERIALIZER), 0.01d);
+    soft.assertThat(empty.mightContain(key("foo"))).isFalse();
+  }
+
+  @Test
+  public void unknownSerializedFormat() {
+    byte[] bytes = StoreKeyBloomFilter.build(index(100), 0.01d).serialized().toByteArray();
+
+    soft.assertThat(StoreKeyBloomFilter.fromSerialized(null)).isNull();
+    soft.assertThat(StoreKeyBloomFilter.fromSerialized(ByteString.EMPTY)).isNull();
+    soft.assertThat(StoreKeyBloomFilter.fromSerialized(ByteString.copyFrom(bytes, 0, 4))).isNull();
+
+    byte[] unknownVersion = bytes.clone();
+    unknownVersion[0] = 42;
+    soft.assertThat(StoreKeyBloomFilter.fromSerialized(ByteString.copyFrom(unknownVersion)))
+        .isNull();
+
+    byte[] noHashFunctions = bytes.clone();
+    noHashFunctions[1] = 0;
+    soft.assertThat(StoreKeyBloomFilter.fromSerialized(ByteString.copyFrom(noHashFunctions)))
+        .isNull();
+  }
+
+  @Test
+  public void illegalFalsePositiveProbability() {
+    StoreIndex<CommitOp> index = index(10);
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(() -> StoreKeyBloomFilter.build(index, 0d));
+    soft.assertThatIllegalArgumentException()
+        .isThrownBy(() -> StoreKeyBloomFilter.build(index, 1d));
+  }
+
+  private static StoreIndex<CommitOp> index(int numKeys) {
+    StoreIndex<CommitOp> index = newStoreIndex(COMMIT_OP_SERIALIZER);
+    for (int i = 0; i < numKeys; i++) {
+      index.add(indexElement(key("namespace-" + (i % 17), "table-" + i), commitOp(ADD, 1, null)));
+    }
+    return index;
+  }
+}
@@ -386,6 +386,80 @@ public class TestStripedIndexImpl {
     }
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3, 5, 8, 16})
+  public void stripedLazyBloomFilter(int numStripes) {
+    KeyIndexTestSet<CommitOp> indexTestSet = basicIndexTestSet();
+    StoreIndex<CommitOp> reference = indexTestSet.keyIndex();
+
+    List<StoreIndex<CommitOp>> stripes = indexFromStripes(reference.divide(numStripes)).stripes();
+    List<StoreKey> firstLastKeys =
+        stripes.stream().flatMap(s -> Stream.of(s.first(), s.last())).collect(Collectors.toList());
+    List<StoreKeyBloomFilter> filters =
+        stripes.stream().map(s -> StoreKeyBloomFilter.build(s, 0.01d)).collect(Collectors.toList());
+
+    boolean[] loads = new boolean[numStripes];
+    Supplier<StoreIndex<CommitOp>> lazyIndexSupplier =
+        () -> {
+          Arrays.fill(loads, false);
+          List<StoreIndex<CommitOp>> lazyStripes = new ArrayList<>(stripes.size());
+          for (int i = 0; i < stripes.size(); i++) {
+            StoreIndex<CommitOp> stripe = stripes.get(i);
+            int index = i;
+            lazyStripes.add(
+                lazyStoreIndex(
+                        () -> {
+                          loads[index] = true;
+                          return stripe;
+                        })
+                    .setBloomFilter(filters.get(i)));
+          }
+          return indexFromSplits(
+              lazyStripes,
+              firstLastKeys,
+              indexes -> {
+                @SuppressWarnings("unchecked")
+                StoreIndex<CommitOp>[] r = new StoreIndex[indexes.length];
+                for (int i = 0; i < indexes.length; i++) {
+                  if (indexes[i] != null) {
+                    loads[i] = true;
+                    r[i] = stripes.get(i);
+                  }
+                }
+                return r;
+              });
+        };
+
+    int excluded = 0;
+    for (int i = 0; i < stripes.size(); i++) {
+      StoreIndex<CommitOp> stripe = stripes.get(i);
+      // Not contained, but within the key range of the stripe
+      StoreKey missing = keyFromString(stripe.first().rawString() + "-missing");
+      soft.assertThat(reference.contains(missing)).isFalse();
+      soft.assertThat(missing).isGreaterThan(stripe.first()).isLessThan(stripe.last());
+
+      boolean mightContain = filters.get(i).mightContain(missing);
+      if (!mightContain) {
+        excluded++;
+      }
+
+      StoreIndex<CommitOp> lazyStripedIndex = lazyIndexSupplier.get();
+      lazyStripedIndex.loadIfNecessary(singleton(missing));
+      soft.assertThat(lazyStripedIndex.contains(missing)).isFalse();
+      soft.assertThat(lazyStripedIndex.get(missing)).isNull();
+      if (!mightContain) {
+        soft.assertThat(loads).containsOnly(false);
+      }
+
+      // Existing keys are always found
+      lazyStripedIndex = lazyIndexSupplier.get();
+      lazyStripedIndex.loadIfNecessary(singleton(stripe.first()));
+      soft.assertThat(lazyStripedIndex.contains(stripe.first())).isTrue();
+      soft.assertThat(loads[i]).isTrue();
+    }
+    soft.assertThat(excluded).isGreaterThan(0);
+  }
+
   @ParameterizedTest
   @ValueSource(ints = {2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16})
   public void striped(int numStripes) {
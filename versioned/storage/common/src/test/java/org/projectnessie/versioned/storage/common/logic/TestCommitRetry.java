@@ -16,6 +16,7 @@
 package org.projectnessie.versioned.storage.common.logic;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.offset;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -28,6 +29,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.projectnessie.versioned.storage.common.logic.CommitContention.commitContention;
 import static org.projectnessie.versioned.storage.common.logic.CommitRetry.commitRetry;
 
 import io.opentelemetry.api.common.AttributeKey;
@@ -36,10 +38,12 @@ import io.opentelemetry.context.Scope;
 import io.opentelemetry.sdk.testing.junit5.OpenTelemetryExtension;
 import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
@@ -54,6 +58,7 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.InOrder;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.RetryTimeoutException;
+import org.projectnessie.versioned.storage.common.logic.CommitContention.ReferenceContention;
 import org.projectnessie.versioned.storage.common.logic.CommitRetry.RetryException;
 import org.projectnessie.versioned.storage.common.logic.CommitRetry.TryLoopState.MonotonicClock;
 import org.projectnessie.versioned.storage.common.persist.Persist;
@@ -358,6 +363,135 @@ public class TestCommitRetry {
     soft.assertThat(tryLoopState.retry(0L)).isFalse();
   }
 
+  @Test
+  public void contentionStatistics() {
+    StoreConfig mockedConfig = mockedConfig(3, Long.MAX_VALUE);
+    MonotonicClock clock = mockedClock(0L, 0L, 0L, MILLISECONDS.toNanos(10));
+    CommitContention contention = commitContention();
+    CommitRetry.TryLoopState tryLoopState =
+        new CommitRetry.TryLoopState(mockedConfig, clock, contention, "main");
+
+    AtomicInteger retryCounter = new AtomicInteger();
+    soft.assertThatCode(
+            () ->
+                commitRetry(
+                    mock(Persist.class),
+                    (p, retryState) -> {
+                      if (retryCounter.incrementAndGet() == 1) {
+                        soft.assertThat(contention.existing("main")).isNull();
+                        throw new RetryException();
+                      }
+                      soft.assertThat(contention.existing("main"))
+                          .extracting(ReferenceContention::retrying)
+                          .isEqualTo(1);
+                      return "foo";
+                    },
+                    tryLoopState))
+        .doesNotThrowAnyException();
+
+    ReferenceContention main = contention.existing("main");
+    soft.assertThat(main).isNotNull();
+    soft.assertThat(main.retrying()).isEqualTo(0);
+    soft.assertThat(main.conflicts()).isEqualTo(1L);
+    soft.assertThat(main.fastFailures()).isEqualTo(0L);
+    soft.assertThat(main.conflictRate()).isCloseTo(0.16d, offset(0.0001d));
+    soft.assertThat(main.commitDurationNanos()).isEqualTo(MILLISECONDS.toNanos(10));
+    soft.assertThat(contention.existing("other")).isNull();
+  }
+
+  @Test
+  public void overloadedReferenceFailsFast() {
+    StoreConfig mockedConfig = mockedConfig(3, Long.MAX_VALUE);
+    when(mockedConfig.retryOverloadThreshold()).thenReturn(1);
+    MonotonicClock clock = mockedClock(3);
+    CommitContention contention = commitContention();
+    // another committer is already retrying
+    contention.forReference("main").retryStarted();
+    CommitRetry.TryLoopState tryLoopState =
+        new CommitRetry.TryLoopState(mockedConfig, clock, contention, "main");
+
+    AtomicInteger retryCounter = new AtomicInteger();
+    soft.assertThatThrownBy(
+            () ->
+                commitRetry(
+                    mock(Persist.class),
+                    (p, retryState) -> {
+                      retryCounter.incrementAndGet();
+                      throw new RetryException();
+                    },
+                    tryLoopState))
+        .isInstanceOf(RetryTimeoutException.class)
+        .asInstanceOf(type(RetryTimeoutException.class))
+        .extracting(RetryTimeoutException::getRetry, RetryTimeoutException::isOverloaded)
+        .containsExactly(0, true);
+
+    soft.assertThat(retryCounter).hasValue(1);
+    verify(clock, times(0)).sleepMillis(anyLong());
+    ReferenceContention main = contention.existing("main");
+    soft.assertThat(main.retrying()).isEqualTo(1);
+    soft.assertThat(main.fastFailures()).isEqualTo(1L);
+    soft.assertThat(main.conflicts()).isEqualTo(1L);
+  }
+
+  @Test
+  public void adaptiveBackoff() {
+    StoreConfig mockedConfig = mockedConfig(3, Long.MAX_VALUE, 5, 25, 1000);
+    when(mockedConfig.retryAdaptiveBackoff()).thenReturn(true);
+    MonotonicClock clock = mockedClock(3);
+    CommitContention contention = commitContention();
+    ReferenceContention main = contention.forReference("main");
+    main.committed(MILLISECONDS.toNanos(50));
+    // three other committers are retrying
+    main.retryStarted();
+    main.retryStarted();
+    main.retryStarted();
+    CommitRetry.TryLoopState tryLoopState =
+        new CommitRetry.TryLoopState(mockedConfig, clock, contention, "main");
+
+    // upper bound multiplied by the number of retrying committers, lower bound raised to the
+    // average commit duration
+    soft.assertThat(tryLoopState.retry(0L)).isTrue();
+    verify(clock, times(1)).sleepMillis(longThat(v -> v >= 50L && v <= 100L));
+    clearInvocations(clock);
+
+    // bounds doubled
+    soft.assertThat(tryLoopState.retry(0L)).isTrue();
+    verify(clock, times(1)).sleepMillis(longThat(v -> v >= 100L && v <= 200L));
+
+    tryLoopState.finished();
+    soft.assertThat(main.retrying()).isEqualTo(3);
+  }
+
+  @Test
+  public void contentionExpires() {
+    AtomicLong nanos = new AtomicLong();
+    List<String> added = new ArrayList<>();
+    List<String> removed = new ArrayList<>();
+    CommitContention contention =
+        commitContention(
+            r -> added.add(r.reference()), r -> removed.add(r.reference()), nanos::get);
+
+    ReferenceContention main = contention.forReference("main");
+    contention.forReference("other");
+    soft.assertThat(contention.forReference("main")).isSameAs(main);
+    soft.assertThat(added).containsExactly("main", "other");
+    soft.assertThat(contention.trackedReferences()).isEqualTo(2L);
+
+    nanos.addAndGet(CommitContention.EXPIRE_AFTER_ACCESS.toNanos() / 2);
+    soft.assertThat(contention.existing("main")).isSameAs(main);
+    nanos.addAndGet(CommitContention.EXPIRE_AFTER_ACCESS.toNanos() / 2 + 1);
+
+    soft.assertThat(contention.trackedReferences()).isEqualTo(1L);
+    soft.assertThat(removed).containsExactly("other");
+    soft.assertThat(contention.existing("other")).isNull();
+
+    nanos.addAndGet(CommitContention.EXPIRE_AFTER_ACCESS.toNanos());
+    soft.assertThat(contention.trackedReferences()).isEqualTo(0L);
+    soft.assertThat(removed).containsExactly("other", "main");
+    soft.assertThat(contention.forReference("main")).isNotSameAs(main);
+    soft.assertThat(added).containsExactly("main", "other", "main");
+  }
+
   @Nested
   class Telemetry {
     @RegisterExtension public final OpenTelemetryExtension otel = OpenTelemetryExtension.create();
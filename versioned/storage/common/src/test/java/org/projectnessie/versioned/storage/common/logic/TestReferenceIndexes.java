@@ -28,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 import static org.projectnessie.nessie.relocated.protobuf.ByteString.copyFromUtf8;
+import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_INDEX_STRIPE_BLOOM_FILTER_FPP;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_MAX_INCREMENTAL_INDEX_SIZE;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_MAX_REFERENCE_STRIPES_PER_COMMIT;
 import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_MAX_SERIALIZED_INDEX_SIZE;
@@ -75,6 +76,7 @@ import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundExceptio
 import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
 import org.projectnessie.versioned.storage.common.indexes.StoreKey;
+import org.projectnessie.versioned.storage.common.indexes.StoreKeyBloomFilter;
 import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
 import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
 import org.projectnessie.versioned.storage.common.objtypes.IndexObj;
@@ -571,4 +573,76 @@ public class TestReferenceIndexes {
       soft.assertThat(newArrayList(updatedIndex)).isEqualTo(newArrayList(completeIndex));
     }
   }
+
+  @Test
+  public void referenceIndexBloomFilters(
+      @NessieStoreConfig(
+              name = CONFIG_MAX_INCREMENTAL_INDEX_SIZE,
+              value = "" + REF_INDEX_LIFECYCLE_TEST_INCR_SIZE)
+          @NessieStoreConfig(
+              name = CONFIG_MAX_SERIALIZED_INDEX_SIZE,
+              value = "" + REF_INDEX_LIFECYCLE_TEST_SEG_SIZE)
+          @NessieStoreConfig(
+              name = CONFIG_MAX_REFERENCE_STRIPES_PER_COMMIT,
+              value = "" + REF_INDEX_LIFECYCLE_TEST_EMBEDDED)
+          @NessieStoreConfig(name = CONFIG_INDEX_STRIPE_BLOOM_FILTER_FPP, value = "0.01")
+          @NessiePersist
+          Persist persist)
+      throws Exception {
+    CommitLogic commitLogic = commitLogic(persist);
+
+    @SuppressWarnings("InlineMeInliner")
+    String suffix200 = Strings.repeat("1234567890", 20);
+    IntFunction<StoreKey> key = i -> key(format("%04x", i), suffix200);
+
+    ObjId head = EMPTY_OBJ_ID;
+    for (int num = 0; ; num++) {
+      head =
+          requireNonNull(
+                  commitLogic.doCommit(
+                      stdCommit()
+                          .addAdds(commitAdd(key.apply(num), 0, EMPTY_OBJ_ID, null, null))
+                          .parentCommitId(head)
+                          .build(),
+                      emptyList()))
+              .id();
+
+      CommitObj commit = requireNonNull(persist.fetchTypedObj(head, COMMIT, CommitObj.class));
+
+      List<IndexStripe> stripes = commit.referenceIndexStripes();
+      if (commit.referenceIndex() != null) {
+        stripes =
+            persist
+                .fetchTypedObj(commit.referenceIndex(), INDEX_SEGMENTS, IndexSegmentsObj.class)
+                .stripes();
+      }
+
+      for (IndexStripe stripe : stripes) {
+        StoreKeyBloomFilter filter = StoreKeyBloomFilter.fromSerialized(stripe.bloomFilter());
+        soft.assertThat(filter).describedAs("num=%d", num).isNotNull();
+        if (filter != null) {
+          IndexObj idx = persist.fetchTypedObj(stripe.segment(), INDEX, IndexObj.class);
+          StoreIndex<CommitOp> index = deserializeStoreIndex(idx.index(), COMMIT_OP_SERIALIZER);
+          soft.assertThat(newArrayList(index))
+              .allSatisfy(el -> assertThat(filter.mightContain(el.key())).isTrue());
+        }
+      }
+
+      refIndexVerifyKeyExistence(persist, commit, num, key);
+      StoreIndex<CommitOp> fullIndex =
+          indexesLogic(persist).buildCompleteIndex(commit, Optional.empty());
+      for (int i = 0; i <= num; i++) {
+        soft.assertThat(fullIndex.contains(key(format("%04x", i), "missing"))).isFalse();
+      }
+
+      soft.assertAll();
+
+      if (commit.referenceIndex() != null) {
+        break;
+      }
+
+      // Hard stop to prevent an endless loop (just in case)
+      assertThat(num).isLessThan(30);
+    }
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestAsyncReadExecutor {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void queuesReadsWithoutBlockingCaller() throws Exception {
+    try (AsyncReadExecutor asyncReadExecutor = new AsyncReadExecutor("test")) {
+      Executor executor = asyncReadExecutor.executor(1);
+      soft.assertThat(asyncReadExecutor.executor(1)).isSameAs(executor);
+
+      CountDownLatch blocked = new CountDownLatch(1);
+      CompletableFuture<String> first =
+          supplyAsync(
+              () -> {
+                try {
+                  blocked.await();
+                } catch (InterruptedException e) {
+                  throw new RuntimeException(e);
+                }
+                return Thread.currentThread().getName();
+              },
+              executor);
+      // Exceeds the number of threads, must be queued and not run by the calling thread
+      CompletableFuture<String> second =
+          supplyAsync(() -> Thread.currentThread().getName(), executor);
+      soft.assertThat(second).isNotDone();
+
+      blocked.countDown();
+      soft.assertThat(first.get(1, MINUTES)).startsWith("nessie-async-read-test-");
+      soft.assertThat(second.get(1, MINUTES)).startsWith("nessie-async-read-test-");
+    }
+  }
+
+  @Test
+  public void close() {
+    AsyncReadExecutor asyncReadExecutor = new AsyncReadExecutor("test");
+    Executor executor = asyncReadExecutor.executor(2);
+    asyncReadExecutor.close();
+
+    soft.assertThatThrownBy(() -> executor.execute(() -> {}))
+        .isInstanceOf(RejectedExecutionException.class);
+
+    Executor other = asyncReadExecutor.executor(2);
+    soft.assertThat(other).isNotSameAs(executor);
+    asyncReadExecutor.close();
+  }
+
+  @Test
+  public void invalidThreads() {
+    try (AsyncReadExecutor asyncReadExecutor = new AsyncReadExecutor("test")) {
+      soft.assertThatIllegalArgumentException()
+          .isThrownBy(() -> asyncReadExecutor.executor(0))
+          .withMessage("Number of async read threads must be positive");
+    }
+  }
+}
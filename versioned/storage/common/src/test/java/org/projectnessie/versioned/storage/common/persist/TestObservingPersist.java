@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.common.persist;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.projectnessie.versioned.storage.common.persist.AsyncPersist.asyncPersist;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestObservingPersist {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void blockingDelegate() {
+    Persist delegate = mock(Persist.class);
+    ObjId[] ids = {ObjId.randomObjId()};
+    Obj[] objs = new Obj[1];
+    when(delegate.fetchTypedObjsIfExist(ids, null, Obj.class)).thenReturn(objs);
+
+    ObservingPersist observing = new ObservingPersist(delegate);
+    soft.assertThat(observing.nonBlocking()).isFalse();
+    soft.assertThat(AsyncPersist.isNonBlocking(observing)).isFalse();
+    soft.assertThat(asyncPersist(observing, Runnable::run))
+        .isNotSameAs(observing)
+        .isInstanceOf(ExecutorAsyncPersist.class);
+
+    soft.assertThat(observing.fetchObjsIfExistAsync(ids).toCompletableFuture())
+        .isCompletedWithValue(objs);
+  }
+
+  @Test
+  public void nonBlockingDelegate() {
+    Persist delegate = mock(Persist.class, withSettings().extraInterfaces(AsyncPersist.class));
+    AsyncPersist asyncDelegate = (AsyncPersist) delegate;
+    Reference[] refs = new Reference[1];
+    when(asyncDelegate.nonBlocking()).thenReturn(true);
+    when(asyncDelegate.fetchReferencesAsync(any())).thenReturn(completedFuture(refs));
+
+    ObservingPersist observing = new ObservingPersist(delegate);
+    soft.assertThat(observing.nonBlocking()).isTrue();
+    soft.assertThat(asyncPersist(observing, Runnable::run)).isSameAs(observing);
+
+    String[] names = {"main"};
+    soft.assertThat(observing.fetchReferencesAsync(names).toCompletableFuture())
+        .isCompletedWithValue(refs);
+    verify(asyncDelegate).fetchReferencesAsync(names);
+  }
+
+  @Test
+  public void withoutCacheAdmission() {
+    Persist nonCaching = mock(Persist.class);
+    when(nonCaching.withoutCacheAdmission()).thenReturn(nonCaching);
+    ObservingPersist observing = new ObservingPersist(nonCaching);
+    soft.assertThat(observing.withoutCacheAdmission()).isSameAs(observing);
+
+    Persist caching = mock(Persist.class);
+    Persist bulk = mock(Persist.class);
+    ObjId[] ids = {ObjId.randomObjId()};
+    Obj[] objs = new Obj[1];
+    when(caching.withoutCacheAdmission()).thenReturn(bulk);
+    when(bulk.fetchObjsIfExist(ids)).thenReturn(objs);
+    Persist observingBulk = new ObservingPersist(caching).withoutCacheAdmission();
+    soft.assertThat(observingBulk).isInstanceOf(ObservingPersist.class);
+    soft.assertThat(observingBulk.fetchObjsIfExist(ids)).isSameAs(objs);
+    verify(bulk).fetchObjsIfExist(ids);
+  }
+}
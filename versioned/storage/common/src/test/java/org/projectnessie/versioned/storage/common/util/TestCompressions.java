@@ -56,7 +56,7 @@ public class TestCompressions {
   @ParameterizedTest
   @EnumSource(
       value = Compression.class,
-      names = {"NONE", "SNAPPY", "DEFLATE", "GZIP"})
+      names = {"NONE", "SNAPPY", "DEFLATE", "GZIP", "ZSTD"})
   public void supportedCompression(Compression compression) {
     byte[] data = ("x".repeat(10)).getBytes(UTF_8);
     byte[] compressed = Compressions.compress(compression, data);
@@ -68,7 +68,12 @@ public class TestCompressions {
   @EnumSource(value = Compression.class)
   public void unsupportedCompression(Compression compression) {
     assumeThat(compression)
-        .isNotIn(Compression.NONE, Compression.SNAPPY, Compression.DEFLATE, Compression.GZIP);
+        .isNotIn(
+            Compression.NONE,
+            Compression.SNAPPY,
+            Compression.DEFLATE,
+            Compression.GZIP,
+            Compression.ZSTD);
     byte[] data = ("x".repeat(10)).getBytes(UTF_8);
     soft.assertThatIllegalArgumentException()
         .isThrownBy(() -> Compressions.compress(compression, data))
@@ -61,6 +61,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import org.agrona.collections.Hashing;
 import org.agrona.collections.Object2IntHashMap;
@@ -127,6 +128,12 @@ public class DynamoDBPersist implements Persist {
     return config;
   }
 
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return backend.asyncReadExecutor().executor(config.asyncReadThreads());
+  }
+
   @Nonnull
   @Override
   public Reference addReference(@Nonnull Reference reference) throws RefAlreadyExistsException {
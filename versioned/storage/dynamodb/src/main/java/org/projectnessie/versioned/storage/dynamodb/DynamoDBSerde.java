@@ -42,6 +42,7 @@ public final class DynamoDBSerde {
   private static final String COL_STRIPES_FIRST_KEY = "f";
   private static final String COL_STRIPES_LAST_KEY = "l";
   private static final String COL_STRIPES_SEGMENT = "s";
+  private static final String COL_STRIPES_BLOOM_FILTER = "b";
 
   private DynamoDBSerde() {}
 
@@ -110,7 +111,8 @@ public final class DynamoDBSerde {
             indexStripe(
                 keyFromString(DynamoDBSerde.attributeToString(m, COL_STRIPES_FIRST_KEY)),
                 keyFromString(DynamoDBSerde.attributeToString(m, COL_STRIPES_LAST_KEY)),
-                DynamoDBSerde.attributeToObjId(m, COL_STRIPES_SEGMENT)));
+                DynamoDBSerde.attributeToObjId(m, COL_STRIPES_SEGMENT),
+                DynamoDBSerde.attributeToBytes(m, COL_STRIPES_BLOOM_FILTER)));
       }
     }
   }
@@ -122,6 +124,10 @@ public final class DynamoDBSerde {
       sv.put(COL_STRIPES_FIRST_KEY, fromS(stripe.firstKey().rawString()));
       sv.put(COL_STRIPES_LAST_KEY, fromS(stripe.lastKey().rawString()));
       DynamoDBSerde.objIdToAttribute(sv, COL_STRIPES_SEGMENT, stripe.segment());
+      ByteString bloomFilter = stripe.bloomFilter();
+      if (bloomFilter != null) {
+        DynamoDBSerde.bytesAttribute(sv, COL_STRIPES_BLOOM_FILTER, bloomFilter);
+      }
       stripeAttr.add(fromM(sv));
     }
     return fromL(stripeAttr);
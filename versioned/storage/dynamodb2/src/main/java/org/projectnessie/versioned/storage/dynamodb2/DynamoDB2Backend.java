@@ -25,6 +25,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.projectnessie.versioned.storage.common.persist.AsyncReadExecutor;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
 import org.slf4j.Logger;
@@ -51,6 +52,7 @@ public final class DynamoDB2Backend implements Backend {
 
   final String tableRefs;
   final String tableObjs;
+  private final AsyncReadExecutor asyncReadExecutor = new AsyncReadExecutor("dynamodb2");
 
   public DynamoDB2Backend(@Nonnull DynamoDB2BackendConfig config, boolean closeClient) {
     this.client = config.client();
@@ -72,8 +74,13 @@ public final class DynamoDB2Backend implements Backend {
     return new DynamoDB2PersistFactory(this);
   }
 
+  AsyncReadExecutor asyncReadExecutor() {
+    return asyncReadExecutor;
+  }
+
   @Override
   public void close() {
+    asyncReadExecutor.close();
     if (closeClient) {
       client.close();
     }
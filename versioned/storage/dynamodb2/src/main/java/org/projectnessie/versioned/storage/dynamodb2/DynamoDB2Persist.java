@@ -41,6 +41,7 @@ import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Constants.C
 import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Constants.ITEM_SIZE_LIMIT;
 import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Constants.KEY_NAME;
 import static org.projectnessie.versioned.storage.dynamodb2.DynamoDB2Serde.attributeToString;
+import static org.projectnessie.versioned.storage.serialize.ObjCompression.objCompression;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializePreviousPointers;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObj;
@@ -64,6 +65,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import org.agrona.collections.Hashing;
 import org.agrona.collections.Object2IntHashMap;
@@ -81,6 +83,7 @@ import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.serialize.ObjCompression;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.AbortedException;
@@ -103,11 +106,13 @@ public class DynamoDB2Persist implements Persist {
 
   private final DynamoDB2Backend backend;
   private final StoreConfig config;
+  private final ObjCompression objCompression;
   private final String keyPrefix;
 
   DynamoDB2Persist(DynamoDB2Backend backend, StoreConfig config) {
     this.backend = backend;
     this.config = config;
+    this.objCompression = objCompression(config, this);
     this.keyPrefix = keyPrefix(config.repositoryId());
   }
 
@@ -128,6 +133,12 @@ public class DynamoDB2Persist implements Persist {
     return config;
   }
 
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return backend.asyncReadExecutor().executor(config.asyncReadThreads());
+  }
+
   @Nonnull
   @Override
   public Reference addReference(@Nonnull Reference reference) throws RefAlreadyExistsException {
@@ -670,7 +681,7 @@ public class DynamoDB2Persist implements Persist {
     String versionToken = attributeToString(item, COL_OBJ_VERS);
     String referencedString = attributeToString(item, COL_OBJ_REFERENCED);
     long referenced = referencedString != null ? Long.parseLong(referencedString) : -1L;
-    Obj obj = deserializeObj(id, referenced, bin, versionToken);
+    Obj obj = deserializeObj(id, referenced, bin, versionToken, objCompression);
     return typeClass.cast(obj);
   }
 
@@ -692,7 +703,8 @@ public class DynamoDB2Persist implements Persist {
         ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
     int indexSizeLimit =
         ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
-    byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false);
+    byte[] serialized =
+        serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false, objCompression);
     item.put(COL_OBJ_VALUE, fromB(fromByteArray(serialized)));
     return item;
   }
@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import org.projectnessie.versioned.storage.common.persist.AsyncReadExecutor;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.Obj;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
@@ -31,6 +32,7 @@ import org.projectnessie.versioned.storage.common.persist.Reference;
 public final class InmemoryBackend implements Backend {
   final Map<String, Reference> references = new ConcurrentHashMap<>();
   final Map<String, Obj> objects = new ConcurrentHashMap<>();
+  private final AsyncReadExecutor asyncReadExecutor = new AsyncReadExecutor("inmemory");
 
   static String compositeKeyRepo(String repoId) {
     return repoId + ':';
@@ -42,8 +44,13 @@ public final class InmemoryBackend implements Backend {
     return new InmemoryPersistFactory(this);
   }
 
+  AsyncReadExecutor asyncReadExecutor() {
+    return asyncReadExecutor;
+  }
+
   @Override
   public void close() {
+    asyncReadExecutor.close();
     references.clear();
     objects.clear();
   }
@@ -24,6 +24,7 @@ import java.lang.reflect.Array;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
@@ -75,6 +76,12 @@ class InmemoryPersist implements ValidatingPersist {
     return config;
   }
 
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return inmemory.asyncReadExecutor().executor(config.asyncReadThreads());
+  }
+
   @Override
   public Reference fetchReference(@Nonnull String name) {
     return inmemory.references.get(compositeKey(name));
@@ -56,6 +56,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
 import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
+import org.projectnessie.versioned.storage.common.persist.AsyncReadExecutor;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
 import org.slf4j.Logger;
@@ -72,6 +73,7 @@ public final class JdbcBackend implements Backend {
   private final boolean closeDataSource;
   private final String createTableRefsSql;
   private final String createTableObjsSql;
+  private final AsyncReadExecutor asyncReadExecutor = new AsyncReadExecutor("jdbc");
 
   public JdbcBackend(
       @Nonnull JdbcBackendConfig config,
@@ -150,8 +152,13 @@ public final class JdbcBackend implements Backend {
     return databaseSpecific;
   }
 
+  AsyncReadExecutor asyncReadExecutor() {
+    return asyncReadExecutor;
+  }
+
   @Override
   public void close() {
+    asyncReadExecutor.close();
     if (closeDataSource) {
       try {
         if (dataSource instanceof AutoCloseable) {
@@ -21,6 +21,7 @@ import jakarta.annotation.Nonnull;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -43,6 +44,12 @@ class JdbcPersist extends AbstractJdbcPersist {
     this.backend = backend;
   }
 
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return backend.asyncReadExecutor().executor(config().asyncReadThreads());
+  }
+
   @FunctionalInterface
   interface SQLRunnableException<R, E extends Exception> {
     R run(Connection conn) throws E;
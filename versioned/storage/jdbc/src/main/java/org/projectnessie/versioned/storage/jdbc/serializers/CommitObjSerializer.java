@@ -110,11 +110,17 @@ public class CommitObjSerializer implements ObjSerializer<CommitObj> {
     Stripes.Builder b = Stripes.newBuilder();
     obj.referenceIndexStripes().stream()
         .map(
-            s ->
-                Stripe.newBuilder()
-                    .setFirstKey(s.firstKey().rawString())
-                    .setLastKey(s.lastKey().rawString())
-                    .setSegment(s.segment().asBytes()))
+            s -> {
+              Stripe.Builder sb =
+                  Stripe.newBuilder()
+                      .setFirstKey(s.firstKey().rawString())
+                      .setLastKey(s.lastKey().rawString())
+                      .setSegment(s.segment().asBytes());
+              if (s.bloomFilter() != null) {
+                sb.setBloomFilter(s.bloomFilter());
+              }
+              return sb;
+            })
         .forEach(b::addStripes);
     serializeBytes(
         ps,
@@ -178,7 +184,8 @@ public class CommitObjSerializer implements ObjSerializer<CommitObj> {
                   indexStripe(
                       keyFromString(s.getFirstKey()),
                       keyFromString(s.getLastKey()),
-                      objIdFromByteBuffer(s.getSegment().asReadOnlyByteBuffer())))
+                      objIdFromByteBuffer(s.getSegment().asReadOnlyByteBuffer()),
+                      s.hasBloomFilter() ? s.getBloomFilter() : null))
           .forEach(b::addReferenceIndexStripes);
     } catch (IOException e) {
       throw new RuntimeException(e);
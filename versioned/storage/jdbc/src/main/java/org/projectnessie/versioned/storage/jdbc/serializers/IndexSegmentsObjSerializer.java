@@ -67,11 +67,17 @@ public class IndexSegmentsObjSerializer implements ObjSerializer<IndexSegmentsOb
     Stripes.Builder b = Stripes.newBuilder();
     obj.stripes().stream()
         .map(
-            s ->
-                Stripe.newBuilder()
-                    .setFirstKey(s.firstKey().rawString())
-                    .setLastKey(s.lastKey().rawString())
-                    .setSegment(s.segment().asBytes()))
+            s -> {
+              Stripe.Builder sb =
+                  Stripe.newBuilder()
+                      .setFirstKey(s.firstKey().rawString())
+                      .setLastKey(s.lastKey().rawString())
+                      .setSegment(s.segment().asBytes());
+              if (s.bloomFilter() != null) {
+                sb.setBloomFilter(s.bloomFilter());
+              }
+              return sb;
+            })
         .forEach(b::addStripes);
     serializeBytes(
         ps, nameToIdx.apply(COL_SEGMENTS_STRIPES), b.build().toByteString(), databaseSpecific);
@@ -90,7 +96,8 @@ public class IndexSegmentsObjSerializer implements ObjSerializer<IndexSegmentsOb
                       indexStripe(
                           keyFromString(s.getFirstKey()),
                           keyFromString(s.getLastKey()),
-                          objIdFromByteBuffer(s.getSegment().asReadOnlyByteBuffer())))
+                          objIdFromByteBuffer(s.getSegment().asReadOnlyByteBuffer()),
+                          s.hasBloomFilter() ? s.getBloomFilter() : null))
               .collect(Collectors.toList());
       return indexSegments(id, referenced, stripeList);
     } catch (IOException e) {
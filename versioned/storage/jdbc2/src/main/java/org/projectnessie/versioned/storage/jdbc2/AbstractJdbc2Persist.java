@@ -19,6 +19,8 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Arrays.stream;
 import static org.projectnessie.versioned.storage.common.persist.ObjTypes.objTypeByName;
 import static org.projectnessie.versioned.storage.common.util.Closing.closeMultiple;
+import static org.projectnessie.versioned.storage.jdbc2.Jdbc2ColumnType.NAME;
+import static org.projectnessie.versioned.storage.jdbc2.Jdbc2ColumnType.OBJ_ID;
 import static org.projectnessie.versioned.storage.jdbc2.Jdbc2Serde.deserializeObjId;
 import static org.projectnessie.versioned.storage.jdbc2.Jdbc2Serde.serializeObjId;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.ADD_REFERENCE;
@@ -44,6 +46,7 @@ import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.SCAN_OBJS_A
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.STORE_OBJ;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.UPDATE_OBJS_REFERENCED;
 import static org.projectnessie.versioned.storage.jdbc2.SqlConstants.UPDATE_REFERENCE_POINTER;
+import static org.projectnessie.versioned.storage.serialize.ObjCompression.objCompression;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.serializePreviousPointers;
 
@@ -78,16 +81,19 @@ import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.serialize.ObjCompression;
 import org.projectnessie.versioned.storage.serialize.ProtoSerialization;
 
 @SuppressWarnings({"SqlDialectInspection", "SqlNoDataSourceInspection"})
 abstract class AbstractJdbc2Persist implements Persist {
 
   private final StoreConfig config;
+  private final ObjCompression objCompression;
   private final DatabaseSpecific databaseSpecific;
 
   AbstractJdbc2Persist(DatabaseSpecific databaseSpecific, StoreConfig config) {
     this.config = config;
+    this.objCompression = objCompression(config, this);
     this.databaseSpecific = databaseSpecific;
   }
 
@@ -125,13 +131,11 @@ abstract class AbstractJdbc2Persist implements Persist {
       return r;
     }
 
+    String[] values = keys.toArray(new String[0]);
     try (PreparedStatement ps =
-        conn.prepareStatement(sqlSelectMultiple(FIND_REFERENCES, keys.size()))) {
-      int idx = 1;
-      ps.setString(idx++, config.repositoryId());
-      for (String key : keys) {
-        ps.setString(idx++, key);
-      }
+        conn.prepareStatement(sqlSelectMultiple(FIND_REFERENCES, NAME, values.length))) {
+      ps.setString(1, config.repositoryId());
+      bindMultiple(conn, ps, 2, NAME, values);
       try (ResultSet rs = ps.executeQuery()) {
         while (rs.next()) {
           Reference ref = Jdbc2Serde.deserializeReference(rs);
@@ -346,15 +350,16 @@ abstract class AbstractJdbc2Persist implements Persist {
       return r;
     }
 
+    byte[][] values = new byte[keys.size()][];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = keys.get(i).asByteArray();
+    }
     String sql = type == null ? FIND_OBJS : FIND_OBJS_TYPED;
-    sql = sqlSelectMultiple(sql, keys.size());
+    sql = sqlSelectMultiple(sql, OBJ_ID, values.length);
 
     try (PreparedStatement ps = conn.prepareStatement(sql)) {
-      int idx = 1;
-      ps.setString(idx++, config.repositoryId());
-      for (ObjId key : keys) {
-        serializeObjId(ps, idx++, key, databaseSpecific);
-      }
+      ps.setString(1, config.repositoryId());
+      int idx = bindMultiple(conn, ps, 2, OBJ_ID, values);
       if (type != null) {
         ps.setString(idx, type.shortName());
       }
@@ -383,7 +388,8 @@ abstract class AbstractJdbc2Persist implements Persist {
     if (rs.wasNull()) {
       referenced = -1;
     }
-    return ProtoSerialization.deserializeObj(id, referenced, serialized, versionToken);
+    return ProtoSerialization.deserializeObj(
+        id, referenced, serialized, versionToken, objCompression);
   }
 
   protected final boolean storeObj(
@@ -536,7 +542,8 @@ abstract class AbstractJdbc2Persist implements Persist {
         } else {
           ps.setNull(4, Types.VARCHAR);
         }
-        byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false);
+        byte[] serialized =
+            serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, false, objCompression);
         ps.setBytes(5, serialized);
         if (obj.referenced() == -1L) {
           // -1 is a sentinel for AbstractBasePersistTests.deleteWithReferenced()
@@ -639,6 +646,60 @@ abstract class AbstractJdbc2Persist implements Persist {
     return new ScanAllObjectsIterator(conn, returnedObjTypes);
   }
 
+  /**
+   * Returns the SQL to query {@code count} values of the given column type via the {@code IN (?)}
+   * placeholder in {@code sql}. If the database supports array parameters, a single {@code =
+   * ANY(?)} parameter is used, otherwise the number of {@code ?} markers is rounded up via {@link
+   * #multiValueShape(int)}. Either way the number of distinct statements stays small, which lets
+   * the JDBC driver's prepared statement cache reuse them.
+   */
+  private String sqlSelectMultiple(String sql, Jdbc2ColumnType columnType, int count) {
+    if (databaseSpecific.arrayElementType(columnType) != null) {
+      return sqlSelectArray(sql);
+    }
+    return sqlSelectMultiple(sql, multiValueShape(count));
+  }
+
+  /**
+   * Binds the values for a statement returned by {@link #sqlSelectMultiple(String,
+   * Jdbc2ColumnType, int)}, values must be either {@code String}s or {@code byte[]}s.
+   *
+   * @return the index of the next parameter
+   */
+  private int bindMultiple(
+      Connection conn, PreparedStatement ps, int idx, Jdbc2ColumnType columnType, Object[] values)
+      throws SQLException {
+    String arrayType = databaseSpecific.arrayElementType(columnType);
+    if (arrayType != null) {
+      ps.setArray(idx, conn.createArrayOf(arrayType, values));
+      return idx + 1;
+    }
+    // Pad up to the statement shape by repeating the last value, does not change the result.
+    int shape = multiValueShape(values.length);
+    for (int i = 0; i < shape; i++) {
+      Object value = values[Math.min(i, values.length - 1)];
+      if (value instanceof byte[]) {
+        ps.setBytes(idx++, (byte[]) value);
+      } else {
+        ps.setString(idx++, (String) value);
+      }
+    }
+    return idx;
+  }
+
+  /** Number of {@code ?} markers for {@code count} values, the next power of two. */
+  @VisibleForTesting
+  static int multiValueShape(int count) {
+    return count <= 1 ? 1 : Integer.highestOneBit(count - 1) << 1;
+  }
+
+  @VisibleForTesting
+  static String sqlSelectArray(String sql) {
+    int idx = sql.indexOf(" IN (?)");
+    checkArgument(idx > 0, "SQL does not contain IN (?) placeholder: %s", sql);
+    return sql.substring(0, idx) + " = ANY(?)" + sql.substring(idx + " IN (?)".length());
+  }
+
   @VisibleForTesting
   static String sqlSelectMultiple(String sql, int count) {
     if (count == 1) {
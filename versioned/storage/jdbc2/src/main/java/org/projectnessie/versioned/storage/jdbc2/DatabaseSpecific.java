@@ -33,4 +33,12 @@ public interface DatabaseSpecific {
   String wrapInsert(String sql);
 
   String primaryKeyCol(String col, Jdbc2ColumnType columnType);
+
+  /**
+   * The SQL type name to pass to {@link java.sql.Connection#createArrayOf(String, Object[])} when
+   * binding multiple values of the given column type as a single array parameter using {@code =
+   * ANY(?)}, or {@code null} if the database does not support array parameters, in which case
+   * multiple values are bound using {@code IN (?,?,...)}.
+   */
+  String arrayElementType(Jdbc2ColumnType columnType);
 }
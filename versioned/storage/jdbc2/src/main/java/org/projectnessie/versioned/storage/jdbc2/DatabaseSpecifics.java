@@ -44,13 +44,13 @@ public final class DatabaseSpecifics {
   // choose a collation in which 'ref-    2' is sorted _after_ 'ref-   19', which is unexpected
   // and wrong for Nessie.
   public static final DatabaseSpecific POSTGRESQL_DATABASE_SPECIFIC =
-      new BasePostgresDatabaseSpecific("VARCHAR COLLATE ucs_basic", Types.BINARY);
+      new BasePostgresDatabaseSpecific("VARCHAR COLLATE ucs_basic", Types.BINARY, true);
 
   public static final DatabaseSpecific COCKROACH_DATABASE_SPECIFIC =
-      new BasePostgresDatabaseSpecific("VARCHAR", Types.BINARY);
+      new BasePostgresDatabaseSpecific("VARCHAR", Types.BINARY, true);
 
   public static final DatabaseSpecific H2_DATABASE_SPECIFIC =
-      new BasePostgresDatabaseSpecific("VARCHAR", Types.VARBINARY);
+      new BasePostgresDatabaseSpecific("VARCHAR", Types.VARBINARY, false);
 
   public static final DatabaseSpecific MARIADB_DATABASE_SPECIFIC = new MariaDBDatabaseSpecific();
 
@@ -109,10 +109,17 @@ public final class DatabaseSpecifics {
 
     private final Map<Jdbc2ColumnType, String> typeMap;
     private final Map<Jdbc2ColumnType, Integer> typeIdMap;
+    private final Map<Jdbc2ColumnType, String> arrayTypeMap;
 
-    BasePostgresDatabaseSpecific(String varcharType, int objIdType) {
+    BasePostgresDatabaseSpecific(String varcharType, int objIdType, boolean arrayParameters) {
       typeMap = new EnumMap<>(Jdbc2ColumnType.class);
       typeIdMap = new EnumMap<>(Jdbc2ColumnType.class);
+      arrayTypeMap = new EnumMap<>(Jdbc2ColumnType.class);
+      if (arrayParameters) {
+        arrayTypeMap.put(Jdbc2ColumnType.NAME, "varchar");
+        arrayTypeMap.put(Jdbc2ColumnType.OBJ_ID, "bytea");
+        arrayTypeMap.put(Jdbc2ColumnType.VARCHAR, "varchar");
+      }
       typeMap.put(Jdbc2ColumnType.NAME, varcharType);
       typeIdMap.put(Jdbc2ColumnType.NAME, Types.VARCHAR);
       typeMap.put(Jdbc2ColumnType.OBJ_ID, "BYTEA");
@@ -170,6 +177,11 @@ public final class DatabaseSpecifics {
     public String primaryKeyCol(String col, Jdbc2ColumnType columnType) {
       return col;
     }
+
+    @Override
+    public String arrayElementType(Jdbc2ColumnType columnType) {
+      return arrayTypeMap.get(columnType);
+    }
   }
 
   static class MariaDBDatabaseSpecific implements DatabaseSpecific {
@@ -240,5 +252,10 @@ public final class DatabaseSpecifics {
           return col;
       }
     }
+
+    @Override
+    public String arrayElementType(Jdbc2ColumnType columnType) {
+      return null;
+    }
   }
 }
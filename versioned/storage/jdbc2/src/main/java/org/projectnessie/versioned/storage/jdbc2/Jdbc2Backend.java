@@ -63,6 +63,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
 import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
+import org.projectnessie.versioned.storage.common.persist.AsyncReadExecutor;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
 
@@ -72,15 +73,18 @@ public final class Jdbc2Backend implements Backend {
 
   private final DatabaseSpecific databaseSpecific;
   private final DataSource dataSource;
+  private final DataSource readDataSource;
   private final boolean closeDataSource;
   private final String createTableRefsSql;
   private final String createTableObjsSql;
+  private final AsyncReadExecutor asyncReadExecutor = new AsyncReadExecutor("jdbc2");
 
   public Jdbc2Backend(
       @Nonnull Jdbc2BackendConfig config,
       @Nonnull DatabaseSpecific databaseSpecific,
       boolean closeDataSource) {
     this.dataSource = config.dataSource();
+    this.readDataSource = config.readDataSource().orElse(null);
     this.databaseSpecific = databaseSpecific;
     this.closeDataSource = closeDataSource;
     createTableRefsSql = buildCreateTableRefsSql(databaseSpecific);
@@ -167,13 +171,21 @@ public final class Jdbc2Backend implements Backend {
     return databaseSpecific;
   }
 
+  AsyncReadExecutor asyncReadExecutor() {
+    return asyncReadExecutor;
+  }
+
   @Override
   public void close() {
+    asyncReadExecutor.close();
     if (closeDataSource) {
       try {
         if (dataSource instanceof AutoCloseable) {
           ((AutoCloseable) dataSource).close();
         }
+        if (readDataSource instanceof AutoCloseable) {
+          ((AutoCloseable) readDataSource).close();
+        }
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
@@ -192,6 +204,23 @@ public final class Jdbc2Backend implements Backend {
     return c;
   }
 
+  boolean hasReadDataSource() {
+    return readDataSource != null;
+  }
+
+  /**
+   * Borrows a connection from the {@linkplain Jdbc2BackendConfig#readDataSource() read-only
+   * datasource}, falls back to the primary datasource if none is configured.
+   */
+  Connection borrowReadConnection() throws SQLException {
+    if (readDataSource == null) {
+      return borrowConnection();
+    }
+    Connection c = readDataSource.getConnection();
+    c.setAutoCommit(false);
+    return c;
+  }
+
   @Override
   public Optional<String> setupSchema() {
     try (Connection conn = borrowConnection()) {
@@ -20,4 +20,6 @@ import java.util.Optional;
 public interface Jdbc2BackendBaseConfig {
 
   Optional<String> datasourceName();
+
+  Optional<String> readDatasourceName();
 }
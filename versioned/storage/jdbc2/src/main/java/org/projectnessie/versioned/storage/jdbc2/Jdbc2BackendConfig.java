@@ -15,6 +15,7 @@
  */
 package org.projectnessie.versioned.storage.jdbc2;
 
+import java.util.Optional;
 import javax.sql.DataSource;
 import org.immutables.value.Value;
 
@@ -23,6 +24,13 @@ public interface Jdbc2BackendConfig extends Jdbc2BackendBaseConfig {
 
   DataSource dataSource();
 
+  /**
+   * Optional datasource, usually connected to a read replica, used for reads of objects. Objects
+   * that are not (yet) present on the replica and objects that can be updated are read from the
+   * primary {@link #dataSource()}. References are always read from the primary datasource.
+   */
+  Optional<DataSource> readDataSource();
+
   static ImmutableJdbc2BackendConfig.Builder builder() {
     return ImmutableJdbc2BackendConfig.builder();
   }
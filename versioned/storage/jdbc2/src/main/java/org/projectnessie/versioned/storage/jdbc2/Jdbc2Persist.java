@@ -21,6 +21,7 @@ import jakarta.annotation.Nonnull;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -43,6 +44,12 @@ class Jdbc2Persist extends AbstractJdbc2Persist {
     this.backend = backend;
   }
 
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return backend.asyncReadExecutor().executor(config().asyncReadThreads());
+  }
+
   @FunctionalInterface
   interface SQLRunnableException<R, E extends Exception> {
     R run(Connection conn) throws E;
@@ -67,6 +74,15 @@ class Jdbc2Persist extends AbstractJdbc2Persist {
         });
   }
 
+  private <R, E extends Exception> R withReadConnection(SQLRunnableException<R, E> runnable)
+      throws E {
+    try (Connection conn = backend.borrowReadConnection()) {
+      return runnable.run(conn);
+    } catch (SQLException e) {
+      throw unhandledSQLException(e);
+    }
+  }
+
   private <R, E extends Exception> R withConnectionException(
       boolean readOnly, SQLRunnableException<R, E> runnable) throws E {
     try (Connection conn = backend.borrowConnection()) {
@@ -161,20 +177,63 @@ class Jdbc2Persist extends AbstractJdbc2Persist {
   @Nonnull
   public <T extends Obj> T fetchTypedObj(
       @Nonnull ObjId id, ObjType type, @Nonnull Class<T> typeClass) throws ObjNotFoundException {
+    if (backend.hasReadDataSource()) {
+      T obj = fetchTypedObjsIfExist(new ObjId[] {id}, type, typeClass)[0];
+      if (obj == null) {
+        throw new ObjNotFoundException(id);
+      }
+      return obj;
+    }
     return withConnectionException(true, conn -> super.fetchTypedObj(conn, id, type, typeClass));
   }
 
   @Override
   @Nonnull
   public ObjType fetchObjType(@Nonnull ObjId id) throws ObjNotFoundException {
+    if (backend.hasReadDataSource()) {
+      try {
+        // The type of an object never changes
+        return withReadConnection(conn -> super.fetchObjType(conn, id));
+      } catch (ObjNotFoundException e) {
+        // not (yet) replicated, try the primary
+      }
+    }
     return withConnectionException(true, conn -> super.fetchObjType(conn, id));
   }
 
   @Override
   public <T extends Obj> T[] fetchTypedObjsIfExist(
       @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
-    return withConnectionException(
-        true, conn -> super.fetchTypedObjsIfExist(conn, ids, type, typeClass));
+    if (!backend.hasReadDataSource()) {
+      return withConnectionException(
+          true, conn -> super.fetchTypedObjsIfExist(conn, ids, type, typeClass));
+    }
+
+    T[] r = withReadConnection(conn -> super.fetchTypedObjsIfExist(conn, ids, type, typeClass));
+
+    // Objects that are not (yet) replicated and objects that can be updated, which might be
+    // stale on the replica, are read from the primary.
+    ObjId[] fromPrimary = null;
+    for (int i = 0; i < ids.length; i++) {
+      if (ids[i] != null && (r[i] == null || r[i] instanceof UpdateableObj)) {
+        if (fromPrimary == null) {
+          fromPrimary = new ObjId[ids.length];
+        }
+        fromPrimary[i] = ids[i];
+      }
+    }
+    if (fromPrimary != null) {
+      ObjId[] primaryIds = fromPrimary;
+      T[] primary =
+          withConnectionException(
+              true, conn -> super.fetchTypedObjsIfExist(conn, primaryIds, type, typeClass));
+      for (int i = 0; i < ids.length; i++) {
+        if (primaryIds[i] != null) {
+          r[i] = primary[i];
+        }
+      }
+    }
+    return r;
   }
 
   @Override
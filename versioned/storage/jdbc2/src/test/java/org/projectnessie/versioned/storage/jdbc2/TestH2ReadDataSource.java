@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.jdbc2;
+
+import static org.projectnessie.nessie.relocated.protobuf.ByteString.copyFromUtf8;
+import static org.projectnessie.versioned.storage.common.objtypes.ContentValueObj.contentValue;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+import static org.projectnessie.versioned.storage.common.persist.Reference.reference;
+import static org.projectnessie.versioned.storage.jdbc2.DatabaseSpecifics.H2_DATABASE_SPECIFIC;
+
+import javax.sql.DataSource;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+import org.projectnessie.versioned.storage.common.objtypes.StandardObjType;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.jdbc2tests.DataSourceProducer;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestH2ReadDataSource {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void readDataSource() throws Exception {
+    DataSource primary = dataSource("read-ds-primary");
+    DataSource replica = dataSource("read-ds-replica");
+    try (Jdbc2Backend replicaBackend =
+            new Jdbc2Backend(
+                Jdbc2BackendConfig.builder().dataSource(replica).build(),
+                H2_DATABASE_SPECIFIC,
+                false);
+        Jdbc2Backend backend =
+            new Jdbc2Backend(
+                Jdbc2BackendConfig.builder().dataSource(primary).readDataSource(replica).build(),
+                H2_DATABASE_SPECIFIC,
+                false)) {
+      replicaBackend.setupSchema();
+      backend.setupSchema();
+      StoreConfig config = StoreConfig.Adjustable.empty();
+      Persist replicaPersist = replicaBackend.createFactory().newPersist(config);
+      Persist persist = backend.createFactory().newPersist(config);
+
+      // only present on the primary, i.e. not yet replicated
+      ContentValueObj onPrimary = contentValue("cid-1", 1, copyFromUtf8("primary"));
+      persist.storeObj(onPrimary);
+      // only present on the replica, must be read from the replica
+      ContentValueObj onReplica = contentValue("cid-2", 2, copyFromUtf8("replica"));
+      replicaPersist.storeObj(onReplica);
+
+      soft.assertThat(persist.fetchObj(onPrimary.id())).isEqualTo(onPrimary);
+      soft.assertThat(persist.fetchObj(onReplica.id())).isEqualTo(onReplica);
+      soft.assertThat(persist.fetchObjType(onPrimary.id())).isEqualTo(StandardObjType.VALUE);
+      soft.assertThat(persist.fetchObjType(onReplica.id())).isEqualTo(StandardObjType.VALUE);
+      soft.assertThat(
+              persist.fetchObjsIfExist(
+                  new ObjId[] {onReplica.id(), null, randomObjId(), onPrimary.id()}))
+          .containsExactly(onReplica, null, null, onPrimary);
+      soft.assertThatThrownBy(() -> persist.fetchObj(randomObjId()))
+          .isInstanceOf(ObjNotFoundException.class);
+
+      // references are always read from the primary
+      Reference ref =
+          persist.addReference(reference("refs/heads/main", onPrimary.id(), false, 0L, null));
+      soft.assertThat(persist.fetchReference(ref.name())).isEqualTo(ref);
+      soft.assertThat(replicaPersist.fetchReference(ref.name())).isNull();
+    } finally {
+      ((AutoCloseable) primary).close();
+      ((AutoCloseable) replica).close();
+    }
+  }
+
+  private static DataSource dataSource(String name) throws Exception {
+    return DataSourceProducer.builder()
+        .jdbcUrl("jdbc:h2:mem:" + name + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+        .build()
+        .createNewDataSource();
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.jdbc2;
+
+import static org.projectnessie.versioned.storage.jdbc2.AbstractJdbc2Persist.multiValueShape;
+import static org.projectnessie.versioned.storage.jdbc2.AbstractJdbc2Persist.sqlSelectArray;
+import static org.projectnessie.versioned.storage.jdbc2.AbstractJdbc2Persist.sqlSelectMultiple;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestSqlSelectMultiple {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void shapes() {
+    soft.assertThat(multiValueShape(0)).isEqualTo(1);
+    soft.assertThat(multiValueShape(1)).isEqualTo(1);
+    soft.assertThat(multiValueShape(2)).isEqualTo(2);
+    soft.assertThat(multiValueShape(3)).isEqualTo(4);
+    soft.assertThat(multiValueShape(4)).isEqualTo(4);
+    soft.assertThat(multiValueShape(5)).isEqualTo(8);
+    soft.assertThat(multiValueShape(50)).isEqualTo(64);
+    soft.assertThat(multiValueShape(64)).isEqualTo(64);
+    soft.assertThat(multiValueShape(65)).isEqualTo(128);
+  }
+
+  @Test
+  public void statements() {
+    soft.assertThat(sqlSelectMultiple("SELECT a FROM t WHERE r=? AND b IN (?) AND c=?", 1))
+        .isEqualTo("SELECT a FROM t WHERE r=? AND b IN (?) AND c=?");
+    soft.assertThat(sqlSelectMultiple("SELECT a FROM t WHERE r=? AND b IN (?) AND c=?", 4))
+        .isEqualTo("SELECT a FROM t WHERE r=? AND b IN (?,?,?,?) AND c=?");
+    soft.assertThat(sqlSelectArray("SELECT a FROM t WHERE r=? AND b IN (?) AND c=?"))
+        .isEqualTo("SELECT a FROM t WHERE r=? AND b = ANY(?) AND c=?");
+    soft.assertThat(sqlSelectArray(SqlConstants.FIND_OBJS)).endsWith(" = ANY(?)");
+    soft.assertThatIllegalArgumentException().isThrownBy(() -> sqlSelectArray("SELECT a FROM t"));
+  }
+}
@@ -30,6 +30,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.projectnessie.versioned.storage.common.persist.AsyncReadExecutor;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
 
@@ -40,6 +41,7 @@ public class MongoDB2Backend implements Backend {
   private final boolean closeClient;
   private MongoCollection<Document> refs;
   private MongoCollection<Document> objs;
+  private final AsyncReadExecutor asyncReadExecutor = new AsyncReadExecutor("mongodb2");
 
   public MongoDB2Backend(@Nonnull MongoDB2BackendConfig config, boolean closeClient) {
     this.config = config;
@@ -75,8 +77,13 @@ public class MongoDB2Backend implements Backend {
     return new MongoDB2PersistFactory(this);
   }
 
+  AsyncReadExecutor asyncReadExecutor() {
+    return asyncReadExecutor;
+  }
+
   @Override
   public synchronized void close() {
+    asyncReadExecutor.close();
     if (closeClient) {
       client.close();
     }
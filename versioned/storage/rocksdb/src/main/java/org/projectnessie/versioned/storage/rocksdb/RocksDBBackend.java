@@ -29,22 +29,35 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
+import org.projectnessie.versioned.storage.common.persist.AsyncReadExecutor;
 import org.projectnessie.versioned.storage.common.persist.Backend;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
+import org.projectnessie.versioned.storage.rocksdb.RocksDBBackendBaseConfig.Compression;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
+import org.rocksdb.LRUCache;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Status;
 import org.rocksdb.TransactionDB;
 import org.rocksdb.TransactionDBOptions;
+import org.rocksdb.WriteOptions;
 
 public final class RocksDBBackend implements Backend {
   public static final String CF_REFERENCES = "nessie_refs";
@@ -52,13 +65,26 @@ public final class RocksDBBackend implements Backend {
 
   private static final List<String> CF_ALL = asList(CF_REFERENCES, CF_OBJECTS);
 
+  /**
+   * Maximum time in milliseconds to wait for the lock of a key, for writes in transactions and
+   * outside of transactions. Writes that time out fail with an {@link
+   * UnknownOperationResultException}.
+   */
+  static final long LOCK_TIMEOUT_MILLIS = 5_000L;
+
   private final RocksDBBackendConfig config;
 
   private TransactionDB db;
   private ColumnFamilyHandle cfReferences;
   private ColumnFamilyHandle cfObjects;
+  private Cache blockCache;
+  private Cache rowCache;
+  private BloomFilter bloomFilter;
+  private ReadOptions readOptions;
+  private WriteOptions writeOptions;
 
   private final Map<String, RocksDBRepo> repositories = new ConcurrentHashMap<>();
+  private final AsyncReadExecutor asyncReadExecutor = new AsyncReadExecutor("rocksdb");
 
   public RocksDBBackend(RocksDBBackendConfig config) {
     RocksDB.loadLibrary();
@@ -81,17 +107,43 @@ public final class RocksDBBackend implements Backend {
     return cfObjects;
   }
 
+  ReadOptions readOptions() {
+    return readOptions;
+  }
+
+  WriteOptions writeOptions() {
+    return writeOptions;
+  }
+
+  AsyncReadExecutor asyncReadExecutor() {
+    return asyncReadExecutor;
+  }
+
   @Override
   public synchronized void close() {
+    asyncReadExecutor.close();
     if (db != null) {
       try {
-        closeMultiple(cfObjects, cfReferences, db);
+        closeMultiple(
+            cfObjects,
+            cfReferences,
+            db,
+            readOptions,
+            writeOptions,
+            blockCache,
+            rowCache,
+            bloomFilter);
       } catch (Exception e) {
         throw new RuntimeException(e);
       } finally {
         db = null;
         cfReferences = null;
         cfObjects = null;
+        readOptions = null;
+        writeOptions = null;
+        blockCache = null;
+        rowCache = null;
+        bloomFilter = null;
       }
     }
   }
@@ -110,22 +162,31 @@ public final class RocksDBBackend implements Backend {
       columnFamilies.add(DEFAULT_COLUMN_FAMILY);
       CF_ALL.stream().map(s -> s.getBytes(StandardCharsets.UTF_8)).forEach(columnFamilies::add);
 
+      blockCache = lruCache(config.blockCacheSizeMb());
+      rowCache = lruCache(config.rowCacheSizeMb());
+      OptionalDouble bitsPerKey = config.bloomFilterBitsPerKey();
+      bloomFilter = bitsPerKey.isPresent() ? new BloomFilter(bitsPerKey.getAsDouble()) : null;
+
       List<ColumnFamilyDescriptor> columnFamilyDescriptors =
           columnFamilies.stream()
-              .map(
-                  c ->
-                      new ColumnFamilyDescriptor(
-                          c, new ColumnFamilyOptions().optimizeUniversalStyleCompaction()))
+              .map(c -> new ColumnFamilyDescriptor(c, columnFamilyOptions()))
               .collect(Collectors.toList());
 
       try (final DBOptions dbOptions =
-          new DBOptions().setCreateIfMissing(true).setCreateMissingColumnFamilies(true)) {
+              new DBOptions().setCreateIfMissing(true).setCreateMissingColumnFamilies(true);
+          final TransactionDBOptions transactionDBOptions =
+              new TransactionDBOptions()
+                  .setTransactionLockTimeout(LOCK_TIMEOUT_MILLIS)
+                  .setDefaultLockTimeout(LOCK_TIMEOUT_MILLIS)) {
+        if (rowCache != null) {
+          dbOptions.setRowCache(rowCache);
+        }
         // TODO: Consider setting WAL limits.
         List<ColumnFamilyHandle> columnFamilyHandles = new ArrayList<>();
         db =
             TransactionDB.open(
                 dbOptions,
-                new TransactionDBOptions(),
+                transactionDBOptions,
                 dbPath.toString(),
                 columnFamilyDescriptors,
                 columnFamilyHandles);
@@ -138,12 +199,53 @@ public final class RocksDBBackend implements Backend {
 
         cfReferences = columnFamilyHandleMap.get(CF_REFERENCES);
         cfObjects = columnFamilyHandleMap.get(CF_OBJECTS);
+        readOptions = new ReadOptions();
+        writeOptions = new WriteOptions();
       } catch (RocksDBException e) {
         throw new RuntimeException("RocksDB failed to start", e);
       }
     }
   }
 
+  private ColumnFamilyOptions columnFamilyOptions() {
+    ColumnFamilyOptions options = new ColumnFamilyOptions().optimizeUniversalStyleCompaction();
+    config.compression().ifPresent(c -> options.setCompressionType(compressionType(c)));
+    if (blockCache != null || bloomFilter != null) {
+      BlockBasedTableConfig tableConfig = new BlockBasedTableConfig();
+      if (blockCache != null) {
+        tableConfig.setBlockCache(blockCache);
+      }
+      if (bloomFilter != null) {
+        tableConfig.setFilterPolicy(bloomFilter);
+      }
+      options.setTableFormatConfig(tableConfig);
+    }
+    return options;
+  }
+
+  private static Cache lruCache(OptionalLong sizeMb) {
+    return sizeMb.isPresent() ? new LRUCache(sizeMb.getAsLong() * 1024L * 1024L) : null;
+  }
+
+  private static CompressionType compressionType(Compression compression) {
+    switch (compression) {
+      case NONE:
+        return CompressionType.NO_COMPRESSION;
+      case SNAPPY:
+        return CompressionType.SNAPPY_COMPRESSION;
+      case ZLIB:
+        return CompressionType.ZLIB_COMPRESSION;
+      case LZ4:
+        return CompressionType.LZ4_COMPRESSION;
+      case LZ4HC:
+        return CompressionType.LZ4HC_COMPRESSION;
+      case ZSTD:
+        return CompressionType.ZSTD_COMPRESSION;
+      default:
+        throw new IllegalArgumentException("Unsupported compression " + compression);
+    }
+  }
+
   @Override
   public Optional<String> setupSchema() {
     initialize();
@@ -200,6 +302,19 @@ public final class RocksDBBackend implements Backend {
   }
 
   static RuntimeException rocksDbException(RocksDBException e) {
+    Status status = e.getStatus();
+    if (status != null) {
+      switch (status.getCode()) {
+        case TimedOut:
+        case Busy:
+          // Lock wait timed out or a write conflict, the transaction has not been committed, the
+          // operation can be retried.
+          return new UnknownOperationResultException(
+              "RocksDB key lock timeout: " + status.getCodeString(), e);
+        default:
+          break;
+      }
+    }
     throw new RuntimeException("Unhandled RocksDB exception", e);
   }
 
@@ -16,8 +16,43 @@
 package org.projectnessie.versioned.storage.rocksdb;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
 
 public interface RocksDBBackendBaseConfig {
   /** Sets RocksDB storage path. */
   Path databasePath();
+
+  /**
+   * Size of the LRU block cache in MB, shared by all column families. If not set, RocksDB's default
+   * block cache is used, which is small and separate for each column family.
+   */
+  OptionalLong blockCacheSizeMb();
+
+  /**
+   * Number of bits per key of the Bloom filters for the SST files, {@code 10} yields a false
+   * positive rate of about 1%. Bloom filters let point lookups of absent keys, for example when
+   * storing new objects, skip SST files. Bloom filters are not used, if not set.
+   */
+  OptionalDouble bloomFilterBitsPerKey();
+
+  /** Compression of the SST files. If not set, RocksDB's default compression is used. */
+  Optional<Compression> compression();
+
+  /**
+   * Size of the row cache in MB, shared by all column families. The row cache holds recently read
+   * key-value pairs, unlike the block cache, which holds whole blocks. No row cache is used, if not
+   * set.
+   */
+  OptionalLong rowCacheSizeMb();
+
+  enum Compression {
+    NONE,
+    SNAPPY,
+    ZLIB,
+    LZ4,
+    LZ4HC,
+    ZSTD
+  }
 }
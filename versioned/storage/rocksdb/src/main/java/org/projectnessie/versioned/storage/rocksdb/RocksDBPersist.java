@@ -19,6 +19,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Collections.singleton;
 import static org.projectnessie.versioned.storage.rocksdb.RocksDBBackend.keyPrefix;
 import static org.projectnessie.versioned.storage.rocksdb.RocksDBBackend.rocksDbException;
+import static org.projectnessie.versioned.storage.serialize.ObjCompression.objCompression;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObj;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeObjId;
 import static org.projectnessie.versioned.storage.serialize.ProtoSerialization.deserializeReference;
@@ -32,6 +33,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
 import org.projectnessie.nessie.relocated.protobuf.ByteString;
@@ -48,9 +50,12 @@ import org.projectnessie.versioned.storage.common.persist.ObjId;
 import org.projectnessie.versioned.storage.common.persist.ObjType;
 import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.serialize.ObjCompression;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Transaction;
 import org.rocksdb.TransactionDB;
 
 class RocksDBPersist implements Persist {
@@ -58,6 +63,7 @@ class RocksDBPersist implements Persist {
   private final RocksDBBackend backend;
   private final RocksDBRepo repo;
   private final StoreConfig config;
+  private final ObjCompression objCompression;
 
   private final ByteString keyPrefix;
 
@@ -65,6 +71,7 @@ class RocksDBPersist implements Persist {
     this.backend = backend;
     this.repo = repo;
     this.config = config;
+    this.objCompression = objCompression(config, this);
     this.keyPrefix = keyPrefix(config.repositoryId());
   }
 
@@ -92,6 +99,12 @@ class RocksDBPersist implements Persist {
     return config;
   }
 
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return backend.asyncReadExecutor().executor(config.asyncReadThreads());
+  }
+
   @Override
   public Reference fetchReference(@Nonnull String name) {
     try {
@@ -271,7 +284,7 @@ class RocksDBPersist implements Persist {
       if (obj == null) {
         throw new ObjNotFoundException(id);
       }
-      Obj o = deserializeObj(id, 0L, obj, null);
+      Obj o = deserializeObj(id, 0L, obj, null, objCompression);
       if (o == null || (type != null && !type.equals(o.type()))) {
         throw new ObjNotFoundException(id);
       }
@@ -310,7 +323,7 @@ class RocksDBPersist implements Persist {
           if (id != null) {
             byte[] obj = dbResult.get(ri++);
             if (obj != null) {
-              Obj o = deserializeObj(id, 0L, obj, null);
+              Obj o = deserializeObj(id, 0L, obj, null, objCompression);
               if (type != null && !type.equals(o.type())) {
                 o = null;
               }
@@ -331,183 +344,188 @@ class RocksDBPersist implements Persist {
   @Override
   public boolean storeObj(@Nonnull Obj obj, boolean ignoreSoftSizeRestrictions)
       throws ObjTooLargeException {
-    checkArgument(obj.id() != null, "Obj to store must have a non-null ID");
-
-    Lock l = repo.objLock(obj.id());
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.objs();
-      byte[] key = dbKey(obj.id());
-
-      long referenced = config.currentTimeMicros();
-      boolean r;
-
-      byte[] existing = db.get(cf, key);
-      if (existing != null) {
-        obj = deserializeObj(obj.id(), referenced, existing, null);
-        ignoreSoftSizeRestrictions = true;
-        r = false;
-      } else {
-        var objReferenced = obj.referenced();
-        // -1 is a sentinel for AbstractBasePersistTests.deleteWithReferenced()
-        obj = obj.withReferenced(objReferenced != -1L ? referenced : -1L);
-        r = true;
-      }
-
-      int incrementalIndexSizeLimit =
-          ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
-      int indexSizeLimit =
-          ignoreSoftSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
-      byte[] serialized = serializeObj(obj, incrementalIndexSizeLimit, indexSizeLimit, true);
-
-      db.put(cf, key, serialized);
-      return r;
-    } catch (RocksDBException e) {
-      throw rocksDbException(e);
-    } finally {
-      l.unlock();
-    }
+    return storeObjs(new Obj[] {obj}, ignoreSoftSizeRestrictions)[0];
   }
 
   @Override
   @Nonnull
   public boolean[] storeObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
+    return storeObjs(objs, false);
+  }
+
+  private boolean[] storeObjs(@Nonnull Obj[] objs, boolean ignoreSoftSizeRestrictions)
+      throws ObjTooLargeException {
     boolean[] r = new boolean[objs.length];
+    byte[][] keys = new byte[objs.length][];
+    List<Integer> order = new ArrayList<>(objs.length);
     for (int i = 0; i < objs.length; i++) {
-      Obj o = objs[i];
-      if (o != null) {
-        r[i] = storeObj(o, false);
+      Obj obj = objs[i];
+      if (obj != null) {
+        checkArgument(obj.id() != null, "Obj to store must have a non-null ID");
+        keys[i] = dbKey(obj.id());
+        order.add(i);
       }
     }
-    return r;
+    if (order.isEmpty()) {
+      return r;
+    }
+    // Lock the keys in the same order in all transactions to prevent deadlocks.
+    order.sort((a, b) -> Arrays.compareUnsigned(keys[a], keys[b]));
+
+    return objTransaction(
+        (txn, cf) -> {
+          long referenced = config.currentTimeMicros();
+          for (int i : order) {
+            Obj obj = objs[i];
+            boolean ignoreSizeRestrictions = ignoreSoftSizeRestrictions;
+
+            byte[] existing = txn.getForUpdate(backend.readOptions(), cf, keys[i], true);
+            if (existing != null) {
+              obj = deserializeObj(obj.id(), referenced, existing, null, objCompression);
+              ignoreSizeRestrictions = true;
+            } else {
+              var objReferenced = obj.referenced();
+              // -1 is a sentinel for AbstractBasePersistTests.deleteWithReferenced()
+              obj = obj.withReferenced(objReferenced != -1L ? referenced : -1L);
+              r[i] = true;
+            }
+
+            int incrementalIndexSizeLimit =
+                ignoreSizeRestrictions ? Integer.MAX_VALUE : effectiveIncrementalIndexSizeLimit();
+            int indexSizeLimit =
+                ignoreSizeRestrictions ? Integer.MAX_VALUE : effectiveIndexSegmentSizeLimit();
+            txn.put(
+                cf,
+                keys[i],
+                serializeObj(
+                    obj, incrementalIndexSizeLimit, indexSizeLimit, true, objCompression));
+          }
+          return r;
+        });
   }
 
   @Override
   public void deleteObj(@Nonnull ObjId id) {
-    Lock l = repo.objLock(id);
     try {
       RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.objs();
-      byte[] key = dbKey(id);
-
-      db.delete(cf, key);
+      b.db().delete(b.objs(), dbKey(id));
     } catch (RocksDBException e) {
       throw rocksDbException(e);
-    } finally {
-      l.unlock();
     }
   }
 
   @Override
   public void deleteObjs(@Nonnull ObjId[] ids) {
+    List<byte[]> keys = new ArrayList<>(ids.length);
     for (ObjId id : ids) {
       if (id != null) {
-        deleteObj(id);
+        keys.add(dbKey(id));
       }
     }
+    if (keys.isEmpty()) {
+      return;
+    }
+    // Lock the keys in the same order in all transactions to prevent deadlocks.
+    keys.sort(Arrays::compareUnsigned);
+
+    objTransaction(
+        (txn, cf) -> {
+          for (byte[] key : keys) {
+            txn.delete(cf, key);
+          }
+          return null;
+        });
   }
 
   @Override
   public void upsertObj(@Nonnull Obj obj) throws ObjTooLargeException {
-    ObjId id = obj.id();
-    checkArgument(id != null, "Obj to store must have a non-null ID");
-
-    Lock l = repo.objLock(obj.id());
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.objs();
-      byte[] key = dbKey(id);
-
-      long referenced = config.currentTimeMicros();
-      obj = obj.withReferenced(referenced);
-
-      byte[] serialized =
-          serializeObj(
-              obj, effectiveIncrementalIndexSizeLimit(), effectiveIndexSegmentSizeLimit(), true);
-
-      db.put(cf, key, serialized);
-    } catch (RocksDBException e) {
-      throw rocksDbException(e);
-    } finally {
-      l.unlock();
-    }
+    upsertObjs(new Obj[] {obj});
   }
 
   @Override
   public void upsertObjs(@Nonnull Obj[] objs) throws ObjTooLargeException {
-    for (Obj obj : objs) {
+    byte[][] keys = new byte[objs.length][];
+    List<Integer> order = new ArrayList<>(objs.length);
+    for (int i = 0; i < objs.length; i++) {
+      Obj obj = objs[i];
       if (obj != null) {
-        upsertObj(obj);
+        checkArgument(obj.id() != null, "Obj to store must have a non-null ID");
+        keys[i] = dbKey(obj.id());
+        order.add(i);
       }
     }
+    if (order.isEmpty()) {
+      return;
+    }
+    // Lock the keys in the same order in all transactions to prevent deadlocks.
+    order.sort((a, b) -> Arrays.compareUnsigned(keys[a], keys[b]));
+
+    objTransaction(
+        (txn, cf) -> {
+          long referenced = config.currentTimeMicros();
+          for (int i : order) {
+            byte[] serialized =
+                serializeObj(
+                    objs[i].withReferenced(referenced),
+                    effectiveIncrementalIndexSizeLimit(),
+                    effectiveIndexSegmentSizeLimit(),
+                    true,
+                    objCompression);
+            txn.put(cf, keys[i], serialized);
+          }
+          return null;
+        });
   }
 
   @Override
   public boolean deleteWithReferenced(@Nonnull Obj obj) {
     ObjId id = obj.id();
-    Lock l = repo.objLock(id);
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.objs();
-      byte[] key = dbKey(id);
+    return objTransaction(
+        (txn, cf) -> {
+          byte[] key = dbKey(id);
 
-      byte[] bytes = db.get(cf, key);
-      if (bytes == null) {
-        return false;
-      }
-      Obj existing = deserializeObj(id, 0L, bytes, null);
-      if (!existing.type().equals(obj.type())) {
-        return false;
-      }
-      var referenced = obj.referenced();
-      if (existing.referenced() != referenced && referenced != -1L) {
-        // -1 is a sentinel for AbstractBasePersistTests.deleteWithReferenced()
-        return false;
-      }
+          byte[] bytes = txn.getForUpdate(backend.readOptions(), cf, key, true);
+          if (bytes == null) {
+            return false;
+          }
+          Obj existing = deserializeObj(id, 0L, bytes, null, objCompression);
+          if (!existing.type().equals(obj.type())) {
+            return false;
+          }
+          var referenced = obj.referenced();
+          if (existing.referenced() != referenced && referenced != -1L) {
+            // -1 is a sentinel for AbstractBasePersistTests.deleteWithReferenced()
+            return false;
+          }
 
-      db.delete(cf, key);
-      return true;
-    } catch (RocksDBException e) {
-      throw rocksDbException(e);
-    } finally {
-      l.unlock();
-    }
+          txn.delete(cf, key);
+          return true;
+        });
   }
 
   @Override
   public boolean deleteConditional(@Nonnull UpdateableObj obj) {
     ObjId id = obj.id();
-    Lock l = repo.objLock(id);
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.objs();
-      byte[] key = dbKey(id);
+    return objTransaction(
+        (txn, cf) -> {
+          byte[] key = dbKey(id);
 
-      byte[] bytes = db.get(cf, key);
-      if (bytes == null) {
-        return false;
-      }
-      Obj existing = deserializeObj(id, 0L, bytes, null);
-      if (!existing.type().equals(obj.type())) {
-        return false;
-      }
-      UpdateableObj ex = (UpdateableObj) existing;
-      if (!ex.versionToken().equals(obj.versionToken())) {
-        return false;
-      }
+          byte[] bytes = txn.getForUpdate(backend.readOptions(), cf, key, true);
+          if (bytes == null) {
+            return false;
+          }
+          Obj existing = deserializeObj(id, 0L, bytes, null, objCompression);
+          if (!existing.type().equals(obj.type())) {
+            return false;
+          }
+          UpdateableObj ex = (UpdateableObj) existing;
+          if (!ex.versionToken().equals(obj.versionToken())) {
+            return false;
+          }
 
-      db.delete(cf, key);
-      return true;
-    } catch (RocksDBException e) {
-      throw rocksDbException(e);
-    } finally {
-      l.unlock();
-    }
+          txn.delete(cf, key);
+          return true;
+        });
   }
 
   @Override
@@ -518,41 +536,65 @@ class RocksDBPersist implements Persist {
     checkArgument(expected.type().equals(newValue.type()));
     checkArgument(!expected.versionToken().equals(newValue.versionToken()));
 
-    Lock l = repo.objLock(id);
-    try {
-      RocksDBBackend b = backend;
-      TransactionDB db = b.db();
-      ColumnFamilyHandle cf = b.objs();
-      byte[] key = dbKey(id);
+    return objTransaction(
+        (txn, cf) -> {
+          byte[] key = dbKey(id);
 
-      byte[] obj = db.get(cf, key);
-      if (obj == null) {
-        return false;
-      }
-      Obj existing = deserializeObj(id, 0L, obj, null);
-      if (!existing.type().equals(expected.type())) {
-        return false;
-      }
-      UpdateableObj ex = (UpdateableObj) existing;
-      if (!ex.versionToken().equals(expected.versionToken())) {
-        return false;
-      }
+          byte[] obj = txn.getForUpdate(backend.readOptions(), cf, key, true);
+          if (obj == null) {
+            return false;
+          }
+          Obj existing = deserializeObj(id, 0L, obj, null, objCompression);
+          if (!existing.type().equals(expected.type())) {
+            return false;
+          }
+          UpdateableObj ex = (UpdateableObj) existing;
+          if (!ex.versionToken().equals(expected.versionToken())) {
+            return false;
+          }
 
-      long referenced = config.currentTimeMicros();
-      byte[] serialized =
-          serializeObj(
-              newValue.withReferenced(referenced),
-              effectiveIncrementalIndexSizeLimit(),
-              effectiveIndexSegmentSizeLimit(),
-              true);
+          long referenced = config.currentTimeMicros();
+          byte[] serialized =
+              serializeObj(
+                  newValue.withReferenced(referenced),
+                  effectiveIncrementalIndexSizeLimit(),
+                  effectiveIndexSegmentSizeLimit(),
+                  true,
+                  objCompression);
+
+          txn.put(cf, key, serialized);
+          return true;
+        });
+  }
 
-      db.put(cf, key, serialized);
+  @FunctionalInterface
+  private interface ObjTransaction<R, E extends Exception> {
+    R run(Transaction txn, ColumnFamilyHandle cf) throws RocksDBException, E;
+  }
 
-      return true;
+  /**
+   * Runs the given function in a RocksDB transaction against the objects column family and
+   * commits it. Read-modify-write operations read via {@link Transaction#getForUpdate(ReadOptions,
+   * ColumnFamilyHandle, byte[], boolean)}, which locks the key until the transaction completes.
+   * Plain writes outside a transaction lock the written key as well, so no additional locks are
+   * needed for objects. All writes of a transaction are written to the WAL as a single batch.
+   */
+  private <R, E extends Exception> R objTransaction(ObjTransaction<R, E> work) throws E {
+    RocksDBBackend b = backend;
+    try (Transaction txn = b.db().beginTransaction(b.writeOptions())) {
+      boolean committed = false;
+      try {
+        R r = work.run(txn, b.objs());
+        txn.commit();
+        committed = true;
+        return r;
+      } finally {
+        if (!committed) {
+          txn.rollback();
+        }
+      }
     } catch (RocksDBException e) {
       throw rocksDbException(e);
-    } finally {
-      l.unlock();
     }
   }
 
@@ -625,7 +667,7 @@ class RocksDBPersist implements Persist {
         }
 
         ObjId id = deserializeObjId(key.substring(keyPrefix.size()));
-        Obj o = deserializeObj(id, 0L, obj, null);
+        Obj o = deserializeObj(id, 0L, obj, null, objCompression);
 
         if (filter.test(o.type())) {
           return o;
@@ -17,7 +17,6 @@ package org.projectnessie.versioned.storage.rocksdb;
 
 import com.google.common.util.concurrent.Striped;
 import java.util.concurrent.locks.Lock;
-import org.projectnessie.versioned.storage.common.persist.ObjId;
 
 final class RocksDBRepo {
 
@@ -26,20 +25,10 @@ final class RocksDBRepo {
   @SuppressWarnings("UnstableApiUsage")
   private final Striped<Lock> referencesLocks = Striped.lock(STRIPES);
 
-  @SuppressWarnings("UnstableApiUsage")
-  private final Striped<Lock> objLocks = Striped.lock(STRIPES);
-
   @SuppressWarnings("UnstableApiUsage")
   Lock referencesLock(String referenceName) {
     Lock l = referencesLocks.get(referenceName);
     l.lock();
     return l;
   }
-
-  @SuppressWarnings("UnstableApiUsage")
-  public Lock objLock(ObjId id) {
-    Lock l = objLocks.get(id);
-    l.lock();
-    return l;
-  }
 }
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
 import org.projectnessie.versioned.storage.common.logic.RepositoryDescription;
 import org.projectnessie.versioned.storage.common.logic.RepositoryLogic;
 import org.projectnessie.versioned.storage.common.persist.Backend;
@@ -33,6 +34,8 @@ import org.projectnessie.versioned.storage.common.persist.Persist;
 import org.projectnessie.versioned.storage.common.persist.PersistFactory;
 import org.projectnessie.versioned.storage.common.persist.PersistLoader;
 import org.projectnessie.versioned.storage.rocksdbtests.RocksDBBackendTestFactory;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.Status;
 
 @ExtendWith(SoftAssertionsExtension.class)
 public class TestRocksDBBackendFactory {
@@ -78,6 +81,31 @@ public class TestRocksDBBackendFactory {
     }
   }
 
+  @Test
+  public void tunedOptions() throws Exception {
+    RocksDBBackendConfig config =
+        RocksDBBackendConfig.builder()
+            .databasePath(rocksDir)
+            .blockCacheSizeMb(8)
+            .bloomFilterBitsPerKey(10)
+            .compression(RocksDBBackendBaseConfig.Compression.LZ4)
+            .rowCacheSizeMb(4)
+            .build();
+
+    for (int i = 0; i < 2; i++) {
+      try (Backend backend = new RocksDBBackendFactory().buildBackend(config)) {
+        backend.setupSchema();
+        Persist persist = backend.createFactory().newPersist(StoreConfig.Adjustable.empty());
+
+        RepositoryLogic repositoryLogic = repositoryLogic(persist);
+        repositoryLogic.initialize("initializeAgain");
+        soft.assertThat(repositoryLogic.fetchRepositoryDescription())
+            .extracting(RepositoryDescription::defaultBranchName)
+            .isEqualTo("initializeAgain");
+      }
+    }
+  }
+
   @Test
   public void testFactory() throws Exception {
     RocksDBBackendTestFactory testFactory = new RocksDBBackendTestFactory();
@@ -134,4 +162,30 @@ public class TestRocksDBBackendFactory {
       testFactory.stop();
     }
   }
+
+  @Test
+  public void lockTimeoutException() {
+    RocksDBException timedOut =
+        new RocksDBException(
+            "timed out", new Status(Status.Code.TimedOut, Status.SubCode.LockTimeout, null));
+    soft.assertThat(RocksDBBackend.rocksDbException(timedOut))
+        .isInstanceOf(UnknownOperationResultException.class)
+        .hasMessageContaining("lock timeout")
+        .hasCause(timedOut);
+
+    RocksDBException busy =
+        new RocksDBException("busy", new Status(Status.Code.Busy, Status.SubCode.None, null));
+    soft.assertThat(RocksDBBackend.rocksDbException(busy))
+        .isInstanceOf(UnknownOperationResultException.class)
+        .hasCause(busy);
+
+    RocksDBException corruption =
+        new RocksDBException(
+            "corruption", new Status(Status.Code.Corruption, Status.SubCode.None, null));
+    soft.assertThatThrownBy(() -> RocksDBBackend.rocksDbException(corruption))
+        .isInstanceOf(RuntimeException.class)
+        .isNotInstanceOf(UnknownOperationResultException.class)
+        .hasMessage("Unhandled RocksDB exception")
+        .hasCause(corruption);
+  }
 }
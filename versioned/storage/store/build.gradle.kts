@@ -26,6 +26,8 @@ dependencies {
   implementation(project(":nessie-model"))
   implementation(project(":nessie-versioned-spi"))
   implementation(libs.agrona)
+  implementation(libs.caffeine)
+  implementation(libs.micrometer.core)
 
   compileOnly(libs.jakarta.validation.api)
   compileOnly(libs.jakarta.annotation.api)
@@ -90,7 +90,9 @@ import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationRes
 import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
 import org.projectnessie.versioned.storage.common.indexes.StoreKey;
+import org.projectnessie.versioned.storage.common.logic.CommitContention;
 import org.projectnessie.versioned.storage.common.logic.CommitLogic;
+import org.projectnessie.versioned.storage.common.logic.CommitRetry.CommitAttempt;
 import org.projectnessie.versioned.storage.common.logic.CommitRetry.RetryException;
 import org.projectnessie.versioned.storage.common.logic.ConflictHandler.ConflictResolution;
 import org.projectnessie.versioned.storage.common.logic.CreateCommit;
@@ -198,33 +200,50 @@ class BaseCommitHelper {
       @Nonnull BranchName branch,
       @Nonnull Optional<Hash> referenceHash,
       @Nonnull Persist persist,
+      @Nonnull CommitContention contention,
       @Nonnull CommitterSupplier<I> committerSupplier,
       @Nonnull CommittingFunction<R, I> committingFunction)
       throws ReferenceConflictException, ReferenceNotFoundException {
-    try {
-      return commitRetry(
-          persist,
-          (p, retryState) -> {
-            RefMapping refMapping = new RefMapping(p);
-            Reference reference;
-            try {
-              reference = refMapping.resolveNamedRefForUpdate(branch);
-            } catch (ReferenceNotFoundException e) {
-              throw new CommitWrappedException(e);
-            }
+    return retryingOperation(
+        operationName,
+        branch,
+        persist,
+        contention,
+        (p, retryState) -> {
+          RefMapping refMapping = new RefMapping(p);
+          Reference reference;
+          try {
+            reference = refMapping.resolveNamedRefForUpdate(branch);
+          } catch (ReferenceNotFoundException e) {
+            throw new CommitWrappedException(e);
+          }
 
-            try {
-              CommitObj head = commitLogic(p).headCommit(reference);
-              I committer =
-                  committerSupplier.newCommitter(branch, referenceHash, p, reference, head);
-              return committingFunction.perform(committer, retryState);
-            } catch (ReferenceConflictException
-                | ReferenceNotFoundException
-                | ObjNotFoundException
-                | ObjTooLargeException e) {
-              throw new CommitWrappedException(e);
-            }
-          });
+          try {
+            CommitObj head = commitLogic(p).headCommit(reference);
+            I committer = committerSupplier.newCommitter(branch, referenceHash, p, reference, head);
+            return committingFunction.perform(committer, retryState);
+          } catch (ReferenceConflictException
+              | ReferenceNotFoundException
+              | ObjNotFoundException
+              | ObjTooLargeException e) {
+            throw new CommitWrappedException(e);
+          }
+        });
+  }
+
+  /**
+   * Runs the given attempt with {@code commitRetry()} against the given branch and maps the
+   * exceptions to version store exceptions.
+   */
+  static <R> R retryingOperation(
+      @Nonnull String operationName,
+      @Nonnull BranchName branch,
+      @Nonnull Persist persist,
+      @Nonnull CommitContention contention,
+      @Nonnull CommitAttempt<R> attempt)
+      throws ReferenceConflictException, ReferenceNotFoundException {
+    try {
+      return commitRetry(persist, contention, branch.getName(), attempt);
     } catch (CommitConflictException e) {
       throw referenceConflictException(e);
     } catch (CommitWrappedException e) {
@@ -242,9 +261,13 @@ class BaseCommitHelper {
     } catch (RetryTimeoutException e) {
       long millis = NANOSECONDS.toMillis(e.getTimeNanos());
       String msg =
-          format(
-              "The %s operation could not be performed after %d retries within the configured commit timeout after %d milliseconds",
-              operationName, e.getRetry(), millis);
+          e.isOverloaded()
+              ? format(
+                  "The %s operation was aborted after %d retries and %d milliseconds, because too many concurrent operations are retrying against the branch %s",
+                  operationName, e.getRetry(), millis, branch.getName())
+              : format(
+                  "The %s operation could not be performed after %d retries within the configured commit timeout after %d milliseconds",
+                  operationName, e.getRetry(), millis);
       LOGGER.warn("Operation timeout: {}", msg);
       throw new ReferenceRetryFailureException(msg, e.getRetry(), millis);
     }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static java.util.Collections.singletonList;
+import static org.projectnessie.versioned.storage.common.logic.CommitContention.commitContention;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.projectnessie.versioned.storage.common.logic.CommitContention;
+import org.projectnessie.versioned.storage.common.logic.CommitContention.ReferenceContention;
+
+/**
+ * Exposes the per-reference commit contention statistics as Micrometer metrics, tagged with the
+ * name of the reference. Metrics are only registered for references that have seen at least one
+ * commit retry and are removed when the statistics of the reference are dropped.
+ */
+public final class CommitContentionMetrics {
+  private CommitContentionMetrics() {}
+
+  /** Returns a {@link CommitContention} that registers metrics for each contended reference. */
+  public static CommitContention meteredCommitContention(@Nonnull MeterRegistry meterRegistry) {
+    Map<ReferenceContention, List<Meter>> meters = new ConcurrentHashMap<>();
+    return commitContention(
+        r -> meters.put(r, registerMetrics(meterRegistry, r)),
+        r -> {
+          List<Meter> registered = meters.remove(r);
+          if (registered != null) {
+            registered.forEach(meterRegistry::remove);
+          }
+        });
+  }
+
+  private static List<Meter> registerMetrics(
+      MeterRegistry registry, ReferenceContention contention) {
+    List<Tag> tags = singletonList(Tag.of("reference", contention.reference()));
+    return List.of(
+        Gauge.builder("commit_retry_retrying", contention, ReferenceContention::retrying)
+            .description("Number of commits that are currently retrying against the reference.")
+            .tags(tags)
+            .register(registry),
+        Gauge.builder(
+                "commit_retry_conflict_rate", contention, ReferenceContention::conflictRate)
+            .description("Moving average of the ratio of failed commit attempts.")
+            .tags(tags)
+            .register(registry),
+        FunctionCounter.builder(
+                "commit_retry_conflicts", contention, ReferenceContention::conflicts)
+            .description("Number of commit attempts that failed due to a concurrent change.")
+            .tags(tags)
+            .register(registry),
+        FunctionCounter.builder(
+                "commit_retry_fast_failures", contention, ReferenceContention::fastFailures)
+            .description(
+                "Number of commits that failed fast, because the reference was overloaded.")
+            .tags(tags)
+            .register(registry),
+        TimeGauge.builder(
+                "commit_retry_commit_duration",
+                contention,
+                TimeUnit.NANOSECONDS,
+                ReferenceContention::commitDurationNanos)
+            .description(
+                "Moving average of the duration of successful commits, including retries.")
+            .tags(tags)
+            .register(registry));
+  }
+}
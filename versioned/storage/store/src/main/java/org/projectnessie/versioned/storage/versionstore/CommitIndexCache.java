@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Collections.singletonList;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.immutableIndexCopy;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.function.Function;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+
+/**
+ * Bounded cache of immutable, fully loaded complete key indexes of commits, keyed by commit ID,
+ * used by {@link VersionStoreImpl#getValue} and {@link VersionStoreImpl#getValues} to skip
+ * assembling the incremental and reference indexes of frequently read commits.
+ *
+ * <p>The complete index of a commit never changes. Building an immutable copy loads all reference
+ * index stripes of a commit, which is more expensive than a point lookup. Therefore, only commits
+ * that are requested at least twice within {@link #ADMISSION_WINDOW} are added to the cache.
+ *
+ * <p>An instance must only be used for a single repository.
+ */
+public final class CommitIndexCache {
+
+  public static final String CACHE_NAME = "nessie-commit-indexes";
+
+  static final int ADMISSION_CANDIDATES = 1000;
+  static final Duration ADMISSION_WINDOW = Duration.ofMinutes(5);
+
+  /** Assumed heap overhead per index element, excluding the serialized key and value sizes. */
+  static final int ELEMENT_HEAP_OVERHEAD = 160;
+
+  /** Assumed heap overhead of a cache entry, including Caffeine's overhead. */
+  static final int ENTRY_HEAP_OVERHEAD = 2 * 32 + 64;
+
+  private static final CommitIndexCache DISABLED = new CommitIndexCache();
+
+  private final Cache<ObjId, StoreIndex<CommitOp>> cache;
+  private final Cache<ObjId, Boolean> admissionCandidates;
+
+  private CommitIndexCache() {
+    this.cache = null;
+    this.admissionCandidates = null;
+  }
+
+  private CommitIndexCache(long capacityMb, @Nullable MeterRegistry meterRegistry) {
+    Caffeine<ObjId, StoreIndex<CommitOp>> cacheBuilder =
+        Caffeine.newBuilder()
+            .maximumWeight(capacityMb * 1024L * 1024L)
+            .weigher(CommitIndexCache::weigher);
+    if (meterRegistry != null) {
+      cacheBuilder.recordStats(() -> new CaffeineStatsCounter(meterRegistry, CACHE_NAME));
+      meterRegistry.gauge(
+          "cache_capacity_mb", singletonList(Tag.of("cache", CACHE_NAME)), "", x -> capacityMb);
+    }
+    this.cache = cacheBuilder.build();
+    this.admissionCandidates =
+        Caffeine.newBuilder()
+            .maximumSize(ADMISSION_CANDIDATES)
+            .expireAfterWrite(ADMISSION_WINDOW)
+            .build();
+  }
+
+  /** Returns a cache that does not cache any index. */
+  public static CommitIndexCache disabledCommitIndexCache() {
+    return DISABLED;
+  }
+
+  /**
+   * Creates a new cache.
+   *
+   * @param capacityMb the maximum estimated heap size of the cached indexes in MB, must be
+   *     positive
+   * @param meterRegistry optional meter registry to expose the cache metrics
+   */
+  public static CommitIndexCache commitIndexCache(
+      long capacityMb, @Nullable MeterRegistry meterRegistry) {
+    checkArgument(capacityMb > 0, "capacity must be positive, but is %s", capacityMb);
+    return new CommitIndexCache(capacityMb, meterRegistry);
+  }
+
+  /**
+   * Returns the complete index for the given commit, either from the cache or built using the
+   * given function.
+   */
+  @Nonnull
+  StoreIndex<CommitOp> completeIndex(
+      @Nonnull CommitObj commit, Function<CommitObj, StoreIndex<CommitOp>> indexBuilder) {
+    if (cache == null || commit.incompleteIndex()) {
+      return indexBuilder.apply(commit);
+    }
+
+    ObjId id = commit.id();
+    StoreIndex<CommitOp> index = cache.getIfPresent(id);
+    if (index != null) {
+      return index;
+    }
+
+    if (admissionCandidates.asMap().remove(id) == null) {
+      admissionCandidates.put(id, Boolean.TRUE);
+      return indexBuilder.apply(commit);
+    }
+
+    return cache.get(id, x -> immutableIndexCopy(indexBuilder.apply(commit), COMMIT_OP_SERIALIZER));
+  }
+
+  @VisibleForTesting
+  long estimatedSize() {
+    return cache != null ? cache.estimatedSize() : 0L;
+  }
+
+  private static int weigher(ObjId id, StoreIndex<CommitOp> index) {
+    long weight =
+        ENTRY_HEAP_OVERHEAD
+            + (long) index.elementCount() * ELEMENT_HEAP_OVERHEAD
+            + index.estimatedSerializedSize();
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+}
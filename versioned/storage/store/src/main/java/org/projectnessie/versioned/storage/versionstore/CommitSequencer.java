@@ -0,0 +1,375 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
+import static org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.retryingOperation;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import org.projectnessie.model.CommitMeta;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.Operation;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.CommitResult;
+import org.projectnessie.versioned.Hash;
+import org.projectnessie.versioned.ReferenceConflictException;
+import org.projectnessie.versioned.ReferenceNotFoundException;
+import org.projectnessie.versioned.VersionStore.CommitValidator;
+import org.projectnessie.versioned.storage.common.exceptions.CommitWrappedException;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
+import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedException;
+import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
+import org.projectnessie.versioned.storage.common.exceptions.UnknownOperationResultException;
+import org.projectnessie.versioned.storage.common.logic.CommitContention;
+import org.projectnessie.versioned.storage.common.logic.CommitRetry.RetryException;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.versionstore.CommitImpl.CommitRetryState;
+
+/**
+ * Groups concurrent commits to the same branch, used when {@link
+ * org.projectnessie.versioned.storage.common.config.StoreConfig#commitGroupMaxSize()} is greater
+ * than {@code 0}.
+ *
+ * <p>Each commit is validated and persisted by the committing thread on top of the latest commit
+ * of the branch <em>including</em> the commits that have been persisted but are not yet visible.
+ * The pending commits form a chain, which is made visible with a single reference pointer update
+ * by one of the waiting threads, up to {@code commitGroupMaxSize} commits at a time. If that
+ * pointer update fails, for example because another Nessie instance changed the branch, the
+ * committers of that group retry with the usual back-off. The pending commits that were built on
+ * top of the failed group are discarded and immediately prepared again on top of the then current
+ * state of the branch, without consuming a retry.
+ *
+ * <p>A conflict detected against a commit that is not yet visible is only reported after that
+ * commit became visible, if that commit is discarded, the commit is prepared again.
+ *
+ * <p>The per-branch state is only kept while there are commits in flight for that branch.
+ *
+ * <p>Commits are grouped per Nessie instance, concurrent commits via other instances are handled
+ * via the regular, optimistic reference pointer update.
+ */
+final class CommitSequencer {
+
+  private final Persist persist;
+  private final CommitContention commitContention;
+
+  // One (small) state object per branch with commits in flight via this instance.
+  private final ConcurrentHashMap<String, BranchState> branches = new ConcurrentHashMap<>();
+
+  CommitSequencer(Persist persist, CommitContention commitContention) {
+    this.persist = persist;
+    this.commitContention = commitContention;
+  }
+
+  CommitResult commit(
+      @Nonnull BranchName branch,
+      @Nonnull Optional<Hash> referenceHash,
+      @Nonnull CommitMeta metadata,
+      @Nonnull List<Operation> operations,
+      @Nonnull CommitValidator validator,
+      @Nonnull BiConsumer<ContentKey, String> addedContents)
+      throws ReferenceNotFoundException, ReferenceConflictException {
+    BranchState branchState = acquire(branch.getName());
+    try {
+      return retryingOperation(
+          "commit",
+          branch,
+          persist,
+          commitContention,
+          (p, retryState) -> {
+            CommitRetryState commitRetryState =
+                retryState.map(x -> (CommitRetryState) x).orElseGet(CommitRetryState::new);
+            try {
+              return branchState.commit(
+                  p,
+                  commitRetryState,
+                  branch,
+                  referenceHash,
+                  metadata,
+                  operations,
+                  validator,
+                  addedContents);
+            } catch (ReferenceConflictException
+                | ReferenceNotFoundException
+                | ObjNotFoundException
+                | ObjTooLargeException e) {
+              throw new CommitWrappedException(e);
+            }
+          });
+    } finally {
+      release(branch.getName());
+    }
+  }
+
+  private BranchState acquire(String branch) {
+    return branches.compute(
+        branch,
+        (k, state) -> {
+          if (state == null) {
+            state = new BranchState();
+          }
+          state.users++;
+          return state;
+        });
+  }
+
+  /**
+   * Removes the state of the branch, if there are no more commits in flight. Since every pending
+   * commit has a waiting committer, the pending chain is drained at this point.
+   */
+  private void release(String branch) {
+    branches.computeIfPresent(branch, (k, state) -> --state.users == 0 ? null : state);
+  }
+
+  int trackedBranches() {
+    return branches.size();
+  }
+
+  private enum Outcome {
+    /** The commit is visible. */
+    VISIBLE,
+    /** Updating the reference pointer for the commit failed, retry with back-off. */
+    RETRY,
+    /** The commit was built on top of a failed commit, prepare again. */
+    DISCARDED
+  }
+
+  private static final class Pending {
+    final CommitImpl committer;
+    final CommitObj commit;
+    Outcome outcome;
+
+    Pending(CommitImpl committer, CommitObj commit) {
+      this.committer = committer;
+      this.commit = commit;
+    }
+  }
+
+  private final class BranchState {
+    /** Serializes the preparation of commits, because each commit is based on its predecessor. */
+    private final ReentrantLock prepareLock = new ReentrantLock(true);
+
+    /** Number of committers using this state, guarded by {@link #branches}. */
+    private int users;
+
+    // The following fields are guarded by 'this'.
+
+    /** The expected current state of the reference, if there are pending commits. */
+    private Reference visible;
+
+    /** The latest persisted commit, not necessarily visible yet. */
+    private Pending tip;
+
+    /** Incremented when the pending commits have been discarded. */
+    private long generation;
+
+    private final List<Pending> pending = new ArrayList<>();
+    private boolean publishing;
+
+    CommitResult commit(
+        Persist p,
+        CommitRetryState commitRetryState,
+        BranchName branch,
+        Optional<Hash> referenceHash,
+        CommitMeta metadata,
+        List<Operation> operations,
+        CommitValidator validator,
+        BiConsumer<ContentKey, String> addedContents)
+        throws ReferenceConflictException,
+            ReferenceNotFoundException,
+            ObjNotFoundException,
+            ObjTooLargeException,
+            RetryException {
+      while (true) {
+        Pending own =
+            prepare(p, commitRetryState, branch, referenceHash, metadata, operations, validator);
+        if (own == null) {
+          continue;
+        }
+
+        switch (awaitOutcome(own)) {
+          case VISIBLE:
+            return own.committer.commitResult(commitRetryState, own.commit, addedContents);
+          case RETRY:
+            throw new RetryException(Optional.of(commitRetryState));
+          case DISCARDED:
+            break;
+          default:
+            throw new IllegalStateException();
+        }
+      }
+    }
+
+    /**
+     * Validates and persists the commit on top of the current tip of the branch, runs on the
+     * committing thread, so that the validator sees the caller's context.
+     *
+     * @return the pending commit or {@code null}, if the commit has to be prepared again, because
+     *     the commits it was based on have been discarded
+     */
+    private Pending prepare(
+        Persist p,
+        CommitRetryState commitRetryState,
+        BranchName branch,
+        Optional<Hash> referenceHash,
+        CommitMeta metadata,
+        List<Operation> operations,
+        CommitValidator validator)
+        throws ReferenceConflictException,
+            ReferenceNotFoundException,
+            ObjNotFoundException,
+            ObjTooLargeException,
+            RetryException {
+      Pending basePending;
+      ReferenceConflictException conflict;
+      prepareLock.lock();
+      try {
+        Reference reference;
+        CommitObj base;
+        long gen;
+        synchronized (this) {
+          basePending = pending.isEmpty() && !publishing ? null : tip;
+          reference = visible;
+          gen = generation;
+        }
+        if (basePending == null) {
+          reference = new RefMapping(p).resolveNamedRefForUpdate(branch);
+          base = commitLogic(p).headCommit(reference);
+        } else {
+          base = basePending.commit;
+        }
+
+        CommitImpl committer = new CommitImpl(branch, referenceHash, p, reference, base);
+        try {
+          CommitObj commit =
+              committer.storeCommit(commitRetryState, metadata, operations, validator);
+
+          Pending own = new Pending(committer, commit);
+          synchronized (this) {
+            if (gen != generation) {
+              return null;
+            }
+            if (basePending == null) {
+              visible = reference;
+            }
+            tip = own;
+            pending.add(own);
+          }
+          return own;
+        } catch (ReferenceConflictException e) {
+          if (basePending == null) {
+            throw e;
+          }
+          conflict = e;
+        }
+      } finally {
+        prepareLock.unlock();
+      }
+
+      // The conflict has been detected against a commit that is not yet visible, report it only
+      // if that commit becomes visible.
+      if (awaitOutcome(basePending) == Outcome.VISIBLE) {
+        throw conflict;
+      }
+      return null;
+    }
+
+    /**
+     * Waits until the given pending commit has been made visible or discarded, publishing the
+     * oldest pending commits, if no other thread does.
+     */
+    private Outcome awaitOutcome(Pending own) {
+      boolean interrupted = false;
+      try {
+        while (true) {
+          List<Pending> group;
+          Reference expected;
+          ObjId newPointer;
+          synchronized (this) {
+            while (own.outcome == null && publishing) {
+              try {
+                wait();
+              } catch (InterruptedException e) {
+                interrupted = true;
+              }
+            }
+            if (own.outcome != null) {
+              return own.outcome;
+            }
+
+            List<Pending> head =
+                pending.subList(0, Math.min(persist.config().commitGroupMaxSize(), pending.size()));
+            group = new ArrayList<>(head);
+            head.clear();
+            expected = visible;
+            newPointer = group.get(group.size() - 1).commit.id();
+            publishing = true;
+          }
+
+          Reference updated = null;
+          try {
+            updated = updateReferencePointer(expected, newPointer);
+          } finally {
+            published(group, updated);
+          }
+        }
+      } finally {
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    private synchronized void published(List<Pending> group, Reference updated) {
+      publishing = false;
+      if (updated != null) {
+        visible = updated;
+        group.forEach(g -> g.outcome = Outcome.VISIBLE);
+      } else {
+        generation++;
+        group.forEach(g -> g.outcome = Outcome.RETRY);
+        pending.forEach(g -> g.outcome = Outcome.DISCARDED);
+        pending.clear();
+        visible = null;
+        tip = null;
+      }
+      notifyAll();
+    }
+
+    /** Returns the updated reference or {@code null}, if the reference pointer was not updated. */
+    private Reference updateReferencePointer(Reference expected, ObjId newPointer) {
+      try {
+        return persist.updateReferencePointer(expected, newPointer);
+      } catch (UnknownOperationResultException e) {
+        // Same mitigation as in BaseCommitHelper.bumpReferencePointer(): check once (and only
+        // once!) whether the reference-pointer-change succeeded.
+        Reference r = persist.fetchReferenceForUpdate(expected.name());
+        return expected.forNewPointer(newPointer, persist.config()).equals(r) ? r : null;
+      } catch (RefConditionFailedException | RefNotFoundException e) {
+        return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.Collections.emptyIterator;
+import static java.util.Objects.requireNonNull;
+import static org.projectnessie.versioned.storage.common.persist.AsyncPersist.asyncPersist;
+import static org.projectnessie.versioned.storage.versionstore.ContentMapping.valueObjIdByKey;
+import static org.projectnessie.versioned.storage.versionstore.ContentMapping.valueToContent;
+
+import com.google.common.collect.AbstractIterator;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.versioned.storage.common.config.StoreConfig;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+import org.projectnessie.versioned.storage.common.persist.AsyncPersist;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.versionstore.VersionStoreImpl.ContentKeyWithCommitOp;
+
+/**
+ * Fetches content values in batches of {@link StoreConfig#contentFetchBatchSize()} objects, with up
+ * to {@link StoreConfig#contentFetchParallelism()} batches in flight.
+ *
+ * <p>Index lookups happen on the calling thread, only the bulk-fetches of the content objects are
+ * performed concurrently. For {@link Persist} implementations that do not implement {@link
+ * AsyncPersist}, the fetches run on the bounded executor shared by all asynchronous reads, see
+ * {@link StoreConfig#asyncReadThreads()}.
+ */
+final class ContentFetcher {
+
+  private final Persist persist;
+  private final AsyncPersist asyncPersist;
+  private final int batchSize;
+  private final int parallelism;
+
+  ContentFetcher(Persist persist) {
+    StoreConfig config = persist.config();
+    this.persist = persist;
+    this.batchSize = Math.max(1, config.contentFetchBatchSize());
+    this.parallelism = Math.max(1, config.contentFetchParallelism());
+    this.asyncPersist =
+        parallelism > 1 ? asyncPersist(persist) : asyncPersist(persist, directExecutor());
+  }
+
+  /**
+   * Returns an iterator over the elements of {@code source} with {@link
+   * ContentKeyWithCommitOp#content} populated. Elements are returned in the order of {@code
+   * source}, the elements of a batch are available as soon as the batch has been fetched.
+   */
+  Iterator<ContentKeyWithCommitOp> withContents(Iterator<ContentKeyWithCommitOp> source) {
+    return new AbstractIterator<>() {
+      final Deque<CompletionStage<List<ContentKeyWithCommitOp>>> pending = new ArrayDeque<>();
+      Iterator<ContentKeyWithCommitOp> current = emptyIterator();
+
+      @Override
+      protected ContentKeyWithCommitOp computeNext() {
+        while (!current.hasNext()) {
+          while (pending.size() < parallelism && source.hasNext()) {
+            pending.addLast(fetchBatch(nextBatch(source)));
+          }
+          CompletionStage<List<ContentKeyWithCommitOp>> head = pending.pollFirst();
+          if (head == null) {
+            return endOfData();
+          }
+          current = AsyncPersist.join(head).iterator();
+        }
+        return current.next();
+      }
+    };
+  }
+
+  /**
+   * Fetches the contents for the given keys, see {@link ContentMapping#fetchContents(StoreIndex,
+   * Collection)}.
+   */
+  Map<ContentKey, Content> fetchContents(StoreIndex<CommitOp> index, Collection<ContentKey> keys)
+      throws ObjNotFoundException {
+    if (parallelism == 1 || keys.size() <= batchSize) {
+      return new ContentMapping(persist).fetchContents(index, keys);
+    }
+
+    // Eagerly bulk-(pre)fetch the requested keys
+    index.loadIfNecessary(
+        keys.stream().map(TypeMapping::keyToStoreKey).collect(Collectors.toSet()));
+
+    Map<ObjId, List<ContentKey>> idsToKeys = newHashMapWithExpectedSize(keys.size());
+    for (ContentKey key : keys) {
+      ObjId valueObjId = valueObjIdByKey(key, index);
+      if (valueObjId != null) {
+        idsToKeys.computeIfAbsent(valueObjId, x -> new ArrayList<>(1)).add(key);
+      }
+    }
+
+    ObjId[] ids = idsToKeys.keySet().toArray(new ObjId[0]);
+    Map<ContentKey, Content> r = newHashMapWithExpectedSize(keys.size());
+    List<ObjId> notFound = new ArrayList<>();
+    Deque<CompletionStage<Obj[]>> pending = new ArrayDeque<>();
+    int next = 0;
+    while (next < ids.length || !pending.isEmpty()) {
+      while (pending.size() < parallelism && next < ids.length) {
+        ObjId[] batch = new ObjId[Math.min(batchSize, ids.length - next)];
+        System.arraycopy(ids, next, batch, 0, batch.length);
+        next += batch.length;
+        pending.addLast(
+            asyncPersist
+                .fetchObjsIfExistAsync(batch)
+                .thenApply(objs -> checkFound(batch, objs, notFound)));
+      }
+
+      for (Obj obj : AsyncPersist.join(requireNonNull(pending.pollFirst()))) {
+        if (obj instanceof ContentValueObj) {
+          Content content = valueToContent((ContentValueObj) obj);
+          for (ContentKey key : idsToKeys.get(obj.id())) {
+            r.put(key, content);
+          }
+        }
+      }
+    }
+    if (!notFound.isEmpty()) {
+      throw new ObjNotFoundException(notFound);
+    }
+    return r;
+  }
+
+  private static Obj[] checkFound(ObjId[] ids, Obj[] objs, List<ObjId> notFound) {
+    for (int i = 0; i < objs.length; i++) {
+      if (objs[i] == null) {
+        synchronized (notFound) {
+          notFound.add(ids[i]);
+        }
+      }
+    }
+    return objs;
+  }
+
+  private List<ContentKeyWithCommitOp> nextBatch(Iterator<ContentKeyWithCommitOp> source) {
+    List<ContentKeyWithCommitOp> batch = new ArrayList<>(batchSize);
+    while (batch.size() < batchSize && source.hasNext()) {
+      batch.add(source.next());
+    }
+    return batch;
+  }
+
+  private CompletionStage<List<ContentKeyWithCommitOp>> fetchBatch(
+      List<ContentKeyWithCommitOp> batch) {
+    // The same content object may be referenced by multiple keys in old, migrated repositories.
+    Map<ObjId, List<ContentKeyWithCommitOp>> idsToOps = new LinkedHashMap<>();
+    for (ContentKeyWithCommitOp op : batch) {
+      ObjId id = requireNonNull(op.commitOp.value(), "Required value pointer is null");
+      idsToOps.computeIfAbsent(id, x -> new ArrayList<>(1)).add(op);
+    }
+
+    ObjId[] ids = idsToOps.keySet().toArray(new ObjId[0]);
+    return asyncPersist
+        .fetchObjsIfExistAsync(ids)
+        .thenApply(
+            objs -> {
+              for (int i = 0; i < ids.length; i++) {
+                Obj obj = objs[i];
+                if (obj == null) {
+                  throw new RuntimeException(
+                      "Could not fetch or map content", new ObjNotFoundException(ids[i]));
+                }
+                if (obj instanceof ContentValueObj) {
+                  Content content = valueToContent((ContentValueObj) obj);
+                  for (ContentKeyWithCommitOp op : idsToOps.get(ids[i])) {
+                    op.content = content;
+                  }
+                }
+              }
+              return batch;
+            });
+  }
+}
@@ -132,7 +132,7 @@ public final class ContentMapping {
     return r;
   }
 
-  private static ObjId valueObjIdByKey(ContentKey key, StoreIndex<CommitOp> index) {
+  static ObjId valueObjIdByKey(ContentKey key, StoreIndex<CommitOp> index) {
     StoreKey storeKey = keyToStoreKey(key);
     StoreIndexElement<CommitOp> indexElement = index.get(storeKey);
     if (indexElement == null || !indexElement.content().action().exists()) {
@@ -142,7 +142,7 @@ public final class ContentMapping {
     return requireNonNull(indexElement.content().value(), "Required value pointer is null");
   }
 
-  private static Content valueToContent(ContentValueObj contentValue) {
+  static Content valueToContent(ContentValueObj contentValue) {
     return STORE_WORKER.valueFromStore((byte) contentValue.payload(), contentValue.data());
   }
 
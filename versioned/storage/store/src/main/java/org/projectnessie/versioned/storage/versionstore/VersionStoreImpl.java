@@ -25,6 +25,7 @@ import static org.projectnessie.nessie.relocated.protobuf.ByteString.copyFromUtf
 import static org.projectnessie.versioned.ContentResult.contentResult;
 import static org.projectnessie.versioned.ReferenceHistory.ReferenceHistoryElement.referenceHistoryElement;
 import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.emptyImmutableIndex;
+import static org.projectnessie.versioned.storage.common.logic.CommitContention.commitContention;
 import static org.projectnessie.versioned.storage.common.logic.CommitLogQuery.commitLogQuery;
 import static org.projectnessie.versioned.storage.common.logic.DiffQuery.diffQuery;
 import static org.projectnessie.versioned.storage.common.logic.Logics.commitLogic;
@@ -41,6 +42,7 @@ import static org.projectnessie.versioned.storage.common.persist.ObjId.EMPTY_OBJ
 import static org.projectnessie.versioned.storage.common.persist.Reference.reference;
 import static org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.committingOperation;
 import static org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.dryRunCommitterSupplier;
+import static org.projectnessie.versioned.storage.versionstore.CommitIndexCache.disabledCommitIndexCache;
 import static org.projectnessie.versioned.storage.versionstore.KeyRanges.keyRanges;
 import static org.projectnessie.versioned.storage.versionstore.RefMapping.NO_ANCESTOR;
 import static org.projectnessie.versioned.storage.versionstore.RefMapping.asBranchName;
@@ -64,7 +66,6 @@ import static org.projectnessie.versioned.store.DefaultStoreWorker.contentTypeFo
 
 import com.google.common.collect.AbstractIterator;
 import jakarta.annotation.Nonnull;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -135,6 +136,7 @@ import org.projectnessie.versioned.storage.common.exceptions.RetryTimeoutExcepti
 import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
 import org.projectnessie.versioned.storage.common.indexes.StoreIndexElement;
 import org.projectnessie.versioned.storage.common.indexes.StoreKey;
+import org.projectnessie.versioned.storage.common.logic.CommitContention;
 import org.projectnessie.versioned.storage.common.logic.CommitLogic;
 import org.projectnessie.versioned.storage.common.logic.ConsistencyLogic;
 import org.projectnessie.versioned.storage.common.logic.DiffEntry;
@@ -153,8 +155,10 @@ import org.projectnessie.versioned.storage.versionstore.BaseCommitHelper.Committ
 
 public class VersionStoreImpl implements VersionStore {
 
-  public static final int GET_KEYS_CONTENT_BATCH_SIZE = 50;
   private final Persist persist;
+  private final CommitIndexCache commitIndexCache;
+  private final CommitContention commitContention;
+  private final CommitSequencer commitSequencer;
 
   @SuppressWarnings("unused")
   public VersionStoreImpl() {
@@ -162,7 +166,19 @@ public class VersionStoreImpl implements VersionStore {
   }
 
   public VersionStoreImpl(Persist persist) {
+    this(persist, disabledCommitIndexCache());
+  }
+
+  public VersionStoreImpl(Persist persist, CommitIndexCache commitIndexCache) {
+    this(persist, commitIndexCache, commitContention());
+  }
+
+  public VersionStoreImpl(
+      Persist persist, CommitIndexCache commitIndexCache, CommitContention commitContention) {
     this.persist = persist;
+    this.commitIndexCache = commitIndexCache;
+    this.commitContention = commitContention;
+    this.commitSequencer = new CommitSequencer(persist, commitContention);
   }
 
   @Nonnull
@@ -774,49 +790,7 @@ public class VersionStoreImpl implements VersionStore {
     // "Fetch content" iterator - same as the "base" iterator when not fetching the content,
     // fetches contents in batches if 'withContent == true'.
     Iterator<ContentKeyWithCommitOp> fetchContent =
-        withContent
-            ? new AbstractIterator<>() {
-              final List<ContentKeyWithCommitOp> batch =
-                  new ArrayList<>(GET_KEYS_CONTENT_BATCH_SIZE);
-
-              Iterator<ContentKeyWithCommitOp> current;
-
-              @CheckForNull
-              @Override
-              protected ContentKeyWithCommitOp computeNext() {
-                Iterator<ContentKeyWithCommitOp> c = current;
-                if (c != null && c.hasNext()) {
-                  return c.next();
-                }
-
-                for (int i = 0; i < GET_KEYS_CONTENT_BATCH_SIZE; i++) {
-                  if (!keyAndOp.hasNext()) {
-                    break;
-                  }
-                  batch.add(keyAndOp.next());
-                }
-
-                if (batch.isEmpty()) {
-                  current = null;
-                  return endOfData();
-                }
-
-                try {
-                  Map<ContentKey, Content> contents =
-                      contentMapping.fetchContents(
-                          index, batch.stream().map(op -> op.key).collect(Collectors.toList()));
-                  for (ContentKeyWithCommitOp op : batch) {
-                    op.content = contents.get(op.key);
-                  }
-                } catch (ObjNotFoundException e) {
-                  throw new RuntimeException("Could not fetch or map content", e);
-                }
-                current = new ArrayList<>(batch).iterator();
-                batch.clear();
-                return current.next();
-              }
-            }
-            : keyAndOp;
+        withContent ? new ContentFetcher(persist).withContents(keyAndOp) : keyAndOp;
 
     // "Final" iterator, adding functionality for paging. Needs to be a separate instance, because
     // we cannot use the "base" iterator to provide the token for the "current" entry.
@@ -901,8 +875,7 @@ public class VersionStoreImpl implements VersionStore {
     try {
 
       StoreKey storeKey = keyToStoreKey(key);
-      IndexesLogic indexesLogic = indexesLogic(persist);
-      StoreIndex<CommitOp> index = indexesLogic.buildCompleteIndex(head, Optional.empty());
+      StoreIndex<CommitOp> index = completeIndex(head);
 
       index.loadIfNecessary(singleton(storeKey));
 
@@ -924,6 +897,12 @@ public class VersionStoreImpl implements VersionStore {
     }
   }
 
+  private StoreIndex<CommitOp> completeIndex(CommitObj head) {
+    IndexesLogic indexesLogic = indexesLogic(persist);
+    return commitIndexCache.completeIndex(
+        head, c -> indexesLogic.buildCompleteIndex(c, Optional.empty()));
+  }
+
   private static ContentResult getValueNotFound(
       ContentKey key, boolean returnNotFound, StoreIndex<CommitOp> index) {
     if (returnNotFound) {
@@ -983,14 +962,10 @@ public class VersionStoreImpl implements VersionStore {
     CommitObj head = refMapping.resolveRefHead(ref);
 
     try {
-      IndexesLogic indexesLogic = indexesLogic(persist);
       StoreIndex<CommitOp> index =
-          head != null
-              ? indexesLogic.buildCompleteIndex(head, Optional.empty())
-              : emptyImmutableIndex(COMMIT_OP_SERIALIZER);
+          head != null ? completeIndex(head) : emptyImmutableIndex(COMMIT_OP_SERIALIZER);
 
-      ContentMapping contentMapping = new ContentMapping(persist);
-      Map<ContentKey, Content> fetched = contentMapping.fetchContents(index, keys);
+      Map<ContentKey, Content> fetched = new ContentFetcher(persist).fetchContents(index, keys);
       Map<ContentKey, ContentResult> result = newHashMapWithExpectedSize(keys.size());
 
       for (ContentKey key : keys) {
@@ -1021,11 +996,16 @@ public class VersionStoreImpl implements VersionStore {
       @Nonnull CommitValidator validator,
       @Nonnull BiConsumer<ContentKey, String> addedContents)
       throws ReferenceNotFoundException, ReferenceConflictException {
+    if (persist.config().commitGroupMaxSize() > 0) {
+      return commitSequencer.commit(
+          branch, referenceHash, metadata, operations, validator, addedContents);
+    }
     return committingOperation(
         "commit",
         branch,
         referenceHash,
         persist,
+        commitContention,
         CommitImpl::new,
         (commitImpl, retryState) ->
             commitImpl.commit(retryState, metadata, operations, validator, addedContents));
@@ -1046,6 +1026,7 @@ public class VersionStoreImpl implements VersionStore {
             mergeOp.toBranch(),
             mergeOp.expectedHash(),
             persist,
+            commitContention,
             supplier,
             (merge, retryState) -> merge.merge(retryState, mergeOp));
 
@@ -1068,6 +1049,7 @@ public class VersionStoreImpl implements VersionStore {
             transplantOp.toBranch(),
             transplantOp.expectedHash(),
             persist,
+            commitContention,
             supplier,
             (transplant, retryState) -> transplant.transplant(retryState, transplantOp));
 
@@ -17,6 +17,7 @@ package org.projectnessie.versioned.storage.versionstore;
 
 import jakarta.annotation.Nonnull;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import org.projectnessie.versioned.storage.common.config.StoreConfig;
 import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
 import org.projectnessie.versioned.storage.common.exceptions.ObjTooLargeException;
@@ -65,6 +66,12 @@ public class PersistDelegate implements Persist {
     return delegate.config();
   }
 
+  @Override
+  @Nonnull
+  public Executor asyncReadExecutor() {
+    return delegate.asyncReadExecutor();
+  }
+
   @Override
   @Nonnull
   public Reference addReference(@Nonnull Reference reference) throws RefAlreadyExistsException {
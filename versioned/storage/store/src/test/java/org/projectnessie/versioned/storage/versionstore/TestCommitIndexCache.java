@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexElement.indexElement;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.deserializeStoreIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreIndexes.newStoreIndex;
+import static org.projectnessie.versioned.storage.common.indexes.StoreKey.key;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitHeaders.EMPTY_COMMIT_HEADERS;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitObj.commitBuilder;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.Action.ADD;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.COMMIT_OP_SERIALIZER;
+import static org.projectnessie.versioned.storage.common.objtypes.CommitOp.commitOp;
+import static org.projectnessie.versioned.storage.common.persist.ObjId.randomObjId;
+import static org.projectnessie.versioned.storage.versionstore.CommitIndexCache.commitIndexCache;
+import static org.projectnessie.versioned.storage.versionstore.CommitIndexCache.disabledCommitIndexCache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.versioned.storage.common.indexes.StoreIndex;
+import org.projectnessie.versioned.storage.common.objtypes.CommitObj;
+import org.projectnessie.versioned.storage.common.objtypes.CommitOp;
+
+@ExtendWith(SoftAssertionsExtension.class)
+public class TestCommitIndexCache {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  private final AtomicInteger builds = new AtomicInteger();
+  private final Function<CommitObj, StoreIndex<CommitOp>> indexBuilder =
+      c -> {
+        builds.incrementAndGet();
+        return deserializeStoreIndex(c.incrementalIndex(), COMMIT_OP_SERIALIZER);
+      };
+
+  @Test
+  public void admissionAndHits() {
+    CommitIndexCache cache = commitIndexCache(1, null);
+    CommitObj commit = commit(false);
+
+    StoreIndex<CommitOp> index = cache.completeIndex(commit, indexBuilder);
+    soft.assertThat(builds).hasValue(1);
+    soft.assertThat(cache.estimatedSize()).isEqualTo(0L);
+    soft.assertThat(index.isMutable()).isTrue();
+
+    // Second request for the same commit admits the index to the cache
+    StoreIndex<CommitOp> cached = cache.completeIndex(commit, indexBuilder);
+    soft.assertThat(builds).hasValue(2);
+    soft.assertThat(cache.estimatedSize()).isEqualTo(1L);
+    soft.assertThat(cached.isMutable()).isFalse();
+    soft.assertThat(newArrayList(cached)).containsExactlyElementsOf(newArrayList(index));
+
+    soft.assertThat(cache.completeIndex(commit, indexBuilder)).isSameAs(cached);
+    soft.assertThat(cache.completeIndex(commit, indexBuilder)).isSameAs(cached);
+    soft.assertThat(builds).hasValue(2);
+
+    soft.assertThat(cached.get(key("key-42"))).isEqualTo(index.get(key("key-42")));
+    soft.assertThat(cached.contains(key("nope"))).isFalse();
+    soft.assertThatThrownBy(() -> cached.add(indexElement(key("x"), commitOp(ADD, 1, null))))
+        .isInstanceOf(UnsupportedOperationException.class);
+    soft.assertThatThrownBy(() -> cached.remove(key("key-42")))
+        .isInstanceOf(UnsupportedOperationException.class);
+    soft.assertThatThrownBy(() -> cached.iterator().remove())
+        .isInstanceOf(UnsupportedOperationException.class);
+
+    StoreIndex<CommitOp> mutable = cached.asMutableIndex();
+    mutable.add(indexElement(key("x"), commitOp(ADD, 1, null)));
+    soft.assertThat(mutable.contains(key("x"))).isTrue();
+    soft.assertThat(cached.contains(key("x"))).isFalse();
+  }
+
+  @Test
+  public void incompleteIndexNotCached() {
+    CommitIndexCache cache = commitIndexCache(1, null);
+    CommitObj commit = commit(true);
+
+    for (int i = 0; i < 3; i++) {
+      cache.completeIndex(commit, indexBuilder);
+    }
+    soft.assertThat(builds).hasValue(3);
+    soft.assertThat(cache.estimatedSize()).isEqualTo(0L);
+  }
+
+  @Test
+  public void disabled() {
+    CommitIndexCache cache = disabledCommitIndexCache();
+    CommitObj commit = commit(false);
+
+    for (int i = 0; i < 3; i++) {
+      soft.assertThat(cache.completeIndex(commit, indexBuilder).isMutable()).isTrue();
+    }
+    soft.assertThat(builds).hasValue(3);
+    soft.assertThat(cache.estimatedSize()).isEqualTo(0L);
+  }
+
+  @Test
+  public void invalidCapacity() {
+    soft.assertThatIllegalArgumentException().isThrownBy(() -> commitIndexCache(0, null));
+  }
+
+  private static CommitObj commit(boolean incompleteIndex) {
+    StoreIndex<CommitOp> index = newStoreIndex(COMMIT_OP_SERIALIZER);
+    for (int i = 0; i < 100; i++) {
+      index.add(indexElement(key("key-" + i), commitOp(ADD, 1, randomObjId())));
+    }
+    return commitBuilder()
+        .id(randomObjId())
+        .created(42L)
+        .seq(1L)
+        .headers(EMPTY_COMMIT_HEADERS)
+        .message("msg")
+        .incrementalIndex(index.serialize())
+        .incompleteIndex(incompleteIndex)
+        .build();
+  }
+}
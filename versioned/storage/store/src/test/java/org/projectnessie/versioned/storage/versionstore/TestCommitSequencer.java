@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.util.Collections.singletonList;
+import static org.projectnessie.model.CommitMeta.fromMessage;
+import static org.projectnessie.versioned.storage.common.logic.CommitContention.commitContention;
+import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_COMMIT_GROUP_MAX_SIZE;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.Operation;
+import org.projectnessie.model.Operation.Put;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.ReferenceConflictException;
+import org.projectnessie.versioned.ReferenceNotFoundException;
+import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.storage.common.exceptions.RefConditionFailedException;
+import org.projectnessie.versioned.storage.common.exceptions.RefNotFoundException;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.common.persist.Reference;
+import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.NessieStoreConfig;
+import org.projectnessie.versioned.storage.testextension.PersistExtension;
+
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+public class TestCommitSequencer {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  @Test
+  public void concurrentCommits(
+      @NessieStoreConfig(name = CONFIG_COMMIT_GROUP_MAX_SIZE, value = "4") @NessiePersist
+          Persist persist)
+      throws Exception {
+    int threads = 8;
+    int commitsPerThread = 10;
+
+    AtomicInteger pointerUpdates = new AtomicInteger();
+    Persist tested =
+        new PersistDelegate(persist) {
+          @Nonnull
+          @Override
+          public Reference updateReferencePointer(
+              @Nonnull Reference reference, @Nonnull ObjId newPointer)
+              throws RefNotFoundException, RefConditionFailedException {
+            pointerUpdates.incrementAndGet();
+            return super.updateReferencePointer(reference, newPointer);
+          }
+        };
+
+    VersionStore store = new VersionStoreImpl(tested);
+    BranchName branch = BranchName.of("branch1");
+    store.create(branch, Optional.empty());
+    pointerUpdates.set(0);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<CompletableFuture<Void>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        int thread = t;
+        futures.add(
+            CompletableFuture.runAsync(
+                () -> {
+                  for (int i = 0; i < commitsPerThread; i++) {
+                    commit(store, branch, ContentKey.of("key-" + thread + "-" + i));
+                  }
+                },
+                executor));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+    } finally {
+      executor.shutdown();
+    }
+
+    List<ContentKey> keys =
+        IntStream.range(0, threads)
+            .boxed()
+            .flatMap(t -> IntStream.range(0, commitsPerThread).mapToObj(i -> "key-" + t + "-" + i))
+            .map(ContentKey::of)
+            .collect(Collectors.toList());
+
+    soft.assertThat(store.getValues(branch, keys, false)).containsOnlyKeys(keys);
+    soft.assertThat(newArrayList(store.getCommits(branch, false)))
+        .hasSize(threads * commitsPerThread);
+    soft.assertThat(pointerUpdates).hasValueLessThanOrEqualTo(threads * commitsPerThread);
+  }
+
+  @Test
+  public void concurrentPointerChange(
+      @NessieStoreConfig(name = CONFIG_COMMIT_GROUP_MAX_SIZE, value = "4") @NessiePersist
+          Persist persist)
+      throws Exception {
+    // Simulates a commit via another Nessie instance
+    VersionStore other = new VersionStoreImpl(persist);
+    BranchName branch = BranchName.of("branch1");
+    other.create(branch, Optional.empty());
+
+    AtomicInteger intercepted = new AtomicInteger();
+    Persist tested =
+        new PersistDelegate(persist) {
+          @Nonnull
+          @Override
+          public Reference updateReferencePointer(
+              @Nonnull Reference reference, @Nonnull ObjId newPointer)
+              throws RefNotFoundException, RefConditionFailedException {
+            if (intercepted.incrementAndGet() == 1) {
+              commit(other, branch, ContentKey.of("other"));
+            }
+            return super.updateReferencePointer(reference, newPointer);
+          }
+        };
+
+    VersionStore store = new VersionStoreImpl(tested);
+    commit(store, branch, ContentKey.of("mine"));
+
+    soft.assertThat(intercepted).hasValue(2);
+    soft.assertThat(
+            store.getValues(branch, List.of(ContentKey.of("other"), ContentKey.of("mine")), false))
+        .containsOnlyKeys(ContentKey.of("other"), ContentKey.of("mine"));
+    soft.assertThat(newArrayList(store.getCommits(branch, false)))
+        .extracting(c -> c.getCommitMeta().getMessage())
+        .containsExactly("commit mine", "commit other");
+  }
+
+  @Test
+  public void conflictWithDiscardedCommit(
+      @NessieStoreConfig(name = CONFIG_COMMIT_GROUP_MAX_SIZE, value = "4") @NessiePersist
+          Persist persist)
+      throws Exception {
+    // Simulates a commit via another Nessie instance
+    VersionStore other = new VersionStoreImpl(persist);
+    BranchName branch = BranchName.of("branch1");
+    other.create(branch, Optional.empty());
+
+    AtomicInteger intercepted = new AtomicInteger();
+    CompletableFuture<Void> second = new CompletableFuture<>();
+    CommitSequencer[] sequencer = new CommitSequencer[1];
+    Persist tested =
+        new PersistDelegate(persist) {
+          @Nonnull
+          @Override
+          public Reference updateReferencePointer(
+              @Nonnull Reference reference, @Nonnull ObjId newPointer)
+              throws RefNotFoundException, RefConditionFailedException {
+            if (intercepted.incrementAndGet() == 1) {
+              // The first commit is about to become visible, let another instance commit 'b' and
+              // prepare the second commit, which conflicts with the first one on key 'a'.
+              commit(other, branch, ContentKey.of("b"));
+              Thread t =
+                  new Thread(
+                      () -> {
+                        try {
+                          sequencerCommit(sequencer[0], branch, "second", ContentKey.of("a"));
+                          second.complete(null);
+                        } catch (Throwable e) {
+                          second.completeExceptionally(e);
+                        }
+                      });
+              t.start();
+              awaitPendingOutcome(t);
+            }
+            return super.updateReferencePointer(reference, newPointer);
+          }
+        };
+    sequencer[0] = new CommitSequencer(tested, commitContention());
+
+    // The first commit fails, because another instance committed 'b', which means that the second
+    // commit does not conflict.
+    soft.assertThatThrownBy(
+            () ->
+                sequencerCommit(
+                    sequencer[0], branch, "first", ContentKey.of("a"), ContentKey.of("b")))
+        .isInstanceOf(ReferenceConflictException.class);
+    soft.assertThat(second).succeedsWithin(30, TimeUnit.SECONDS);
+
+    soft.assertThat(newArrayList(other.getCommits(branch, false)))
+        .extracting(c -> c.getCommitMeta().getMessage())
+        .containsExactly("second", "commit b");
+    soft.assertThat(sequencer[0].trackedBranches()).isEqualTo(0);
+  }
+
+  private static void awaitPendingOutcome(Thread t) {
+    while (Arrays.stream(t.getStackTrace())
+        .noneMatch(e -> e.getMethodName().equals("awaitOutcome"))) {
+      if (!t.isAlive()) {
+        return;
+      }
+      Thread.onSpinWait();
+    }
+  }
+
+  private static void sequencerCommit(
+      CommitSequencer sequencer, BranchName branch, String message, ContentKey... keys)
+      throws ReferenceNotFoundException, ReferenceConflictException {
+    List<Operation> operations =
+        Arrays.stream(keys)
+            .map(k -> Put.of(k, IcebergTable.of("meta", 42, 43, 44, 45)))
+            .collect(Collectors.toList());
+    sequencer.commit(
+        branch, Optional.empty(), fromMessage(message), operations, x -> {}, (k, id) -> {});
+  }
+
+  private static void commit(VersionStore store, BranchName branch, ContentKey key) {
+    try {
+      store.commit(
+          branch,
+          Optional.empty(),
+          fromMessage("commit " + key.getName()),
+          singletonList(Put.of(key, IcebergTable.of("meta", 42, 43, 44, 45))));
+    } catch (ReferenceNotFoundException | ReferenceConflictException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2024 Dremio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.projectnessie.versioned.storage.versionstore;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.projectnessie.model.CommitMeta.fromMessage;
+import static org.projectnessie.versioned.VersionStore.KeyRestrictions.NO_KEY_RESTRICTIONS;
+import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_CONTENT_FETCH_BATCH_SIZE;
+import static org.projectnessie.versioned.storage.common.config.StoreConfig.CONFIG_CONTENT_FETCH_PARALLELISM;
+
+import jakarta.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.projectnessie.model.Content;
+import org.projectnessie.model.ContentKey;
+import org.projectnessie.model.IcebergTable;
+import org.projectnessie.model.Operation.Put;
+import org.projectnessie.versioned.BranchName;
+import org.projectnessie.versioned.ContentResult;
+import org.projectnessie.versioned.KeyEntry;
+import org.projectnessie.versioned.VersionStore;
+import org.projectnessie.versioned.storage.common.exceptions.ObjNotFoundException;
+import org.projectnessie.versioned.storage.common.objtypes.ContentValueObj;
+import org.projectnessie.versioned.storage.common.persist.Obj;
+import org.projectnessie.versioned.storage.common.persist.ObjId;
+import org.projectnessie.versioned.storage.common.persist.ObjType;
+import org.projectnessie.versioned.storage.common.persist.Persist;
+import org.projectnessie.versioned.storage.testextension.NessiePersist;
+import org.projectnessie.versioned.storage.testextension.NessieStoreConfig;
+import org.projectnessie.versioned.storage.testextension.PersistExtension;
+
+@ExtendWith({PersistExtension.class, SoftAssertionsExtension.class})
+public class TestContentFetcher {
+  @InjectSoftAssertions protected SoftAssertions soft;
+
+  static final int NUM_KEYS = 20;
+
+  @Test
+  public void sequentialBatches(
+      @NessieStoreConfig(name = CONFIG_CONTENT_FETCH_BATCH_SIZE, value = "3") @NessiePersist
+          Persist persist)
+      throws Exception {
+    ValueFetches fetches = new ValueFetches(persist);
+    VersionStore store = new VersionStoreImpl(fetches);
+    BranchName branch = BranchName.of("main");
+    List<ContentKey> keys = commitKeys(store, branch);
+
+    fetches.reset();
+    List<KeyEntry> entries = newArrayList(store.getKeys(branch, null, true, NO_KEY_RESTRICTIONS));
+    soft.assertThat(entries)
+        .extracting(e -> e.getKey().contentKey())
+        .containsExactlyElementsOf(keys);
+    soft.assertThat(entries).extracting(KeyEntry::getContent).allMatch(Objects::nonNull);
+    soft.assertThat(fetches.maxBatchSize).hasValue(3);
+    soft.assertThat(fetches.calls).hasValue((NUM_KEYS + 2) / 3);
+    soft.assertThat(fetches.maxInFlight).hasValue(1);
+
+    // Without concurrent fetches, all values are fetched at once
+    fetches.reset();
+    soft.assertThat(store.getValues(branch, keys, false)).containsOnlyKeys(keys);
+    soft.assertThat(fetches.calls).hasValue(1);
+  }
+
+  @Test
+  public void concurrentBatches(
+      @NessieStoreConfig(name = CONFIG_CONTENT_FETCH_BATCH_SIZE, value = "3")
+          @NessieStoreConfig(name = CONFIG_CONTENT_FETCH_PARALLELISM, value = "4")
+          @NessiePersist
+          Persist persist)
+      throws Exception {
+    ValueFetches fetches = new ValueFetches(persist);
+    VersionStore store = new VersionStoreImpl(fetches);
+    BranchName branch = BranchName.of("main");
+    List<ContentKey> keys = commitKeys(store, branch);
+
+    // Each content fetch waits until a second content fetch is in flight
+    fetches.reset();
+    fetches.gate = new CountDownLatch(2);
+    List<KeyEntry> entries = newArrayList(store.getKeys(branch, null, true, NO_KEY_RESTRICTIONS));
+    soft.assertThat(entries)
+        .extracting(e -> e.getKey().contentKey())
+        .containsExactlyElementsOf(keys);
+    soft.assertThat(entries)
+        .allSatisfy(
+            e ->
+                soft.assertThat(e.getContent())
+                    .extracting(Content::getId)
+                    .isEqualTo(e.getKey().lastElement().contentId()));
+    soft.assertThat(fetches.maxBatchSize).hasValue(3);
+    soft.assertThat(fetches.calls).hasValue((NUM_KEYS + 2) / 3);
+    soft.assertThat(fetches.maxInFlight).hasValueBetween(2, 4);
+
+    fetches.reset();
+    fetches.gate = new CountDownLatch(2);
+    Map<ContentKey, ContentResult> values = store.getValues(branch, keys, false);
+    soft.assertThat(values).containsOnlyKeys(keys);
+    soft.assertThat(values.values()).extracting(ContentResult::content).allMatch(Objects::nonNull);
+    soft.assertThat(fetches.maxBatchSize).hasValue(3);
+    soft.assertThat(fetches.calls).hasValue((NUM_KEYS + 2) / 3);
+    soft.assertThat(fetches.maxInFlight).hasValueBetween(2, 4);
+  }
+
+  private static List<ContentKey> commitKeys(VersionStore store, BranchName branch)
+      throws Exception {
+    List<ContentKey> keys =
+        IntStream.range(0, NUM_KEYS)
+            .mapToObj(i -> ContentKey.of(String.format("key-%03d", i)))
+            .collect(Collectors.toList());
+    store.commit(
+        branch,
+        Optional.empty(),
+        fromMessage("commit"),
+        keys.stream()
+            .map(k -> Put.of(k, IcebergTable.of("meta-" + k.getName(), 42, 43, 44, 45)))
+            .collect(Collectors.toList()));
+    return keys;
+  }
+
+  /** Records the bulk-fetches of content values. */
+  static final class ValueFetches extends PersistDelegate {
+    final AtomicInteger calls = new AtomicInteger();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    final AtomicInteger maxBatchSize = new AtomicInteger();
+    volatile CountDownLatch gate;
+
+    ValueFetches(Persist delegate) {
+      super(delegate);
+    }
+
+    void reset() {
+      gate = null;
+      calls.set(0);
+      maxInFlight.set(0);
+      maxBatchSize.set(0);
+    }
+
+    @Override
+    public <T extends Obj> T[] fetchTypedObjsIfExist(
+        @Nonnull ObjId[] ids, ObjType type, @Nonnull Class<T> typeClass) {
+      int current = inFlight.incrementAndGet();
+      try {
+        T[] objs = super.fetchTypedObjsIfExist(ids, type, typeClass);
+        if (objs.length > 0 && Arrays.stream(objs).allMatch(ContentValueObj.class::isInstance)) {
+          CountDownLatch g = gate;
+          if (g != null) {
+            g.countDown();
+            try {
+              // Times out, if the content fetches are not performed concurrently
+              g.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            current = Math.max(current, inFlight.get());
+          }
+          calls.incrementAndGet();
+          maxInFlight.accumulateAndGet(current, Math::max);
+          maxBatchSize.accumulateAndGet(ids.length, Math::max);
+        }
+        return objs;
+      } finally {
+        inFlight.decrementAndGet();
+      }
+    }
+
+    @Override
+    public Obj[] fetchObjs(@Nonnull ObjId[] ids) throws ObjNotFoundException {
+      Obj[] objs = super.fetchObjs(ids);
+      if (objs.length > 0 && Arrays.stream(objs).allMatch(ContentValueObj.class::isInstance)) {
+        calls.incrementAndGet();
+        maxInFlight.accumulateAndGet(1, Math::max);
+        maxBatchSize.accumulateAndGet(ids.length, Math::max);
+      }
+      return objs;
+    }
+  }
+}
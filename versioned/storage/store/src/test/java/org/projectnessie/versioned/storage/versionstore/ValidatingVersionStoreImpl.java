@@ -36,14 +36,20 @@ public class ValidatingVersionStoreImpl extends VersionStoreImpl implements Vali
   private final SoftAssertions soft;
   private final ValidatingPersist persist;
 
-  private ValidatingVersionStoreImpl(SoftAssertions soft, ValidatingPersist persist) {
-    super(persist);
+  private ValidatingVersionStoreImpl(
+      SoftAssertions soft, ValidatingPersist persist, CommitIndexCache commitIndexCache) {
+    super(persist, commitIndexCache);
     this.soft = soft;
     this.persist = persist;
   }
 
   public static VersionStore of(SoftAssertions soft, Persist persist) {
-    return new ValidatingVersionStoreImpl(soft, new ValidatingPersist(persist));
+    return of(soft, persist, CommitIndexCache.disabledCommitIndexCache());
+  }
+
+  public static VersionStore of(
+      SoftAssertions soft, Persist persist, CommitIndexCache commitIndexCache) {
+    return new ValidatingVersionStoreImpl(soft, new ValidatingPersist(persist), commitIndexCache);
   }
 
   @Override
@@ -206,7 +206,7 @@ abstract class ExportCommon {
     }
 
     ObjId[] idArray = ids.toArray(ObjId[]::new);
-    Obj[] objs = exporter.persist().fetchObjsIfExist(idArray);
+    Obj[] objs = exporter.exportPersist().fetchObjsIfExist(idArray);
     Arrays.stream(objs).filter(Objects::nonNull).forEach(genericObjBatcher::add);
   }
 
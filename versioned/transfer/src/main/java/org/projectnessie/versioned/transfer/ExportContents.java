@@ -96,7 +96,9 @@ final class ExportContents extends ExportCommon {
 
     try {
       CommitObj commit =
-          exporter.persist().fetchTypedObj(hashToObjId(ref.getHash()), COMMIT, CommitObj.class);
+          exporter
+              .exportPersist()
+              .fetchTypedObj(hashToObjId(ref.getHash()), COMMIT, CommitObj.class);
       handleGenericObjs(transferRelatedObjects.commitRelatedObjects(commit));
     } catch (ObjNotFoundException e) {
       // ignore
@@ -173,7 +173,7 @@ final class ExportPersist extends ExportCommon {
               .toArray(ObjId[]::new);
 
       return valueIds.length > 0
-          ? Arrays.stream(exporter.persist().fetchObjs(valueIds))
+          ? Arrays.stream(exporter.exportPersist().fetchObjs(valueIds))
               .filter(Objects::nonNull)
               .collect(Collectors.toMap(Obj::id, Function.identity()))
           : emptyMap();
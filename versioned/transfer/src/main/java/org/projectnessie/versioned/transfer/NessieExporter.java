@@ -131,24 +131,33 @@ public abstract class NessieExporter {
 
   abstract Persist persist();
 
+  /**
+   * The {@link Persist} used to read the repository, objects read by the export are {@linkplain
+   * Persist#withoutCacheAdmission() not added to the cache}.
+   */
+  @Value.Lazy
+  Persist exportPersist() {
+    return persist().withoutCacheAdmission();
+  }
+
   @Value.Default
   CommitLogic commitLogic() {
-    return Logics.commitLogic(persist());
+    return Logics.commitLogic(exportPersist());
   }
 
   @Value.Default
   ReferenceLogic referenceLogic() {
-    return Logics.referenceLogic(persist());
+    return Logics.referenceLogic(exportPersist());
   }
 
   @Value.Default
   RepositoryLogic repositoryLogic() {
-    return Logics.repositoryLogic(persist());
+    return Logics.repositoryLogic(exportPersist());
   }
 
   @Value.Default
   IndexesLogic indexesLogic() {
-    return Logics.indexesLogic(persist());
+    return Logics.indexesLogic(exportPersist());
   }
 
   @Nullable